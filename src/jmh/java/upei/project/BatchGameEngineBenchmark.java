@@ -0,0 +1,70 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.*;
+import upei.project.Event.SilentEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lockstep batch engine with the array engine playing the same trials one at a time,
+ * on a single thread. Both benchmarks report games per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchGameEngineBenchmark {
+    private static final int GAMES = 10_000; // Trials played per benchmark call
+
+    @Param({"1", "8", "32", "256"})
+    private int lanes; // Games played at once by the batch engine
+
+    private BatchGameEngine batch; // Engine reused for every call
+    private ArrayGame game; // Array engine reused for every trial
+    private SeededDice dice; // Dice of the array engine
+    private long nextSeed; // Master seed of the next call
+    private long checksum; // Sum of the winners' seats, so the results are used
+
+    /**
+     * Creates both engines.
+     */
+    @Setup
+    public void setUp() {
+        batch = new BatchGameEngine(TestPlayers.newPlayers(), lanes);
+        game = new ArrayGame(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        dice = new SeededDice();
+        game.setDice(dice);
+    }
+
+    /**
+     * Plays a block of trials in lockstep lanes.
+     *
+     * @return a checksum of the winners
+     */
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long batch() {
+        batch.play(nextSeed++, 0, GAMES, result -> checksum += result.getWinnerSeat());
+        return checksum;
+    }
+
+    /**
+     * Plays the same kind of block one game at a time with the array engine.
+     *
+     * @return a checksum of the winners
+     */
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long oneAtATime() {
+        long seed = nextSeed++;
+        for (int trial = 0; trial < GAMES; trial++) {
+            game.reset();
+            dice.reseed(SeededDice.trialSeed(seed, trial));
+            game.startGame();
+            checksum += game.getWinner().getId() - 1;
+        }
+        return checksum;
+    }
+}
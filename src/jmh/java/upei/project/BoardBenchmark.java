@@ -0,0 +1,46 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.*;
+import upei.project.Strategy.CollectorStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Board class: moving a player around the board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    private Board board; // Board the player moves on
+    private Player player; // Player being moved
+    private int steps; // Steps taken by the next move
+
+    /**
+     * Creates the board and the player being moved.
+     */
+    @Setup
+    public void setUp() {
+        player = new Player("Player 1", 1, new CollectorStrategy("green"));
+        List<Player> players = new ArrayList<>();
+        players.add(player);
+        board = new Board(players);
+    }
+
+    /**
+     * Moves the player by a varying number of steps, wrapping around the board.
+     *
+     * @return the new position, so the move cannot be eliminated
+     */
+    @Benchmark
+    public int movePlayer() {
+        steps = steps == 12 ? 2 : steps + 1;
+        return board.movePlayer(player, steps);
+    }
+}
@@ -0,0 +1,76 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.*;
+import upei.project.Event.SilentEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a complete silent game with the four built-in strategies, including setting the game up.
+ * The throughput is games per second and the GC profiler's gc.alloc.rate.norm is bytes per game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+
+    private SeededDice dice; // Dice reseeded for every game
+    private long nextSeed; // Seed of the next game
+    private Game reusedGame; // Game reset and replayed by resetAndPlay
+    private ArrayGame reusedArrayGame; // Array engine reset and replayed by arrayResetAndPlay
+
+    /**
+     * Creates the dice used by every game.
+     */
+    @Setup
+    public void setUp() {
+        dice = new SeededDice(0);
+        reusedGame = new Game(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        reusedGame.setDice(dice);
+        reusedArrayGame = new ArrayGame(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        reusedArrayGame.setDice(dice);
+    }
+
+    /**
+     * Plays one silent game from a fresh set of players to the end.
+     *
+     * @return the winner, so the game cannot be eliminated
+     */
+    @Benchmark
+    public Player startGame() {
+        Game game = new Game(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        dice.reseed(SeededDice.trialSeed(0, nextSeed++));
+        game.setDice(dice);
+        game.startGame();
+        return game.getWinner();
+    }
+
+    /**
+     * Resets one long-lived game and plays it again, as the experiment does between trials.
+     *
+     * @return the winner, so the game cannot be eliminated
+     */
+    @Benchmark
+    public Player resetAndPlay() {
+        reusedGame.reset();
+        dice.reseed(SeededDice.trialSeed(0, nextSeed++));
+        reusedGame.startGame();
+        return reusedGame.getWinner();
+    }
+
+    /**
+     * Resets one long-lived array engine and plays it again, for comparison with {@link #resetAndPlay()}.
+     *
+     * @return the winner, so the game cannot be eliminated
+     */
+    @Benchmark
+    public Player arrayResetAndPlay() {
+        reusedArrayGame.reset();
+        dice.reseed(SeededDice.trialSeed(0, nextSeed++));
+        reusedArrayGame.startGame();
+        return reusedArrayGame.getWinner();
+    }
+}
@@ -0,0 +1,70 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.*;
+import upei.project.Event.SilentEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks taking and restoring a snapshot of a game whose board has been played on, so the properties
+ * have owners, raised rents and players in Jail to copy. The score is nanoseconds per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameSnapshotBenchmark {
+
+    private Game game; // Game whose state is copied
+    private ArrayGame arrayGame; // Array engine whose state is copied
+    private GameSnapshot snapshot; // Snapshot refilled and restored by every call
+
+    /**
+     * Plays one game to the end with each engine and snapshots its final state.
+     */
+    @Setup
+    public void setUp() {
+        game = new Game(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        game.setDice(new SeededDice(1));
+        game.startGame();
+        arrayGame = new ArrayGame(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        arrayGame.setDice(new SeededDice(1));
+        arrayGame.startGame();
+        snapshot = game.snapshot();
+    }
+
+    /**
+     * Copies the state of the game into the existing snapshot.
+     *
+     * @return the snapshot, so the copy cannot be eliminated
+     */
+    @Benchmark
+    public GameSnapshot snapshot() {
+        game.snapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Restores the game from the snapshot.
+     *
+     * @return the game, so the restore cannot be eliminated
+     */
+    @Benchmark
+    public Game restore() {
+        game.restore(snapshot);
+        return game;
+    }
+
+    /**
+     * Restores the array engine from the snapshot.
+     *
+     * @return the game, so the restore cannot be eliminated
+     */
+    @Benchmark
+    public ArrayGame arrayRestore() {
+        arrayGame.restore(snapshot);
+        return arrayGame;
+    }
+}
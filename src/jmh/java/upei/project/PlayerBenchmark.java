@@ -0,0 +1,50 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.*;
+import upei.project.Event.SilentEventListener;
+import upei.project.Space.Property;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the Player class: upgrading a color group the player owns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    private Player player; // Player owning a full color group
+    private Property property; // A property in that color group
+
+    /**
+     * Creates a silent player who owns a full green group and some other properties.
+     */
+    @Setup
+    public void setUp() {
+        player = new Player("Player 1", 1, new AggresivveBuyerStrategy());
+        player.setEventListener(SilentEventListener.INSTANCE);
+        player.setBalance(100_000);
+        property = new Property("Pennsylvania Ave", 320, 20, "green");
+        player.acquireProperty(property);
+        player.acquireProperty(new Property("North Carolina Ave", 300, 20, "green"));
+        player.acquireProperty(new Property("Pacific Avenue", 300, 20, "green"));
+        player.acquireProperty(new Property("Park Place", 350, 200, "blue"));
+        player.acquireProperty(new Property("Kentucky Ave", 220, 16, "red"));
+    }
+
+    /**
+     * Upgrades the green group; the upgrade always succeeds because the balance stays high.
+     *
+     * @return whether the upgrade succeeded
+     */
+    @Benchmark
+    public boolean tryUpgrade() {
+        player.setBalance(100_000);
+        return player.tryUpgrade(property);
+    }
+}
@@ -0,0 +1,63 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.*;
+import upei.project.Event.SilentEventListener;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a silent SimulationExperiment at several trial counts and thread counts.
+ * The summary printed by displayResults() is discarded while the benchmark runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationExperimentBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int trials; // Games per experiment
+
+    @Param({"1", "4"})
+    private int parallelism; // Threads per experiment
+
+    private ArrayList<Player> players; // Players of every experiment
+    private PrintStream originalOut; // Standard output before the benchmark
+
+    /**
+     * Creates the players and silences standard output.
+     */
+    @Setup
+    public void setUp() {
+        players = TestPlayers.newPlayers();
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Restores standard output.
+     */
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /**
+     * Runs one complete experiment.
+     *
+     * @return the experiment, so the run cannot be eliminated
+     */
+    @Benchmark
+    public SimulationExperiment runSimulation() {
+        SimulationExperiment experiment = new SimulationExperiment(players, trials, parallelism);
+        experiment.setSeed(1);
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.runSimulation();
+        return experiment;
+    }
+}
@@ -0,0 +1,78 @@
+package upei.project.Space;
+
+import org.openjdk.jmh.annotations.*;
+import upei.project.Event.SilentEventListener;
+import upei.project.Player;
+import upei.project.Strategy.CollectorStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the space actions on the hot path of a turn: paying rent on a property
+ * and the Jail checks and actions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpaceBenchmark {
+
+    private Player visitor; // Player landing on the spaces
+    private Player owner; // Owner of the property
+    private Property property; // Property owned by another player
+    private Jail jail; // Jail holding the prisoner
+    private Player prisoner; // Player kept in Jail
+
+    /**
+     * Creates two silent players, a property owned by one of them and a Jail holding a third player.
+     */
+    @Setup
+    public void setUp() {
+        visitor = new Player("Player 1", 1, new CollectorStrategy("blue"));
+        owner = new Player("Player 2", 2, new CollectorStrategy("green"));
+        prisoner = new Player("Player 3", 3, new CollectorStrategy("red"));
+        visitor.setEventListener(SilentEventListener.INSTANCE);
+        owner.setEventListener(SilentEventListener.INSTANCE);
+        prisoner.setEventListener(SilentEventListener.INSTANCE);
+
+        property = new Property("Boardwalk", 400, 50, "blue");
+        property.buy(owner);
+        jail = new Jail("Jail");
+    }
+
+    /**
+     * Lands on a property owned by another player and pays the rent.
+     *
+     * @return the action's result
+     */
+    @Benchmark
+    public boolean propertyActionPaysRent() {
+        visitor.setBalance(750);
+        return property.action(visitor);
+    }
+
+    /**
+     * Checks whether a player who is not in Jail is in Jail, as the game loop does every turn.
+     *
+     * @return the check's result
+     */
+    @Benchmark
+    public boolean isPlayerInJail() {
+        return jail.isPlayerInJail(visitor);
+    }
+
+    /**
+     * Sends a player to Jail and serves the time until they are released.
+     *
+     * @return whether the player is still in Jail afterwards
+     */
+    @Benchmark
+    public boolean jailAction() {
+        jail.addPlayerToJail(prisoner);
+        jail.action(prisoner);
+        jail.action(prisoner);
+        return jail.isPlayerInJail(prisoner);
+    }
+}
@@ -0,0 +1,115 @@
+package upei.project.Analysis;
+
+import upei.project.BoardDefinition;
+import upei.project.Space.SpaceType;
+
+/**
+ * The long-run landing statistics of a board layout, as computed by {@link MarkovBoardAnalyzer}.
+ * All probabilities are per player turn, counting the turns a player spends in Jail.
+ */
+public class BoardAnalysis {
+    private final BoardDefinition definition; // Layout that was analysed
+    private final double[] landing; // Probability that a turn's roll lands on each position
+    private final double[] occupancy; // Probability that a player is at each position between turns
+    private final double jailed; // Probability that a player is in Jail between turns
+    private final int iterations; // Power iterations needed to converge
+
+    /**
+     * Creates the result of an analysis.
+     *
+     * @param definition the layout that was analysed
+     * @param landing    the landing probability of each position
+     * @param occupancy  the probability of being at each position between turns
+     * @param jailed     the probability of being in Jail between turns
+     * @param iterations the number of power iterations used
+     */
+    BoardAnalysis(BoardDefinition definition, double[] landing, double[] occupancy, double jailed, int iterations) {
+        this.definition = definition;
+        this.landing = landing;
+        this.occupancy = occupancy;
+        this.jailed = jailed;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Returns the probability that a player's turn ends with a roll landing on a position.
+     *
+     * @param position the board position
+     * @return the landing probability per turn
+     */
+    public double getLandingProbability(int position) {
+        return landing[position];
+    }
+
+    /**
+     * Returns the probability that a player is at a position between turns, in Jail or not.
+     *
+     * @param position the board position
+     * @return the long-run share of turns spent at that position
+     */
+    public double getOccupancy(int position) {
+        return occupancy[position];
+    }
+
+    /**
+     * Returns the probability that a player is in Jail between turns.
+     *
+     * @return the long-run share of turns spent in Jail
+     */
+    public double getJailProbability() {
+        return jailed;
+    }
+
+    /**
+     * Returns the rent a property's owner can expect per turn of one opponent, at the property's base rent.
+     *
+     * @param position the board position
+     * @return the expected rent per opponent turn, or 0 if the position is not a property
+     */
+    public double getExpectedRent(int position) {
+        return getExpectedRent(position, definition.getBaseRent(position));
+    }
+
+    /**
+     * Returns the rent a property's owner can expect per turn of one opponent, at a given rent.
+     *
+     * @param position the board position
+     * @param rent     the rent charged, for example after upgrades
+     * @return the expected rent per opponent turn, or 0 if the position is not a property
+     */
+    public double getExpectedRent(int position, int rent) {
+        if (definition.getType(position) != SpaceType.PROPERTY) {
+            return 0;
+        }
+        return landing[position] * rent;
+    }
+
+    /**
+     * Returns the expected rent per opponent turn as a share of the property's price, at its base rent.
+     *
+     * @param position the board position
+     * @return the return on the purchase price per opponent turn, or 0 if the position is not a property
+     */
+    public double getRentRoi(int position) {
+        int price = definition.getPrice(position);
+        return price == 0 ? 0 : getExpectedRent(position) / price;
+    }
+
+    /**
+     * Returns the number of power iterations the analysis needed.
+     *
+     * @return the iteration count
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the layout that was analysed.
+     *
+     * @return the board definition
+     */
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+}
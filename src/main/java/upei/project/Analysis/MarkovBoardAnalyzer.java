@@ -0,0 +1,159 @@
+package upei.project.Analysis;
+
+import upei.project.Board;
+import upei.project.BoardDefinition;
+import upei.project.Space.SpaceType;
+
+import java.util.Arrays;
+
+/**
+ * Computes exact long-run landing probabilities for a board layout from a Markov chain over a single
+ * player's turns, instead of estimating them from simulated games.
+ * <p>
+ * The chain follows the rules the game plays by. A free player rolls and moves; landing on a
+ * "Go to Jail" space jails the player where they stand (the game does not move them to the Jail space),
+ * and a jailed player spends two turns in Jail before rolling again from that position, just as
+ * {@link upei.project.Space.Jail} releases a player on the turn after their second. Landing on the Jail
+ * space itself is only a visit. The stationary distribution of the chain is found by power iteration.
+ */
+public class MarkovBoardAnalyzer {
+    /**
+     * The number of turns a jailed player spends in Jail before rolling again.
+     */
+    public static final int JAIL_TURNS = 2;
+
+    private static final double TOLERANCE = 1e-13; // Largest total change between iterations at convergence
+    private static final int MAX_ITERATIONS = 100_000; // Iteration limit for the power method
+
+    private final BoardDefinition definition; // Layout being analysed
+    private final double[] rollProbabilities; // Probability of each dice total, indexed by total
+
+    /**
+     * Creates an analyzer for a board's layout with the game's two six-sided dice.
+     *
+     * @param board the board to analyse
+     */
+    public MarkovBoardAnalyzer(Board board) {
+        this(board.getDefinition());
+    }
+
+    /**
+     * Creates an analyzer for a board layout with the game's two six-sided dice.
+     *
+     * @param definition the layout to analyse
+     */
+    public MarkovBoardAnalyzer(BoardDefinition definition) {
+        this(definition, twoDice());
+    }
+
+    /**
+     * Creates an analyzer for a board layout with any dice.
+     *
+     * @param definition        the layout to analyse
+     * @param rollProbabilities the probability of each dice total, indexed by total (must sum to 1)
+     * @throws IllegalArgumentException if the probabilities are negative or do not sum to 1
+     */
+    public MarkovBoardAnalyzer(BoardDefinition definition, double[] rollProbabilities) {
+        double sum = 0;
+        for (double probability : rollProbabilities) {
+            if (probability < 0) {
+                throw new IllegalArgumentException("Roll probabilities must not be negative");
+            }
+            sum += probability;
+        }
+        if (Math.abs(sum - 1) > 1e-9) {
+            throw new IllegalArgumentException("Roll probabilities must sum to 1: " + sum);
+        }
+        this.definition = definition;
+        this.rollProbabilities = rollProbabilities.clone();
+    }
+
+    /**
+     * Solves the chain and returns the landing probability of every space.
+     *
+     * @return the analysis of the board
+     */
+    public BoardAnalysis analyze() {
+        int size = definition.size();
+        // States: free at p (index p), and for each turn in Jail j, jailed at p (index (j + 1) * size + p)
+        int stateCount = (JAIL_TURNS + 1) * size;
+        double[] distribution = new double[stateCount];
+        double[] next = new double[stateCount];
+        distribution[0] = 1.0; // Every player starts free on Go
+
+        int iterations = 0;
+        double change = Double.MAX_VALUE;
+        while (change > TOLERANCE && iterations < MAX_ITERATIONS) {
+            Arrays.fill(next, 0.0);
+            step(distribution, next);
+            // Average with the previous distribution so the iteration converges even on a periodic board
+            change = 0;
+            for (int i = 0; i < stateCount; i++) {
+                double averaged = 0.5 * (distribution[i] + next[i]);
+                change += Math.abs(averaged - distribution[i]);
+                distribution[i] = averaged;
+            }
+            iterations++;
+        }
+
+        // Landing probability: the chance that a turn's roll ends on each space
+        double[] landing = new double[size];
+        double[] occupancy = new double[size];
+        double jailed = 0;
+        for (int p = 0; p < size; p++) {
+            double free = distribution[p];
+            occupancy[p] += free;
+            for (int total = 0; total < rollProbabilities.length; total++) {
+                landing[(p + total) % size] += free * rollProbabilities[total];
+            }
+            for (int j = 1; j <= JAIL_TURNS; j++) {
+                occupancy[p] += distribution[j * size + p];
+                jailed += distribution[j * size + p];
+            }
+        }
+        return new BoardAnalysis(definition, landing, occupancy, jailed, iterations);
+    }
+
+    /**
+     * Applies one turn of the chain to a distribution.
+     *
+     * @param from the distribution before the turn
+     * @param to   receives the distribution after the turn (must start at zero)
+     */
+    private void step(double[] from, double[] to) {
+        int size = definition.size();
+        for (int p = 0; p < size; p++) {
+            double free = from[p];
+            if (free != 0) {
+                for (int total = 0; total < rollProbabilities.length; total++) {
+                    int landed = (p + total) % size;
+                    if (definition.getType(landed) == SpaceType.GO_TO_JAIL) {
+                        to[size + landed] += free * rollProbabilities[total]; // First turn in Jail
+                    } else {
+                        to[landed] += free * rollProbabilities[total];
+                    }
+                }
+            }
+            // Serve a turn in Jail, and go free after the last one
+            for (int j = 1; j < JAIL_TURNS; j++) {
+                to[(j + 1) * size + p] += from[j * size + p];
+            }
+            to[p] += from[JAIL_TURNS * size + p];
+        }
+    }
+
+    /**
+     * Returns the distribution of the total of two six-sided dice.
+     *
+     * @return the probability of each total, indexed by total
+     */
+    private static double[] twoDice() {
+        double[] probabilities = new double[13];
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                probabilities[die1 + die2] += 1.0 / 36;
+            }
+        }
+        return probabilities;
+    }
+}
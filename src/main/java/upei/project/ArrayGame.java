@@ -0,0 +1,647 @@
+package upei.project;
+
+import upei.project.Event.ConsoleEventListener;
+import upei.project.Event.GameEventListener;
+import upei.project.Profiling.BankruptcyEvent;
+import upei.project.Profiling.GamePlayedEvent;
+import upei.project.Space.ColorGroups;
+import upei.project.Space.JailState;
+import upei.project.Space.Property;
+import upei.project.Space.PropertyState;
+import upei.project.Space.Space;
+import upei.project.Strategy.DecisionTable;
+import upei.project.Strategy.Strategy;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A game engine that plays exactly the same rules as {@link Game} while keeping every player's state in
+ * primitive arrays indexed by seat: balance, position, and a bitmask of the board positions they own.
+ * Jail turns are read from the board's {@link JailState}, which is indexed by the same seats. The kind of each space is looked up in a per-position code array instead of testing classes.
+ * The built-in strategies are compiled into {@link DecisionTable}s when the game is created, so their decisions
+ * are table lookups; other strategies are asked as usual.
+ * The player objects are only read when the game starts and written back when it ends, so the engine can be
+ * used anywhere a {@link GameEngine} is expected. Given the same dice it produces the same game as {@link Game}.
+ * Once warmed up, resetting and playing a silent game allocates nothing.
+ * Events are still reported with the player objects, whose balances are only brought up to date at the end.
+ * Boards of more than 64 positions are not supported.
+ */
+public class ArrayGame implements GameEngine {
+
+    // Space codes, one per position
+    private static final byte PLAIN = 0;
+    private static final byte PROPERTY = 1;
+    private static final byte UTILITY = 2;
+    private static final byte GO_TO_JAIL = 3;
+    private static final byte JAIL = 4;
+
+    private final Board board; // Board whose property state the game plays on
+    private final BoardDefinition definition; // Layout of the board, which the strategies are compiled for
+    private final GameRules rules; // Starting balance, winning balance and maximum number of turns
+    private final PropertyState propertyState; // Ownership, rent and upgrade level by position
+    private final List<Player> players; // Players still in the game
+    private final Player[] seats; // Players in their original seat order
+    private final int boardSize; // Number of positions on the board
+    private final byte[] spaceCodes; // Kind of space at each position
+    private final Space[] spaces; // Space objects, passed to strategies and events
+    private final int[] prices; // Purchase price at each position
+    private final int[] taxes; // Tax at each position
+    private final long[] colorGroupMasks; // For each property, the positions of its color group
+
+    private final int[] balance; // Balance by seat
+    private final int[] position; // Board position by seat
+    private final JailState jailState; // Turns served in Jail by seat, shared with the board
+    private final long[] ownedMask; // Board positions owned by seat
+    private final long[] acquiredMask; // Positions bought during the current call to startGame, by seat
+    private final int[] seatAtIndex; // Seat of the player at each index of the players list
+    private final DecisionTable[] decisionTables; // Compiled strategy by seat, or null to ask the strategy
+
+    private int currentPlayerIndex; // Index in the players list of the player to move
+    private boolean playing; // Whether startGame is running, so the seat arrays hold the live state
+    private int turnCounter; // Turns played so far
+    private Player winner; // Winner once the game is decided
+    private GameEventListener listener; // Receives the events of this game
+    private Dice dice; // Dice shared by every player
+
+    /**
+     * Creates a game on the standard board whose events are printed to the console.
+     *
+     * @param players the players, in seat order
+     */
+    public ArrayGame(List<Player> players) {
+        this(players, ConsoleEventListener.INSTANCE);
+    }
+
+    /**
+     * Creates a game on the standard board.
+     *
+     * @param players  the players, in seat order
+     * @param listener the sink that receives the events of the game
+     */
+    public ArrayGame(List<Player> players, GameEventListener listener) {
+        this(players, listener, BoardDefinition.STANDARD);
+    }
+
+    /**
+     * Creates a game on the given board layout.
+     *
+     * @param players    the players, in seat order
+     * @param listener   the sink that receives the events of the game
+     * @param definition the layout of the board
+     * @throws IllegalArgumentException if the board has more than 64 positions
+     */
+    public ArrayGame(List<Player> players, GameEventListener listener, BoardDefinition definition) {
+        this(players, listener, definition, GameRules.STANDARD);
+    }
+
+    /**
+     * Creates a game on the given board layout with the given rules.
+     * Every player is given the rules' starting balance, which takes effect when the game is reset.
+     *
+     * @param players    the players, in seat order
+     * @param listener   the sink that receives the events of the game
+     * @param definition the layout of the board
+     * @param rules      the starting balance, winning balance and maximum number of turns
+     * @throws IllegalArgumentException if the board has more than 64 positions
+     */
+    public ArrayGame(List<Player> players, GameEventListener listener, BoardDefinition definition, GameRules rules) {
+        if (definition.size() > Long.SIZE) {
+            throw new IllegalArgumentException("ArrayGame supports at most 64 board positions: " + definition.size());
+        }
+        this.board = new Board(definition);
+        this.rules = rules;
+        this.definition = definition;
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setStartingBalance(rules.getStartingBalance());
+        }
+        this.propertyState = board.getPropertyState();
+        this.players = players;
+        this.seats = players.toArray(new Player[0]);
+        this.boardSize = definition.size();
+
+        // Flatten the layout into per-position arrays
+        spaceCodes = new byte[boardSize];
+        spaces = new Space[boardSize];
+        prices = new int[boardSize];
+        taxes = new int[boardSize];
+        colorGroupMasks = new long[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            spaces[i] = board.getSpaceAt(i);
+            prices[i] = definition.getPrice(i);
+            taxes[i] = definition.getTax(i);
+            switch (definition.getType(i)) {
+                case PROPERTY:
+                    spaceCodes[i] = PROPERTY;
+                    break;
+                case UTILITY:
+                    spaceCodes[i] = UTILITY;
+                    break;
+                case GO_TO_JAIL:
+                    spaceCodes[i] = GO_TO_JAIL;
+                    break;
+                case JAIL:
+                    spaceCodes[i] = JAIL;
+                    break;
+                default:
+                    spaceCodes[i] = PLAIN;
+                    break;
+            }
+        }
+        long[] groupMasks = new long[ColorGroups.MAX_GROUPS];
+        for (int i = 0; i < boardSize; i++) {
+            if (spaceCodes[i] == PROPERTY && definition.getColorGroup(i) != ColorGroups.NONE) {
+                groupMasks[definition.getColorGroup(i)] |= 1L << i;
+            }
+        }
+        for (int i = 0; i < boardSize; i++) {
+            if (spaceCodes[i] == PROPERTY && definition.getColorGroup(i) != ColorGroups.NONE) {
+                colorGroupMasks[i] = groupMasks[definition.getColorGroup(i)];
+            }
+        }
+
+        balance = new int[seats.length];
+        position = new int[seats.length];
+        jailState = board.getJailState();
+        ownedMask = new long[seats.length];
+        acquiredMask = new long[seats.length];
+        seatAtIndex = new int[seats.length];
+
+        // Built-in strategies are looked up in tables instead of being asked at every landing
+        decisionTables = new DecisionTable[seats.length];
+        for (int seat = 0; seat < seats.length; seat++) {
+            Strategy strategy = seats[seat].getStrategy();
+            if (DecisionTable.isCompilable(strategy)) {
+                decisionTables[seat] = DecisionTable.of(strategy, definition, 2 * rules.getWinningBalance());
+            }
+        }
+
+        propertyState.assignSeats(players);
+        setEventListener(listener);
+        setDice(new SeededDice());
+    }
+
+    /**
+     * Plays the game from its current state until a player is eliminated, reaches the winning balance,
+     * or the maximum number of turns is played. Like {@link Game#startGame()}, the game is reported to the
+     * flight recorder as a {@link GamePlayedEvent} when a recording has it switched on.
+     */
+    @Override
+    public void startGame() {
+        GamePlayedEvent event = GamePlayedEvent.beginIfEnabled();
+        int playerCount = players.size();
+        loadPlayers();
+        playing = true;
+        try {
+            play();
+        } finally {
+            playing = false;
+        }
+        if (event != null && event.shouldCommit()) {
+            event.engine = getClass().getSimpleName();
+            event.players = playerCount;
+            event.turns = turnCounter;
+            event.winner = winner == null ? "" : winner.getName();
+            event.winnerStrategy = winner == null ? "" : winner.getStrategy().getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs the game loop on the seat arrays, which {@link #startGame()} has loaded.
+     */
+    private void play() {
+        listener.onGameStarted();
+        int index = currentPlayerIndex;
+
+        while (true) {
+            Player player = players.get(index);
+            int seat = seatAtIndex[index];
+            currentPlayerIndex = index; // Kept up to date so a snapshot taken from an event sees the player to move
+
+            // Check if the player is eliminated (balance is zero)
+            if (balance[seat] == 0) {
+                listener.onEliminated(player);
+                if (BankruptcyEvent.isRecorded()) {
+                    BankruptcyEvent bankruptcy = new BankruptcyEvent();
+                    bankruptcy.player = player.getName();
+                    bankruptcy.strategy = player.getStrategy().getClass().getSimpleName();
+                    bankruptcy.turn = turnCounter;
+                    bankruptcy.commit();
+                }
+                storePlayers();
+                players.remove(index);
+                determineWinner();
+                break;
+            }
+
+            listener.onTurnStarted(player);
+
+            // A player in Jail serves a turn instead of moving
+            if (jailState.isInJail(seat)) {
+                listener.onInJail(player);
+                serveJailTurn(seat, player);
+                index = (index + 1) % players.size();
+                continue;
+            }
+
+            int roll = dice.roll();
+            int newPosition = (position[seat] + roll) % boardSize;
+            position[seat] = newPosition;
+            listener.onRolled(player, roll, spaces[newPosition]);
+
+            byte code = spaceCodes[newPosition];
+            if (code == GO_TO_JAIL) {
+                // The same player serves their first Jail turn straight away
+                jailState.setTurns(seat, 1);
+                listener.onJailed(player);
+                continue;
+            } else if (code == PROPERTY) {
+                landOnProperty(seat, player, newPosition);
+            } else if (code == UTILITY) {
+                listener.onPaidTax(player, taxes[newPosition]);
+                pay(seat, player, taxes[newPosition]);
+            } else if (code == JAIL) {
+                listener.onVisitingJail(player);
+            }
+
+            if (balance[seat] >= rules.getWinningBalance()) {
+                winner = player;
+                listener.onReachedWinningBalance(player, rules.getWinningBalance());
+                storePlayers();
+                break;
+            }
+
+            turnCounter++;
+            if (turnCounter >= rules.getMaxTurns()) {
+                storePlayers();
+                determineWinner();
+                break;
+            }
+
+            index = (index + 1) % players.size();
+        }
+        currentPlayerIndex = index;
+    }
+
+    /**
+     * Ranks the remaining players by balance and then properties owned, and records the first as the winner.
+     */
+    public void determineWinner() {
+        players.sort(Game.STANDINGS);
+        winner = players.get(0);
+        listener.onGameOver(players, winner);
+    }
+
+    /**
+     * Returns the game to its starting state without allocating: players back in their seats and reset,
+     * board reset, nobody in Jail, and turn counter, current player and winner cleared.
+     */
+    @Override
+    public void reset() {
+        players.clear();
+        Collections.addAll(players, seats);
+        resetPlayerStates();
+        board.reset();
+        propertyState.assignSeats(players);
+        currentPlayerIndex = 0;
+        turnCounter = 0;
+        winner = null;
+    }
+
+    /**
+     * Resets the state of all players (balances, positions, properties) at the start of a new simulation.
+     */
+    @Override
+    public void resetPlayerStates() {
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).reset();
+        }
+    }
+
+    /**
+     * Returns the winner of the game.
+     *
+     * @return the winning player, or null if the game has not been decided
+     */
+    @Override
+    public Player getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns the players still in the game, in seat order until the game is over and in final standing afterwards.
+     *
+     * @return the list of players
+     */
+    @Override
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Copies the complete state of the game into a new snapshot.
+     *
+     * @return the snapshot
+     */
+    @Override
+    public GameSnapshot snapshot() {
+        GameSnapshot snapshot = new GameSnapshot(seats.length, boardSize);
+        snapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Copies the complete state of the game into an existing snapshot, without allocating.
+     * During play the balances and positions are read from the seat arrays, which the player objects lag behind.
+     *
+     * @param snapshot the snapshot to fill
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    @Override
+    public void snapshot(GameSnapshot snapshot) {
+        snapshot.capture(players, seats, propertyState, jailState, currentPlayerIndex, turnCounter, winner, dice);
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (playing) {
+                snapshot.captureSeat(seat, balance[seat], position[seat]);
+            } else {
+                snapshot.captureSeat(seat, seats[seat].getBalance(), seats[seat].getPosition());
+            }
+        }
+    }
+
+    /**
+     * Returns the game to the state recorded in a snapshot, so that {@link #startGame()} continues from there.
+     * The player objects are brought up to date, and the seat arrays are reloaded from them when play starts.
+     *
+     * @param snapshot the snapshot to restore
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    @Override
+    public void restore(GameSnapshot snapshot) {
+        snapshot.restoreTo(players, seats, board, dice);
+        currentPlayerIndex = snapshot.getCurrentPlayerIndex();
+        turnCounter = snapshot.getTurnsPlayed();
+        winner = snapshot.getWinnerSeat() == GameSnapshot.NO_WINNER ? null : seats[snapshot.getWinnerSeat()];
+    }
+
+    /**
+     * Returns the board the game is played on.
+     *
+     * @return the game's board
+     */
+    @Override
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the dice shared by the players in this game.
+     *
+     * @return the game's dice
+     */
+    @Override
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Sets the dice rolled in this game, and gives them to the players as well.
+     *
+     * @param dice the dice shared by the players
+     */
+    @Override
+    public void setDice(Dice dice) {
+        this.dice = dice;
+        for (Player player : seats) {
+            player.setDice(dice);
+        }
+    }
+
+    /**
+     * Returns the number of turns this game has counted. Turns spent in Jail or sent there are not counted.
+     *
+     * @return the turns played
+     */
+    @Override
+    public int getTurnsPlayed() {
+        return turnCounter;
+    }
+
+    /**
+     * Returns the rules this game is played by.
+     *
+     * @return the game's rules
+     */
+    @Override
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the sink that receives the events of this game.
+     *
+     * @return the game's event listener
+     */
+    @Override
+    public GameEventListener getEventListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the sink that receives the events of this game and of every player in it.
+     *
+     * @param listener the new event listener
+     */
+    @Override
+    public void setEventListener(GameEventListener listener) {
+        this.listener = listener;
+        for (Player player : seats) {
+            player.setEventListener(listener);
+        }
+    }
+
+    /**
+     * Copies the balance and position of each player into the seat arrays, rebuilds the ownership masks
+     * from the board, and compiles again any strategy that has changed since its table was compiled.
+     */
+    private void loadPlayers() {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            int seat = propertyState.seatOf(player);
+            seatAtIndex[i] = seat;
+            balance[seat] = player.getBalance();
+            position[seat] = player.getPosition();
+            ownedMask[seat] = 0L;
+            acquiredMask[seat] = 0L;
+
+            Strategy strategy = player.getStrategy();
+            if (decisionTables[seat] != null && !decisionTables[seat].isCurrent(strategy)) {
+                decisionTables[seat] = DecisionTable.of(strategy, definition, 2 * rules.getWinningBalance());
+            }
+        }
+        for (int i = 0; i < boardSize; i++) {
+            int owner = propertyState.getOwnerSeat(i);
+            if (spaceCodes[i] == PROPERTY && propertyState.isOwned(i) && owner >= 0 && owner < seats.length) {
+                ownedMask[owner] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Writes the seat arrays back into the player objects: balance, position and the properties bought
+     * during this game. Jail status stays in the board's Jail state.
+     */
+    private void storePlayers() {
+        for (int seat = 0; seat < seats.length; seat++) {
+            Player player = seats[seat];
+            player.setBalance(balance[seat]);
+            player.setPosition(position[seat]);
+            long acquired = acquiredMask[seat];
+            while (acquired != 0) {
+                player.addSpace(spaces[Long.numberOfTrailingZeros(acquired)]);
+                acquired &= acquired - 1;
+            }
+            acquiredMask[seat] = 0L;
+        }
+    }
+
+    /**
+     * Serves one Jail turn: releases the player after their second turn, otherwise counts the turn.
+     *
+     * @param seat   the player's seat
+     * @param player the player in Jail
+     */
+    private void serveJailTurn(int seat, Player player) {
+        int turns = jailState.getTurns(seat);
+        if (turns >= 2) {
+            listener.onServedTime(player);
+            jailState.setTurns(seat, 0);
+            listener.onReleased(player);
+        } else {
+            listener.onRemainsInJail(player, turns + 1);
+            jailState.setTurns(seat, turns + 1);
+        }
+    }
+
+    /**
+     * Resolves a player landing on a property: rent if someone else owns it, otherwise the player's strategy
+     * decides whether to buy it or to upgrade its color group.
+     *
+     * @param seat     the player's seat
+     * @param player   the player who landed
+     * @param position the position of the property
+     */
+    private void landOnProperty(int seat, Player player, int position) {
+        Property property = (Property) spaces[position];
+        if (propertyState.isOwned(position)) {
+            int ownerSeat = propertyState.getOwnerSeat(position);
+            if (ownerSeat != seat) {
+                Player owner = propertyState.playerAt(ownerSeat);
+                int rent = propertyState.getRent(position);
+                listener.onPaidRent(player, owner, property, rent);
+                pay(seat, player, rent);
+                if (ownerSeat < seats.length) {
+                    balance[ownerSeat] += rent;
+                } else {
+                    owner.acceptMoney(rent); // Owner from outside this game
+                }
+            } else {
+                listener.onLandedOnOwnProperty(player, property);
+            }
+            return;
+        }
+
+        DecisionTable table = decisionTables[seat];
+        int level = propertyState.getUpgradeLevel(position);
+        boolean buyLand;
+        boolean upgrade;
+        if (table != null && table.covers(level, balance[seat])) {
+            buyLand = table.shouldBuyLand(position, level, balance[seat]);
+            upgrade = !buyLand && table.shouldBuyProperty(position, level, balance[seat]);
+        } else {
+            Strategy strategy = player.getStrategy();
+            buyLand = strategy.shouldBuyLand(property, balance[seat]);
+            upgrade = !buyLand && strategy.shouldBuyProperty(property, balance[seat]);
+        }
+        listener.onDecided(player, property, buyLand, upgrade);
+        boolean done = false;
+        if (buyLand) {
+            done = acquire(seat, player, position, property);
+        } else if (upgrade) {
+            done = tryUpgrade(seat, player, position, property);
+        }
+        if (done) {
+            listener.onBought(player, property);
+        }
+    }
+
+    /**
+     * Buys an unowned property if the player can afford it.
+     *
+     * @param seat     the buyer's seat
+     * @param player   the buyer
+     * @param position the position of the property
+     * @param property the property
+     * @return true if the property was bought
+     */
+    private boolean acquire(int seat, Player player, int position, Property property) {
+        if (!propertyState.isOwned(position) && balance[seat] >= prices[position]) {
+            long bit = 1L << position;
+            ownedMask[seat] |= bit;
+            acquiredMask[seat] |= bit;
+            balance[seat] -= prices[position];
+            propertyState.setOwner(position, player);
+            return true;
+        }
+        listener.onPurchaseRefused(player, property);
+        return false;
+    }
+
+    /**
+     * Upgrades every property the player owns in the color group of the given position,
+     * if they own at least three of them and can pay the upgrade cost.
+     *
+     * @param seat     the player's seat
+     * @param player   the player
+     * @param position a position in the color group
+     * @param property the property at that position
+     * @return true if the group was upgraded
+     */
+    private boolean tryUpgrade(int seat, Player player, int position, Property property) {
+        long sameColor = ownedMask[seat] & colorGroupMasks[position];
+        if (Long.bitCount(sameColor) < UpgradeRule.MIN_GROUP_SIZE) {
+            return false;
+        }
+        int levels = 0;
+        for (long bits = sameColor; bits != 0; bits &= bits - 1) {
+            levels += propertyState.getUpgradeLevel(Long.numberOfTrailingZeros(bits));
+        }
+        int upgradeCost = UpgradeRule.cost(levels);
+        if (balance[seat] < upgradeCost) {
+            return false;
+        }
+        for (long bits = sameColor; bits != 0; bits &= bits - 1) {
+            propertyState.increaseRent(Long.numberOfTrailingZeros(bits), UpgradeRule.RENT_INCREASE);
+        }
+        balance[seat] -= upgradeCost;
+        listener.onUpgraded(player, property, upgradeCost);
+        return true;
+    }
+
+    /**
+     * Takes a payment from a player; a player who cannot pay in full is left with nothing.
+     *
+     * @param seat   the payer's seat
+     * @param player the payer
+     * @param amount the amount due
+     */
+    private void pay(int seat, Player player, int amount) {
+        if (balance[seat] >= amount) {
+            balance[seat] -= amount;
+        } else {
+            balance[seat] = 0; // Player goes bankrupt
+            listener.onInsufficientFunds(player, amount);
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package upei.project;
+
+import upei.project.Space.ColorGroups;
+import upei.project.Space.Property;
+import upei.project.Space.SpaceType;
+import upei.project.Strategy.DecisionTable;
+import upei.project.Strategy.Strategy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plays many independent games in lockstep. Every game sits in a lane of flat primitive arrays, and each step
+ * advances the player to move in every lane by one turn of {@link ArrayGame}'s loop: the elimination and Jail
+ * checks, the dice roll, the move, rent or tax, and the strategy's decision. A lane whose game ends reports the
+ * result and is refilled with the next trial, so the lanes stay busy until every trial has been played.
+ * <p>
+ * The lanes are plain scalar code. The turns of neighbouring lanes do not depend on each other, so the processor
+ * overlaps them, and there are no player objects, events or board objects to keep up to date.
+ * Each lane rolls its own SplitMix64 stream, seeded exactly like {@link SeededDice} for the trial, so trial
+ * {@code t} ends exactly as a {@link Game} or {@link ArrayGame} whose dice are seeded with
+ * {@code SeededDice.trialSeed(masterSeed, t)}. Decisions are looked up in each strategy's {@link DecisionTable},
+ * so only players whose strategies {@link DecisionTable#isCompilable(Strategy) compile} can be batched
+ * (see {@link #supports(List)}). No events are reported, and playing allocates nothing.
+ * Boards of more than 64 positions are not supported.
+ */
+public class BatchGameEngine {
+
+    // Space codes, one per position
+    private static final byte PLAIN = 0;
+    private static final byte PROPERTY = 1;
+    private static final byte UTILITY = 2;
+    private static final byte GO_TO_JAIL = 3;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L; // SplitMix64 increment, as in SeededDice
+    private static final int UNOWNED = -1; // Owner seat of an unowned property
+    private static final int IDLE = -1; // Current seat of a lane with no game to play
+    private static final int MAX_ROLL = 12; // Largest total two dice can show
+
+    /**
+     * The result of one finished game, reused for every game reported to a sink.
+     * Its values are only valid during the call to the sink.
+     */
+    public static final class Result {
+        private long trial; // Index of the trial
+        private int winnerSeat; // Seat of the winner
+        private int turns; // Turns counted by the game
+        private final int[] balances; // Final balance by seat
+        private final int[] owned; // Properties owned at the end, by seat
+
+        /**
+         * Creates an empty result for games with the given number of seats.
+         *
+         * @param seats the number of players in each game
+         */
+        private Result(int seats) {
+            balances = new int[seats];
+            owned = new int[seats];
+        }
+
+        /**
+         * Returns the index of the trial that was played.
+         *
+         * @return the trial index
+         */
+        public long getTrial() {
+            return trial;
+        }
+
+        /**
+         * Returns the seat of the winner, named as {@link ArrayGame#getWinner()} names it.
+         *
+         * @return the winner's seat
+         */
+        public int getWinnerSeat() {
+            return winnerSeat;
+        }
+
+        /**
+         * Returns the number of turns the game counted. Turns spent in Jail or sent there are not counted.
+         *
+         * @return the turns played
+         */
+        public int getTurns() {
+            return turns;
+        }
+
+        /**
+         * Returns the final balance of a seat.
+         *
+         * @param seat the seat index
+         * @return the balance
+         */
+        public int getBalance(int seat) {
+            return balances[seat];
+        }
+
+        /**
+         * Returns the number of properties a seat owns at the end of the game.
+         *
+         * @param seat the seat index
+         * @return the number of properties owned
+         */
+        public int getOwned(int seat) {
+            return owned[seat];
+        }
+    }
+
+    private final int startingBalance; // Balance every player starts with
+    private final int winningBalance; // Balance that wins the game
+    private final int maxTurns; // Turns after which the game ends
+    private final int seatCount; // Players in each game
+    private final int lanes; // Games played at once
+    private final BoardDefinition definition; // Layout of the board, which the strategies are compiled for
+    private final int boardSize; // Positions on the board
+    private final byte[] spaceCodes; // Kind of space at each position
+    private final int[] prices; // Purchase price at each position
+    private final int[] taxes; // Tax at each position
+    private final int[] baseRents; // Starting rent at each position
+    private final long[] colorGroupMasks; // For each property, the positions of its color group
+    private final int[] landing; // Position reached from each position plus a roll, without a division
+    private final Property[] probes; // Unowned properties at level 0, for strategies asked outside their table
+    private final Strategy[] strategies; // Strategy by seat
+    private final DecisionTable[] decisionTables; // Compiled strategy by seat
+
+    // Player state by lane * seatCount + seat
+    private final int[] balance;
+    private final int[] position;
+    private final int[] jailTurns;
+    private final long[] ownedMask;
+
+    // Board state by lane * boardSize + position
+    private final int[] ownerSeat;
+    private final int[] rent;
+
+    // Lane state by lane
+    private final int[] currentSeat; // Seat of the player to move, or IDLE
+    private final int[] turnCounter; // Turns counted so far
+    private final long[] diceState; // SplitMix64 state of the lane's dice
+    private final long[] trial; // Trial being played
+
+    private final Result result; // Reused for every finished game
+    private long masterSeed; // Seed the dice of every trial are seeded from
+    private long nextTrial; // Next trial to hand to a free lane
+    private long endTrial; // Trial after the last one to play
+
+    /**
+     * Creates an engine for the given players on the standard board with the standard rules.
+     *
+     * @param players the players, in seat order
+     * @param lanes   the number of games to play at once
+     * @throws IllegalArgumentException if there are no lanes, or a player's strategy cannot be compiled
+     */
+    public BatchGameEngine(List<Player> players, int lanes) {
+        this(players, BoardDefinition.STANDARD, GameRules.STANDARD, lanes);
+    }
+
+    /**
+     * Creates an engine for the given players, board layout and rules.
+     * Only the players' strategies are used; every game starts from the rules' starting balance on Go.
+     *
+     * @param players    the players, in seat order
+     * @param definition the layout of the board
+     * @param rules      the starting balance, winning balance and maximum number of turns
+     * @param lanes      the number of games to play at once
+     * @throws IllegalArgumentException if there are no lanes, the board has more than 64 positions,
+     *                                  or a player's strategy cannot be compiled
+     */
+    public BatchGameEngine(List<Player> players, BoardDefinition definition, GameRules rules, int lanes) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lanes must be at least 1: " + lanes);
+        }
+        if (definition.size() > Long.SIZE) {
+            throw new IllegalArgumentException("BatchGameEngine supports at most 64 board positions: "
+                    + definition.size());
+        }
+        startingBalance = rules.getStartingBalance();
+        winningBalance = rules.getWinningBalance();
+        maxTurns = rules.getMaxTurns();
+        this.seatCount = players.size();
+        this.lanes = lanes;
+        this.definition = definition;
+        this.boardSize = definition.size();
+
+        // Flatten the layout into per-position arrays
+        spaceCodes = new byte[boardSize];
+        prices = new int[boardSize];
+        taxes = new int[boardSize];
+        baseRents = definition.getBaseRents();
+        colorGroupMasks = new long[boardSize];
+        probes = new Property[boardSize];
+        Board board = new Board(definition);
+        long[] groupMasks = new long[ColorGroups.MAX_GROUPS];
+        for (int i = 0; i < boardSize; i++) {
+            spaceCodes[i] = codeOf(definition.getType(i));
+            prices[i] = definition.getPrice(i);
+            taxes[i] = definition.getTax(i);
+            if (spaceCodes[i] == PROPERTY) {
+                probes[i] = (Property) board.getSpaceAt(i);
+                if (definition.getColorGroup(i) != ColorGroups.NONE) {
+                    groupMasks[definition.getColorGroup(i)] |= 1L << i;
+                }
+            }
+        }
+        for (int i = 0; i < boardSize; i++) {
+            if (spaceCodes[i] == PROPERTY && definition.getColorGroup(i) != ColorGroups.NONE) {
+                colorGroupMasks[i] = groupMasks[definition.getColorGroup(i)];
+            }
+        }
+        landing = new int[boardSize + MAX_ROLL];
+        for (int i = 0; i < landing.length; i++) {
+            landing[i] = i % boardSize;
+        }
+
+        strategies = new Strategy[seatCount];
+        decisionTables = new DecisionTable[seatCount];
+        for (int seat = 0; seat < seatCount; seat++) {
+            Strategy strategy = players.get(seat).getStrategy();
+            if (!DecisionTable.isCompilable(strategy)) {
+                throw new IllegalArgumentException("Strategy cannot be batched: " + strategy.getClass().getName());
+            }
+            strategies[seat] = strategy;
+            decisionTables[seat] = DecisionTable.of(strategy, definition, 2 * winningBalance);
+        }
+
+        balance = new int[lanes * seatCount];
+        position = new int[lanes * seatCount];
+        jailTurns = new int[lanes * seatCount];
+        ownedMask = new long[lanes * seatCount];
+        ownerSeat = new int[lanes * boardSize];
+        rent = new int[lanes * boardSize];
+        currentSeat = new int[lanes];
+        turnCounter = new int[lanes];
+        diceState = new long[lanes];
+        trial = new long[lanes];
+        result = new Result(seatCount);
+    }
+
+    /**
+     * Checks whether a table of players can be batched: every strategy must compile into a decision table.
+     *
+     * @param players the players
+     * @return true if an engine can be created for the players
+     */
+    public static boolean supports(List<Player> players) {
+        for (Player player : players) {
+            if (!DecisionTable.isCompilable(player.getStrategy())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Plays the trials in the range [from, to) and reports each finished game to the sink.
+     * Games finish, and are reported, in no particular order. A strategy that has changed since the last call
+     * is compiled again first.
+     *
+     * @param masterSeed the master seed from which every trial's dice are seeded
+     * @param from       the index of the first trial to play
+     * @param to         the index after the last trial to play
+     * @param sink       receives the result of every game; the result object is reused
+     */
+    public void play(long masterSeed, long from, long to, Consumer<Result> sink) {
+        for (int seat = 0; seat < seatCount; seat++) {
+            if (!decisionTables[seat].isCurrent(strategies[seat])) {
+                decisionTables[seat] = DecisionTable.of(strategies[seat], definition, 2 * winningBalance);
+            }
+        }
+        this.masterSeed = masterSeed;
+        nextTrial = from;
+        endTrial = to;
+        int playing = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            if (startNextGame(lane)) {
+                playing++;
+            }
+        }
+        while (playing > 0) {
+            for (int lane = 0; lane < lanes; lane++) {
+                if (currentSeat[lane] != IDLE && step(lane, sink) && !startNextGame(lane)) {
+                    playing--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of games played at once.
+     *
+     * @return the lane count
+     */
+    public int getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Advances a lane's game by one pass of the game loop: the player to move is eliminated, serves a turn in
+     * Jail, or rolls and plays their turn.
+     *
+     * @param lane the lane
+     * @param sink receives the result if the game ends
+     * @return true if the game ended
+     */
+    private boolean step(int lane, Consumer<Result> sink) {
+        int seat = currentSeat[lane];
+        int seats = lane * seatCount;
+        int index = seats + seat;
+
+        // Check if the player is eliminated (balance is zero)
+        if (balance[index] == 0) {
+            finishGame(lane, seat, sink);
+            return true;
+        }
+
+        // A player in Jail serves a turn instead of moving, and is released after their second
+        int served = jailTurns[index];
+        if (served > 0) {
+            jailTurns[index] = served >= 2 ? 0 : served + 1;
+            currentSeat[lane] = seat + 1 == seatCount ? 0 : seat + 1;
+            return false;
+        }
+
+        // Roll two dice from the lane's own stream, exactly as SeededDice does
+        long first = diceState[lane] + GOLDEN_GAMMA;
+        long second = first + GOLDEN_GAMMA;
+        diceState[lane] = second;
+        int landed = landing[position[index] + die(first) + die(second)];
+        position[index] = landed;
+
+        byte code = spaceCodes[landed];
+        if (code == GO_TO_JAIL) {
+            // The same player serves their first Jail turn straight away
+            jailTurns[index] = 1;
+            return false;
+        }
+        resolveLanding(lane, seat, landed, code == PROPERTY);
+
+        if (balance[index] >= winningBalance) {
+            result.winnerSeat = seat;
+            report(lane, sink);
+            return true;
+        }
+
+        int turns = ++turnCounter[lane];
+        if (turns >= maxTurns) {
+            finishGame(lane, -1, sink);
+            return true;
+        }
+
+        currentSeat[lane] = seat + 1 == seatCount ? 0 : seat + 1;
+        return false;
+    }
+
+    /**
+     * Resolves a player landing anywhere but "Go to Jail": rent if someone else owns the property, tax on a
+     * utility, and otherwise, on an unowned property, the strategy's decision to buy it or to upgrade its color
+     * group. Which of these happens depends on the dice, so rather than branch on it every case is computed and
+     * the results are selected; only the rare upgrade is branched to.
+     *
+     * @param lane     the lane
+     * @param seat     the player's seat
+     * @param landed   the position the player landed on
+     * @param property whether the space is a property
+     */
+    private void resolveLanding(int lane, int seat, int landed, boolean property) {
+        int seats = lane * seatCount;
+        int index = seats + seat;
+        int cell = lane * boardSize + landed;
+        int owner = ownerSeat[cell]; // Unowned everywhere but on bought properties
+
+        // Rent to another player's property, or tax, which is 0 on every space but a utility.
+        // A player who cannot pay in full is left with nothing, but the owner receives the full rent.
+        boolean paysRent = owner != UNOWNED & owner != seat;
+        int due = paysRent ? rent[cell] : taxes[landed];
+        int money = Math.max(balance[index] - due, 0);
+
+        // Upgrades raise rent but never a property's level, as in the other engines, so every level is still 0
+        boolean open = property & owner == UNOWNED;
+        DecisionTable table = decisionTables[seat];
+        boolean buyLand;
+        boolean upgrade;
+        if (table.covers(0, money)) {
+            buyLand = open & table.shouldBuyLand(landed, 0, money);
+            upgrade = open & !buyLand & table.shouldBuyProperty(landed, 0, money);
+        } else {
+            buyLand = open && strategies[seat].shouldBuyLand(probes[landed], money);
+            upgrade = open && !buyLand && strategies[seat].shouldBuyProperty(probes[landed], money);
+        }
+        boolean bought = buyLand & money >= prices[landed];
+        balance[index] = bought ? money - prices[landed] : money;
+        ownerSeat[cell] = bought ? seat : owner;
+        ownedMask[index] |= bought ? 1L << landed : 0L;
+        balance[seats + (paysRent ? owner : seat)] += paysRent ? due : 0;
+        if (upgrade) {
+            tryUpgrade(lane, index, landed);
+        }
+    }
+
+    /**
+     * Upgrades every property the player owns in the color group of the given position,
+     * if they own at least three of them and can pay the upgrade cost.
+     *
+     * @param lane   the lane
+     * @param index  the player's index in the player state arrays
+     * @param landed a position in the color group
+     */
+    private void tryUpgrade(int lane, int index, int landed) {
+        long sameColor = ownedMask[index] & colorGroupMasks[landed];
+        int upgradeCost = UpgradeRule.cost(0);
+        if (Long.bitCount(sameColor) < UpgradeRule.MIN_GROUP_SIZE || balance[index] < upgradeCost) {
+            return;
+        }
+        int cells = lane * boardSize;
+        for (long bits = sameColor; bits != 0; bits &= bits - 1) {
+            rent[cells + Long.numberOfTrailingZeros(bits)] += UpgradeRule.RENT_INCREASE;
+        }
+        balance[index] -= upgradeCost;
+    }
+
+    /**
+     * Ends a lane's game by ranking the players left, like {@link ArrayGame#determineWinner()}: the highest
+     * balance wins, then the most properties owned, and a tie goes to the earlier seat.
+     *
+     * @param lane       the lane
+     * @param eliminated the seat of the player just eliminated, or -1 if nobody was
+     * @param sink       receives the result
+     */
+    private void finishGame(int lane, int eliminated, Consumer<Result> sink) {
+        int seats = lane * seatCount;
+        int best = -1;
+        for (int seat = 0; seat < seatCount; seat++) {
+            if (seat != eliminated && (best < 0 || ranksAbove(seats + seat, seats + best))) {
+                best = seat;
+            }
+        }
+        result.winnerSeat = best;
+        report(lane, sink);
+    }
+
+    /**
+     * Checks whether one player ranks strictly above another in the final standings.
+     *
+     * @param index the index of the player who may rank higher
+     * @param other the index of the other player
+     * @return true if the first player has a higher balance, or the same balance and more properties
+     */
+    private boolean ranksAbove(int index, int other) {
+        if (balance[index] != balance[other]) {
+            return balance[index] > balance[other];
+        }
+        return Long.bitCount(ownedMask[index]) > Long.bitCount(ownedMask[other]);
+    }
+
+    /**
+     * Fills in the rest of the shared result from a lane and hands it to the sink.
+     *
+     * @param lane the lane whose game ended, with the winner already in the result
+     * @param sink receives the result
+     */
+    private void report(int lane, Consumer<Result> sink) {
+        int seats = lane * seatCount;
+        for (int seat = 0; seat < seatCount; seat++) {
+            result.balances[seat] = balance[seats + seat];
+            result.owned[seat] = Long.bitCount(ownedMask[seats + seat]);
+        }
+        result.trial = trial[lane];
+        result.turns = turnCounter[lane];
+        sink.accept(result);
+    }
+
+    /**
+     * Loads the next trial into a lane, or leaves the lane idle if every trial has been handed out.
+     *
+     * @param lane the lane
+     * @return true if the lane has a new game to play
+     */
+    private boolean startNextGame(int lane) {
+        if (nextTrial >= endTrial) {
+            currentSeat[lane] = IDLE;
+            return false;
+        }
+        int seats = lane * seatCount;
+        Arrays.fill(balance, seats, seats + seatCount, startingBalance);
+        Arrays.fill(position, seats, seats + seatCount, 0);
+        Arrays.fill(jailTurns, seats, seats + seatCount, 0);
+        Arrays.fill(ownedMask, seats, seats + seatCount, 0L);
+        int cells = lane * boardSize;
+        Arrays.fill(ownerSeat, cells, cells + boardSize, UNOWNED);
+        System.arraycopy(baseRents, 0, rent, cells, boardSize);
+        currentSeat[lane] = 0;
+        turnCounter[lane] = 0;
+        trial[lane] = nextTrial;
+        diceState[lane] = SeededDice.trialSeed(masterSeed, nextTrial);
+        nextTrial++;
+        return true;
+    }
+
+    /**
+     * Maps a space type to the engine's space code.
+     *
+     * @param type the space type
+     * @return the space code
+     */
+    private static byte codeOf(SpaceType type) {
+        switch (type) {
+            case PROPERTY:
+                return PROPERTY;
+            case UTILITY:
+                return UTILITY;
+            case GO_TO_JAIL:
+                return GO_TO_JAIL;
+            default:
+                return PLAIN; // Go, plain spaces and visits to Jail have no effect
+        }
+    }
+
+    /**
+     * Turns a SplitMix64 state into a die roll, exactly as {@link SeededDice} does.
+     *
+     * @param state the generator state after the increment
+     * @return a value between 1 and 6
+     */
+    private static int die(long state) {
+        long z = (state ^ (state >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = z ^ (z >>> 31);
+        return (int) (((z >>> 32) * 6) >>> 32) + 1;
+    }
+}
@@ -2,43 +2,110 @@ package upei.project;
 
 import upei.project.Space.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Board class represents the game board, consisting of a collection of spaces.
  * Each space on the board could represent different types of spaces like properties, utilities, or special spaces like Jail.
+ * The layout comes from a shared, immutable {@link BoardDefinition}; what changes during a game (who owns each
+ * property, its rent and upgrade level, and who is in Jail) is kept in this board's {@link PropertyState} and
+ * {@link JailState}, which share one {@link SeatTable}, so a board is built once
+ * and returned to its starting state with {@link #reset()} before each new game.
  */
 public class Board {
-    private ArrayList<Space> spaces;
+    private final BoardDefinition definition; // Shared layout of the board
+    private final PropertyState propertyState; // Ownership, rent and upgrade level of every position
+    private final JailState jailState; // Turns served in Jail by seat
+    private final Space[] spaces; // Space objects by position, bound to this board's state
 
     /**
-     * Constructor to initialize the board with a predefined set of spaces.
+     * Constructor to initialize the board with the standard layout.
      * It sets up the properties, utilities, and other special spaces in a predefined order.
      *
      * @param players the list of players in the game (currently not used in the constructor)
      */
     public Board(List<Player> players) {
-        spaces = new ArrayList<>();
-        // Initialize board spaces
-        spaces.add(new PlainSpace("Go"));  // "Go" space, where players start
-        spaces.add(new Property("Connecticut Ave", 120, 50, "purple"));
-        spaces.add(new Property("Vermont Ave", 100, 50, "purple"));
-        spaces.add(new Property("Oriental Ave", 100, 50, "purple"));
-        spaces.add(new UtilitySpace("Water Works", 25));
-        spaces.add(new GoToJail("Go to Jail!"));
-        spaces.add(new Property("Pennsylvania Ave", 320, 20, "green"));
-        spaces.add(new Property("North Carolina Ave", 300, 20, "green"));
-        spaces.add(new Property("Pacific Avenue", 300, 20, "green"));
-        spaces.add(new Jail("Jail"));
-        spaces.add(new Property("Marvin Gardens", 280, 200, "blue"));
-        spaces.add(new UtilitySpace("Electric Company", 45));
-        spaces.add(new Property("Park Place", 350, 200, "blue"));
-        spaces.add(new Property("Boardwalk", 400, 200, "blue"));
-        spaces.add(new UtilitySpace("Luxury Tax", 50));
-        spaces.add(new Property("Kentucky Ave", 220, 16, "red"));
-        spaces.add(new Property("Indiana Ave", 220, 17, "red"));
-        spaces.add(new Property("Illinois Ave", 240, 18, "red"));
+        this(BoardDefinition.STANDARD);
+    }
+
+    /**
+     * Constructor to initialize a board with the given layout.
+     * One space object is created per position; properties read and write their state through this board.
+     *
+     * @param definition the layout of the board
+     */
+    public Board(BoardDefinition definition) {
+        this.definition = definition;
+        SeatTable seats = new SeatTable();
+        this.propertyState = new PropertyState(definition.getBaseRents(), seats);
+        this.jailState = new JailState(seats);
+        this.spaces = new Space[definition.size()];
+        int jailPosition = definition.getJailPosition();
+        Jail jail = jailPosition < 0 ? null : new Jail(definition.getName(jailPosition), jailState);
+        for (int i = 0; i < spaces.length; i++) {
+            String name = definition.getName(i);
+            switch (definition.getType(i)) {
+                case PROPERTY:
+                    spaces[i] = new Property(name, definition.getPrice(i), definition.getColor(i), propertyState, i);
+                    break;
+                case UTILITY:
+                    spaces[i] = new UtilitySpace(name, definition.getTax(i));
+                    break;
+                case GO_TO_JAIL:
+                    spaces[i] = new GoToJail(name, jail, jailPosition);
+                    break;
+                case JAIL:
+                    spaces[i] = i == jailPosition ? jail : new Jail(name, jailState);
+                    break;
+                default:
+                    spaces[i] = new PlainSpace(name);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the board to its starting state: every property unowned at its base rent, and the Jail empty.
+     */
+    public void reset() {
+        propertyState.reset();
+        jailState.reset();
+    }
+
+    /**
+     * Returns the shared layout of this board.
+     *
+     * @return the board definition
+     */
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns the ownership, rent and upgrade state of the properties on this board.
+     *
+     * @return the property state
+     */
+    public PropertyState getPropertyState() {
+        return propertyState;
+    }
+
+    /**
+     * Returns the record of who is in Jail on this board.
+     *
+     * @return the Jail state
+     */
+    public JailState getJailState() {
+        return jailState;
+    }
+
+    /**
+     * Returns the number of spaces on the board.
+     *
+     * @return the board size
+     */
+    public int size() {
+        return spaces.length;
     }
 
     /**
@@ -50,8 +117,8 @@ public class Board {
      * @throws IndexOutOfBoundsException if the position is invalid (out of bounds)
      */
     public Space getSpaceAt(int position) {
-        if (position >= 0 && position < spaces.size()) {
-            return spaces.get(position);
+        if (position >= 0 && position < spaces.length) {
+            return spaces[position];
         } else {
             throw new IndexOutOfBoundsException("Invalid position: " + position);
         }
@@ -69,7 +136,7 @@ public class Board {
     public int movePlayer(Player player, int steps) {
         int currentPosition = player.getPosition();
         // Calculate new position, wrapping around if necessary
-        int newPos = (currentPosition + steps) % spaces.size();
+        int newPos = (currentPosition + steps) % spaces.length;
         player.setPosition(newPos);
         return newPos;
     }
@@ -0,0 +1,284 @@
+package upei.project;
+
+import upei.project.Space.ColorGroups;
+import upei.project.Space.SpaceType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The static layout of a board: what kind of space sits at each position, with its name, price,
+ * base rent, color group and tax. A definition never changes after it is built, so one instance is
+ * shared by every board (and every thread) that uses the layout. The state that changes during a game
+ * lives in each {@link Board}.
+ */
+public final class BoardDefinition {
+
+    /**
+     * The standard layout used by the game.
+     */
+    public static final BoardDefinition STANDARD = new Builder()
+            .addPlain("Go") // "Go" space, where players start
+            .addProperty("Connecticut Ave", 120, 50, "purple")
+            .addProperty("Vermont Ave", 100, 50, "purple")
+            .addProperty("Oriental Ave", 100, 50, "purple")
+            .addUtility("Water Works", 25)
+            .addGoToJail("Go to Jail!")
+            .addProperty("Pennsylvania Ave", 320, 20, "green")
+            .addProperty("North Carolina Ave", 300, 20, "green")
+            .addProperty("Pacific Avenue", 300, 20, "green")
+            .addJail("Jail")
+            .addProperty("Marvin Gardens", 280, 200, "blue")
+            .addUtility("Electric Company", 45)
+            .addProperty("Park Place", 350, 200, "blue")
+            .addProperty("Boardwalk", 400, 200, "blue")
+            .addUtility("Luxury Tax", 50)
+            .addProperty("Kentucky Ave", 220, 16, "red")
+            .addProperty("Indiana Ave", 220, 17, "red")
+            .addProperty("Illinois Ave", 240, 18, "red")
+            .build();
+
+    private final SpaceType[] types; // Kind of space at each position
+    private final String[] names; // Name of each space
+    private final int[] prices; // Purchase price of each property (0 elsewhere)
+    private final int[] baseRents; // Starting rent of each property (0 elsewhere)
+    private final String[] colors; // Color group of each property (null elsewhere)
+    private final int[] taxes; // Tax of each utility space (0 elsewhere)
+    private final int[] colorGroups; // Color group ID of each property (ColorGroups.NONE elsewhere)
+    private final int[] groupSizes; // Number of properties in each color group on this board
+    private final int jailPosition; // Position of the Jail space
+
+    /**
+     * Creates a definition from the spaces collected by a builder.
+     *
+     * @param builder the builder holding the spaces in board order
+     */
+    private BoardDefinition(Builder builder) {
+        int size = builder.types.size();
+        types = builder.types.toArray(new SpaceType[0]);
+        names = builder.names.toArray(new String[0]);
+        colors = builder.colors.toArray(new String[0]);
+        prices = new int[size];
+        baseRents = new int[size];
+        taxes = new int[size];
+        colorGroups = new int[size];
+        groupSizes = new int[ColorGroups.MAX_GROUPS];
+        int jail = -1;
+        for (int i = 0; i < size; i++) {
+            prices[i] = builder.prices.get(i);
+            baseRents[i] = builder.baseRents.get(i);
+            taxes[i] = builder.taxes.get(i);
+            colorGroups[i] = ColorGroups.idOf(colors[i]);
+            if (colorGroups[i] != ColorGroups.NONE) {
+                groupSizes[colorGroups[i]]++;
+            }
+            if (types[i] == SpaceType.JAIL && jail < 0) {
+                jail = i;
+            }
+        }
+        jailPosition = jail;
+    }
+
+    /**
+     * Returns the number of positions on the board.
+     *
+     * @return the board size
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Returns the kind of space at a position.
+     *
+     * @param position the board position
+     * @return the space type
+     */
+    public SpaceType getType(int position) {
+        return types[position];
+    }
+
+    /**
+     * Returns the name of the space at a position.
+     *
+     * @param position the board position
+     * @return the space name
+     */
+    public String getName(int position) {
+        return names[position];
+    }
+
+    /**
+     * Returns the purchase price of the property at a position.
+     *
+     * @param position the board position
+     * @return the price, or 0 if the position is not a property
+     */
+    public int getPrice(int position) {
+        return prices[position];
+    }
+
+    /**
+     * Returns the starting rent of the property at a position.
+     *
+     * @param position the board position
+     * @return the base rent, or 0 if the position is not a property
+     */
+    public int getBaseRent(int position) {
+        return baseRents[position];
+    }
+
+    /**
+     * Returns a copy of the starting rents of every position.
+     *
+     * @return the base rents indexed by position
+     */
+    public int[] getBaseRents() {
+        return baseRents.clone();
+    }
+
+    /**
+     * Returns the color group of the property at a position.
+     *
+     * @param position the board position
+     * @return the color, or null if the position is not a property
+     */
+    public String getColor(int position) {
+        return colors[position];
+    }
+
+    /**
+     * Returns the color group ID of the property at a position.
+     *
+     * @param position the board position
+     * @return the group ID, or {@link ColorGroups#NONE} if the position is not a property
+     */
+    public int getColorGroup(int position) {
+        return colorGroups[position];
+    }
+
+    /**
+     * Returns how many properties of a color group are on this board.
+     *
+     * @param group the group ID
+     * @return the number of properties in the group
+     */
+    public int getGroupSize(int group) {
+        return groupSizes[group];
+    }
+
+    /**
+     * Returns the tax charged by the utility space at a position.
+     *
+     * @param position the board position
+     * @return the tax, or 0 if the position is not a utility space
+     */
+    public int getTax(int position) {
+        return taxes[position];
+    }
+
+    /**
+     * Returns the position of the Jail space.
+     *
+     * @return the Jail's position, or -1 if the layout has no Jail
+     */
+    public int getJailPosition() {
+        return jailPosition;
+    }
+
+    /**
+     * Collects the spaces of a layout in board order and builds an immutable {@link BoardDefinition}.
+     */
+    public static final class Builder {
+        private final List<SpaceType> types = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Integer> prices = new ArrayList<>();
+        private final List<Integer> baseRents = new ArrayList<>();
+        private final List<String> colors = new ArrayList<>();
+        private final List<Integer> taxes = new ArrayList<>();
+
+        /**
+         * Adds a plain space with no effect.
+         *
+         * @param name the name of the space
+         * @return this builder
+         */
+        public Builder addPlain(String name) {
+            return add(SpaceType.PLAIN, name, 0, 0, null, 0);
+        }
+
+        /**
+         * Adds a property.
+         *
+         * @param name  the name of the property
+         * @param price the purchase price
+         * @param rent  the starting rent
+         * @param color the color group
+         * @return this builder
+         */
+        public Builder addProperty(String name, int price, int rent, String color) {
+            return add(SpaceType.PROPERTY, name, price, rent, color, 0);
+        }
+
+        /**
+         * Adds a utility space that charges a tax.
+         *
+         * @param name the name of the space
+         * @param tax  the tax charged
+         * @return this builder
+         */
+        public Builder addUtility(String name, int tax) {
+            return add(SpaceType.UTILITY, name, 0, 0, null, tax);
+        }
+
+        /**
+         * Adds a space that sends players to Jail.
+         *
+         * @param name the name of the space
+         * @return this builder
+         */
+        public Builder addGoToJail(String name) {
+            return add(SpaceType.GO_TO_JAIL, name, 0, 0, null, 0);
+        }
+
+        /**
+         * Adds the Jail space.
+         *
+         * @param name the name of the space
+         * @return this builder
+         */
+        public Builder addJail(String name) {
+            return add(SpaceType.JAIL, name, 0, 0, null, 0);
+        }
+
+        /**
+         * Builds the definition from the spaces added so far.
+         *
+         * @return the immutable board definition
+         */
+        public BoardDefinition build() {
+            return new BoardDefinition(this);
+        }
+
+        /**
+         * Appends one position to every column.
+         *
+         * @param type  the kind of space
+         * @param name  the name of the space
+         * @param price the purchase price, for properties
+         * @param rent  the starting rent, for properties
+         * @param color the color group, for properties
+         * @param tax   the tax, for utility spaces
+         * @return this builder
+         */
+        private Builder add(SpaceType type, String name, int price, int rent, String color, int tax) {
+            types.add(type);
+            names.add(name);
+            prices.add(price);
+            baseRents.add(rent);
+            colors.add(color);
+            taxes.add(tax);
+            return this;
+        }
+    }
+}
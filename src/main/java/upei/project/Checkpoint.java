@@ -0,0 +1,158 @@
+package upei.project;
+
+import upei.project.Stats.PlayerStats;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The aggregate state of a {@link SimulationExperiment} between rounds of trials: the index of the next trial
+ * to play, the number of games played and every player's statistics. Because each trial's dice are seeded from the
+ * master seed and the trial index, the next trial index is all that is needed to continue the dice where
+ * they left off. A checkpoint is a few kilobytes, written to a temporary file that then replaces the previous
+ * checkpoint in one atomic move, so a process killed while writing leaves the previous checkpoint intact.
+ */
+final class Checkpoint {
+    private static final int MAGIC = 0x4D4F4E43; // "MONC"
+    private static final int VERSION = 2;
+
+    private final long seed; // Master seed of the experiment
+    private final int trials; // Trials the experiment was asked to play
+    private final int[] playerIds; // IDs of the players, in order
+    private final int nextTrial; // First trial not yet played
+    private final long games; // Games played
+    private final PlayerStats[] stats; // Statistics of each player
+
+    /**
+     * Creates a checkpoint.
+     *
+     * @param seed      the master seed of the experiment
+     * @param trials    the number of trials the experiment was asked to play
+     * @param playerIds the IDs of the players, in order
+     * @param nextTrial the first trial not yet played
+     * @param games     the number of games played
+     * @param stats     the statistics of each player
+     */
+    Checkpoint(long seed, int trials, int[] playerIds, int nextTrial, long games, PlayerStats[] stats) {
+        this.seed = seed;
+        this.trials = trials;
+        this.playerIds = playerIds;
+        this.nextTrial = nextTrial;
+        this.games = games;
+        this.stats = stats;
+    }
+
+    /**
+     * Writes the checkpoint, replacing any earlier checkpoint at the path atomically.
+     *
+     * @param file the path of the checkpoint
+     * @throws IOException if the checkpoint cannot be written
+     */
+    void write(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeInt(trials);
+            out.writeInt(playerIds.length);
+            for (int id : playerIds) {
+                out.writeInt(id);
+            }
+            out.writeInt(nextTrial);
+            out.writeLong(games);
+            for (PlayerStats playerStats : stats) {
+                playerStats.writeTo(out);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a checkpoint.
+     *
+     * @param file the path of the checkpoint
+     * @return the checkpoint
+     * @throws IOException if the checkpoint cannot be read or is not a checkpoint file
+     */
+    static Checkpoint read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a checkpoint file: " + file);
+            }
+            long seed = in.readLong();
+            int trials = in.readInt();
+            int[] playerIds = new int[in.readInt()];
+            for (int i = 0; i < playerIds.length; i++) {
+                playerIds[i] = in.readInt();
+            }
+            int nextTrial = in.readInt();
+            long games = in.readLong();
+            PlayerStats[] stats = new PlayerStats[playerIds.length];
+            for (int i = 0; i < stats.length; i++) {
+                stats[i] = PlayerStats.readFrom(in);
+            }
+            return new Checkpoint(seed, trials, playerIds, nextTrial, games, stats);
+        }
+    }
+
+    /**
+     * Returns the master seed of the experiment.
+     *
+     * @return the master seed
+     */
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of trials the experiment was asked to play.
+     *
+     * @return the trials
+     */
+    int getTrials() {
+        return trials;
+    }
+
+    /**
+     * Returns the IDs of the players, in order.
+     *
+     * @return the player IDs
+     */
+    int[] getPlayerIds() {
+        return playerIds;
+    }
+
+    /**
+     * Returns the first trial not yet played.
+     *
+     * @return the next trial index
+     */
+    int getNextTrial() {
+        return nextTrial;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the games
+     */
+    long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the statistics of each player.
+     *
+     * @return the statistics
+     */
+    PlayerStats[] getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,392 @@
+package upei.project.Daemon;
+
+import upei.project.SimulationExperiment;
+import upei.project.Strategy.Strategy;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A long-lived simulation server. Starting a JVM for every experiment costs startup and JIT warm-up, which for
+ * a short experiment is more than the experiment itself; the daemon stays resident and warm and plays the
+ * experiments clients send it.
+ * <p>
+ * Clients connect to a loopback port and send one command per line:
+ * <ul>
+ *     <li>{@code run ...} submits a {@link SimulationJob} and is answered with {@code queued id=...}.
+ *     The job waits in a queue shared by every client, highest priority first and in order of submission among
+ *     equal priorities, until one of the workers plays it. When it finishes the daemon sends
+ *     {@code done id=... games=... millis=... wins=w1,w2,...}, with the wins by seat; a job out of
+ *     time sends {@code timeout} with the games it played instead, and a failed job sends
+ *     {@code error id=... message}. Replies to different jobs arrive as the jobs finish, not in submission order.</li>
+ *     <li>{@code shutdown} stops the daemon once the jobs already queued have finished, and is answered with
+ *     {@code bye}.</li>
+ * </ul>
+ * Each job is played on one worker thread, so the workers play as many jobs at once as there are cores.
+ */
+public class SimulationDaemon implements AutoCloseable {
+    private final ServerSocket server; // Loopback socket the clients connect to
+    private final ThreadPoolExecutor workers; // Threads that play the jobs, fed from a priority queue
+    private final ExecutorService connections; // Threads that read the clients' commands
+    private final AtomicLong submitted = new AtomicLong(); // Jobs submitted so far, for first-come order
+    // Strategies by player name, shared by every job so each is compiled into a decision table only once
+    private final Map<String, Strategy> strategies = new ConcurrentHashMap<>();
+    private final CountDownLatch stopped = new CountDownLatch(1); // Released once the daemon has stopped
+    private volatile boolean closing; // Whether the daemon has been told to stop
+
+    /**
+     * Creates a daemon listening on a loopback port. It accepts connections once {@link #start()} is called.
+     *
+     * @param port        the port to listen on, or 0 for any free port
+     * @param workerCount the number of jobs played at once
+     * @throws IOException              if the port cannot be bound
+     * @throws IllegalArgumentException if the worker count is less than 1
+     */
+    public SimulationDaemon(int port, int workerCount) throws IOException {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1: " + workerCount);
+        }
+        this.server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        // Queued jobs are ordered by the queue itself, so jobs must be handed over with execute, never submit
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), daemonThreads("simulation-worker"));
+        this.connections = Executors.newCachedThreadPool(daemonThreads("simulation-client"));
+    }
+
+    /**
+     * Warms the engines up by playing a few thousand games on each, so the first jobs run at full speed.
+     *
+     * @param trials the number of games to play on each engine
+     */
+    public void warmUp(int trials) {
+        for (String engine : new String[] {"object", "array", "batch"}) {
+            SimulationJob job = SimulationJob.parse("id=warm-up players=aggressive,cautious,collector:green,disruptive"
+                    + " trials=" + trials + " engine=" + engine);
+            job.toExperiment(0, this::strategyNamed).runTrials();
+        }
+    }
+
+    /**
+     * Starts accepting connections on a background thread.
+     */
+    public void start() {
+        Thread acceptor = daemonThreads("simulation-daemon").newThread(this::acceptConnections);
+        acceptor.start();
+    }
+
+    /**
+     * Returns the port the daemon listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Waits until the daemon has stopped, either by {@link #close()} or by a client's {@code shutdown}.
+     *
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public void awaitShutdown() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Stops accepting connections and commands, lets the jobs already queued finish, and releases the threads.
+     */
+    @Override
+    public void close() {
+        if (closing) {
+            return;
+        }
+        closing = true;
+        try {
+            server.close();
+        } catch (IOException e) {
+            // The socket is being discarded either way
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        connections.shutdownNow(); // Only after the jobs, so their clients still get the replies
+        stopped.countDown();
+    }
+
+    /**
+     * Accepts connections until the daemon is closed, reading each on its own thread.
+     */
+    private void acceptConnections() {
+        while (!closing) {
+            try {
+                Socket socket = server.accept();
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!closing) {
+                    System.err.println("Simulation daemon stopped accepting connections: " + e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads a client's commands until it disconnects, queueing its jobs and answering each command.
+     *
+     * @param socket the client's connection
+     */
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                     StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                     StandardCharsets.UTF_8))) {
+            Replies replies = new Replies(out);
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (line.equals("shutdown")) {
+                    replies.send("bye");
+                    new Thread(this::close).start(); // Closing waits for the queued jobs, not on this thread
+                    break;
+                }
+                if (!line.startsWith("run ")) {
+                    replies.send("error id=- Unknown command: " + line);
+                    continue;
+                }
+                submit(line.substring(4), replies);
+            }
+            // Keep the connection open until the client's jobs have replied
+            replies.awaitPending();
+        } catch (SocketException e) {
+            // The client went away; its queued jobs still run but their replies are dropped
+        } catch (IOException e) {
+            System.err.println("Simulation daemon lost a client: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parses a job and queues it, or replies with the reason it was rejected.
+     *
+     * @param arguments the text after "run"
+     * @param replies   where the job's replies go
+     * @throws IOException if a reply cannot be sent
+     */
+    private void submit(String arguments, Replies replies) throws IOException {
+        SimulationJob job;
+        try {
+            job = SimulationJob.parse(arguments);
+        } catch (IllegalArgumentException e) {
+            replies.send("error id=- " + e.getMessage());
+            return;
+        }
+        replies.expect();
+        replies.send("queued id=" + job.getId()); // Sent before the job can finish and reply
+        try {
+            workers.execute(new QueuedJob(job, submitted.getAndIncrement(), System.nanoTime(), replies));
+        } catch (RejectedExecutionException e) {
+            replies.done();
+            replies.send("error id=" + job.getId() + " The daemon is shutting down");
+        }
+    }
+
+    /**
+     * Returns the strategy a player name stands for, creating it the first time the name is used.
+     * The built-in strategies keep no state between decisions, so every job can share one instance per name.
+     *
+     * @param name the player name, such as "collector:green"
+     * @return the shared strategy
+     */
+    private Strategy strategyNamed(String name) {
+        return strategies.computeIfAbsent(name, SimulationJob::parseStrategy);
+    }
+
+    /**
+     * Creates a factory of named daemon threads, so the daemon never keeps the JVM alive by itself.
+     *
+     * @param name the name of the threads
+     * @return the thread factory
+     */
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A job waiting for or being played by a worker. Jobs are ordered highest priority first, then first come.
+     */
+    private final class QueuedJob implements Runnable, Comparable<QueuedJob> {
+        private final SimulationJob job; // The job to play
+        private final long sequence; // Order in which the job was submitted
+        private final long submittedNanos; // When the job was submitted, for its timeout
+        private final Replies replies; // Where the job's result goes
+
+        /**
+         * Creates a queued job.
+         *
+         * @param job            the job to play
+         * @param sequence       the order in which the job was submitted
+         * @param submittedNanos when the job was submitted
+         * @param replies        where the job's result goes
+         */
+        QueuedJob(SimulationJob job, long sequence, long submittedNanos, Replies replies) {
+            this.job = job;
+            this.sequence = sequence;
+            this.submittedNanos = submittedNanos;
+            this.replies = replies;
+        }
+
+        /**
+         * Plays the job with the time left before its timeout and sends the result.
+         */
+        @Override
+        public void run() {
+            String reply;
+            try {
+                long millisLeft = 0;
+                if (job.getTimeoutMillis() > 0) {
+                    millisLeft = job.getTimeoutMillis() - (System.nanoTime() - submittedNanos) / 1_000_000;
+                }
+                long start = System.nanoTime();
+                SimulationExperiment experiment = job.toExperiment(Math.max(millisLeft, 0),
+                        SimulationDaemon.this::strategyNamed);
+                if (job.getTimeoutMillis() > 0 && millisLeft <= 0) {
+                    reply = result(experiment, true, 0); // Out of time before it left the queue
+                } else {
+                    experiment.runTrials();
+                    reply = result(experiment, experiment.hasTimedOut(), (System.nanoTime() - start) / 1_000_000);
+                }
+            } catch (RuntimeException e) {
+                reply = "error id=" + job.getId() + " " + e;
+            }
+            try {
+                replies.send(reply);
+            } catch (IOException e) {
+                // The client went away; there is no one left to tell
+            } finally {
+                replies.done();
+            }
+        }
+
+        /**
+         * Formats the reply for a finished run.
+         *
+         * @param experiment the experiment that was run
+         * @param timedOut   whether the job ran out of time
+         * @param millis     how long the run took, in milliseconds
+         * @return the reply line
+         */
+        private String result(SimulationExperiment experiment, boolean timedOut, long millis) {
+            StringBuilder reply = new StringBuilder(timedOut ? "timeout" : "done");
+            reply.append(" id=").append(job.getId())
+                    .append(" games=").append(experiment.getGames())
+                    .append(" millis=").append(millis)
+                    .append(" wins=");
+            for (int seat = 0; seat < job.getStrategyNames().size(); seat++) {
+                if (seat > 0) {
+                    reply.append(',');
+                }
+                reply.append(experiment.getWins(seat));
+            }
+            return reply.toString();
+        }
+
+        /**
+         * Orders jobs highest priority first, then in order of submission.
+         *
+         * @param other the job to compare with
+         * @return a negative number if this job runs first
+         */
+        @Override
+        public int compareTo(QueuedJob other) {
+            int byPriority = Integer.compare(other.job.getPriority(), job.getPriority());
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * The reply channel of one client, shared by the thread reading its commands and the workers playing its jobs.
+     * Each reply is written and flushed whole, so replies never interleave.
+     */
+    private static final class Replies {
+        private final BufferedWriter out; // The client's connection
+        private int pending; // Jobs of the client that have not replied yet
+
+        /**
+         * Creates the reply channel of a client.
+         *
+         * @param out the client's connection
+         */
+        Replies(BufferedWriter out) {
+            this.out = out;
+        }
+
+        /**
+         * Sends one reply line.
+         *
+         * @param line the reply
+         * @throws IOException if the client cannot be written to
+         */
+        synchronized void send(String line) throws IOException {
+            out.write(line);
+            out.newLine();
+            out.flush();
+        }
+
+        /**
+         * Records that a job of the client has been queued and will reply.
+         */
+        synchronized void expect() {
+            pending++;
+        }
+
+        /**
+         * Records that a job of the client has replied.
+         */
+        synchronized void done() {
+            pending--;
+            notifyAll();
+        }
+
+        /**
+         * Waits until every queued job of the client has replied.
+         *
+         * @throws InterruptedException if the waiting thread is interrupted
+         */
+        synchronized void awaitPending() throws InterruptedException {
+            while (pending > 0) {
+                wait();
+            }
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package upei.project.Daemon;
+
+import upei.project.EngineType;
+import upei.project.Event.SilentEventListener;
+import upei.project.GameRules;
+import upei.project.Player;
+import upei.project.SimulationExperiment;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+import upei.project.Strategy.Strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * One experiment submitted to the {@link SimulationDaemon}, parsed from a line of the form
+ * <pre>
+ * run id=7 players=aggressive,cautious:300,collector:green,disruptive trials=1000 seed=42
+ *     priority=5 timeout=2000 start=1000 win=1500 turns=100 engine=array
+ * </pre>
+ * (on one line). The players are named by strategy: {@code aggressive}, {@code cautious} with an optional
+ * reserve, {@code collector} with its color, and {@code disruptive}. The id, players and trials are required.
+ * The seed defaults to 0, so a job without one is still reproducible. Higher priorities run first, and the
+ * timeout, in milliseconds from submission, defaults to none. The rules default to the standard rules, and
+ * the engine to the array engine.
+ */
+public final class SimulationJob {
+    private final String id; // Name the client gave the job, echoed in every reply
+    private final List<String> strategyNames; // Strategy of each seat, as given
+    private final int trials; // Number of games to play
+    private final long seed; // Master seed of the experiment
+    private final int priority; // Higher priorities run first
+    private final long timeoutMillis; // Time allowed from submission to the end of the run, or 0 for none
+    private final GameRules rules; // Starting balance, winning balance and maximum number of turns
+    private final EngineType engine; // Engine the games are played with
+
+    /**
+     * Creates a job.
+     *
+     * @param id            the name the client gave the job
+     * @param strategyNames the strategy of each seat, such as "collector:green"
+     * @param trials        the number of games to play
+     * @param seed          the master seed of the experiment
+     * @param priority      the priority; higher priorities run first
+     * @param timeoutMillis the time allowed from submission, in milliseconds, or 0 for none
+     * @param rules         the rules the games are played by
+     * @param engine        the engine the games are played with
+     * @throws IllegalArgumentException if there are fewer than 2 players, a strategy is unknown,
+     *                                  the trials are less than 1 or the timeout is negative
+     */
+    public SimulationJob(String id, List<String> strategyNames, int trials, long seed, int priority,
+                         long timeoutMillis, GameRules rules, EngineType engine) {
+        if (strategyNames.size() < 2) {
+            throw new IllegalArgumentException("A job needs at least 2 players: " + strategyNames);
+        }
+        for (String name : strategyNames) {
+            parseStrategy(name); // Reject unknown strategies when the job is submitted, not when it runs
+        }
+        if (trials < 1) {
+            throw new IllegalArgumentException("Trials must be at least 1: " + trials);
+        }
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout cannot be negative: " + timeoutMillis);
+        }
+        this.id = id;
+        this.strategyNames = List.copyOf(strategyNames);
+        this.trials = trials;
+        this.seed = seed;
+        this.priority = priority;
+        this.timeoutMillis = timeoutMillis;
+        this.rules = rules;
+        this.engine = engine;
+    }
+
+    /**
+     * Parses a job from the arguments of a {@code run} line: space-separated {@code key=value} pairs.
+     *
+     * @param arguments the text after "run"
+     * @return the job
+     * @throws IllegalArgumentException if a pair is malformed or unknown, a required key is missing,
+     *                                  or a value is invalid
+     */
+    public static SimulationJob parse(String arguments) {
+        String id = null;
+        List<String> strategyNames = null;
+        Integer trials = null;
+        long seed = 0;
+        int priority = 0;
+        long timeoutMillis = 0;
+        int startingBalance = GameRules.STANDARD.getStartingBalance();
+        int winningBalance = GameRules.STANDARD.getWinningBalance();
+        int maxTurns = GameRules.STANDARD.getMaxTurns();
+        EngineType engine = EngineType.ARRAY;
+
+        for (String pair : arguments.trim().split("\\s+")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Expected key=value: " + pair);
+            }
+            String key = pair.substring(0, equals);
+            String value = pair.substring(equals + 1);
+            try {
+                switch (key) {
+                    case "id":
+                        id = value;
+                        break;
+                    case "players":
+                        strategyNames = Arrays.asList(value.split(","));
+                        break;
+                    case "trials":
+                        trials = Integer.parseInt(value);
+                        break;
+                    case "seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "priority":
+                        priority = Integer.parseInt(value);
+                        break;
+                    case "timeout":
+                        timeoutMillis = Long.parseLong(value);
+                        break;
+                    case "start":
+                        startingBalance = Integer.parseInt(value);
+                        break;
+                    case "win":
+                        winningBalance = Integer.parseInt(value);
+                        break;
+                    case "turns":
+                        maxTurns = Integer.parseInt(value);
+                        break;
+                    case "engine":
+                        engine = EngineType.valueOf(value.toUpperCase(Locale.ROOT));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown key: " + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number for " + key + ": " + value);
+            }
+        }
+        if (id == null || strategyNames == null || trials == null) {
+            throw new IllegalArgumentException("A job needs an id, players and trials");
+        }
+        return new SimulationJob(id, strategyNames, trials, seed, priority, timeoutMillis,
+                new GameRules(startingBalance, winningBalance, maxTurns), engine);
+    }
+
+    /**
+     * Creates the strategy a player name stands for.
+     *
+     * @param name the name, such as "aggressive", "cautious", "cautious:300", "collector:green" or "disruptive"
+     * @return a new strategy
+     * @throws IllegalArgumentException if the name is not a known strategy
+     */
+    public static Strategy parseStrategy(String name) {
+        int colon = name.indexOf(':');
+        String kind = colon < 0 ? name : name.substring(0, colon);
+        String argument = colon < 0 ? null : name.substring(colon + 1);
+        switch (kind) {
+            case "aggressive":
+                if (argument == null) {
+                    return new AggresivveBuyerStrategy();
+                }
+                break;
+            case "cautious":
+                try {
+                    return argument == null ? new CautiousSaverStrategy()
+                            : new CautiousSaverStrategy(Integer.parseInt(argument));
+                } catch (NumberFormatException e) {
+                    break;
+                }
+            case "collector":
+                if (argument != null && !argument.isEmpty()) {
+                    return new CollectorStrategy(argument);
+                }
+                break;
+            case "disruptive":
+                if (argument == null) {
+                    return new DisruptiveStrategy();
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+
+    /**
+     * Creates the experiment that plays the job on the calling thread, with no output and the time left
+     * before the job's timeout.
+     *
+     * @param millisLeft the time left before the timeout, in milliseconds, or 0 if the job has no timeout
+     * @param strategies gives the strategy for each player name
+     * @return the experiment, ready to run
+     */
+    SimulationExperiment toExperiment(long millisLeft, Function<String, Strategy> strategies) {
+        ArrayList<Player> players = new ArrayList<>();
+        for (int seat = 0; seat < strategyNames.size(); seat++) {
+            players.add(new Player("Player " + (seat + 1), seat + 1, strategies.apply(strategyNames.get(seat))));
+        }
+        SimulationExperiment experiment = new SimulationExperiment(players, trials, 1);
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.setSeed(seed);
+        experiment.setRules(rules);
+        experiment.setEngine(engine);
+        experiment.setTimeLimit(millisLeft);
+        return experiment;
+    }
+
+    /**
+     * Returns the name the client gave the job.
+     *
+     * @return the job's id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the strategy of each seat, as given.
+     *
+     * @return the strategy names
+     */
+    public List<String> getStrategyNames() {
+        return strategyNames;
+    }
+
+    /**
+     * Returns the number of games to play.
+     *
+     * @return the trials
+     */
+    public int getTrials() {
+        return trials;
+    }
+
+    /**
+     * Returns the master seed of the experiment.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the job's priority; higher priorities run first.
+     *
+     * @return the priority
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the time allowed from submission to the end of the run.
+     *
+     * @return the timeout in milliseconds, or 0 for none
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Returns the rules the games are played by.
+     *
+     * @return the rules
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the engine the games are played with.
+     *
+     * @return the engine
+     */
+    public EngineType getEngine() {
+        return engine;
+    }
+}
@@ -0,0 +1,16 @@
+package upei.project;
+
+/**
+ * A source of dice rolls for a game.
+ * Players draw their rolls from the dice handed to them by the game, so a game can be replayed
+ * exactly by giving it dice that produce the same sequence of rolls.
+ */
+public interface Dice {
+
+    /**
+     * Rolls two six-sided dice.
+     *
+     * @return the total of the two dice, between 2 and 12
+     */
+    int roll();
+}
@@ -0,0 +1,64 @@
+package upei.project;
+
+import upei.project.Event.GameEventListener;
+
+import java.util.List;
+
+/**
+ * The game engines a simulation can play its trials with. All play the same rules and, given the
+ * same dice, the same games.
+ */
+public enum EngineType {
+    /**
+     * The original engine, where every space and player object plays its own part in a turn.
+     */
+    OBJECT {
+        @Override
+        public GameEngine create(List<Player> players, GameEventListener listener, GameRules rules) {
+            return new Game(players, listener, BoardDefinition.STANDARD, rules);
+        }
+    },
+
+    /**
+     * The struct-of-arrays engine, which keeps player state in primitive arrays and allocates nothing per game.
+     */
+    ARRAY {
+        @Override
+        public GameEngine create(List<Player> players, GameEventListener listener, GameRules rules) {
+            return new ArrayGame(players, listener, BoardDefinition.STANDARD, rules);
+        }
+    },
+
+    /**
+     * The lockstep engine, which plays a block of trials at once in lanes of primitive arrays.
+     * An experiment uses it only when no listener, metrics or replay log needs the events of the games and every
+     * strategy can be compiled into a decision table; otherwise, and for single games, the array engine plays.
+     */
+    BATCH {
+        @Override
+        public GameEngine create(List<Player> players, GameEventListener listener, GameRules rules) {
+            return new ArrayGame(players, listener, BoardDefinition.STANDARD, rules);
+        }
+    };
+
+    /**
+     * Creates a game of this kind on the standard board with the standard rules.
+     *
+     * @param players  the players, in seat order
+     * @param listener the sink that receives the events of the game
+     * @return the new game
+     */
+    public GameEngine create(List<Player> players, GameEventListener listener) {
+        return create(players, listener, GameRules.STANDARD);
+    }
+
+    /**
+     * Creates a game of this kind on the standard board with the given rules.
+     *
+     * @param players  the players, in seat order
+     * @param listener the sink that receives the events of the game
+     * @param rules    the starting balance, winning balance and maximum number of turns
+     * @return the new game
+     */
+    public abstract GameEngine create(List<Player> players, GameEventListener listener, GameRules rules);
+}
@@ -0,0 +1,196 @@
+package upei.project.Event;
+
+import upei.project.Player;
+import upei.project.Space.Property;
+import upei.project.Space.Space;
+
+import java.util.List;
+
+/**
+ * An event sink that prints every event to standard output with the game's usual messages.
+ * This is the default sink for players and games.
+ */
+public final class ConsoleEventListener implements GameEventListener {
+
+    /**
+     * The shared instance; the sink has no state, so one instance serves every game and thread.
+     */
+    public static final ConsoleEventListener INSTANCE = new ConsoleEventListener();
+
+    /**
+     * Private constructor; use {@link #INSTANCE}.
+     */
+    private ConsoleEventListener() {
+    }
+
+    /**
+     * Prints the start-of-game banner.
+     */
+    @Override
+    public void onGameStarted() {
+        System.out.println("Starting the game!");
+    }
+
+    /**
+     * Prints whose turn it is.
+     */
+    @Override
+    public void onTurnStarted(Player player) {
+        System.out.println("\nIt's " + player.getName() + "'s turn.");
+    }
+
+    /**
+     * Prints the roll and the space the player landed on.
+     */
+    @Override
+    public void onRolled(Player player, int roll, Space landed) {
+        System.out.println(player.getName() + " rolled a " + roll + " and landed on " + landed.getName());
+    }
+
+    /**
+     * Prints the rent payment.
+     */
+    @Override
+    public void onPaidRent(Player payer, Player owner, Property property, int rent) {
+        System.out.println(payer.getName() + " pays rent to " + owner.getName());
+    }
+
+    /**
+     * Prints that the player already owns the property.
+     */
+    @Override
+    public void onLandedOnOwnProperty(Player player, Property property) {
+        System.out.println(player.getName() + " already owns " + property.getName());
+    }
+
+    /**
+     * Prints the utility tax payment.
+     */
+    @Override
+    public void onPaidTax(Player player, int tax) {
+        System.out.println(player.getName() + " pays a utility tax of " + tax);
+    }
+
+    /**
+     * Prints that the player could not cover a payment.
+     */
+    @Override
+    public void onInsufficientFunds(Player player, int amount) {
+        System.out.println(player.getName() + " has insufficient funds!");
+    }
+
+    /**
+     * Prints the purchase.
+     */
+    @Override
+    public void onBought(Player player, Property property) {
+        System.out.println(player.getName() + " bought " + property.getName());
+    }
+
+    /**
+     * Prints that the purchase was not allowed.
+     */
+    @Override
+    public void onPurchaseRefused(Player player, Property property) {
+        System.out.println("Cannot acquire property. Either insufficient balance or already owned.");
+    }
+
+    /**
+     * Prints the color group that was upgraded.
+     */
+    @Override
+    public void onUpgraded(Player player, Property property, int cost) {
+        System.out.println("Successfully upgraded properties of color: " + property.getColor());
+    }
+
+    /**
+     * Prints that the player was sent to Jail.
+     */
+    @Override
+    public void onJailed(Player player) {
+        System.out.println(player.getName() + " is sent to Jail!");
+    }
+
+    /**
+     * Prints that the player is already in Jail.
+     */
+    @Override
+    public void onAlreadyInJail(Player player) {
+        System.out.println(player.getName() + " is already in Jail.");
+    }
+
+    /**
+     * Prints that the player starts the turn in Jail.
+     */
+    @Override
+    public void onInJail(Player player) {
+        System.out.println(player.getName() + " is in Jail.");
+    }
+
+    /**
+     * Prints the Jail turn being served.
+     */
+    @Override
+    public void onRemainsInJail(Player player, int turn) {
+        System.out.println(player.getName() + " remains in Jail (Turn " + turn + " of 2)");
+    }
+
+    /**
+     * Prints that the player has served their time.
+     */
+    @Override
+    public void onServedTime(Player player) {
+        System.out.println(player.getName() + " has served their time and is released from Jail!");
+    }
+
+    /**
+     * Prints the release from Jail.
+     */
+    @Override
+    public void onReleased(Player player) {
+        System.out.println(player.getName() + " has been released from Jail!");
+    }
+
+    /**
+     * Prints that the player is just visiting Jail.
+     */
+    @Override
+    public void onVisitingJail(Player player) {
+        System.out.println(player.getName() + " is just visiting Jail.");
+    }
+
+    /**
+     * Prints the elimination.
+     */
+    @Override
+    public void onEliminated(Player player) {
+        System.out.println(player.getName() + " has been eliminated!");
+    }
+
+    /**
+     * Prints that the player reached the winning balance.
+     */
+    @Override
+    public void onReachedWinningBalance(Player player, int winningBalance) {
+        System.out.println(player.getName() + " wins by reaching $" + winningBalance + "!");
+    }
+
+    /**
+     * Prints the final standings and announces the winner.
+     */
+    @Override
+    public void onGameOver(List<Player> standings, Player winner) {
+        System.out.println("Game Over! Evaluating the remaining players:");
+
+        // Print the standings
+        for (int i = 0; i < standings.size(); i++) {
+            Player player = standings.get(i);
+            System.out.println((i + 1) + ": " + player.getName() + " - Balance: $"
+                    + player.getBalance() + ", Properties Owned: " + player.getNumberOwned());
+        }
+
+        // Announce the winner
+        System.out.println("The winner is " + winner.getName() + " with a balance of $"
+                + winner.getBalance() + " and " + winner.getNumberOwned() + " properties!");
+    }
+}
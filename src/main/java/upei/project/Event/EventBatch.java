@@ -0,0 +1,184 @@
+package upei.project.Event;
+
+import upei.project.Space.Space;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A buffer of game events delivered by a {@link GameEventPublisher}. Events are kept in parallel arrays, one
+ * entry per event, so filling a batch allocates nothing, and the publisher reuses a batch once every subscriber
+ * that received it has called {@link #release()}. A subscriber must therefore release every batch it is given,
+ * and must not read a batch after releasing it.
+ * <p>
+ * Players are recorded by ID and spaces by reference; the space and the numbers are those at the time of the
+ * event, but the players' other state may have moved on by the time the batch is read.
+ */
+public final class EventBatch {
+    private final GameEventPublisher publisher; // Publisher the batch returns to when released
+    private final byte[] types; // Ordinal of each event's type
+    private final int[] games; // Game of each event, counted by the producer that recorded it
+    private final int[] players; // ID of each event's player, or 0
+    private final int[] others; // ID of each event's other player, or 0
+    private final int[] amounts; // Each event's amount, or 0
+    private final Space[] spaces; // Each event's space, or null
+    private final AtomicInteger holders = new AtomicInteger(); // Subscribers yet to release the batch
+    private int size; // Events in the batch
+    private int source; // Producer that filled the batch
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param publisher the publisher the batch returns to
+     * @param capacity  the number of events the batch holds
+     */
+    EventBatch(GameEventPublisher publisher, int capacity) {
+        this.publisher = publisher;
+        this.types = new byte[capacity];
+        this.games = new int[capacity];
+        this.players = new int[capacity];
+        this.others = new int[capacity];
+        this.amounts = new int[capacity];
+        this.spaces = new Space[capacity];
+    }
+
+    /**
+     * Appends an event.
+     *
+     * @param type   the event's type
+     * @param game   the producer's count of the game the event belongs to
+     * @param player the ID of the event's player, or 0
+     * @param other  the ID of the event's other player, or 0
+     * @param amount the event's amount, or 0
+     * @param space  the event's space, or null
+     * @return true if the batch is now full
+     */
+    boolean add(GameEventType type, int game, int player, int other, int amount, Space space) {
+        types[size] = (byte) type.ordinal();
+        games[size] = game;
+        players[size] = player;
+        others[size] = other;
+        amounts[size] = amount;
+        spaces[size] = space;
+        size++;
+        return size == types.length;
+    }
+
+    /**
+     * Empties the batch for reuse by a producer.
+     *
+     * @param source the producer that will fill it
+     */
+    void clear(int source) {
+        Arrays.fill(spaces, 0, size, null); // Do not keep the spaces of finished games reachable
+        this.size = 0;
+        this.source = source;
+    }
+
+    /**
+     * Sets how many subscribers must release the batch before it can be reused.
+     *
+     * @param count the number of subscribers the batch is delivered to
+     */
+    void hold(int count) {
+        holders.set(count);
+    }
+
+    /**
+     * Hands the batch back to the publisher for reuse. Every subscriber must call this exactly once for every
+     * batch it is given, after it has finished reading it.
+     */
+    public void release() {
+        if (holders.decrementAndGet() == 0) {
+            publisher.recycle(this);
+        }
+    }
+
+    /**
+     * Returns the number of events in the batch.
+     *
+     * @return the event count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of events the batch can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return types.length;
+    }
+
+    /**
+     * Returns the producer that filled the batch. Together with {@link #getGame(int)} it identifies the game
+     * of an event when many games stream into one publisher.
+     *
+     * @return the producer's number, counted from 0 in order of creation
+     */
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the type of an event.
+     *
+     * @param index the index of the event
+     * @return the type
+     */
+    public GameEventType getType(int index) {
+        return GameEventType.of(types[index]);
+    }
+
+    /**
+     * Returns the game an event belongs to, counted from 1 by the producer that recorded it.
+     *
+     * @param index the index of the event
+     * @return the game number
+     */
+    public int getGame(int index) {
+        return games[index];
+    }
+
+    /**
+     * Returns the ID of an event's player.
+     *
+     * @param index the index of the event
+     * @return the player ID, or 0 if the event has no player
+     */
+    public int getPlayerId(int index) {
+        return players[index];
+    }
+
+    /**
+     * Returns the ID of an event's other player, such as the owner receiving rent.
+     *
+     * @param index the index of the event
+     * @return the other player's ID, or 0 if the event has none
+     */
+    public int getOtherPlayerId(int index) {
+        return others[index];
+    }
+
+    /**
+     * Returns an event's amount, such as the roll, the rent or the cost of an upgrade.
+     *
+     * @param index the index of the event
+     * @return the amount, or 0 if the event has none
+     */
+    public int getAmount(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Returns an event's space, such as the space landed on or the property bought.
+     *
+     * @param index the index of the event
+     * @return the space, or null if the event has none
+     */
+    public Space getSpace(int index) {
+        return spaces[index];
+    }
+}
@@ -0,0 +1,202 @@
+package upei.project.Event;
+
+import upei.project.Player;
+import upei.project.Space.Property;
+import upei.project.Space.Space;
+
+import java.util.List;
+
+/**
+ * Receives the typed events that happen while a game is played.
+ * The game, the spaces and the players report what happened through this interface instead of printing,
+ * so a sink decides whether (and how) an event is turned into text.
+ * Every method has an empty default body, so a sink only overrides the events it cares about.
+ * Arguments are passed as they are; no message is built unless a sink builds one.
+ */
+public interface GameEventListener {
+
+    /**
+     * Called once when a game starts.
+     */
+    default void onGameStarted() {
+    }
+
+    /**
+     * Called when a player's turn begins.
+     *
+     * @param player the player whose turn it is
+     */
+    default void onTurnStarted(Player player) {
+    }
+
+    /**
+     * Called after a player has rolled the dice and moved.
+     *
+     * @param player the player who rolled
+     * @param roll   the total of the dice
+     * @param landed the space the player landed on
+     */
+    default void onRolled(Player player, int roll, Space landed) {
+    }
+
+    /**
+     * Called when a player pays rent to the owner of a property.
+     *
+     * @param payer    the player paying the rent
+     * @param owner    the owner receiving the rent
+     * @param property the property that was landed on
+     * @param rent     the rent charged
+     */
+    default void onPaidRent(Player payer, Player owner, Property property, int rent) {
+    }
+
+    /**
+     * Called when a player lands on a property they already own.
+     *
+     * @param player   the owner of the property
+     * @param property the property that was landed on
+     */
+    default void onLandedOnOwnProperty(Player player, Property property) {
+    }
+
+    /**
+     * Called when a player pays the tax of a utility space.
+     *
+     * @param player the player paying the tax
+     * @param tax    the tax charged
+     */
+    default void onPaidTax(Player player, int tax) {
+    }
+
+    /**
+     * Called when a player cannot cover a payment and is left with nothing.
+     *
+     * @param player the player who could not pay
+     * @param amount the amount that was due
+     */
+    default void onInsufficientFunds(Player player, int amount) {
+    }
+
+    /**
+     * Called when a player's strategy has decided what to do about a property they landed on,
+     * before the purchase or upgrade is attempted.
+     *
+     * @param player   the player deciding
+     * @param property the property landed on
+     * @param buyLand  whether the strategy chose to buy the property
+     * @param upgrade  whether the strategy chose to upgrade the property's color group instead
+     */
+    default void onDecided(Player player, Property property, boolean buyLand, boolean upgrade) {
+    }
+
+    /**
+     * Called when a player buys a property.
+     *
+     * @param player   the buyer
+     * @param property the property bought
+     */
+    default void onBought(Player player, Property property) {
+    }
+
+    /**
+     * Called when a player tries to buy a property but is not allowed to.
+     *
+     * @param player   the player attempting the purchase
+     * @param property the property that could not be bought
+     */
+    default void onPurchaseRefused(Player player, Property property) {
+    }
+
+    /**
+     * Called when a player upgrades the properties of a color group.
+     *
+     * @param player   the player paying for the upgrade
+     * @param property the property whose color group was upgraded
+     * @param cost     the amount paid for the upgrade
+     */
+    default void onUpgraded(Player player, Property property, int cost) {
+    }
+
+    /**
+     * Called when a player is sent to Jail.
+     *
+     * @param player the player sent to Jail
+     */
+    default void onJailed(Player player) {
+    }
+
+    /**
+     * Called when a player who is already in Jail is sent there again.
+     *
+     * @param player the player already in Jail
+     */
+    default void onAlreadyInJail(Player player) {
+    }
+
+    /**
+     * Called at the start of a turn that a player spends in Jail.
+     *
+     * @param player the player in Jail
+     */
+    default void onInJail(Player player) {
+    }
+
+    /**
+     * Called when a player spends another turn in Jail.
+     *
+     * @param player the player in Jail
+     * @param turn   the number of the turn being served
+     */
+    default void onRemainsInJail(Player player, int turn) {
+    }
+
+    /**
+     * Called when a player has served their time in Jail, just before they are released.
+     *
+     * @param player the player who served their time
+     */
+    default void onServedTime(Player player) {
+    }
+
+    /**
+     * Called when a player is released from Jail.
+     *
+     * @param player the released player
+     */
+    default void onReleased(Player player) {
+    }
+
+    /**
+     * Called when a player lands on the Jail space without being in Jail.
+     *
+     * @param player the visiting player
+     */
+    default void onVisitingJail(Player player) {
+    }
+
+    /**
+     * Called when a player is eliminated from the game.
+     *
+     * @param player the eliminated player
+     */
+    default void onEliminated(Player player) {
+    }
+
+    /**
+     * Called when a player ends the game by reaching the winning balance.
+     *
+     * @param player           the player who reached the balance
+     * @param winningBalance   the balance that ends the game
+     */
+    default void onReachedWinningBalance(Player player, int winningBalance) {
+    }
+
+    /**
+     * Called when the game is over and the remaining players have been ranked.
+     *
+     * @param standings the remaining players, best first
+     * @param winner    the winner of the game
+     */
+    default void onGameOver(List<Player> standings, Player winner) {
+    }
+}
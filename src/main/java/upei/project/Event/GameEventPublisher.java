@@ -0,0 +1,500 @@
+package upei.project.Event;
+
+import upei.project.Player;
+import upei.project.Space.Property;
+import upei.project.Space.Space;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams the turn-by-turn events of games to any number of {@link Flow.Subscriber}s, for consumers such as
+ * live analytics, trace capture and dashboards.
+ * <p>
+ * Games report to the publisher through a {@link #producer() producer}, a {@link GameEventListener} that records
+ * rolls, rent, tax, purchases, upgrades, Jail, eliminations and the end of the game into an {@link EventBatch}.
+ * Full batches, and the batch of each finished game, are delivered to every subscriber as it asks for them.
+ * The publisher owns a fixed number of batches and reuses each once every subscriber has released it, so memory
+ * stays bounded however far the subscribers fall behind: once every batch is waiting for a subscriber,
+ * the {@link OverflowPolicy} decides whether the games wait for a batch to come back or their events are dropped.
+ * <p>
+ * A producer records in plain fields and must serve one game at a time, like the metrics listener; many games
+ * on many threads can share one publisher through producers of their own.
+ */
+public class GameEventPublisher implements Flow.Publisher<EventBatch>, AutoCloseable {
+    /**
+     * The number of events in a batch unless another size is given.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * The number of batches the publisher owns unless another number is given.
+     */
+    public static final int DEFAULT_BUFFERS = 64;
+
+    /**
+     * What a game does when every batch is waiting for a subscriber.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The game waits until a subscriber releases a batch, so the slowest subscriber sets the pace
+         * and no event is lost.
+         */
+        BLOCK,
+
+        /**
+         * The game carries on and its events are dropped, and counted, until a batch is released.
+         */
+        DROP
+    }
+
+    private final BlockingQueue<EventBatch> free; // Batches no subscriber is holding
+    private final List<BatchSubscription> subscriptions = new CopyOnWriteArrayList<>(); // Current subscribers
+    private final OverflowPolicy policy; // What games do when no batch is free
+    private final Executor executor; // Threads that deliver the batches to the subscribers
+    private final AtomicInteger producers = new AtomicInteger(); // Producers created so far
+    private final LongAdder dropped = new LongAdder(); // Events dropped because no batch was free
+    private volatile boolean flushAtGameEnd = true; // Whether a game's batch is delivered when the game ends
+    private volatile boolean closed; // Whether the stream has been completed
+
+    /**
+     * Creates a publisher with {@value #DEFAULT_BUFFERS} batches of {@value #DEFAULT_BATCH_SIZE} events that
+     * delivers on the common fork-join pool.
+     *
+     * @param policy what games do when every batch is waiting for a subscriber
+     */
+    public GameEventPublisher(OverflowPolicy policy) {
+        this(policy, DEFAULT_BATCH_SIZE, DEFAULT_BUFFERS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a publisher.
+     *
+     * @param policy    what games do when every batch is waiting for a subscriber
+     * @param batchSize the number of events in a batch
+     * @param buffers   the number of batches the publisher owns, which bounds its memory
+     * @param executor  the threads that deliver the batches to the subscribers
+     * @throws IllegalArgumentException if the batch size or number of buffers is less than 1
+     */
+    public GameEventPublisher(OverflowPolicy policy, int batchSize, int buffers, Executor executor) {
+        if (batchSize < 1 || buffers < 1) {
+            throw new IllegalArgumentException("Batch size and buffers must be at least 1: " + batchSize
+                    + ", " + buffers);
+        }
+        this.policy = policy;
+        this.executor = executor;
+        this.free = new ArrayBlockingQueue<>(buffers);
+        for (int i = 0; i < buffers; i++) {
+            free.add(new EventBatch(this, batchSize));
+        }
+    }
+
+    /**
+     * Adds a subscriber. It receives the batches published after it subscribed, as many as it requests.
+     * A subscriber added after {@link #close()} is completed straight away.
+     *
+     * @param subscriber the subscriber
+     * @throws NullPointerException if the subscriber is null
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super EventBatch> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        BatchSubscription subscription = new BatchSubscription(subscriber);
+        subscriptions.add(subscription);
+        if (closed) {
+            subscription.complete();
+        }
+        subscription.schedule(); // Delivers onSubscribe
+    }
+
+    /**
+     * Creates a sink that records the events of one game at a time into this publisher's batches.
+     *
+     * @return a new producer
+     */
+    public Producer producer() {
+        return new Producer(producers.getAndIncrement());
+    }
+
+    /**
+     * Sets whether a producer delivers its batch when a game ends, so every game's events arrive when the game
+     * does, or only when the batch is full or {@linkplain Producer#flush() flushed}, which packs the events of
+     * short games more tightly. Batches are delivered at the end of every game unless this is turned off.
+     *
+     * @param flushAtGameEnd whether to deliver the batch when a game ends
+     */
+    public void setFlushAtGameEnd(boolean flushAtGameEnd) {
+        this.flushAtGameEnd = flushAtGameEnd;
+    }
+
+    /**
+     * Returns the number of events dropped because no batch was free, under {@link OverflowPolicy#DROP}.
+     *
+     * @return the dropped events
+     */
+    public long getDroppedEvents() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of batches that no subscriber is holding.
+     *
+     * @return the free batches
+     */
+    public int getFreeBuffers() {
+        return free.size();
+    }
+
+    /**
+     * Completes the stream: every subscriber receives the batches already published and then onComplete.
+     * Batches published afterwards are discarded, so producers should be flushed first.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (BatchSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Delivers a batch to every current subscriber, or returns it at once if there are none.
+     *
+     * @param batch the filled batch
+     */
+    private void publish(EventBatch batch) {
+        BatchSubscription[] current = subscriptions.toArray(new BatchSubscription[0]);
+        if (closed || current.length == 0) {
+            batch.hold(1);
+            batch.release();
+            return;
+        }
+        batch.hold(current.length); // Set before any subscriber can see the batch and release it
+        for (BatchSubscription subscription : current) {
+            subscription.offer(batch);
+        }
+    }
+
+    /**
+     * Takes back a batch every subscriber has released.
+     *
+     * @param batch the released batch
+     */
+    void recycle(EventBatch batch) {
+        free.offer(batch);
+    }
+
+    /**
+     * Takes a free batch for a producer, waiting for one or giving up according to the policy.
+     *
+     * @return a batch, or null if none is free and events are to be dropped
+     */
+    private EventBatch acquire() {
+        if (policy == OverflowPolicy.DROP) {
+            return free.poll();
+        }
+        try {
+            return free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Leave the interrupt for the game's owner and drop the event
+            return null;
+        }
+    }
+
+    /**
+     * The sink through which one game at a time records its events into the publisher's batches.
+     */
+    public final class Producer implements GameEventListener {
+        private final int source; // Number of the producer, recorded in its batches
+        private EventBatch batch; // Batch being filled, or null until one is taken
+        private int game; // Games started so far
+
+        /**
+         * Creates a producer.
+         *
+         * @param source the number of the producer
+         */
+        private Producer(int source) {
+            this.source = source;
+        }
+
+        /**
+         * Delivers the events recorded so far, if any, without waiting for the batch to fill.
+         */
+        public void flush() {
+            if (batch != null && batch.size() > 0) {
+                EventBatch full = batch;
+                batch = null;
+                publish(full);
+            }
+        }
+
+        /**
+         * Records an event, taking a batch first if needed and delivering the batch once it is full.
+         *
+         * @param type   the event's type
+         * @param player the event's player, or null
+         * @param other  the event's other player, or null
+         * @param amount the event's amount
+         * @param space  the event's space, or null
+         */
+        private void record(GameEventType type, Player player, Player other, int amount, Space space) {
+            if (batch == null) {
+                batch = acquire();
+                if (batch == null) {
+                    dropped.increment();
+                    return;
+                }
+                batch.clear(source);
+            }
+            if (batch.add(type, game, player == null ? 0 : player.getId(), other == null ? 0 : other.getId(),
+                    amount, space)) {
+                flush();
+            }
+        }
+
+        /**
+         * Counts the new game and records its start.
+         */
+        @Override
+        public void onGameStarted() {
+            game++;
+            record(GameEventType.GAME_STARTED, null, null, 0, null);
+        }
+
+        /**
+         * Records the roll and the space landed on.
+         */
+        @Override
+        public void onRolled(Player player, int roll, Space landed) {
+            record(GameEventType.ROLLED, player, null, roll, landed);
+        }
+
+        /**
+         * Records the rent payment.
+         */
+        @Override
+        public void onPaidRent(Player payer, Player owner, Property property, int rent) {
+            record(GameEventType.PAID_RENT, payer, owner, rent, property);
+        }
+
+        /**
+         * Records the tax payment.
+         */
+        @Override
+        public void onPaidTax(Player player, int tax) {
+            record(GameEventType.PAID_TAX, player, null, tax, null);
+        }
+
+        /**
+         * Records the purchase.
+         */
+        @Override
+        public void onBought(Player player, Property property) {
+            record(GameEventType.BOUGHT, player, null, property.getPrice(), property);
+        }
+
+        /**
+         * Records the upgrade.
+         */
+        @Override
+        public void onUpgraded(Player player, Property property, int cost) {
+            record(GameEventType.UPGRADED, player, null, cost, property);
+        }
+
+        /**
+         * Records that the player was sent to Jail.
+         */
+        @Override
+        public void onJailed(Player player) {
+            record(GameEventType.JAILED, player, null, 0, null);
+        }
+
+        /**
+         * Records the elimination.
+         */
+        @Override
+        public void onEliminated(Player player) {
+            record(GameEventType.ELIMINATED, player, null, 0, null);
+        }
+
+        /**
+         * Records that the player reached the winning balance, which ends the game.
+         */
+        @Override
+        public void onReachedWinningBalance(Player player, int winningBalance) {
+            record(GameEventType.REACHED_WINNING_BALANCE, player, null, winningBalance, null);
+            if (flushAtGameEnd) {
+                flush();
+            }
+        }
+
+        /**
+         * Records the end of the game and its winner.
+         */
+        @Override
+        public void onGameOver(List<Player> standings, Player winner) {
+            record(GameEventType.GAME_OVER, winner, null, 0, null);
+            if (flushAtGameEnd) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * One subscriber's subscription: the batches waiting for it and its outstanding demand. Signals to the
+     * subscriber are made one at a time on the publisher's executor, never on a game's thread.
+     */
+    private final class BatchSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super EventBatch> subscriber; // Receiver of the batches
+        private final ConcurrentLinkedQueue<EventBatch> queue = new ConcurrentLinkedQueue<>(); // Batches not yet delivered
+        private final AtomicLong demand = new AtomicLong(); // Batches requested and not yet delivered
+        private final AtomicInteger pending = new AtomicInteger(); // Signals to process, so one thread delivers
+        private boolean subscribed; // Whether onSubscribe has been delivered
+        private volatile boolean cancelled; // Whether the subscription has ended
+        private volatile boolean completing; // Whether onComplete follows the batches already queued
+        private volatile boolean badRequest; // Whether a request was not positive, to be reported
+        private long badAmount; // The request that was not positive
+
+        /**
+         * Creates a subscription.
+         *
+         * @param subscriber the receiver of the batches
+         */
+        BatchSubscription(Flow.Subscriber<? super EventBatch> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Queues a batch for the subscriber, or releases it at once if the subscription has ended.
+         *
+         * @param batch the batch
+         */
+        void offer(EventBatch batch) {
+            if (cancelled) {
+                batch.release();
+                return;
+            }
+            queue.add(batch);
+            schedule(); // Delivers it, or releases it if the subscription ended meanwhile
+        }
+
+        /**
+         * Marks the subscription to complete once the batches already queued are delivered.
+         */
+        void complete() {
+            completing = true;
+            schedule();
+        }
+
+        /**
+         * Asks for more batches.
+         *
+         * @param n the number of batches, which must be positive
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badAmount = n;
+                badRequest = true; // Publishes the amount to the delivering thread
+            } else {
+                demand.accumulateAndGet(n, (current, added) ->
+                        current + added < 0 ? Long.MAX_VALUE : current + added); // Cap at unbounded
+            }
+            schedule();
+        }
+
+        /**
+         * Ends the subscription; the batches waiting for it are released.
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        /**
+         * Arranges for {@link #run()} to process the new signal, unless it is already running.
+         */
+        void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Delivers what the subscriber is owed until no signal is left to process.
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Delivers onSubscribe first, then as many queued batches as the subscriber has asked for, then
+         * onComplete or onError once due. After the subscription ends, queued batches are released instead.
+         */
+        private void drain() {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            if (!cancelled && badRequest) {
+                end();
+                subscriber.onError(new IllegalArgumentException("Request must be positive: " + badAmount));
+            }
+            if (!cancelled) {
+                EventBatch batch;
+                while (demand.get() > 0 && (batch = queue.poll()) != null) {
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    try {
+                        subscriber.onNext(batch);
+                    } catch (RuntimeException e) {
+                        end();
+                        subscriber.onError(e);
+                        break;
+                    }
+                    if (cancelled) {
+                        break;
+                    }
+                }
+                if (!cancelled && completing && queue.isEmpty()) {
+                    end();
+                    subscriber.onComplete();
+                }
+            }
+            if (cancelled) {
+                subscriptions.remove(this);
+                EventBatch batch;
+                while ((batch = queue.poll()) != null) {
+                    batch.release();
+                }
+            }
+        }
+
+        /**
+         * Ends the subscription before a final signal.
+         */
+        private void end() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+    }
+}
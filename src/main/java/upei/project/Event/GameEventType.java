@@ -0,0 +1,69 @@
+package upei.project.Event;
+
+/**
+ * The kinds of event a {@link GameEventPublisher} streams. Each names the {@link GameEventListener} method
+ * it comes from and says what the player, other player and amount of an {@link EventBatch} entry hold.
+ */
+public enum GameEventType {
+    /**
+     * {@link GameEventListener#onGameStarted()}: no player, no amount.
+     */
+    GAME_STARTED,
+
+    /**
+     * {@link GameEventListener#onRolled}: the player who rolled, the roll as the amount and the space landed on.
+     */
+    ROLLED,
+
+    /**
+     * {@link GameEventListener#onPaidRent}: the payer, the owner as the other player, the rent and the property.
+     */
+    PAID_RENT,
+
+    /**
+     * {@link GameEventListener#onPaidTax}: the player and the tax.
+     */
+    PAID_TAX,
+
+    /**
+     * {@link GameEventListener#onBought}: the buyer and the property, which may have been upgraded instead.
+     */
+    BOUGHT,
+
+    /**
+     * {@link GameEventListener#onUpgraded}: the player, the cost and the property whose group was upgraded.
+     */
+    UPGRADED,
+
+    /**
+     * {@link GameEventListener#onJailed}: the player sent to Jail.
+     */
+    JAILED,
+
+    /**
+     * {@link GameEventListener#onEliminated}: the player eliminated.
+     */
+    ELIMINATED,
+
+    /**
+     * {@link GameEventListener#onReachedWinningBalance}: the player and the winning balance, which ends the game.
+     */
+    REACHED_WINNING_BALANCE,
+
+    /**
+     * {@link GameEventListener#onGameOver}: the winner as the player.
+     */
+    GAME_OVER;
+
+    private static final GameEventType[] VALUES = values(); // Types by ordinal, without copying values() each time
+
+    /**
+     * Returns the type with the given ordinal.
+     *
+     * @param ordinal the ordinal
+     * @return the type
+     */
+    static GameEventType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,20 @@
+package upei.project.Event;
+
+/**
+ * An event sink that ignores every event.
+ * It inherits the empty default methods of {@link GameEventListener}, so a game using it
+ * builds no strings and performs no I/O. Use it for bulk experiments.
+ */
+public final class SilentEventListener implements GameEventListener {
+
+    /**
+     * The shared instance; the sink has no state, so one instance serves every game and thread.
+     */
+    public static final SilentEventListener INSTANCE = new SilentEventListener();
+
+    /**
+     * Private constructor; use {@link #INSTANCE}.
+     */
+    private SilentEventListener() {
+    }
+}
@@ -0,0 +1,164 @@
+package upei.project.Evolution;
+
+import upei.project.Strategy.ParameterizedStrategy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link ParameterizedStrategy} encoded as a vector of genes, each between 0 and 1, so that it can be bred.
+ * Gene 0 is the land reserve and gene 1 the upgrade reserve, both as fractions of {@link #MAX_RESERVE};
+ * the remaining genes are the preferences for the colors of the board, in board order, mapped from [0, 1]
+ * onto [-1, 1]. A genome also carries the fitness it scored in its last evaluation.
+ */
+public final class Genome {
+
+    /**
+     * The reserve encoded by a reserve gene of 1.
+     */
+    public static final int MAX_RESERVE = 1000;
+
+    private final String[] colors; // Colors whose preferences the genes after the reserves encode
+    private final double[] genes; // Gene values, each in [0, 1]
+    private double fitness; // Win rate in the last evaluation
+
+    /**
+     * Creates a genome from its genes.
+     *
+     * @param colors the colors of the board, one gene each after the two reserve genes
+     * @param genes  the gene values, copied
+     * @throws IllegalArgumentException if the number of genes does not match the colors, or a gene is outside [0, 1]
+     */
+    public Genome(String[] colors, double[] genes) {
+        if (genes.length != colors.length + 2) {
+            throw new IllegalArgumentException("Expected " + (colors.length + 2) + " genes, got " + genes.length);
+        }
+        for (double gene : genes) {
+            if (!(gene >= 0 && gene <= 1)) {
+                throw new IllegalArgumentException("Genes must be between 0 and 1: " + gene);
+            }
+        }
+        this.colors = colors.clone();
+        this.genes = genes.clone();
+        this.fitness = Double.NaN;
+    }
+
+    /**
+     * Decodes the genome into a strategy. Each call returns a new strategy.
+     *
+     * @return the strategy the genome describes
+     */
+    public ParameterizedStrategy toStrategy() {
+        Map<String, Double> preferences = new HashMap<>();
+        for (int i = 0; i < colors.length; i++) {
+            preferences.put(colors[i], 2 * genes[i + 2] - 1);
+        }
+        return new ParameterizedStrategy(reserveOf(genes[0]), reserveOf(genes[1]), preferences);
+    }
+
+    /**
+     * Returns the number of genes.
+     *
+     * @return the genome's length
+     */
+    public int size() {
+        return genes.length;
+    }
+
+    /**
+     * Returns one gene.
+     *
+     * @param index the index of the gene
+     * @return the gene value, between 0 and 1
+     */
+    public double getGene(int index) {
+        return genes[index];
+    }
+
+    /**
+     * Returns a copy of the genes.
+     *
+     * @return the gene values
+     */
+    public double[] getGenes() {
+        return genes.clone();
+    }
+
+    /**
+     * Returns the colors whose preferences the genes encode.
+     *
+     * @return the colors, in gene order
+     */
+    public String[] getColors() {
+        return colors.clone();
+    }
+
+    /**
+     * Returns the fitness the genome scored in its last evaluation.
+     *
+     * @return the win rate, or NaN if the genome has not been evaluated
+     */
+    public double getFitness() {
+        return fitness;
+    }
+
+    /**
+     * Records the fitness the genome scored.
+     *
+     * @param fitness the win rate
+     */
+    void setFitness(double fitness) {
+        this.fitness = fitness;
+    }
+
+    /**
+     * Describes the strategy the genome encodes, such as "land 120, upgrade 430, green +0.85, red -0.20".
+     *
+     * @return a readable form of the genome
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("land ").append(reserveOf(genes[0])).append(", upgrade ").append(reserveOf(genes[1]));
+        for (int i = 0; i < colors.length; i++) {
+            text.append(String.format(", %s %+.2f", colors[i], 2 * genes[i + 2] - 1));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Checks whether another genome has the same colors and genes.
+     *
+     * @param other the object to compare with
+     * @return true if the genomes encode the same strategy
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Genome)) {
+            return false;
+        }
+        Genome genome = (Genome) other;
+        return Arrays.equals(colors, genome.colors) && Arrays.equals(genes, genome.genes);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(colors) + Arrays.hashCode(genes);
+    }
+
+    /**
+     * Decodes a reserve gene.
+     *
+     * @param gene the gene value
+     * @return the reserve
+     */
+    private static int reserveOf(double gene) {
+        return (int) Math.round(gene * MAX_RESERVE);
+    }
+}
@@ -0,0 +1,476 @@
+package upei.project.Evolution;
+
+import upei.project.BoardDefinition;
+import upei.project.EngineType;
+import upei.project.Event.SilentEventListener;
+import upei.project.GameEngine;
+import upei.project.GameRules;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.Space.SpaceType;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+import upei.project.Strategy.Strategy;
+import upei.project.Tournament.Entrant;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Genetic algorithm that searches the {@link upei.project.Strategy.ParameterizedStrategy parameterized strategies}
+ * for one that beats a reference pool, instead of writing strategies by hand.
+ * Every generation each {@link Genome} plays the same number of games against opponents drawn from the pool,
+ * and its fitness is the share of those games it wins. The next generation keeps the fittest genomes unchanged
+ * and fills the rest with children of parents picked by tournament selection, bred by uniform crossover and
+ * Gaussian mutation.
+ * <p>
+ * Fitness evaluation dominates the running time, so the games of a generation are spread over a work-stealing
+ * fork-join pool like the games of a {@link upei.project.Tournament.Tournament}. Game i of every genome rolls the
+ * same dice, so genomes are compared on equal luck, and the breeding is done on one thread from the evolver's
+ * seed, so the same seed evolves the same genomes on any number of threads.
+ *
+ * @see upei.project.Strategy.ParameterizedStrategy
+ */
+public class StrategyEvolver {
+    /**
+     * The most games a single task plays before its range of games is split in two.
+     */
+    private static final int GAMES_PER_TASK = 256;
+
+    private final int populationSize; // Genomes in every generation
+    private final int gamesPerGenome; // Games each genome plays to measure its fitness
+    private final int parallelism; // Number of threads used to play the games
+    private final String[] colors; // Colors of the board, one preference gene each
+    private List<Entrant> referencePool; // Opponents the genomes are measured against
+    private int tableSize; // Players in each game, the genome included
+    private int eliteCount; // Fittest genomes carried into the next generation unchanged
+    private int selectionSize; // Genomes compared to pick each parent
+    private double mutationRate; // Chance that each gene of a child is mutated
+    private double mutationSigma; // Standard deviation of a mutation
+    private GameRules rules; // Starting balance, winning balance and maximum number of turns of every game
+    private long seed; // Seed of the breeding and of every game's dice
+    private final List<Double> bestFitness; // Fitness of the best genome of each generation evaluated
+    private final List<Double> meanFitness; // Mean fitness of each generation evaluated
+
+    /**
+     * Creates an evolver that measures genomes against the four built-in strategies at tables of four.
+     *
+     * @param populationSize the number of genomes in every generation
+     * @param gamesPerGenome the number of games each genome plays in every generation
+     * @param parallelism    the number of threads used to play the games (1 plays them on the calling thread)
+     * @throws IllegalArgumentException if any argument is less than 1, or the population is less than 2
+     */
+    public StrategyEvolver(int populationSize, int gamesPerGenome, int parallelism) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2: " + populationSize);
+        }
+        if (gamesPerGenome < 1) {
+            throw new IllegalArgumentException("Games per genome must be at least 1: " + gamesPerGenome);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        if ((long) populationSize * gamesPerGenome > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many games per generation: " + populationSize + " x "
+                    + gamesPerGenome);
+        }
+        this.populationSize = populationSize;
+        this.gamesPerGenome = gamesPerGenome;
+        this.parallelism = parallelism;
+        this.colors = colorsOf(BoardDefinition.STANDARD);
+        this.referencePool = List.of(
+                new Entrant("Aggressive Buyer", new AggresivveBuyerStrategy()),
+                new Entrant("Cautious Saver", new CautiousSaverStrategy()),
+                new Entrant("Collector (green)", new CollectorStrategy("green")),
+                new Entrant("Disruptive", new DisruptiveStrategy()));
+        this.tableSize = 4;
+        this.eliteCount = Math.max(1, populationSize / 10);
+        this.selectionSize = 3;
+        this.mutationRate = 0.1;
+        this.mutationSigma = 0.1;
+        this.rules = GameRules.STANDARD;
+        this.seed = ThreadLocalRandom.current().nextLong();
+        this.bestFitness = new ArrayList<>();
+        this.meanFitness = new ArrayList<>();
+    }
+
+    /**
+     * Evolves a population from random genomes for a number of generations. The last generation is evaluated
+     * but not bred, so every genome returned carries the fitness it scored.
+     *
+     * @param generations the number of generations to evaluate
+     * @return the genomes of the last generation, fittest first
+     * @throws IllegalArgumentException if the number of generations is less than 1
+     */
+    public List<Genome> evolve(int generations) {
+        if (generations < 1) {
+            throw new IllegalArgumentException("Generations must be at least 1: " + generations);
+        }
+        bestFitness.clear();
+        meanFitness.clear();
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Genome> population = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            double[] genes = new double[colors.length + 2];
+            for (int g = 0; g < genes.length; g++) {
+                genes[g] = random.nextDouble();
+            }
+            population.add(new Genome(colors, genes));
+        }
+
+        for (int generation = 0; ; generation++) {
+            evaluate(population, generation);
+            if (generation == generations - 1) {
+                return population;
+            }
+            population = breed(population, random);
+        }
+    }
+
+    /**
+     * Measures the fitness of every genome of a generation and sorts the generation fittest first.
+     *
+     * @param population the genomes of the generation
+     * @param generation the index of the generation, which picks the dice of its games
+     */
+    private void evaluate(List<Genome> population, int generation) {
+        // One strategy per genome for the whole generation, so every game of the genome shares its decision table
+        Strategy[] strategies = new Strategy[population.size()];
+        for (int i = 0; i < strategies.length; i++) {
+            strategies[i] = population.get(i).toStrategy();
+        }
+        GameTask task = new GameTask(strategies, generation, 0, strategies.length * gamesPerGenome);
+        long[] wins;
+        if (parallelism == 1) {
+            wins = task.compute();
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                wins = pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        double total = 0;
+        for (int i = 0; i < population.size(); i++) {
+            double fitness = (double) wins[i] / gamesPerGenome;
+            population.get(i).setFitness(fitness);
+            total += fitness;
+        }
+        // The sort is stable, so genomes of equal fitness keep their order and the result stays reproducible
+        population.sort(Comparator.comparingDouble(Genome::getFitness).reversed());
+        bestFitness.add(population.get(0).getFitness());
+        meanFitness.add(total / population.size());
+    }
+
+    /**
+     * Breeds the next generation from an evaluated one, sorted fittest first.
+     *
+     * @param population the evaluated generation
+     * @param random     the source of the breeding's randomness
+     * @return the next generation
+     */
+    private List<Genome> breed(List<Genome> population, SplittableRandom random) {
+        List<Genome> next = new ArrayList<>(populationSize);
+        for (int i = 0; i < Math.min(eliteCount, populationSize); i++) {
+            next.add(population.get(i));
+        }
+        while (next.size() < populationSize) {
+            double[] mother = select(population, random).getGenes();
+            double[] father = select(population, random).getGenes();
+            double[] child = new double[mother.length];
+            for (int g = 0; g < child.length; g++) {
+                child[g] = random.nextBoolean() ? mother[g] : father[g];
+                if (random.nextDouble() < mutationRate) {
+                    child[g] = Math.min(1, Math.max(0, child[g] + mutationSigma * nextGaussian(random)));
+                }
+            }
+            next.add(new Genome(colors, child));
+        }
+        return next;
+    }
+
+    /**
+     * Picks a parent by tournament selection: the fittest of a few genomes drawn at random.
+     * The population is sorted fittest first, so the fittest drawn is the one with the lowest index.
+     *
+     * @param population the evaluated generation, fittest first
+     * @param random     the source of the draw
+     * @return the parent
+     */
+    private Genome select(List<Genome> population, SplittableRandom random) {
+        int best = population.size();
+        for (int i = 0; i < selectionSize; i++) {
+            best = Math.min(best, random.nextInt(population.size()));
+        }
+        return population.get(best);
+    }
+
+    /**
+     * Draws a standard normal value with the Box-Muller transform, since SplittableRandom has no nextGaussian.
+     *
+     * @param random the source of the draw
+     * @return the value
+     */
+    private static double nextGaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble(); // In (0, 1], so the logarithm is finite
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    /**
+     * Plays the games in the range [from, to) of a generation on the calling thread.
+     * Game k is game k % gamesPerGenome of genome k / gamesPerGenome. Game i of a genome rolls the same dice for
+     * every genome and seats the genome in seat i % tableSize, with the opponents that follow a rotating start
+     * in the reference pool.
+     *
+     * @param strategies the strategies of the genomes
+     * @param generation the index of the generation
+     * @param from       the index of the first game
+     * @param to         the index after the last game
+     * @return the games won by each genome in the range
+     */
+    private long[] playGames(Strategy[] strategies, int generation, int from, int to) {
+        long[] wins = new long[strategies.length];
+        SeededDice dice = new SeededDice();
+        for (int k = from; k < to; k++) {
+            int genome = k / gamesPerGenome;
+            int game = k % gamesPerGenome;
+            int genomeSeat = game % tableSize;
+            int firstOpponent = game / tableSize;
+
+            List<Player> seated = new ArrayList<>(tableSize);
+            Player candidate = null;
+            for (int seat = 0, opponent = firstOpponent; seat < tableSize; seat++) {
+                if (seat == genomeSeat) {
+                    candidate = new Player("Genome", seat + 1, strategies[genome]);
+                    seated.add(candidate);
+                } else {
+                    Entrant entrant = referencePool.get(opponent++ % referencePool.size());
+                    seated.add(new Player(entrant.getName(), seat + 1, entrant.getStrategy()));
+                }
+            }
+            GameEngine engine = EngineType.ARRAY.create(seated, SilentEventListener.INSTANCE, rules);
+            engine.setDice(dice);
+            dice.reseed(SeededDice.trialSeed(seed, (long) generation * gamesPerGenome + game));
+            engine.startGame();
+
+            if (engine.getWinner() == candidate) {
+                wins[genome]++;
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Lists the colors of a board's properties, each once, in the order they first appear.
+     *
+     * @param definition the board layout
+     * @return the colors
+     */
+    private static String[] colorsOf(BoardDefinition definition) {
+        Set<String> colors = new LinkedHashSet<>();
+        for (int position = 0; position < definition.size(); position++) {
+            if (definition.getType(position) == SpaceType.PROPERTY) {
+                colors.add(definition.getColor(position));
+            }
+        }
+        return colors.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the colors the preference genes stand for.
+     *
+     * @return the colors, in gene order after the two reserve genes
+     */
+    public String[] getColors() {
+        return colors.clone();
+    }
+
+    /**
+     * Returns the fitness of the best genome of every generation evaluated by the last {@link #evolve(int)}.
+     *
+     * @return the best fitness by generation
+     */
+    public double[] getBestFitnessHistory() {
+        return bestFitness.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Returns the mean fitness of every generation evaluated by the last {@link #evolve(int)}.
+     *
+     * @return the mean fitness by generation
+     */
+    public double[] getMeanFitnessHistory() {
+        return meanFitness.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Decodes the fittest genomes of an evolved generation into strategies ready to be played.
+     *
+     * @param genomes the genomes returned by {@link #evolve(int)}, fittest first
+     * @param count   the number of strategies wanted
+     * @return the strategies of the first count genomes, or of all of them if there are fewer
+     */
+    public static List<Strategy> bestStrategies(List<Genome> genomes, int count) {
+        List<Strategy> strategies = new ArrayList<>();
+        for (Genome genome : genomes.subList(0, Math.min(count, genomes.size()))) {
+            strategies.add(genome.toStrategy());
+        }
+        return strategies;
+    }
+
+    /**
+     * Returns the seed of the breeding and of every game's dice.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed of the breeding and of every game's dice.
+     *
+     * @param seed the new seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the opponents the genomes are measured against and the size of the tables they play at.
+     *
+     * @param referencePool the opponents, drawn in rotation to fill the other seats
+     * @param tableSize     the number of players in each game, the genome included
+     * @throws IllegalArgumentException if the pool is empty or the table size is less than 2
+     */
+    public void setReferencePool(List<Entrant> referencePool, int tableSize) {
+        if (referencePool.isEmpty()) {
+            throw new IllegalArgumentException("Reference pool cannot be empty");
+        }
+        if (tableSize < 2) {
+            throw new IllegalArgumentException("Table size must be at least 2: " + tableSize);
+        }
+        this.referencePool = new ArrayList<>(referencePool);
+        this.tableSize = tableSize;
+    }
+
+    /**
+     * Sets the number of fittest genomes carried into the next generation unchanged.
+     *
+     * @param eliteCount the number of elite genomes
+     * @throws IllegalArgumentException if the count is negative or not less than the population
+     */
+    public void setEliteCount(int eliteCount) {
+        if (eliteCount < 0 || eliteCount >= populationSize) {
+            throw new IllegalArgumentException("Elite count must be between 0 and " + (populationSize - 1) + ": "
+                    + eliteCount);
+        }
+        this.eliteCount = eliteCount;
+    }
+
+    /**
+     * Sets the number of genomes compared to pick each parent; more makes the selection greedier.
+     *
+     * @param selectionSize the tournament size of the selection
+     * @throws IllegalArgumentException if the size is less than 1
+     */
+    public void setSelectionSize(int selectionSize) {
+        if (selectionSize < 1) {
+            throw new IllegalArgumentException("Selection size must be at least 1: " + selectionSize);
+        }
+        this.selectionSize = selectionSize;
+    }
+
+    /**
+     * Sets how often and how far genes are mutated.
+     *
+     * @param mutationRate  the chance that each gene of a child is mutated
+     * @param mutationSigma the standard deviation of a mutation, in gene units
+     * @throws IllegalArgumentException if the rate is outside [0, 1] or the deviation is negative
+     */
+    public void setMutation(double mutationRate, double mutationSigma) {
+        if (!(mutationRate >= 0 && mutationRate <= 1) || !(mutationSigma >= 0)) {
+            throw new IllegalArgumentException("Invalid mutation: rate " + mutationRate + ", sigma " + mutationSigma);
+        }
+        this.mutationRate = mutationRate;
+        this.mutationSigma = mutationSigma;
+    }
+
+    /**
+     * Sets the rules every game is played by; the standard rules are used unless others are set.
+     *
+     * @param rules the rules to play by
+     */
+    public void setRules(GameRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Fork-join task that plays a range of the games of a generation, splitting it in half until each piece
+     * plays at most {@value #GAMES_PER_TASK} games.
+     */
+    private final class GameTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final Strategy[] strategies; // Strategies of the genomes
+        private final int generation; // Index of the generation
+        private final int from; // Index of the first game in the range
+        private final int to; // Index after the last game in the range
+
+        /**
+         * Creates a task for the games in the range [from, to).
+         *
+         * @param strategies the strategies of the genomes
+         * @param generation the index of the generation
+         * @param from       the index of the first game
+         * @param to         the index after the last game
+         */
+        GameTask(Strategy[] strategies, int generation, int from, int to) {
+            this.strategies = strategies;
+            this.generation = generation;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the range directly or splits it into two subtasks and adds up their wins.
+         * Outside a pool, as when the evolver runs on one thread, the halves are played one after the other.
+         *
+         * @return the games won by each genome in the range
+         */
+        @Override
+        protected long[] compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return playGames(strategies, generation, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            GameTask left = new GameTask(strategies, generation, from, mid);
+            GameTask right = new GameTask(strategies, generation, mid, to);
+            long[] wins;
+            long[] rightWins;
+            if (inForkJoinPool()) {
+                left.fork();
+                rightWins = right.compute();
+                wins = left.join();
+            } else {
+                wins = left.compute();
+                rightWins = right.compute();
+            }
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += rightWins[i];
+            }
+            return wins;
+        }
+    }
+}
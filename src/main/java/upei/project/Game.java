@@ -1,37 +1,170 @@
 package upei.project;
 
+import upei.project.Event.ConsoleEventListener;
+import upei.project.Event.GameEventListener;
+import upei.project.Profiling.BankruptcyEvent;
+import upei.project.Profiling.GamePlayedEvent;
 import upei.project.Space.GoToJail;
 import upei.project.Space.Jail;
+import upei.project.Space.JailState;
 import upei.project.Space.Property;
 import upei.project.Space.Space;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * Game class represents the core game logic for simulating a Monopoly-style game.
  * It handles the turns, player actions, winning conditions, and game management.
  */
-public class Game {
+public class Game implements GameEngine {
+    /**
+     * Orders players for the final standings: highest balance first, then most properties owned.
+     */
+    static final Comparator<Player> STANDINGS = (p1, p2) -> {
+        int balanceDiff = p2.getBalance() - p1.getBalance(); // Compare by balance
+        if (balanceDiff != 0) {
+            return balanceDiff; // If balances are different, sort by balance
+        }
+        return p2.getNumberOwned() - p1.getNumberOwned(); // Otherwise, sort by properties owned
+    };
+
     private Board board;
     private List<Player> players;
+    private final Player[] seats; // Players in their original seat order
+    private final int[] seatAtIndex; // Seat of each player in the turn order, set when the game starts
     private int currentPlayerIndex;
-    private final int MAX_TURNS = 100; // Maximum number of turns before the game ends
+    private final GameRules rules; // Starting balance, winning balance and maximum number of turns
     private int turnCounter;
     private Player winner;
+    private GameEventListener listener; // Receives the events of this game
+    private Dice dice; // Dice shared by every player in this game
 
     /**
      * Constructor to initialize the game with a list of players.
      * It creates a new board and initializes game variables like current player index, turn counter, and winner.
+     * Events are printed to the console and the dice are unseeded.
      *
      * @param players List of players participating in the game
      */
     public Game(List<Player> players) {
-        this.board = new Board(players);
+        this(players, ConsoleEventListener.INSTANCE);
+    }
+
+    /**
+     * Constructor to initialize the game with a list of players and the sink that receives its events.
+     * The sink is also given to every player, so the spaces they land on report to it as well.
+     *
+     * @param players  List of players participating in the game
+     * @param listener the sink that receives the events of the game
+     */
+    public Game(List<Player> players, GameEventListener listener) {
+        this(players, listener, BoardDefinition.STANDARD);
+    }
+
+    /**
+     * Constructor to initialize the game with a list of players, the sink that receives its events and the board layout.
+     *
+     * @param players    List of players participating in the game
+     * @param listener   the sink that receives the events of the game
+     * @param definition the layout of the board to play on
+     */
+    public Game(List<Player> players, GameEventListener listener, BoardDefinition definition) {
+        this(players, listener, definition, GameRules.STANDARD);
+    }
+
+    /**
+     * Constructor to initialize the game with a list of players, the sink that receives its events, the board layout
+     * and the rules. Every player is given the rules' starting balance, which takes effect when the game is reset.
+     *
+     * @param players    List of players participating in the game
+     * @param listener   the sink that receives the events of the game
+     * @param definition the layout of the board to play on
+     * @param rules      the starting balance, winning balance and maximum number of turns
+     */
+    public Game(List<Player> players, GameEventListener listener, BoardDefinition definition, GameRules rules) {
+        this.board = new Board(definition);
+        this.rules = rules;
+        for (Player player : players) {
+            player.setStartingBalance(rules.getStartingBalance());
+        }
         this.players = players;
+        this.seats = players.toArray(new Player[0]);
+        this.seatAtIndex = new int[seats.length];
+        this.board.getPropertyState().assignSeats(players);
         this.currentPlayerIndex = 0;
         this.turnCounter = 0;
         this.winner = null;
+        setEventListener(listener);
+        setDice(new SeededDice());
+    }
+
+    /**
+     * Returns the dice shared by the players in this game.
+     *
+     * @return the game's dice
+     */
+    @Override
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Sets the dice used by every player in this game.
+     * Giving the game dice with a known seed makes the whole game reproducible.
+     *
+     * @param dice the dice shared by the players
+     */
+    @Override
+    public void setDice(Dice dice) {
+        this.dice = dice;
+        for (Player player : players) {
+            player.setDice(dice);
+        }
+    }
+
+    /**
+     * Returns the number of turns this game has counted. Turns spent in Jail or sent there are not counted.
+     *
+     * @return the turns played
+     */
+    @Override
+    public int getTurnsPlayed() {
+        return turnCounter;
+    }
+
+    /**
+     * Returns the rules this game is played by.
+     *
+     * @return the game's rules
+     */
+    @Override
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the sink that receives the events of this game.
+     *
+     * @return the game's event listener
+     */
+    @Override
+    public GameEventListener getEventListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the sink that receives the events of this game and of every player in it.
+     *
+     * @param listener the new event listener
+     */
+    @Override
+    public void setEventListener(GameEventListener listener) {
+        this.listener = listener;
+        for (Player player : players) {
+            player.setEventListener(listener);
+        }
     }
 
     /**
@@ -39,48 +172,160 @@ public class Game {
      *
      * @return the player who has won the game
      */
+    @Override
     public Player getWinner() {
         return winner; // Replace this with actual winner determination logic
     }
 
+    /**
+     * Returns the players still in the game, in seat order until the game is over and in final standing afterwards.
+     *
+     * @return the list of players
+     */
+    @Override
+    public List<Player> getPlayers() {
+        return players;
+    }
+
     /**
      * Resets the state of all players (e.g., balances, properties, etc.) at the start of a new simulation.
      */
+    @Override
     public void resetPlayerStates() {
         for (Player player : players) {
             player.reset();
         }
     }
 
+    /**
+     * Returns the game to its starting state so the same game object can be played again.
+     * The players are put back in their original seats and reset, the board is reset with array fills,
+     * and the turn counter, current player and winner are cleared. Nothing is re-allocated.
+     */
+    @Override
+    public void reset() {
+        players.clear();
+        Collections.addAll(players, seats);
+        resetPlayerStates();
+        board.reset();
+        board.getPropertyState().assignSeats(players);
+        currentPlayerIndex = 0;
+        turnCounter = 0;
+        winner = null;
+    }
+
+    /**
+     * Copies the complete state of the game into a new snapshot.
+     *
+     * @return the snapshot
+     */
+    @Override
+    public GameSnapshot snapshot() {
+        GameSnapshot snapshot = new GameSnapshot(seats.length, board.size());
+        snapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Copies the complete state of the game into an existing snapshot, without allocating.
+     *
+     * @param snapshot the snapshot to fill
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    @Override
+    public void snapshot(GameSnapshot snapshot) {
+        snapshot.capture(players, seats, board.getPropertyState(), board.getJailState(),
+                currentPlayerIndex, turnCounter, winner, dice);
+        for (int seat = 0; seat < seats.length; seat++) {
+            snapshot.captureSeat(seat, seats[seat].getBalance(), seats[seat].getPosition());
+        }
+    }
+
+    /**
+     * Returns the game to the state recorded in a snapshot, so that {@link #startGame()} continues from there.
+     *
+     * @param snapshot the snapshot to restore
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    @Override
+    public void restore(GameSnapshot snapshot) {
+        snapshot.restoreTo(players, seats, board, dice);
+        currentPlayerIndex = snapshot.getCurrentPlayerIndex();
+        turnCounter = snapshot.getTurnsPlayed();
+        winner = snapshot.getWinnerSeat() == GameSnapshot.NO_WINNER ? null : seats[snapshot.getWinnerSeat()];
+    }
+
+    /**
+     * Returns the board the game is played on.
+     *
+     * @return the game's board
+     */
+    @Override
+    public Board getBoard() {
+        return board;
+    }
+
     /**
      * Starts the game and simulates the rounds of play.
      * It runs the game loop where players take turns, land on spaces, and perform actions (buying properties, paying rent, etc.).
      * The game ends when a player reaches a certain balance or after a predefined maximum number of turns.
+     * The game is reported to the flight recorder as a {@link GamePlayedEvent} when a recording has it switched on.
      */
+    @Override
     public void startGame() {
-        System.out.println("Starting the game!");
+        GamePlayedEvent event = GamePlayedEvent.beginIfEnabled();
+        int playerCount = players.size();
+        playTurns();
+        if (event != null && event.shouldCommit()) {
+            event.engine = getClass().getSimpleName();
+            event.players = playerCount;
+            event.turns = turnCounter;
+            event.winner = winner == null ? "" : winner.getName();
+            event.winnerStrategy = winner == null ? "" : winner.getStrategy().getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs the game loop until a player is eliminated, reaches the winning balance or the turns run out.
+     */
+    private void playTurns() {
+        listener.onGameStarted();
         boolean gameIsActive = true;
 
-        // Find the Jail space (assumed to be at position 9)
-        Jail jailSpace = (Jail) board.getSpaceAt(9); // Assuming Jail is at position 9
+        // Find the Jail space from the board layout; who is in Jail is read from the board's Jail state by seat
+        Jail jailSpace = (Jail) board.getSpaceAt(board.getDefinition().getJailPosition());
+        JailState jailState = board.getJailState();
+        // Look up each player's seat once, so the turns below pass it to the Jail instead of searching for it
+        for (int i = 0; i < players.size(); i++) {
+            seatAtIndex[i] = jailState.getSeats().indexOf(players.get(i));
+        }
 
         while (gameIsActive) {
             Player currentPlayer = players.get(currentPlayerIndex);
+            int seat = seatAtIndex[currentPlayerIndex];
 
             // Check if the player is eliminated (balance is zero)
             if (currentPlayer.getBalance() == 0) {
-                System.out.println(currentPlayer.getName() + " has been eliminated!");
+                listener.onEliminated(currentPlayer);
+                if (BankruptcyEvent.isRecorded()) {
+                    BankruptcyEvent bankruptcy = new BankruptcyEvent();
+                    bankruptcy.player = currentPlayer.getName();
+                    bankruptcy.strategy = currentPlayer.getStrategy().getClass().getSimpleName();
+                    bankruptcy.turn = turnCounter;
+                    bankruptcy.commit();
+                }
                 players.remove(currentPlayerIndex);
                 determineWinner(); // Immediately determine the winner from the remaining players
                 break; // End the game
             }
 
-            System.out.println("\nIt's " + currentPlayer.getName() + "'s turn.");
+            listener.onTurnStarted(currentPlayer);
 
             // If the player is in jail, they must perform the jail action
-            if (jailSpace.isPlayerInJail(currentPlayer)) {
-                System.out.println(currentPlayer.getName() + " is in Jail.");
-                jailSpace.action(currentPlayer); // Call Jail's action method
+            if (jailState.isInJail(seat)) {
+                listener.onInJail(currentPlayer);
+                jailSpace.action(currentPlayer, seat); // Call Jail's action method
                 // Skip the rest of the turn
                 currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
                 continue;
@@ -90,12 +335,11 @@ public class Game {
             int roll = currentPlayer.takeTurn(); // The player rolls the dice
             int newPosition = board.movePlayer(currentPlayer, roll); // Move the player based on the dice roll
             Space landedSpace = board.getSpaceAt(newPosition); // Get the space the player landed on
-            System.out.println(currentPlayer.getName() + " rolled a " + roll + " and landed on " + landedSpace.getName());
+            listener.onRolled(currentPlayer, roll, landedSpace);
 
             // Handle "Go to Jail" logic
             if (landedSpace instanceof GoToJail) {
-                System.out.println(currentPlayer.getName() + " is sent to Jail!");
-                jailSpace.addPlayerToJail(currentPlayer); // Send player to jail
+                jailSpace.addPlayerToJail(currentPlayer, seat); // Send player to jail
                 continue;
             }
 
@@ -104,19 +348,20 @@ public class Game {
                 if (landedSpace instanceof Property) {
                     Property property = (Property) landedSpace;
                     if (currentPlayer.considerBuyingHouse(property)) {
-                        System.out.println(currentPlayer.getName() + " bought " + property.getName());
+                        listener.onBought(currentPlayer, property);
                     }
                 }
             }
 
-            // Check if the player has won (balance of $1500 or more)
-            if (currentPlayer.getBalance() >= 1500) {
-                System.out.println(currentPlayer.getName() + " wins by reaching $1500!");
+            // Check if the player has won (balance of $1500 or more under the standard rules)
+            if (currentPlayer.getBalance() >= rules.getWinningBalance()) {
+                winner = currentPlayer;
+                listener.onReachedWinningBalance(currentPlayer, rules.getWinningBalance());
                 break;
             }
 
             turnCounter++;
-            if (turnCounter >= MAX_TURNS) {
+            if (turnCounter >= rules.getMaxTurns()) {
                 gameIsActive = false;
                 determineWinner(); // Determine the winner after the maximum number of turns
                 break;
@@ -133,26 +378,10 @@ public class Game {
      */
     public void determineWinner() {
         // Sort players by balance first, then by number of owned properties
-        players.sort((p1, p2) -> {
-            int balanceDiff = p2.getBalance() - p1.getBalance(); // Compare by balance
-            if (balanceDiff != 0) {
-                return balanceDiff; // If balances are different, sort by balance
-            }
-            return p2.getNumberOwned() - p1.getNumberOwned(); // Otherwise, sort by properties owned
-        });
-
-        System.out.println("Game Over! Evaluating the remaining players:");
-
-        // Print the standings
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            System.out.println((i + 1) + ": " + player.getName() + " - Balance: $"
-                    + player.getBalance() + ", Properties Owned: " + player.getNumberOwned());
-        }
+        players.sort(STANDINGS);
 
-        // Announce the winner
+        // Announce the standings and the winner
         winner = players.get(0);
-        System.out.println("The winner is " + winner.getName() + " with a balance of $"
-                + winner.getBalance() + " and " + winner.getNumberOwned() + " properties!");
+        listener.onGameOver(players, winner);
     }
 }
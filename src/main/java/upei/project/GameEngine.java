@@ -0,0 +1,117 @@
+package upei.project;
+
+import upei.project.Event.GameEventListener;
+
+import java.util.List;
+
+/**
+ * The operations shared by the game engines: play a game, read its outcome, and prepare it for the next one.
+ * {@link Game} plays with the player and space objects; {@link ArrayGame} plays the same rules on primitive arrays.
+ * Code that only runs games and reads their results, such as {@link SimulationExperiment}, works with either.
+ */
+public interface GameEngine {
+
+    /**
+     * Plays the game from its current state until it ends.
+     */
+    void startGame();
+
+    /**
+     * Returns the winner of the game.
+     *
+     * @return the winning player, or null if the game has not been decided
+     */
+    Player getWinner();
+
+    /**
+     * Returns the players still in the game, in seat order until the game is over and in final standing afterwards.
+     *
+     * @return the list of players
+     */
+    List<Player> getPlayers();
+
+    /**
+     * Returns the game to its starting state so it can be played again.
+     */
+    void reset();
+
+    /**
+     * Resets the state of all players (balances, positions, properties) without touching the board.
+     */
+    void resetPlayerStates();
+
+    /**
+     * Returns the dice used by the game.
+     *
+     * @return the game's dice
+     */
+    Dice getDice();
+
+    /**
+     * Sets the dice used by the game.
+     *
+     * @param dice the new dice
+     */
+    void setDice(Dice dice);
+
+    /**
+     * Returns the number of turns the game has counted. Turns spent in Jail or sent there are not counted.
+     *
+     * @return the turns played
+     */
+    int getTurnsPlayed();
+
+    /**
+     * Returns the rules the game is played by.
+     *
+     * @return the game's rules
+     */
+    GameRules getRules();
+
+    /**
+     * Returns the sink that receives the events of the game.
+     *
+     * @return the game's event listener
+     */
+    GameEventListener getEventListener();
+
+    /**
+     * Sets the sink that receives the events of the game.
+     *
+     * @param listener the new event listener
+     */
+    void setEventListener(GameEventListener listener);
+
+    /**
+     * Returns the board the game is played on.
+     *
+     * @return the game's board
+     */
+    Board getBoard();
+
+    /**
+     * Copies the complete state of the game into a new snapshot. Called from an event listener during play,
+     * it captures the state at that event; a snapshot taken when a turn starts replays that turn on restore.
+     *
+     * @return the snapshot
+     */
+    GameSnapshot snapshot();
+
+    /**
+     * Copies the complete state of the game into an existing snapshot, without allocating.
+     *
+     * @param snapshot the snapshot to fill, made for this game's number of seats and board positions
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    void snapshot(GameSnapshot snapshot);
+
+    /**
+     * Returns the game to the state recorded in a snapshot, so that {@link #startGame()} continues from there.
+     * Seeded dice are put back to the recorded state as well, so the continuation is the same every time.
+     * It must not be called while the game is being played.
+     *
+     * @param snapshot the snapshot to restore
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    void restore(GameSnapshot snapshot);
+}
@@ -0,0 +1,79 @@
+package upei.project;
+
+/**
+ * The numbers that decide how a game starts and ends: the balance every player starts with, the balance
+ * that ends the game at once, and the number of turns after which the richest player wins.
+ * Rules are immutable, so one set can be shared by any number of games and threads.
+ */
+public final class GameRules {
+
+    /**
+     * The standard rules: a starting balance of 750, a winning balance of 1500 and at most 100 turns.
+     */
+    public static final GameRules STANDARD = new GameRules(Player.STARTING_BALANCE, 1500, 100);
+
+    private final int startingBalance; // Balance every player starts a game with
+    private final int winningBalance; // Balance that ends the game immediately
+    private final int maxTurns; // Turns after which the game ends
+
+    /**
+     * Creates a set of rules.
+     *
+     * @param startingBalance the balance every player starts a game with
+     * @param winningBalance  the balance that ends the game immediately
+     * @param maxTurns        the number of turns after which the game ends
+     * @throws IllegalArgumentException if the starting balance is not positive, the winning balance is not
+     *                                  above it, or there is not at least one turn
+     */
+    public GameRules(int startingBalance, int winningBalance, int maxTurns) {
+        if (startingBalance <= 0) {
+            throw new IllegalArgumentException("Starting balance must be positive: " + startingBalance);
+        }
+        if (winningBalance <= startingBalance) {
+            throw new IllegalArgumentException("Winning balance must be above the starting balance: " + winningBalance);
+        }
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("Games must last at least one turn: " + maxTurns);
+        }
+        this.startingBalance = startingBalance;
+        this.winningBalance = winningBalance;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Returns the balance every player starts a game with.
+     *
+     * @return the starting balance
+     */
+    public int getStartingBalance() {
+        return startingBalance;
+    }
+
+    /**
+     * Returns the balance that ends the game as soon as a player reaches it.
+     *
+     * @return the winning balance
+     */
+    public int getWinningBalance() {
+        return winningBalance;
+    }
+
+    /**
+     * Returns the number of turns after which the game ends and the richest player wins.
+     *
+     * @return the maximum number of turns
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Returns the rules as "start 750, win 1500, 100 turns".
+     *
+     * @return a readable form of the rules
+     */
+    @Override
+    public String toString() {
+        return "start " + startingBalance + ", win " + winningBalance + ", " + maxTurns + " turns";
+    }
+}
@@ -0,0 +1,385 @@
+package upei.project;
+
+import upei.project.Space.JailState;
+import upei.project.Space.PropertyState;
+
+import java.util.List;
+
+/**
+ * A copy of the complete state of a game at one point of play: every seat's balance, position and Jail turns,
+ * which players are still in the game and in what order, the owner, rent and upgrade level of every position,
+ * the turn counter, the player to move, the winner, and the state of the dice.
+ * The state is held in a few primitive arrays indexed by seat and by board position, so taking a snapshot
+ * or restoring one is a handful of array copies with no object graph to clone.
+ * A snapshot can be refilled with {@link GameEngine#snapshot(GameSnapshot)} any number of times, so lookahead
+ * search can save and restore a game without allocating.
+ * Snapshots of a {@link Game} and an {@link ArrayGame} with the same seats and board are interchangeable.
+ */
+public final class GameSnapshot {
+    /**
+     * The seat index recorded for a game that has no winner.
+     */
+    public static final int NO_WINNER = -1;
+
+    private final int[] balance; // Balance by seat
+    private final int[] position; // Board position by seat
+    private final int[] jailTurns; // Turns served in Jail by seat, 0 when free
+    private final int[] seatOrder; // Seat of the player at each index of the players list
+    private int playerCount; // Number of players still in the game
+
+    private final int[] ownerSeat; // Seat index of the owner of each position
+    private final boolean[] owned; // Whether each position is owned
+    private final int[] rent; // Current rent of each position
+    private final int[] upgradeLevel; // Upgrade level of each position
+
+    private int currentPlayerIndex; // Index in the players list of the player to move
+    private int turnCounter; // Turns played so far
+    private int winnerSeat; // Seat of the winner, or NO_WINNER
+    private boolean hasDiceState; // Whether the dice were seeded dice whose state was recorded
+    private long diceState; // State of the seeded dice
+
+    /**
+     * Creates an empty snapshot for a game with the given number of seats and board positions.
+     *
+     * @param seats     the number of players the game was created with
+     * @param positions the number of positions on the board
+     */
+    public GameSnapshot(int seats, int positions) {
+        this.balance = new int[seats];
+        this.position = new int[seats];
+        this.jailTurns = new int[seats];
+        this.seatOrder = new int[seats];
+        this.ownerSeat = new int[positions];
+        this.owned = new boolean[positions];
+        this.rent = new int[positions];
+        this.upgradeLevel = new int[positions];
+        this.winnerSeat = NO_WINNER;
+    }
+
+    /**
+     * Records the state of a game. The balance and position of each seat are recorded separately with
+     * {@link #captureSeat(int, int, int)}, because an engine may keep them outside the player objects.
+     *
+     * @param players            the players still in the game, in list order
+     * @param seats              the players in their original seat order
+     * @param propertyState      the board's property state
+     * @param jailState          the board's Jail state
+     * @param currentPlayerIndex the index in the players list of the player to move
+     * @param turnCounter        the turns played
+     * @param winner             the winner, or null
+     * @param dice               the game's dice
+     * @throws IllegalArgumentException if the snapshot was made for a different number of seats or positions
+     */
+    void capture(List<Player> players, Player[] seats, PropertyState propertyState, JailState jailState,
+                 int currentPlayerIndex, int turnCounter, Player winner, Dice dice) {
+        checkShape(seats.length, propertyState.size());
+        playerCount = players.size();
+        for (int i = 0; i < playerCount; i++) {
+            seatOrder[i] = seatIndex(seats, players.get(i));
+        }
+        propertyState.copyTo(ownerSeat, owned, rent, upgradeLevel);
+        jailState.copyTo(jailTurns, seats.length);
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.turnCounter = turnCounter;
+        this.winnerSeat = winner == null ? NO_WINNER : seatIndex(seats, winner);
+        this.hasDiceState = dice instanceof SeededDice;
+        this.diceState = hasDiceState ? ((SeededDice) dice).getState() : 0L;
+    }
+
+    /**
+     * Records the balance and position of one seat.
+     *
+     * @param seat     the seat index
+     * @param balance  the seat's balance
+     * @param position the seat's board position
+     */
+    void captureSeat(int seat, int balance, int position) {
+        this.balance[seat] = balance;
+        this.position[seat] = position;
+    }
+
+    /**
+     * Writes the recorded state back into a game's players and board: the players list, each player's balance,
+     * position, Jail flag and owned spaces, the property and Jail states, and the dice if they are seeded dice.
+     * The caller restores its own turn counter, current player and winner.
+     *
+     * @param players the game's list of players still in the game
+     * @param seats   the players in their original seat order
+     * @param board   the game's board
+     * @param dice    the game's dice
+     * @throws IllegalArgumentException if the snapshot was made for a different number of seats or positions
+     */
+    void restoreTo(List<Player> players, Player[] seats, Board board, Dice dice) {
+        PropertyState propertyState = board.getPropertyState();
+        checkShape(seats.length, propertyState.size());
+        players.clear();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(seats[seatOrder[i]]);
+        }
+        for (int seat = 0; seat < seats.length; seat++) {
+            Player player = seats[seat];
+            player.reset();
+            player.setBalance(balance[seat]);
+            player.setPosition(position[seat]);
+        }
+        for (int i = 0; i < ownerSeat.length; i++) {
+            int owner = ownerSeat[i];
+            if (owned[i] && owner >= 0 && owner < seats.length) {
+                seats[owner].addSpace(board.getSpaceAt(i));
+            }
+        }
+        propertyState.copyFrom(ownerSeat, owned, rent, upgradeLevel);
+        board.getJailState().copyFrom(jailTurns, seats.length);
+        if (hasDiceState && dice instanceof SeededDice) {
+            ((SeededDice) dice).reseed(diceState);
+        }
+    }
+
+    /**
+     * Checks that a game has the number of seats and positions this snapshot was made for.
+     *
+     * @param seats     the game's number of seats
+     * @param positions the game's number of board positions
+     * @throws IllegalArgumentException if either number differs
+     */
+    private void checkShape(int seats, int positions) {
+        if (seats != balance.length || positions != ownerSeat.length) {
+            throw new IllegalArgumentException("Snapshot of " + balance.length + " seats and " + ownerSeat.length
+                    + " positions does not fit a game of " + seats + " seats and " + positions + " positions");
+        }
+    }
+
+    /**
+     * Finds the seat of a player by identity.
+     *
+     * @param seats  the players in seat order
+     * @param player the player to find
+     * @return the player's seat index
+     * @throws IllegalArgumentException if the player has no seat
+     */
+    private static int seatIndex(Player[] seats, Player player) {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] == player) {
+                return seat;
+            }
+        }
+        throw new IllegalArgumentException("Player " + player.getName() + " is not seated in this game");
+    }
+
+    /**
+     * Makes this snapshot an exact copy of another one of the same shape, without allocating.
+     *
+     * @param other the snapshot to copy
+     * @throws IllegalArgumentException if the other snapshot has a different number of seats or positions
+     */
+    public void copyFrom(GameSnapshot other) {
+        checkShape(other.balance.length, other.ownerSeat.length);
+        System.arraycopy(other.balance, 0, balance, 0, balance.length);
+        System.arraycopy(other.position, 0, position, 0, position.length);
+        System.arraycopy(other.jailTurns, 0, jailTurns, 0, jailTurns.length);
+        System.arraycopy(other.seatOrder, 0, seatOrder, 0, seatOrder.length);
+        System.arraycopy(other.ownerSeat, 0, ownerSeat, 0, ownerSeat.length);
+        System.arraycopy(other.owned, 0, owned, 0, owned.length);
+        System.arraycopy(other.rent, 0, rent, 0, rent.length);
+        System.arraycopy(other.upgradeLevel, 0, upgradeLevel, 0, upgradeLevel.length);
+        playerCount = other.playerCount;
+        currentPlayerIndex = other.currentPlayerIndex;
+        turnCounter = other.turnCounter;
+        winnerSeat = other.winnerSeat;
+        hasDiceState = other.hasDiceState;
+        diceState = other.diceState;
+    }
+
+    /**
+     * Returns the number of seats the snapshot holds.
+     *
+     * @return the number of seats
+     */
+    public int getSeatCount() {
+        return balance.length;
+    }
+
+    /**
+     * Returns the balance of a seat.
+     *
+     * @param seat the seat index
+     * @return the balance
+     */
+    public int getBalance(int seat) {
+        return balance[seat];
+    }
+
+    /**
+     * Changes the balance of a seat, to explore what would happen from a different state.
+     *
+     * @param seat    the seat index
+     * @param balance the new balance
+     */
+    public void setBalance(int seat, int balance) {
+        this.balance[seat] = balance;
+    }
+
+    /**
+     * Returns the board position of a seat.
+     *
+     * @param seat the seat index
+     * @return the position
+     */
+    public int getPosition(int seat) {
+        return position[seat];
+    }
+
+    /**
+     * Returns the number of turns a seat has served in Jail.
+     *
+     * @param seat the seat index
+     * @return the turns served, or 0 if the seat is not in Jail
+     */
+    public int getJailTurns(int seat) {
+        return jailTurns[seat];
+    }
+
+    /**
+     * Returns the number of players still in the game.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Returns the seat of the player at an index of the players list.
+     *
+     * @param index the index in the players list
+     * @return the seat index
+     */
+    public int getSeatAt(int index) {
+        return seatOrder[index];
+    }
+
+    /**
+     * Returns the seat index of the owner of a position.
+     *
+     * @param position the board position
+     * @return the owner's seat, or {@link PropertyState#UNOWNED} if the position is not owned
+     */
+    public int getOwnerSeat(int position) {
+        return owned[position] ? ownerSeat[position] : PropertyState.UNOWNED;
+    }
+
+    /**
+     * Changes the owner of a position.
+     *
+     * @param position the board position
+     * @param seat     the new owner's seat, or {@link PropertyState#UNOWNED} to leave the position unowned
+     */
+    public void setOwnerSeat(int position, int seat) {
+        ownerSeat[position] = seat;
+        owned[position] = seat != PropertyState.UNOWNED;
+    }
+
+    /**
+     * Returns the rent of a position.
+     *
+     * @param position the board position
+     * @return the rent
+     */
+    public int getRent(int position) {
+        return rent[position];
+    }
+
+    /**
+     * Changes the rent of a position.
+     *
+     * @param position the board position
+     * @param rent     the new rent
+     */
+    public void setRent(int position, int rent) {
+        this.rent[position] = rent;
+    }
+
+    /**
+     * Returns the upgrade level of a position.
+     *
+     * @param position the board position
+     * @return the upgrade level
+     */
+    public int getUpgradeLevel(int position) {
+        return upgradeLevel[position];
+    }
+
+    /**
+     * Returns the index in the players list of the player to move.
+     *
+     * @return the current player index
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Changes the index in the players list of the player to move.
+     *
+     * @param currentPlayerIndex the new current player index
+     */
+    public void setCurrentPlayerIndex(int currentPlayerIndex) {
+        this.currentPlayerIndex = currentPlayerIndex;
+    }
+
+    /**
+     * Returns the number of turns counted when the snapshot was taken.
+     *
+     * @return the turns played
+     */
+    public int getTurnsPlayed() {
+        return turnCounter;
+    }
+
+    /**
+     * Changes the number of turns counted.
+     *
+     * @param turnCounter the new number of turns played
+     */
+    public void setTurnsPlayed(int turnCounter) {
+        this.turnCounter = turnCounter;
+    }
+
+    /**
+     * Returns the seat of the winner.
+     *
+     * @return the winner's seat, or {@link #NO_WINNER} if the game had not been decided
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * Checks whether the snapshot holds the state of seeded dice, which restoring puts back.
+     *
+     * @return true if a dice state was recorded
+     */
+    public boolean hasDiceState() {
+        return hasDiceState;
+    }
+
+    /**
+     * Returns the recorded state of the seeded dice.
+     *
+     * @return the dice state, or 0 if none was recorded
+     */
+    public long getDiceState() {
+        return diceState;
+    }
+
+    /**
+     * Sets the state the seeded dice of a game are given when this snapshot is restored, so a continuation
+     * can be played with other rolls.
+     *
+     * @param diceState the dice state, as passed to {@link SeededDice#reseed(long)}
+     */
+    public void setDiceState(long diceState) {
+        this.hasDiceState = true;
+        this.diceState = diceState;
+    }
+}
@@ -1,7 +1,15 @@
 package upei.project;
 
+import upei.project.Daemon.SimulationDaemon;
+import upei.project.Event.ConsoleEventListener;
+import upei.project.Metrics.SimulationMetrics;
+import upei.project.Replay.GameReplayer;
+import upei.project.Replay.ReplayReader;
 import upei.project.Strategy.*;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,13 +18,32 @@ import java.util.List;
  * It creates players with different strategies, initializes the game, and runs the simulation.
  */
 public class Main {
+    /**
+     * The loopback port the daemon listens on unless another is given.
+     */
+    private static final int DAEMON_PORT = 7878;
+
     /**
      * Main method that serves as the entry point to start the Monopoly game simulation.
      * It sets up the players, assigns strategies to each player, and starts the game.
+     * With {@code --daemon [port]} it instead stays resident as a {@link SimulationDaemon} on a loopback port
+     * and plays the experiments clients send it, until a client sends {@code shutdown}.
+     * With {@code --replay file trial} it instead plays one game from a replay log again, printing every event.
      *
-     * @param args command-line arguments (not used in this simulation)
+     * @param args command-line arguments: none, "--daemon" and optionally the port to listen on,
+     *             or "--replay" with the replay log and the trial to replay
+     * @throws IOException          if the daemon cannot listen on the port or the replay log cannot be read
+     * @throws InterruptedException if the daemon is interrupted while waiting for shutdown
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--daemon")) {
+            runDaemon(args.length > 1 ? Integer.parseInt(args[1]) : DAEMON_PORT);
+            return;
+        }
+        if (args.length > 2 && args[0].equals("--replay")) {
+            replay(Path.of(args[1]), Long.parseLong(args[2]));
+            return;
+        }
         System.out.println("Welcome to Monopoly!");
 
         // Create a list of players with different strategies
@@ -31,7 +58,46 @@ public class Main {
         // Initialize the game simulation with the players and a set number of turns (60 in this case)
         SimulationExperiment game = new SimulationExperiment(players, 60);
 
+        // Publish live counters over JMX so the run can be watched from JConsole or VisualVM
+        game.setMetrics(new SimulationMetrics().register());
+
         // Start the simulation
         game.runSimulation();
     }
+
+    /**
+     * Runs the simulation daemon until a client shuts it down.
+     * The engines are warmed up before the daemon starts listening, so no job pays for the warm-up.
+     *
+     * @param port the loopback port to listen on
+     * @throws IOException          if the daemon cannot listen on the port
+     * @throws InterruptedException if the daemon is interrupted while waiting for shutdown
+     */
+    private static void runDaemon(int port) throws IOException, InterruptedException {
+        try (SimulationDaemon daemon = new SimulationDaemon(port, Runtime.getRuntime().availableProcessors())) {
+            daemon.warmUp(20_000);
+            daemon.start();
+            System.out.println("Simulation daemon listening on " + InetAddress.getLoopbackAddress().getHostAddress()
+                    + ":" + daemon.getPort());
+            daemon.awaitShutdown();
+        }
+    }
+
+    /**
+     * Plays one game from a replay log again with every event printed to the console.
+     *
+     * @param file  the replay log
+     * @param trial the trial of the game
+     * @throws IOException if the log cannot be read
+     */
+    private static void replay(Path file, long trial) throws IOException {
+        try (ReplayReader reader = new ReplayReader(file)) {
+            if (!reader.find(trial)) {
+                System.out.println("Trial " + trial + " is not in " + file);
+                return;
+            }
+            System.out.println("Replaying trial " + trial + " (seed " + reader.getSeed() + ")");
+            GameReplayer.replay(reader, ConsoleEventListener.INSTANCE);
+        }
+    }
 }
@@ -0,0 +1,431 @@
+package upei.project.Metrics;
+
+import upei.project.Event.GameEventListener;
+import upei.project.Player;
+import upei.project.Space.Property;
+import upei.project.Space.Space;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of a simulation, published as a JMX MBean so a long experiment can be watched while it runs.
+ * <p>
+ * The counters are {@link LongAdder}s, which threads add to without contending, and the games themselves do not
+ * touch them at all: each game reports through its own {@link #listener(GameEventListener) listener}, which counts
+ * in plain fields and adds its counts to the shared counters once, when the game ends. Many games can therefore
+ * run in parallel against one set of metrics at the cost of a few field increments per turn.
+ */
+public class SimulationMetrics implements SimulationMetricsMXBean {
+    /**
+     * The name the metrics are registered under by {@link #register()}.
+     */
+    public static final String OBJECT_NAME = "upei.project:type=SimulationMetrics";
+
+    private final LongAdder games = new LongAdder(); // Games completed
+    private final LongAdder turns = new LongAdder(); // Turns played in completed games
+    private final LongAdder rentTransfers = new LongAdder(); // Rent payments between players
+    private final LongAdder jailEntries = new LongAdder(); // Players sent to Jail
+    private final LongAdder bankruptcies = new LongAdder(); // Players eliminated
+    private final Map<String, LongAdder> wins = new ConcurrentHashMap<>(); // Games won, by strategy class name
+    private volatile long startNanos = System.nanoTime(); // When the rates started counting
+    private ObjectName registeredName; // Name the metrics are registered under, or null
+
+    /**
+     * Records the counts of a completed game.
+     *
+     * @param turnsPlayed    the turns played in the game
+     * @param rentPaid       the number of rent payments made
+     * @param jailed         the number of times a player was sent to Jail
+     * @param eliminated     the number of players eliminated
+     * @param winnerStrategy the class name of the winner's strategy, or null if the game named no winner
+     */
+    public void recordGame(int turnsPlayed, int rentPaid, int jailed, int eliminated, String winnerStrategy) {
+        games.increment();
+        turns.add(turnsPlayed);
+        rentTransfers.add(rentPaid);
+        jailEntries.add(jailed);
+        bankruptcies.add(eliminated);
+        if (winnerStrategy != null) {
+            wins.computeIfAbsent(winnerStrategy, name -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Creates a sink that counts the events of one game into these metrics and passes every event on.
+     * The sink counts in plain fields, so it must serve one game at a time; a game object played over and over
+     * on one thread can keep the same sink.
+     *
+     * @param delegate the sink that receives the events after they are counted
+     * @return the counting sink
+     */
+    public GameEventListener listener(GameEventListener delegate) {
+        return new CountingListener(this, delegate);
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under {@value #OBJECT_NAME}.
+     *
+     * @return the metrics, for chaining
+     * @throws IllegalStateException if other metrics are already registered under that name
+     */
+    public synchronized SimulationMetrics register() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            registeredName = name;
+            return this;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register simulation metrics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server if they were registered.
+     */
+    public synchronized void unregister() {
+        if (registeredName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(registeredName);
+        } catch (JMException e) {
+            // Already unregistered by someone else, which leaves the server as we want it
+        }
+        registeredName = null;
+    }
+
+    /**
+     * Returns the number of games completed.
+     *
+     * @return the games completed
+     */
+    @Override
+    public long getGamesCompleted() {
+        return games.sum();
+    }
+
+    /**
+     * Returns the number of games completed per second since the metrics were created or reset.
+     *
+     * @return the game rate
+     */
+    @Override
+    public double getGamesPerSecond() {
+        return perSecond(games.sum());
+    }
+
+    /**
+     * Returns the number of turns played per second since the metrics were created or reset.
+     *
+     * @return the turn rate
+     */
+    @Override
+    public double getTurnsPerSecond() {
+        return perSecond(turns.sum());
+    }
+
+    /**
+     * Returns the mean number of turns in a completed game.
+     *
+     * @return the average turns per game, or 0 before any game is completed
+     */
+    @Override
+    public double getAverageTurnsPerGame() {
+        long completed = games.sum();
+        return completed == 0 ? 0 : (double) turns.sum() / completed;
+    }
+
+    /**
+     * Returns the number of times a player paid rent to another.
+     *
+     * @return the rent transfers
+     */
+    @Override
+    public long getRentTransfers() {
+        return rentTransfers.sum();
+    }
+
+    /**
+     * Returns the number of times a player was sent to Jail.
+     *
+     * @return the jail entries
+     */
+    @Override
+    public long getJailEntries() {
+        return jailEntries.sum();
+    }
+
+    /**
+     * Returns the number of players eliminated with nothing left.
+     *
+     * @return the bankruptcies
+     */
+    @Override
+    public long getBankruptcies() {
+        return bankruptcies.sum();
+    }
+
+    /**
+     * Returns the games won by each strategy, by the strategy's class name, in name order.
+     *
+     * @return the wins by strategy
+     */
+    @Override
+    public Map<String, Long> getWinsByStrategy() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        wins.forEach((strategy, count) -> snapshot.put(strategy, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Clears every counter and restarts the clock of the rates. Games still running when the metrics are reset
+     * are counted in full when they end.
+     */
+    @Override
+    public void reset() {
+        games.reset();
+        turns.reset();
+        rentTransfers.reset();
+        jailEntries.reset();
+        bankruptcies.reset();
+        wins.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Divides a count by the seconds since the metrics were created or reset.
+     *
+     * @param count the count
+     * @return the count per second
+     */
+    private double perSecond(long count) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds > 0 ? count / seconds : 0;
+    }
+
+    /**
+     * Sink that counts the events of the game it serves in plain fields, passes every event on to another sink,
+     * and adds its counts to the metrics when the game ends: when a winner is declared or a player wins by
+     * reaching the winning balance.
+     */
+    private static final class CountingListener implements GameEventListener {
+        private final SimulationMetrics metrics; // Metrics the counts are added to
+        private final GameEventListener delegate; // Sink every event is passed on to
+        private int turns; // Turns started in the current game
+        private int rentPaid; // Rent payments in the current game
+        private int jailed; // Players sent to Jail in the current game
+        private int eliminated; // Players eliminated in the current game
+
+        /**
+         * Creates a counting sink.
+         *
+         * @param metrics  the metrics the counts are added to
+         * @param delegate the sink every event is passed on to
+         */
+        CountingListener(SimulationMetrics metrics, GameEventListener delegate) {
+            this.metrics = metrics;
+            this.delegate = delegate;
+        }
+
+        /**
+         * Adds the counts of the game that just ended to the metrics and clears them for the next game.
+         *
+         * @param winner the declared winner, or null if the game named none
+         */
+        private void endGame(Player winner) {
+            metrics.recordGame(turns, rentPaid, jailed, eliminated,
+                    winner == null ? null : winner.getStrategy().getClass().getSimpleName());
+            turns = 0;
+            rentPaid = 0;
+            jailed = 0;
+            eliminated = 0;
+        }
+
+        /**
+         * Clears the counts of the previous game and passes the event on.
+         */
+        @Override
+        public void onGameStarted() {
+            turns = 0;
+            rentPaid = 0;
+            jailed = 0;
+            eliminated = 0;
+            delegate.onGameStarted();
+        }
+
+        /**
+         * Counts the turn and passes the event on.
+         */
+        @Override
+        public void onTurnStarted(Player player) {
+            turns++;
+            delegate.onTurnStarted(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onRolled(Player player, int roll, Space landed) {
+            delegate.onRolled(player, roll, landed);
+        }
+
+        /**
+         * Counts the rent payment and passes the event on.
+         */
+        @Override
+        public void onPaidRent(Player payer, Player owner, Property property, int rent) {
+            rentPaid++;
+            delegate.onPaidRent(payer, owner, property, rent);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onLandedOnOwnProperty(Player player, Property property) {
+            delegate.onLandedOnOwnProperty(player, property);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onPaidTax(Player player, int tax) {
+            delegate.onPaidTax(player, tax);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onInsufficientFunds(Player player, int amount) {
+            delegate.onInsufficientFunds(player, amount);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onDecided(Player player, Property property, boolean buyLand, boolean upgrade) {
+            delegate.onDecided(player, property, buyLand, upgrade);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onBought(Player player, Property property) {
+            delegate.onBought(player, property);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onPurchaseRefused(Player player, Property property) {
+            delegate.onPurchaseRefused(player, property);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onUpgraded(Player player, Property property, int cost) {
+            delegate.onUpgraded(player, property, cost);
+        }
+
+        /**
+         * Counts the jail entry and passes the event on.
+         */
+        @Override
+        public void onJailed(Player player) {
+            jailed++;
+            delegate.onJailed(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onAlreadyInJail(Player player) {
+            delegate.onAlreadyInJail(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onInJail(Player player) {
+            delegate.onInJail(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onRemainsInJail(Player player, int turn) {
+            delegate.onRemainsInJail(player, turn);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onServedTime(Player player) {
+            delegate.onServedTime(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onReleased(Player player) {
+            delegate.onReleased(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onVisitingJail(Player player) {
+            delegate.onVisitingJail(player);
+        }
+
+        /**
+         * Counts the bankruptcy and passes the event on.
+         */
+        @Override
+        public void onEliminated(Player player) {
+            eliminated++;
+            delegate.onEliminated(player);
+        }
+
+        /**
+         * Passes the event on and records the game, which the player has won.
+         */
+        @Override
+        public void onReachedWinningBalance(Player player, int winningBalance) {
+            delegate.onReachedWinningBalance(player, winningBalance);
+            endGame(player);
+        }
+
+        /**
+         * Passes the event on and records the game and its winner.
+         */
+        @Override
+        public void onGameOver(List<Player> standings, Player winner) {
+            delegate.onGameOver(standings, winner);
+            endGame(winner);
+        }
+    }
+}
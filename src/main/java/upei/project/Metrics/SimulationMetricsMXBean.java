@@ -0,0 +1,71 @@
+package upei.project.Metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link SimulationMetrics}, through which a running experiment can be watched
+ * from JConsole, VisualVM or any other JMX client. Rates are averages since the metrics were created or last reset.
+ */
+public interface SimulationMetricsMXBean {
+
+    /**
+     * Returns the number of games completed.
+     *
+     * @return the games completed
+     */
+    long getGamesCompleted();
+
+    /**
+     * Returns the number of games completed per second.
+     *
+     * @return the game rate
+     */
+    double getGamesPerSecond();
+
+    /**
+     * Returns the number of turns played per second, turns spent in Jail included.
+     *
+     * @return the turn rate
+     */
+    double getTurnsPerSecond();
+
+    /**
+     * Returns the mean number of turns in a completed game.
+     *
+     * @return the average turns per game, or 0 before any game is completed
+     */
+    double getAverageTurnsPerGame();
+
+    /**
+     * Returns the number of times a player paid rent to another.
+     *
+     * @return the rent transfers
+     */
+    long getRentTransfers();
+
+    /**
+     * Returns the number of times a player was sent to Jail.
+     *
+     * @return the jail entries
+     */
+    long getJailEntries();
+
+    /**
+     * Returns the number of players eliminated with nothing left.
+     *
+     * @return the bankruptcies
+     */
+    long getBankruptcies();
+
+    /**
+     * Returns the games won by each strategy, by the strategy's class name.
+     *
+     * @return the wins by strategy
+     */
+    Map<String, Long> getWinsByStrategy();
+
+    /**
+     * Clears every counter and restarts the clock of the rates.
+     */
+    void reset();
+}
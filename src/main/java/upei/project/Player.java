@@ -1,25 +1,38 @@
 package upei.project;
 
+import upei.project.Event.ConsoleEventListener;
+import upei.project.Event.GameEventListener;
+import upei.project.Profiling.DecisionEvent;
+import upei.project.Space.ColorGroups;
 import upei.project.Space.Property;
 import upei.project.Space.Space;
 import upei.project.Strategy.Strategy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Represents a player in the Monopoly game.
  * Each player has a name, balance, position on the board, list of owned properties, and a strategy.
  */
 public class Player {
+    /**
+     * The balance every player starts a game with.
+     */
+    public static final int STARTING_BALANCE = 750;
+
     private String name;
     private int id;
     private int balance;
+    private int startingBalance; // Balance restored by reset()
     private int position;
-    private boolean isInJail;
     private List<Space> spacesOwned;
+    private int[] groupCounts; // Number of properties owned in each color group
+    private Property[][] groupProperties; // Properties owned in each color group, in order of acquisition
     private Strategy strategy;
+    private GameEventListener listener; // Receives the events caused by this player
+    private Dice dice; // Source of this player's dice rolls
 
     /**
      * Constructor to initialize the player with a name, ID, and strategy.
@@ -33,10 +46,14 @@ public class Player {
         this.name = name;
         this.id = id;
         this.strategy = strategy;
-        this.balance = 750; // Initial balance for the player
+        this.startingBalance = STARTING_BALANCE;
+        this.balance = startingBalance; // Initial balance for the player
         this.position = 0; // Starting position on the board
-        this.isInJail = false; // Player starts outside jail
         this.spacesOwned = new ArrayList<>(); // No properties owned initially
+        this.groupCounts = new int[ColorGroups.MAX_GROUPS];
+        this.groupProperties = new Property[ColorGroups.MAX_GROUPS][];
+        this.listener = ConsoleEventListener.INSTANCE; // Print events until a game says otherwise
+        this.dice = new SeededDice(); // Unseeded dice until a game hands out its own
     }
 
     /**
@@ -84,6 +101,16 @@ public class Player {
         return spacesOwned.size();
     }
 
+    /**
+     * Returns the number of properties the player owns in a color group.
+     *
+     * @param group the color group ID, as given by {@link Property#getColorGroup()}
+     * @return the number of properties owned in that group
+     */
+    public int getNumberOwnedInGroup(int group) {
+        return group == ColorGroups.NONE ? 0 : groupCounts[group];
+    }
+
     /**
      * Sets the player's position on the board.
      *
@@ -109,22 +136,52 @@ public class Player {
      */
     public void addSpace(Space space) {
         spacesOwned.add(space);
+        if (space instanceof Property) {
+            indexProperty((Property) space);
+        }
+    }
+
+    /**
+     * Records a newly owned property under its color group.
+     * The group's array grows when needed and is kept across resets, so steady-state games do not allocate.
+     *
+     * @param property the property the player now owns
+     */
+    private void indexProperty(Property property) {
+        int group = property.getColorGroup();
+        if (group == ColorGroups.NONE) {
+            return;
+        }
+        Property[] owned = groupProperties[group];
+        int count = groupCounts[group];
+        if (owned == null) {
+            owned = new Property[4];
+            groupProperties[group] = owned;
+        } else if (count == owned.length) {
+            owned = Arrays.copyOf(owned, count * 2);
+            groupProperties[group] = owned;
+        }
+        owned[count] = property;
+        groupCounts[group] = count + 1;
     }
 
     /**
-     * Checks if the player is currently in jail.
+     * Returns the balance the player starts every game with.
      *
-     * @return true if the player is in jail, false otherwise
+     * @return the starting balance
      */
-    public boolean isInJail() {
-        return isInJail;
+    public int getStartingBalance() {
+        return startingBalance;
     }
 
     /**
-     * Toggles the player's jail status between in and out of jail.
+     * Sets the balance the player starts every game with. The current balance is unchanged;
+     * the new starting balance is used from the next {@link #reset()}.
+     *
+     * @param startingBalance the new starting balance
      */
-    public void toggleJailStatus() {
-        this.isInJail = !this.isInJail;
+    public void setStartingBalance(int startingBalance) {
+        this.startingBalance = startingBalance;
     }
 
     /**
@@ -133,9 +190,14 @@ public class Player {
      */
     public void reset() {
         this.position = 0; // Reset position
-        this.balance = 750; // Reset balance
-        this.spacesOwned = new ArrayList<>(); // Reset properties owned
-        this.isInJail = false; // Player starts outside jail
+        this.balance = startingBalance; // Reset balance
+        this.spacesOwned.clear(); // Reset properties owned
+        for (int group = 0; group < groupCounts.length; group++) {
+            if (groupCounts[group] > 0) {
+                Arrays.fill(groupProperties[group], 0, groupCounts[group], null);
+                groupCounts[group] = 0;
+            }
+        }
     }
 
     /**
@@ -146,26 +208,24 @@ public class Player {
      */
     public boolean acquireProperty(Property property) {
         if (!property.IsOwned() && balance >= property.getPrice()) {
-            spacesOwned.add(property);
+            addSpace(property);
             balance -= property.getPrice();
             property.buy(this);
             return true;
         } else {
-            System.out.println("Cannot acquire property. Either insufficient balance or already owned.");
+            listener.onPurchaseRefused(this, property);
             return false;
         }
     }
 
     /**
      * Simulates rolling two dice and returns the total sum of the dice rolls.
+     * The roll is drawn from the player's dice, which the game shares among its players.
      *
      * @return The total of the dice rolls
      */
     public int takeTurn() {
-        Random random = new Random();
-        int dice1 = random.nextInt(6) + 1; // Dice roll 1-6
-        int dice2 = random.nextInt(6) + 1; // Dice roll 1-6
-        return dice1 + dice2;
+        return dice.roll();
     }
 
     /**
@@ -180,7 +240,7 @@ public class Player {
             return true;
         } else {
             balance = 0; // Player goes bankrupt
-            System.out.println(name + " has insufficient funds!");
+            listener.onInsufficientFunds(this, value);
             return false;
         }
     }
@@ -197,40 +257,61 @@ public class Player {
     /**
      * Considers whether to buy or upgrade a property based on the player's strategy.
      * If the strategy allows, it attempts to acquire the property or upgrade it.
+     * The decision is reported to the flight recorder as a {@link DecisionEvent} when a recording has it switched on.
      *
      * @param property The property being considered for purchase or upgrade
      * @return true if the property is purchased or upgraded, false otherwise
      */
     public boolean considerBuyingHouse(Property property) {
-        if (strategy.shouldBuyLand(property, balance)) {
-            return acquireProperty(property); // Attempt to buy the property
+        DecisionEvent event = DecisionEvent.beginIfEnabled();
+        int balanceBefore = balance;
+        boolean buyLand = strategy.shouldBuyLand(property, balance);
+        boolean upgrade = !buyLand && strategy.shouldBuyProperty(property, balance);
+        if (event != null) {
+            event.end(); // The event times the decision, not the purchase
         }
-        if (strategy.shouldBuyProperty(property, balance)) {
-            return tryUpgrade(property); // Attempt to upgrade properties
+        listener.onDecided(this, property, buyLand, upgrade);
+
+        boolean succeeded = false;
+        if (buyLand) {
+            succeeded = acquireProperty(property); // Attempt to buy the property
+        } else if (upgrade) {
+            succeeded = tryUpgrade(property); // Attempt to upgrade properties
         }
-        return false;
+        if (event != null && event.shouldCommit()) {
+            event.strategy = strategy.getClass().getSimpleName();
+            event.property = property.getName();
+            event.balance = balanceBefore;
+            event.outcome = buyLand ? DecisionEvent.BUY_LAND : upgrade ? DecisionEvent.UPGRADE : DecisionEvent.PASS;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+        return succeeded;
     }
 
     /**
      * Attempts to upgrade all properties of the same color group if the player owns at least 3 properties of that color.
      * The player must also have enough balance to pay for the upgrades.
+     * The group's properties are looked up by color group ID, so the check does not scan the player's spaces.
      *
      * @param property The reference property used to determine the color group
      * @return true if the upgrade is successful, false otherwise
      */
     public boolean tryUpgrade(Property property) {
-        List<Property> sameColor = spacesOwned.stream()
-                .filter(space -> space instanceof Property) // Ensure the space is a property
-                .map(space -> (Property) space)
-                .filter(p -> p.getColor().equals(property.getColor())) // Match color group
-                .toList();
-
-        if (sameColor.size() >= 3) { // At least 3 properties required for upgrade
-            int upgradeCost = 10 * sameColor.stream().mapToInt(Property::getUpgradeLevel).sum();
+        int count = getNumberOwnedInGroup(property.getColorGroup());
+        if (count >= UpgradeRule.MIN_GROUP_SIZE) { // At least 3 properties required for upgrade
+            Property[] sameColor = groupProperties[property.getColorGroup()];
+            int levels = 0;
+            for (int i = 0; i < count; i++) {
+                levels += sameColor[i].getUpgradeLevel();
+            }
+            int upgradeCost = UpgradeRule.cost(levels);
             if (this.balance >= upgradeCost) {
-                sameColor.forEach(p -> p.increaseRent(30)); // Increase rent for all properties in the group
+                for (int i = 0; i < count; i++) {
+                    sameColor[i].increaseRent(UpgradeRule.RENT_INCREASE); // Increase rent for all properties in the group
+                }
                 this.balance -= upgradeCost; // Deduct upgrade cost
-                System.out.println("Successfully upgraded properties of color: " + property.getColor());
+                listener.onUpgraded(this, property, upgradeCost);
                 return true;
             }
         }
@@ -255,4 +336,40 @@ public class Player {
     public Strategy getStrategy() {
         return strategy;
     }
+
+    /**
+     * Returns the dice this player rolls.
+     *
+     * @return The player's dice
+     */
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Sets the dice this player rolls.
+     *
+     * @param dice The new dice
+     */
+    public void setDice(Dice dice) {
+        this.dice = dice;
+    }
+
+    /**
+     * Returns the sink that receives the events caused by this player and the spaces they land on.
+     *
+     * @return The player's event listener
+     */
+    public GameEventListener getEventListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the sink that receives the events caused by this player and the spaces they land on.
+     *
+     * @param listener The new event listener
+     */
+    public void setEventListener(GameEventListener listener) {
+        this.listener = listener;
+    }
 }
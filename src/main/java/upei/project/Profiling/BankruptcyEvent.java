@@ -0,0 +1,43 @@
+package upei.project.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a player eliminated with nothing left.
+ */
+@Name("upei.project.Bankruptcy")
+@Label("Bankruptcy")
+@Category({"Monopoly"})
+@Description("A player eliminated with nothing left")
+@StackTrace(false)
+@Enabled(false)
+public final class BankruptcyEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(BankruptcyEvent.class); // Registered type of the event
+
+    @Label("Player")
+    @Description("Name of the eliminated player")
+    public String player; // Name of the eliminated player
+
+    @Label("Strategy")
+    @Description("Strategy class of the eliminated player")
+    public String strategy; // Strategy class of the eliminated player
+
+    @Label("Turn")
+    @Description("Turns the game had counted when the player was eliminated")
+    public int turn; // Turns counted when the player was eliminated
+
+    /**
+     * Checks whether a recording has the event switched on, before anything is allocated for it.
+     *
+     * @return true if the event is on
+     */
+    public static boolean isRecorded() {
+        return TYPE.isEnabled();
+    }
+}
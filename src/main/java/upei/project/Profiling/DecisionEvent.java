@@ -0,0 +1,73 @@
+package upei.project.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one decision of a strategy about an unowned property. The event's duration is the
+ * time the strategy took to decide, not the time taken to carry the decision out.
+ */
+@Name("upei.project.Decision")
+@Label("Strategy Decision")
+@Category({"Monopoly"})
+@Description("A strategy deciding whether to buy or upgrade")
+@StackTrace(false)
+@Enabled(false)
+public final class DecisionEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(DecisionEvent.class); // Registered type of the event
+
+    /**
+     * The outcome of a decision to buy the land.
+     */
+    public static final String BUY_LAND = "Buy land";
+
+    /**
+     * The outcome of a decision to upgrade the property's color group.
+     */
+    public static final String UPGRADE = "Upgrade";
+
+    /**
+     * The outcome of a decision to do nothing.
+     */
+    public static final String PASS = "Pass";
+
+    @Label("Strategy")
+    @Description("Class of the strategy that decided")
+    public String strategy; // Class of the strategy that decided
+
+    @Label("Property")
+    @Description("Name of the property decided about")
+    public String property; // Name of the property decided about
+
+    @Label("Balance")
+    @Description("Balance of the player when deciding")
+    public int balance; // Balance of the player when deciding
+
+    @Label("Outcome")
+    @Description("What the strategy decided")
+    public String outcome; // What the strategy decided
+
+    @Label("Succeeded")
+    @Description("Whether the purchase or upgrade went through")
+    public boolean succeeded; // Whether the purchase or upgrade went through
+
+    /**
+     * Starts timing a decision if a recording has the event switched on. While the event is off nothing is allocated,
+     * which keeps the engines free of garbage.
+     *
+     * @return the started event, or null if the event is off
+     */
+    public static DecisionEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        DecisionEvent event = new DecisionEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,64 @@
+package upei.project.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one game, from the start of {@code startGame} to its end, so a recording shows
+ * how long each game took next to the JVM's own events. The event's start time marks the start of the game
+ * and its end time the end.
+ * <p>
+ * Like every event in this package it is off unless a recording switches it on, since a large experiment plays
+ * hundreds of thousands of games a second: with {@code Recording.enable("upei.project.Game")}, or with
+ * {@code upei.project.Game#enabled=true} in the settings file given to {@code -XX:StartFlightRecording}.
+ * While it is off, emitting it costs a flag check, so the events stay compiled into every build.
+ */
+@Name("upei.project.Game")
+@Label("Game")
+@Category({"Monopoly"})
+@Description("A game played from start to finish")
+@StackTrace(false)
+@Enabled(false)
+public final class GamePlayedEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(GamePlayedEvent.class); // Registered type of the event
+
+    @Label("Engine")
+    @Description("Class of the engine that played the game")
+    public String engine; // Engine that played the game
+
+    @Label("Players")
+    @Description("Number of players seated at the start")
+    public int players; // Players seated at the start
+
+    @Label("Turns")
+    @Description("Turns counted by the game")
+    public int turns; // Turns counted by the game
+
+    @Label("Winner")
+    @Description("Name of the declared winner, empty if the game ended on the winning balance")
+    public String winner; // Name of the declared winner
+
+    @Label("Winner Strategy")
+    @Description("Strategy class of the declared winner")
+    public String winnerStrategy; // Strategy class of the declared winner
+
+    /**
+     * Starts timing a game if a recording has the event switched on. While the event is off nothing is allocated,
+     * which keeps the engines free of garbage.
+     *
+     * @return the started event, or null if the event is off
+     */
+    public static GamePlayedEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        GamePlayedEvent event = new GamePlayedEvent();
+        event.begin();
+        return event;
+    }
+}
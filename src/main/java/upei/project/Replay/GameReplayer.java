@@ -0,0 +1,217 @@
+package upei.project.Replay;
+
+import upei.project.BoardDefinition;
+import upei.project.Dice;
+import upei.project.Event.GameEventListener;
+import upei.project.Game;
+import upei.project.Player;
+import upei.project.Space.Property;
+import upei.project.Strategy.Strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a game from a replay log again, turn for turn. The rebuilt game's dice give back the recorded rolls
+ * and its players' strategies give back the recorded decisions, so the game unfolds exactly as it did, whatever
+ * the strategies were; attach a listener such as the console sink to watch it. The game can also be checked
+ * against live strategies, which shows where a strategy no longer decides as it did when the log was written.
+ * <p>
+ * A replay is one object game with the same number of turns as the original, so it takes well under
+ * a millisecond.
+ */
+public final class GameReplayer {
+
+    /**
+     * Not to be instantiated.
+     */
+    private GameReplayer() {
+    }
+
+    /**
+     * Rebuilds the reader's current game, ready to be started. Its players have the recorded names and IDs
+     * and play back the recorded decisions, and its dice play back the recorded rolls.
+     *
+     * @param reader   the log, positioned at the game by {@link ReplayReader#next()} or {@link ReplayReader#find(long)}
+     * @param listener the sink that receives the events of the replayed game
+     * @return the game, not yet started
+     * @throws IllegalStateException if the reader has not read a game
+     */
+    public static Game rebuild(ReplayReader reader, GameEventListener listener) {
+        return rebuild(reader, listener, null);
+    }
+
+    /**
+     * Replays the reader's current game to the end and checks that it finished as recorded.
+     *
+     * @param reader   the log, positioned at the game by {@link ReplayReader#next()} or {@link ReplayReader#find(long)}
+     * @param listener the sink that receives the events of the replayed game
+     * @return the finished game
+     * @throws IllegalStateException if the reader has not read a game, or the game did not go as recorded
+     */
+    public static Game replay(ReplayReader reader, GameEventListener listener) {
+        return replay(reader, listener, null);
+    }
+
+    /**
+     * Replays the reader's current game to the end, checking every recorded decision against the decision
+     * a live strategy makes in the same position, and checks that the game finished as recorded.
+     *
+     * @param reader   the log, positioned at the game by {@link ReplayReader#next()} or {@link ReplayReader#find(long)}
+     * @param listener the sink that receives the events of the replayed game
+     * @param live     the strategy of each seat, or null to check no decisions
+     * @return the finished game
+     * @throws IllegalStateException if the reader has not read a game, a live strategy decides differently,
+     *                               or the game did not go as recorded
+     * @throws IllegalArgumentException if there is not one live strategy per seat
+     */
+    public static Game replay(ReplayReader reader, GameEventListener listener, List<Strategy> live) {
+        if (live != null && live.size() != reader.getSeatCount()) {
+            throw new IllegalArgumentException("Expected " + reader.getSeatCount() + " strategies, not "
+                    + live.size());
+        }
+        Game game = rebuild(reader, listener, live);
+        game.startGame();
+        Playback playback = (Playback) game.getDice();
+        int winnerId = game.getWinner() == null ? 0 : game.getWinner().getId();
+        if (game.getTurnsPlayed() != reader.getTurns() || winnerId != reader.getWinnerId()
+                || playback.nextRoll != reader.getRollCount() || playback.nextDecision != reader.getDecisionCount()) {
+            throw new IllegalStateException("Trial " + reader.getTrial() + " replayed to " + game.getTurnsPlayed()
+                    + " turns and winner " + winnerId + ", but was recorded with " + reader.getTurns()
+                    + " turns and winner " + reader.getWinnerId());
+        }
+        return game;
+    }
+
+    /**
+     * Rebuilds the reader's current game with dice and strategies that play it back.
+     *
+     * @param reader   the log, positioned at the game
+     * @param listener the sink that receives the events of the game
+     * @param live     the strategy of each seat to check the decisions against, or null to check none
+     * @return the game, not yet started
+     */
+    private static Game rebuild(ReplayReader reader, GameEventListener listener, List<Strategy> live) {
+        reader.getTrial(); // Fails before anything is built if no game has been read
+        Playback playback = new Playback(reader, live);
+        List<Player> players = new ArrayList<>();
+        for (int seat = 0; seat < reader.getSeatCount(); seat++) {
+            players.add(new Player(reader.getSeatName(seat), reader.getSeatId(seat), playback.new Decisions(seat)));
+        }
+        Game game = new Game(players, listener, BoardDefinition.STANDARD, reader.getRules());
+        game.setDice(playback);
+        game.resetPlayerStates(); // Start from the recorded rules' balance
+        return game;
+    }
+
+    /**
+     * The dice and the strategies of a replayed game, which give back the recorded rolls and decisions.
+     */
+    private static final class Playback implements Dice {
+        private final ReplayReader reader; // Log positioned at the game being replayed
+        private final List<Strategy> live; // Strategies the recorded decisions are checked against, or null
+        private int nextRoll; // Index of the next recorded roll
+        private int nextDecision; // Index of the next recorded decision
+
+        /**
+         * Creates the playback of the reader's current game.
+         *
+         * @param reader the log, positioned at the game
+         * @param live   the strategy of each seat to check the decisions against, or null to check none
+         */
+        Playback(ReplayReader reader, List<Strategy> live) {
+            this.reader = reader;
+            this.live = live;
+        }
+
+        /**
+         * Gives back the next recorded roll.
+         *
+         * @return the roll
+         * @throws IllegalStateException if the game rolls more often than recorded
+         */
+        @Override
+        public int roll() {
+            if (nextRoll == reader.getRollCount()) {
+                throw new IllegalStateException("Trial " + reader.getTrial() + " rolled more than its "
+                        + reader.getRollCount() + " recorded rolls");
+            }
+            return reader.getRoll(nextRoll++);
+        }
+
+        /**
+         * The strategy of one seat in a replayed game: it gives back the recorded decisions, which the players
+         * consume in the order they were made. A player asks whether to buy land first and, only if not,
+         * whether to upgrade, so a decision is used up by a purchase or by the second question.
+         */
+        private final class Decisions implements Strategy {
+            private final int seat; // Seat whose live strategy the decisions are checked against
+
+            /**
+             * Creates the strategy of a seat.
+             *
+             * @param seat the seat
+             */
+            Decisions(int seat) {
+                this.seat = seat;
+            }
+
+            /**
+             * Returns whether the recorded decision was to buy the property.
+             */
+            @Override
+            public boolean shouldBuyLand(Property property, int balance) {
+                boolean buyLand = current() == ReplayReader.BUY_LAND;
+                if (live != null && live.get(seat).shouldBuyLand(property, balance) != buyLand) {
+                    throw diverged(property, balance, buyLand ? "buy" : "not buy");
+                }
+                if (buyLand) {
+                    nextDecision++;
+                }
+                return buyLand;
+            }
+
+            /**
+             * Returns whether the recorded decision was to upgrade the property's color group.
+             */
+            @Override
+            public boolean shouldBuyProperty(Property property, int balance) {
+                boolean upgrade = current() == ReplayReader.UPGRADE;
+                if (live != null && live.get(seat).shouldBuyProperty(property, balance) != upgrade) {
+                    throw diverged(property, balance, upgrade ? "upgrade" : "pass");
+                }
+                nextDecision++;
+                return upgrade;
+            }
+
+            /**
+             * Returns the next recorded decision without using it up.
+             *
+             * @return the decision
+             * @throws IllegalStateException if the game makes more decisions than recorded
+             */
+            private int current() {
+                if (nextDecision == reader.getDecisionCount()) {
+                    throw new IllegalStateException("Trial " + reader.getTrial() + " made more than its "
+                            + reader.getDecisionCount() + " recorded decisions");
+                }
+                return reader.getDecision(nextDecision);
+            }
+
+            /**
+             * Describes a live strategy deciding differently from the log.
+             *
+             * @param property the property decided on
+             * @param balance  the player's balance
+             * @param recorded what the log says the player did
+             * @return the exception to throw
+             */
+            private IllegalStateException diverged(Property property, int balance, String recorded) {
+                return new IllegalStateException("Trial " + reader.getTrial() + ", decision " + nextDecision + ": "
+                        + reader.getSeatName(seat) + " chose to " + recorded + " on " + property.getName()
+                        + " with " + balance + ", but " + live.get(seat).getClass().getSimpleName()
+                        + " decides otherwise");
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package upei.project.Replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The layout of a replay log. The log opens with a header:
+ * <pre>
+ * int     magic "MRPL"
+ * byte    version
+ * long    master seed; each game's dice were seeded from it and the game's trial index
+ * varint  starting balance, winning balance, maximum turns
+ * varint  seat count, then for each seat: varint player ID, UTF name, UTF strategy ID
+ * </pre>
+ * followed by one record per game, in the order the games finished:
+ * <pre>
+ * varint  length of the rest of the record
+ * varint  trial, turns counted, winner's ID (0 for none), roll count, decision count
+ * bytes   rolls, two to a byte, each stored as the roll minus 2 in 4 bits, low half first
+ * bytes   decisions, four to a byte, each stored in 2 bits, lowest bits first
+ * </pre>
+ * Varints are unsigned LEB128: seven bits to a byte, low bits first, the top bit set on every byte but the last.
+ * A turn costs half a byte for its roll and a quarter for its decision, if the player made one.
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x4D52504C; // "MRPL"
+    static final int VERSION = 1;
+
+    /**
+     * The largest total two dice can show.
+     */
+    static final int MAX_ROLL = 12;
+
+    /**
+     * Not to be instantiated.
+     */
+    private ReplayFormat() {
+    }
+
+    /**
+     * Writes a varint into a buffer.
+     *
+     * @param buffer the buffer, with room for 5 more bytes
+     * @param offset where to write
+     * @param value  the value, which must not be negative
+     * @return the offset after the varint
+     */
+    static int putVarint(byte[] buffer, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Returns the number of bytes a varint takes.
+     *
+     * @param value the value, which must not be negative
+     * @return the size of its varint, from 1 to 5
+     */
+    static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Writes a varint to a stream.
+     *
+     * @param out   the stream
+     * @param value the value, which must not be negative
+     * @throws IOException if the stream cannot be written
+     */
+    static void writeVarint(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a varint from a stream.
+     *
+     * @param in the stream
+     * @return the value
+     * @throws IOException if the stream cannot be read or ends inside the varint
+     * @throws IllegalArgumentException if the varint is longer than an int
+     */
+    static int readVarint(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in replay log");
+    }
+}
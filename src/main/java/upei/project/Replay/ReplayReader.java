@@ -0,0 +1,346 @@
+package upei.project.Replay;
+
+import upei.project.GameRules;
+import upei.project.SeededDice;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads a replay log written by {@link ReplayWriter}, one game at a time. {@link #next()} moves to the next
+ * game and {@link #find(long)} skips ahead to a trial without decoding the games in between; the current
+ * game's rolls and decisions are then read by index, or handed to {@link GameReplayer} to play it again.
+ */
+public class ReplayReader implements Closeable {
+    /**
+     * A decision to neither buy nor upgrade.
+     */
+    public static final int PASS = 0;
+
+    /**
+     * A decision to buy the property landed on.
+     */
+    public static final int BUY_LAND = 1;
+
+    /**
+     * A decision to upgrade the color group of the property landed on.
+     */
+    public static final int UPGRADE = 2;
+
+    private final DataInputStream in; // The log
+    private final long masterSeed; // Seed each game's dice were seeded from
+    private final GameRules rules; // Rules every game was played by
+    private final int[] seatIds; // ID of the player in each seat
+    private final String[] seatNames; // Name of the player in each seat
+    private final String[] strategyIds; // Strategy of the player in each seat
+    private byte[] record = new byte[128]; // The current game's record
+    private int position; // Where the next varint of the record is read from
+    private boolean hasGame; // Whether a game has been read
+    private int trial; // Trial index of the current game
+    private int turns; // Turns the current game counted
+    private int winnerId; // Winner of the current game, or 0
+    private int rollCount; // Rolls in the current game
+    private int decisionCount; // Decisions in the current game
+    private int rollsStart; // Where the current game's rolls start in the record
+    private int decisionsStart; // Where the current game's decisions start in the record
+
+    /**
+     * Opens a replay log and reads its header.
+     *
+     * @param file the path of the log
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a replay log
+     */
+    public ReplayReader(Path file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+        try {
+            if (in.readInt() != ReplayFormat.MAGIC) {
+                throw new IllegalArgumentException("Not a replay log");
+            }
+            int version = in.readUnsignedByte();
+            if (version != ReplayFormat.VERSION) {
+                throw new IllegalArgumentException("Unsupported replay log version: " + version);
+            }
+            this.masterSeed = in.readLong();
+            int startingBalance = ReplayFormat.readVarint(in);
+            int winningBalance = ReplayFormat.readVarint(in);
+            int maxTurns = ReplayFormat.readVarint(in);
+            this.rules = new GameRules(startingBalance, winningBalance, maxTurns);
+            int seatCount = ReplayFormat.readVarint(in);
+            this.seatIds = new int[seatCount];
+            this.seatNames = new String[seatCount];
+            this.strategyIds = new String[seatCount];
+            for (int seat = 0; seat < seatCount; seat++) {
+                seatIds[seat] = ReplayFormat.readVarint(in);
+                seatNames[seat] = in.readUTF();
+                strategyIds[seat] = in.readUTF();
+            }
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves to the next game in the log.
+     *
+     * @return true if there was another game, false at the end of the log
+     * @throws IOException if the log cannot be read or ends inside a record
+     */
+    public boolean next() throws IOException {
+        int length;
+        try {
+            length = ReplayFormat.readVarint(in);
+        } catch (EOFException e) {
+            return false; // No record starts here
+        }
+        if (record.length < length) {
+            record = new byte[Math.max(length, record.length * 2)];
+        }
+        in.readFully(record, 0, length);
+        position = 0;
+        trial = nextVarint();
+        decodeGame();
+        return true;
+    }
+
+    /**
+     * Moves forward to the game of a trial, skipping the records in between without decoding them.
+     * Games are in the order they finished, which for games played in parallel is not the order of their trials,
+     * so a trial behind the current game is only found by opening the log again.
+     *
+     * @param trial the trial index
+     * @return true if the game was found, false if the log ended first
+     * @throws IOException if the log cannot be read or ends inside a record
+     */
+    public boolean find(long trial) throws IOException {
+        while (true) {
+            int length;
+            try {
+                length = ReplayFormat.readVarint(in);
+            } catch (EOFException e) {
+                return false;
+            }
+            // Read the trial, the record's first varint, a byte at a time and skip the rest of the record
+            int found = 0;
+            int read = 0;
+            int b;
+            do {
+                b = in.readUnsignedByte();
+                found |= (b & 0x7F) << (7 * read++);
+            } while ((b & 0x80) != 0);
+            if (found == trial) {
+                if (record.length < length) {
+                    record = new byte[Math.max(length, record.length * 2)];
+                }
+                in.readFully(record, read, length - read); // The trial's bytes at the front are not read again
+                position = read;
+                this.trial = found;
+                decodeGame();
+                return true;
+            }
+            in.skipNBytes(length - read);
+        }
+    }
+
+    /**
+     * Decodes the rest of the current record after its trial: the outcome, the counts and where the rolls and
+     * decisions start.
+     */
+    private void decodeGame() {
+        turns = nextVarint();
+        winnerId = nextVarint();
+        rollCount = nextVarint();
+        decisionCount = nextVarint();
+        rollsStart = position;
+        decisionsStart = rollsStart + (rollCount + 1) / 2;
+        hasGame = true;
+    }
+
+    /**
+     * Reads the next varint of the current record.
+     *
+     * @return the value
+     */
+    private int nextVarint() {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = record[position++] & 0xFF;
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Checks that a game has been read.
+     *
+     * @throws IllegalStateException if no game has been read yet
+     */
+    private void requireGame() {
+        if (!hasGame) {
+            throw new IllegalStateException("No game has been read; call next() or find() first");
+        }
+    }
+
+    /**
+     * Returns the seed each game's dice were seeded from, together with the game's trial index.
+     *
+     * @return the master seed
+     */
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Returns the rules every game of the log was played by.
+     *
+     * @return the rules
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the number of seats in every game of the log.
+     *
+     * @return the seat count
+     */
+    public int getSeatCount() {
+        return seatIds.length;
+    }
+
+    /**
+     * Returns the ID of the player in a seat.
+     *
+     * @param seat the seat, from 0
+     * @return the player's ID
+     */
+    public int getSeatId(int seat) {
+        return seatIds[seat];
+    }
+
+    /**
+     * Returns the name of the player in a seat.
+     *
+     * @param seat the seat, from 0
+     * @return the player's name
+     */
+    public String getSeatName(int seat) {
+        return seatNames[seat];
+    }
+
+    /**
+     * Returns the strategy of the player in a seat, identified by its class name.
+     *
+     * @param seat the seat, from 0
+     * @return the strategy's ID
+     */
+    public String getStrategyId(int seat) {
+        return strategyIds[seat];
+    }
+
+    /**
+     * Returns the trial index of the current game.
+     *
+     * @return the trial
+     */
+    public int getTrial() {
+        requireGame();
+        return trial;
+    }
+
+    /**
+     * Returns the seed the current game's dice were seeded from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return SeededDice.trialSeed(masterSeed, getTrial());
+    }
+
+    /**
+     * Returns the number of turns the current game counted.
+     *
+     * @return the turns
+     */
+    public int getTurns() {
+        requireGame();
+        return turns;
+    }
+
+    /**
+     * Returns the winner of the current game.
+     *
+     * @return the winner's ID, or 0 if the game had no winner
+     */
+    public int getWinnerId() {
+        requireGame();
+        return winnerId;
+    }
+
+    /**
+     * Returns the number of times the dice were rolled in the current game.
+     *
+     * @return the roll count
+     */
+    public int getRollCount() {
+        requireGame();
+        return rollCount;
+    }
+
+    /**
+     * Returns a roll of the current game.
+     *
+     * @param index the index of the roll, from 0
+     * @return the total of the two dice
+     * @throws IndexOutOfBoundsException if there is no such roll
+     */
+    public int getRoll(int index) {
+        if (index < 0 || index >= getRollCount()) {
+            throw new IndexOutOfBoundsException("Roll " + index + " of " + rollCount);
+        }
+        return ((record[rollsStart + (index >> 1)] >> ((index & 1) * 4)) & 0xF) + 2;
+    }
+
+    /**
+     * Returns the number of decisions the players made in the current game.
+     *
+     * @return the decision count
+     */
+    public int getDecisionCount() {
+        requireGame();
+        return decisionCount;
+    }
+
+    /**
+     * Returns a decision of the current game.
+     *
+     * @param index the index of the decision, from 0
+     * @return {@link #PASS}, {@link #BUY_LAND} or {@link #UPGRADE}
+     * @throws IndexOutOfBoundsException if there is no such decision
+     */
+    public int getDecision(int index) {
+        if (index < 0 || index >= getDecisionCount()) {
+            throw new IndexOutOfBoundsException("Decision " + index + " of " + decisionCount);
+        }
+        return (record[decisionsStart + (index >> 2)] >> ((index & 3) * 2)) & 3;
+    }
+
+    /**
+     * Closes the log.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,387 @@
+package upei.project.Replay;
+
+import upei.project.Event.GameEventListener;
+import upei.project.GameRules;
+import upei.project.Player;
+import upei.project.Space.Property;
+import upei.project.Space.Space;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes a replay log: the dice rolls and decisions of every game, enough to rebuild any game exactly with
+ * {@link GameReplayer} (see {@link ReplayFormat} for the layout). The log costs under a byte per turn, so the
+ * games of a long run can be kept and an odd one looked at afterwards.
+ * <p>
+ * Games are recorded by a {@link Recorder}, a sink that notes the rolls and decisions as the game reports them
+ * and passes every event on. Writes are synchronized, so recorders on several threads can share one log.
+ */
+public class ReplayWriter implements Closeable {
+    private final DataOutputStream out; // The log
+    private final int seatCount; // Number of seats in every game
+    private long gameCount; // Games written so far
+
+    /**
+     * Creates a new, empty replay log, replacing any file at the path.
+     * The strategy of each seat is identified by its class name.
+     *
+     * @param file       the path of the log
+     * @param players    the players in their seats, as every game of the log starts
+     * @param rules      the rules every game of the log is played by
+     * @param masterSeed the seed each game's dice are seeded from, together with the game's trial index
+     * @throws IOException if the file cannot be created
+     */
+    public ReplayWriter(Path file, List<Player> players, GameRules rules, long masterSeed) throws IOException {
+        this.seatCount = players.size();
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        try {
+            out.writeInt(ReplayFormat.MAGIC);
+            out.writeByte(ReplayFormat.VERSION);
+            out.writeLong(masterSeed);
+            ReplayFormat.writeVarint(out, rules.getStartingBalance());
+            ReplayFormat.writeVarint(out, rules.getWinningBalance());
+            ReplayFormat.writeVarint(out, rules.getMaxTurns());
+            ReplayFormat.writeVarint(out, seatCount);
+            for (Player player : players) {
+                ReplayFormat.writeVarint(out, player.getId());
+                out.writeUTF(player.getName());
+                out.writeUTF(player.getStrategy().getClass().getSimpleName());
+            }
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a sink that records one game at a time into this log and passes every event on.
+     * The sink records in plain fields, so each thread playing games needs its own.
+     *
+     * @param delegate the sink that receives the events after they are recorded
+     * @return the recording sink
+     */
+    public Recorder recorder(GameEventListener delegate) {
+        return new Recorder(delegate);
+    }
+
+    /**
+     * Appends one game's record, already prefixed by its length.
+     *
+     * @param record the buffer holding the record
+     * @param offset where the record starts in the buffer
+     * @param length the number of bytes in the record and its prefix
+     * @throws IOException if the log cannot be written
+     */
+    private synchronized void write(byte[] record, int offset, int length) throws IOException {
+        out.write(record, offset, length);
+        gameCount++;
+    }
+
+    /**
+     * Returns the number of games written to the log.
+     *
+     * @return the game count
+     */
+    public synchronized long getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Returns the number of seats in every game of the log.
+     *
+     * @return the seat count
+     */
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    /**
+     * Writes the games recorded so far out to the file.
+     *
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Writes the games recorded so far out to the file and closes it.
+     *
+     * @throws IOException if the log cannot be written or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * The sink that records the rolls and decisions of one game at a time. Call {@link #beginGame(long)} before
+     * the game starts and {@link #endGame(int, int)} once it is over to append its record to the log.
+     */
+    public final class Recorder implements GameEventListener {
+        private final GameEventListener delegate; // Sink every event is passed on to
+        private byte[] rolls = new byte[64]; // Rolls of the current game, two to a byte
+        private byte[] decisions = new byte[32]; // Decisions of the current game, four to a byte
+        private byte[] record = new byte[128]; // The record being assembled
+        private int rollCount; // Rolls in the current game
+        private int decisionCount; // Decisions in the current game
+        private long trial; // Trial index of the current game
+
+        /**
+         * Creates a recording sink.
+         *
+         * @param delegate the sink every event is passed on to
+         */
+        private Recorder(GameEventListener delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Starts recording a game.
+         *
+         * @param trial the game's trial index, from which its dice were seeded
+         * @throws IllegalArgumentException if the trial index is negative or does not fit in an int
+         */
+        public void beginGame(long trial) {
+            if (trial < 0 || trial > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Trial cannot be recorded: " + trial);
+            }
+            this.trial = trial;
+            rollCount = 0;
+            decisionCount = 0;
+        }
+
+        /**
+         * Appends the record of the game that just ended to the log.
+         *
+         * @param turns    the number of turns the game counted
+         * @param winnerId the winner's ID, or 0 if the game had no winner
+         * @throws IOException if the log cannot be written
+         */
+        public void endGame(int turns, int winnerId) throws IOException {
+            int rollBytes = (rollCount + 1) / 2;
+            int decisionBytes = (decisionCount + 3) / 4;
+            int needed = 30 + rollBytes + decisionBytes; // The prefix and five varints, of at most 5 bytes each
+            if (record.length < needed) {
+                record = new byte[Math.max(needed, record.length * 2)];
+            }
+            // Assemble the record after room for its length, then put the length just in front of it,
+            // so the whole game goes to the log in one write
+            int length = ReplayFormat.putVarint(record, 5, (int) trial);
+            length = ReplayFormat.putVarint(record, length, turns);
+            length = ReplayFormat.putVarint(record, length, winnerId);
+            length = ReplayFormat.putVarint(record, length, rollCount);
+            length = ReplayFormat.putVarint(record, length, decisionCount);
+            System.arraycopy(rolls, 0, record, length, rollBytes);
+            length += rollBytes;
+            System.arraycopy(decisions, 0, record, length, decisionBytes);
+            length += decisionBytes;
+            int start = 5 - ReplayFormat.varintSize(length - 5);
+            ReplayFormat.putVarint(record, start, length - 5);
+            write(record, start, length - start);
+        }
+
+        /**
+         * Clears the rolls and decisions of the previous game and passes the event on.
+         */
+        @Override
+        public void onGameStarted() {
+            rollCount = 0;
+            decisionCount = 0;
+            delegate.onGameStarted();
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onTurnStarted(Player player) {
+            delegate.onTurnStarted(player);
+        }
+
+        /**
+         * Records the roll and passes the event on.
+         *
+         * @throws IllegalArgumentException if the roll is not one two dice can show
+         */
+        @Override
+        public void onRolled(Player player, int roll, Space landed) {
+            if (roll < 2 || roll > ReplayFormat.MAX_ROLL) {
+                throw new IllegalArgumentException("Roll cannot be recorded: " + roll);
+            }
+            int index = rollCount >> 1;
+            if (index == rolls.length) {
+                rolls = Arrays.copyOf(rolls, rolls.length * 2);
+            }
+            if ((rollCount & 1) == 0) {
+                rolls[index] = (byte) (roll - 2);
+            } else {
+                rolls[index] |= (byte) ((roll - 2) << 4);
+            }
+            rollCount++;
+            delegate.onRolled(player, roll, landed);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onPaidRent(Player payer, Player owner, Property property, int rent) {
+            delegate.onPaidRent(payer, owner, property, rent);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onLandedOnOwnProperty(Player player, Property property) {
+            delegate.onLandedOnOwnProperty(player, property);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onPaidTax(Player player, int tax) {
+            delegate.onPaidTax(player, tax);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onInsufficientFunds(Player player, int amount) {
+            delegate.onInsufficientFunds(player, amount);
+        }
+
+        /**
+         * Records the decision and passes the event on.
+         */
+        @Override
+        public void onDecided(Player player, Property property, boolean buyLand, boolean upgrade) {
+            int index = decisionCount >> 2;
+            if (index == decisions.length) {
+                decisions = Arrays.copyOf(decisions, decisions.length * 2);
+            }
+            int decision = buyLand ? ReplayReader.BUY_LAND : upgrade ? ReplayReader.UPGRADE : ReplayReader.PASS;
+            if ((decisionCount & 3) == 0) {
+                decisions[index] = (byte) decision;
+            } else {
+                decisions[index] |= (byte) (decision << ((decisionCount & 3) * 2));
+            }
+            decisionCount++;
+            delegate.onDecided(player, property, buyLand, upgrade);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onBought(Player player, Property property) {
+            delegate.onBought(player, property);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onPurchaseRefused(Player player, Property property) {
+            delegate.onPurchaseRefused(player, property);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onUpgraded(Player player, Property property, int cost) {
+            delegate.onUpgraded(player, property, cost);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onJailed(Player player) {
+            delegate.onJailed(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onAlreadyInJail(Player player) {
+            delegate.onAlreadyInJail(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onInJail(Player player) {
+            delegate.onInJail(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onRemainsInJail(Player player, int turn) {
+            delegate.onRemainsInJail(player, turn);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onServedTime(Player player) {
+            delegate.onServedTime(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onReleased(Player player) {
+            delegate.onReleased(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onVisitingJail(Player player) {
+            delegate.onVisitingJail(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onEliminated(Player player) {
+            delegate.onEliminated(player);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onReachedWinningBalance(Player player, int winningBalance) {
+            delegate.onReachedWinningBalance(player, winningBalance);
+        }
+
+        /**
+         * Passes the event on.
+         */
+        @Override
+        public void onGameOver(List<Player> standings, Player winner) {
+            delegate.onGameOver(standings, winner);
+        }
+    }
+}
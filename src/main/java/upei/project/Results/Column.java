@@ -0,0 +1,74 @@
+package upei.project.Results;
+
+/**
+ * The columns of a results file. Each column stores one value per game, or one value per seat per game,
+ * in a fixed number of bytes.
+ */
+public enum Column {
+    /**
+     * The index of the trial within its experiment.
+     */
+    TRIAL(8, false),
+
+    /**
+     * The seed the game's dice were rolled from.
+     */
+    SEED(8, false),
+
+    /**
+     * The number of turns the game counted.
+     */
+    TURNS(4, false),
+
+    /**
+     * Each seat's balance at the end of the game.
+     */
+    BALANCE(4, true),
+
+    /**
+     * The ID of the winner, or 0 if the game ended without one.
+     */
+    WINNER(1, false),
+
+    /**
+     * The ID of the player in each seat, so the seat order of the game.
+     */
+    SEAT_ID(1, true),
+
+    /**
+     * The number of properties each seat owned at the end of the game.
+     */
+    OWNED(1, true);
+
+    private final int width; // Bytes per value
+    private final boolean perSeat; // Whether the column has one value per seat
+
+    /**
+     * Creates a column.
+     *
+     * @param width   the number of bytes per value
+     * @param perSeat whether the column has one value per seat
+     */
+    Column(int width, boolean perSeat) {
+        this.width = width;
+        this.perSeat = perSeat;
+    }
+
+    /**
+     * Returns the number of bytes each value of the column takes.
+     *
+     * @return the width in bytes
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns whether the column has one value per seat rather than one per game.
+     *
+     * @return true for per-seat columns
+     */
+    public boolean isPerSeat() {
+        return perSeat;
+    }
+}
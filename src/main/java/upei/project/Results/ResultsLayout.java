@@ -0,0 +1,133 @@
+package upei.project.Results;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Where everything lives in a results file. The file starts with a {@value #HEADER_BYTES}-byte header,
+ * followed by segments of a fixed number of rows. Within a segment every column is stored contiguously,
+ * widest columns first so each stays aligned, and a per-seat column is stored once for each seat:
+ * <pre>
+ * TRIAL | SEED | TURNS | BALANCE seat 0..n-1 | WINNER | SEAT_ID seat 0..n-1 | OWNED seat 0..n-1
+ * </pre>
+ * The header holds a magic number, the format version, the number of seats, the rows per segment and
+ * the number of rows written, which is only advanced once a row is complete.
+ */
+final class ResultsLayout {
+    static final int MAGIC = 0x4D4F4E52; // "MONR"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int ROW_COUNT_OFFSET = 16; // Header position of the number of rows written
+
+    private final int seatCount; // Seats in every game
+    private final int segmentRows; // Rows in each segment
+    private final int[] columnOffsets; // Offset of each column's first seat within a segment
+    private final int segmentBytes; // Size of a segment
+
+    /**
+     * Computes the layout for the given number of seats and rows per segment.
+     *
+     * @param seatCount   the number of seats in every game
+     * @param segmentRows the number of rows in each segment, a positive multiple of 8
+     * @throws IllegalArgumentException if either count is out of range or a segment would not fit in 2 GB
+     */
+    ResultsLayout(int seatCount, int segmentRows) {
+        if (seatCount < 1 || seatCount > 255) {
+            throw new IllegalArgumentException("Seat count must be between 1 and 255: " + seatCount);
+        }
+        if (segmentRows < 8 || segmentRows % 8 != 0) {
+            throw new IllegalArgumentException("Segment rows must be a positive multiple of 8: " + segmentRows);
+        }
+        this.seatCount = seatCount;
+        this.segmentRows = segmentRows;
+        this.columnOffsets = new int[Column.values().length];
+        long offset = 0;
+        for (Column column : Column.values()) {
+            columnOffsets[column.ordinal()] = (int) offset;
+            offset += (long) segmentRows * column.getWidth() * (column.isPerSeat() ? seatCount : 1);
+            if (offset > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Segments of " + segmentRows + " rows are too large");
+            }
+        }
+        this.segmentBytes = (int) offset;
+    }
+
+    /**
+     * Reads the layout described by a file header, checking the magic number and version.
+     *
+     * @param header the header, at position 0
+     * @return the layout of the file
+     * @throws IllegalArgumentException if the header is not that of a results file this version can read
+     */
+    static ResultsLayout read(ByteBuffer header) {
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a results file");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported results file version: " + header.getInt(4));
+        }
+        return new ResultsLayout(header.getInt(8), header.getInt(12));
+    }
+
+    /**
+     * Writes the header of a new, empty file with this layout.
+     *
+     * @param header the header buffer, at position 0
+     */
+    void write(ByteBuffer header) {
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, seatCount);
+        header.putInt(12, segmentRows);
+        header.putLong(ROW_COUNT_OFFSET, 0);
+    }
+
+    /**
+     * Returns the number of seats in every game.
+     *
+     * @return the seat count
+     */
+    int getSeatCount() {
+        return seatCount;
+    }
+
+    /**
+     * Returns the number of rows in each segment.
+     *
+     * @return the rows per segment
+     */
+    int getSegmentRows() {
+        return segmentRows;
+    }
+
+    /**
+     * Returns the size of a segment in bytes.
+     *
+     * @return the segment size
+     */
+    int getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    /**
+     * Returns the file position at which a segment starts.
+     *
+     * @param segment the index of the segment
+     * @return the segment's file position
+     */
+    long segmentStart(long segment) {
+        return HEADER_BYTES + segment * segmentBytes;
+    }
+
+    /**
+     * Returns the position within a segment of a row's value in a column.
+     *
+     * @param column the column
+     * @param seat   the seat, for per-seat columns (ignored otherwise)
+     * @param row    the row within the segment
+     * @return the offset from the start of the segment
+     */
+    int offset(Column column, int seat, int row) {
+        int first = column.isPerSeat() ? seat * segmentRows : 0; // Rows of the earlier seats
+        return columnOffsets[column.ordinal()] + (first + row) * column.getWidth();
+    }
+}
@@ -0,0 +1,283 @@
+package upei.project.Results;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Reads a results file written by {@link ResultsWriter} without turning rows into objects.
+ * Single values are read by row, and whole columns are scanned in row order straight out of the mapped
+ * segments, so summing a column over millions of games is a sequential read of that column's bytes only.
+ * The reader sees the rows that were complete when it was opened.
+ */
+public class ResultsReader implements Closeable {
+    private final FileChannel channel; // The results file
+    private final ResultsLayout layout; // Where each value lives
+    private final long rowCount; // Complete rows when the file was opened
+    private final MappedByteBuffer[] segments; // Mapped segments, mapped when first read
+
+    /**
+     * Opens a results file for reading.
+     *
+     * @param file the path of the file
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if the file is not a results file
+     */
+    public ResultsReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ResultsLayout.HEADER_BYTES);
+            this.layout = ResultsLayout.read(header);
+            this.rowCount = header.getLong(ResultsLayout.ROW_COUNT_OFFSET);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        long segmentCount = (rowCount + layout.getSegmentRows() - 1) / layout.getSegmentRows();
+        this.segments = new MappedByteBuffer[Math.toIntExact(segmentCount)];
+    }
+
+    /**
+     * Returns the number of games in the file.
+     *
+     * @return the row count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of seats in every game of the file.
+     *
+     * @return the seat count
+     */
+    public int getSeatCount() {
+        return layout.getSeatCount();
+    }
+
+    /**
+     * Returns the trial index of a game.
+     *
+     * @param row the row of the game
+     * @return the trial index
+     * @throws IOException if the segment cannot be mapped
+     */
+    public long getTrial(long row) throws IOException {
+        return segmentOf(row).getLong(layout.offset(Column.TRIAL, 0, rowInSegment(row)));
+    }
+
+    /**
+     * Returns the seed a game's dice were rolled from.
+     *
+     * @param row the row of the game
+     * @return the seed
+     * @throws IOException if the segment cannot be mapped
+     */
+    public long getSeed(long row) throws IOException {
+        return segmentOf(row).getLong(layout.offset(Column.SEED, 0, rowInSegment(row)));
+    }
+
+    /**
+     * Returns the winner's ID of a game.
+     *
+     * @param row the row of the game
+     * @return the winner's ID, or 0 if the game had no winner
+     * @throws IOException if the segment cannot be mapped
+     */
+    public int getWinnerId(long row) throws IOException {
+        return get(Column.WINNER, 0, row);
+    }
+
+    /**
+     * Returns the number of turns a game counted.
+     *
+     * @param row the row of the game
+     * @return the turns played
+     * @throws IOException if the segment cannot be mapped
+     */
+    public int getTurns(long row) throws IOException {
+        return get(Column.TURNS, 0, row);
+    }
+
+    /**
+     * Returns the ID of the player in a seat of a game.
+     *
+     * @param row  the row of the game
+     * @param seat the seat
+     * @return the player's ID
+     * @throws IOException if the segment cannot be mapped
+     */
+    public int getSeatId(long row, int seat) throws IOException {
+        return get(Column.SEAT_ID, seat, row);
+    }
+
+    /**
+     * Returns a seat's final balance in a game.
+     *
+     * @param row  the row of the game
+     * @param seat the seat
+     * @return the final balance
+     * @throws IOException if the segment cannot be mapped
+     */
+    public int getBalance(long row, int seat) throws IOException {
+        return get(Column.BALANCE, seat, row);
+    }
+
+    /**
+     * Returns the number of properties a seat owned at the end of a game.
+     *
+     * @param row  the row of the game
+     * @param seat the seat
+     * @return the number of properties owned
+     * @throws IOException if the segment cannot be mapped
+     */
+    public int getOwned(long row, int seat) throws IOException {
+        return get(Column.OWNED, seat, row);
+    }
+
+    /**
+     * Passes every value of an int-sized or byte-sized column to the consumer, in row order.
+     *
+     * @param column   the column to scan
+     * @param seat     the seat, for per-seat columns (ignored otherwise)
+     * @param consumer receives each value; byte columns are unsigned
+     * @throws IOException if a segment cannot be mapped
+     * @throws IllegalArgumentException if the column holds longs
+     */
+    public void scanInts(Column column, int seat, IntConsumer consumer) throws IOException {
+        if (column.getWidth() == 8) {
+            throw new IllegalArgumentException("Column holds longs: " + column);
+        }
+        checkSeat(column, seat);
+        for (int s = 0; s < segments.length; s++) {
+            MappedByteBuffer segment = segment(s);
+            int rows = rowsIn(s);
+            int offset = layout.offset(column, seat, 0);
+            if (column.getWidth() == 4) {
+                for (int row = 0; row < rows; row++) {
+                    consumer.accept(segment.getInt(offset + row * 4));
+                }
+            } else {
+                for (int row = 0; row < rows; row++) {
+                    consumer.accept(segment.get(offset + row) & 0xFF);
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes every value of a long-sized column to the consumer, in row order.
+     *
+     * @param column   the column to scan, {@link Column#TRIAL} or {@link Column#SEED}
+     * @param consumer receives each value
+     * @throws IOException if a segment cannot be mapped
+     * @throws IllegalArgumentException if the column does not hold longs
+     */
+    public void scanLongs(Column column, LongConsumer consumer) throws IOException {
+        if (column.getWidth() != 8) {
+            throw new IllegalArgumentException("Column does not hold longs: " + column);
+        }
+        for (int s = 0; s < segments.length; s++) {
+            MappedByteBuffer segment = segment(s);
+            int rows = rowsIn(s);
+            int offset = layout.offset(column, 0, 0);
+            for (int row = 0; row < rows; row++) {
+                consumer.accept(segment.getLong(offset + row * 8));
+            }
+        }
+    }
+
+    /**
+     * Closes the file. Mapped segments stay readable until they are garbage collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads one int-sized or byte-sized value.
+     *
+     * @param column the column
+     * @param seat   the seat, for per-seat columns
+     * @param row    the row of the game
+     * @return the value; byte columns are unsigned
+     * @throws IOException if the segment cannot be mapped
+     */
+    private int get(Column column, int seat, long row) throws IOException {
+        checkSeat(column, seat);
+        int offset = layout.offset(column, seat, rowInSegment(row));
+        MappedByteBuffer segment = segmentOf(row);
+        return column.getWidth() == 4 ? segment.getInt(offset) : segment.get(offset) & 0xFF;
+    }
+
+    /**
+     * Returns the mapped segment holding a row.
+     *
+     * @param row the row of the game
+     * @return the segment
+     * @throws IOException if the segment cannot be mapped
+     * @throws IndexOutOfBoundsException if the row is not in the file
+     */
+    private MappedByteBuffer segmentOf(long row) throws IOException {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+        return segment((int) (row / layout.getSegmentRows()));
+    }
+
+    /**
+     * Returns a segment, mapping it the first time it is read.
+     *
+     * @param index the index of the segment
+     * @return the mapped segment
+     * @throws IOException if the segment cannot be mapped
+     */
+    private MappedByteBuffer segment(int index) throws IOException {
+        if (segments[index] == null) {
+            segments[index] = channel.map(FileChannel.MapMode.READ_ONLY, layout.segmentStart(index),
+                    layout.getSegmentBytes());
+        }
+        return segments[index];
+    }
+
+    /**
+     * Returns the position of a row within its segment.
+     *
+     * @param row the row of the game
+     * @return the row within the segment
+     */
+    private int rowInSegment(long row) {
+        return (int) (row % layout.getSegmentRows());
+    }
+
+    /**
+     * Returns the number of complete rows in a segment.
+     *
+     * @param index the index of the segment
+     * @return the rows in it
+     */
+    private int rowsIn(int index) {
+        return (int) Math.min(layout.getSegmentRows(), rowCount - (long) index * layout.getSegmentRows());
+    }
+
+    /**
+     * Checks that a seat exists, for per-seat columns.
+     *
+     * @param column the column being read
+     * @param seat   the seat
+     * @throws IndexOutOfBoundsException if the column is per seat and the seat does not exist
+     */
+    private void checkSeat(Column column, int seat) {
+        if (column.isPerSeat() && (seat < 0 || seat >= layout.getSeatCount())) {
+            throw new IndexOutOfBoundsException("Seat " + seat + " of " + layout.getSeatCount());
+        }
+    }
+}
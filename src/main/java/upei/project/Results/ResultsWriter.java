@@ -0,0 +1,181 @@
+package upei.project.Results;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends the summary of every finished game to a columnar results file through memory-mapped segments
+ * (see {@link ResultsLayout} for the format). Writing a row is a handful of stores into mapped memory, and the
+ * operating system writes the pages back in the background. The row count in the header is advanced after each
+ * row is complete, so a reader, or a writer reopening the file after a crash, never sees half a row.
+ * Writes are synchronized, so games finishing on several threads can share one writer.
+ */
+public class ResultsWriter implements Closeable {
+    /**
+     * The number of rows in each segment unless another is given.
+     */
+    public static final int DEFAULT_SEGMENT_ROWS = 1 << 16;
+
+    private final FileChannel channel; // The results file
+    private final ResultsLayout layout; // Where each value goes
+    private final MappedByteBuffer header; // The file header, holding the row count
+    private MappedByteBuffer segment; // The segment rows are being written to
+    private long segmentIndex; // Index of the mapped segment, or -1 if none is mapped
+    private long rowCount; // Rows written so far
+
+    /**
+     * Creates a new, empty results file, replacing any file at the path.
+     *
+     * @param file      the path of the file
+     * @param seatCount the number of seats in every game
+     * @throws IOException if the file cannot be created
+     */
+    public ResultsWriter(Path file, int seatCount) throws IOException {
+        this(file, seatCount, DEFAULT_SEGMENT_ROWS);
+    }
+
+    /**
+     * Creates a new, empty results file with the given segment size, replacing any file at the path.
+     *
+     * @param file        the path of the file
+     * @param seatCount   the number of seats in every game
+     * @param segmentRows the number of rows in each segment, a positive multiple of 8
+     * @throws IOException if the file cannot be created
+     */
+    public ResultsWriter(Path file, int seatCount, int segmentRows) throws IOException {
+        this.layout = new ResultsLayout(seatCount, segmentRows);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, ResultsLayout.HEADER_BYTES);
+        layout.write(header);
+        this.segmentIndex = -1;
+    }
+
+    /**
+     * Opens an existing results file to add more rows after the ones already written.
+     *
+     * @param layout  the layout read from the file's header
+     * @param channel the open file
+     * @param header  the mapped header
+     */
+    private ResultsWriter(ResultsLayout layout, FileChannel channel, MappedByteBuffer header) {
+        this.layout = layout;
+        this.channel = channel;
+        this.header = header;
+        this.rowCount = header.getLong(ResultsLayout.ROW_COUNT_OFFSET);
+        this.segmentIndex = -1;
+    }
+
+    /**
+     * Opens an existing results file to add more rows after the ones it already holds.
+     *
+     * @param file the path of the file
+     * @return a writer positioned after the last complete row
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if the file is not a results file
+     */
+    public static ResultsWriter append(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, ResultsLayout.HEADER_BYTES);
+            return new ResultsWriter(ResultsLayout.read(header), channel, header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the summary of one game.
+     *
+     * @param trial     the index of the trial
+     * @param seed      the seed the game's dice were rolled from
+     * @param winnerId  the winner's ID, or 0 if the game had no winner
+     * @param turns     the number of turns the game counted
+     * @param seatIds   the ID of the player in each seat
+     * @param balances  each seat's final balance
+     * @param owned     the number of properties each seat owned at the end
+     * @throws IOException if the next segment cannot be mapped
+     * @throws IllegalArgumentException if an ID or property count does not fit in a byte
+     */
+    public synchronized void write(long trial, long seed, int winnerId, int turns, int[] seatIds, int[] balances,
+                                   int[] owned) throws IOException {
+        int row = (int) (rowCount % layout.getSegmentRows());
+        long needed = rowCount / layout.getSegmentRows();
+        if (needed != segmentIndex) {
+            // Mapping past the end of the file grows it by a whole segment
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, layout.segmentStart(needed), layout.getSegmentBytes());
+            segmentIndex = needed;
+        }
+
+        segment.putLong(layout.offset(Column.TRIAL, 0, row), trial);
+        segment.putLong(layout.offset(Column.SEED, 0, row), seed);
+        segment.putInt(layout.offset(Column.TURNS, 0, row), turns);
+        segment.put(layout.offset(Column.WINNER, 0, row), toByte(winnerId));
+        for (int seat = 0; seat < layout.getSeatCount(); seat++) {
+            segment.putInt(layout.offset(Column.BALANCE, seat, row), balances[seat]);
+            segment.put(layout.offset(Column.SEAT_ID, seat, row), toByte(seatIds[seat]));
+            segment.put(layout.offset(Column.OWNED, seat, row), toByte(owned[seat]));
+        }
+
+        rowCount++;
+        header.putLong(ResultsLayout.ROW_COUNT_OFFSET, rowCount); // Publish the row only once it is complete
+    }
+
+    /**
+     * Returns the number of rows in the file, including those written before it was reopened.
+     *
+     * @return the row count
+     */
+    public synchronized long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of seats in every game of the file.
+     *
+     * @return the seat count
+     */
+    public int getSeatCount() {
+        return layout.getSeatCount();
+    }
+
+    /**
+     * Forces the rows written so far onto the storage device.
+     */
+    public synchronized void flush() {
+        if (segment != null) {
+            segment.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Flushes the rows written so far and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    /**
+     * Checks that a value fits in an unsigned byte.
+     *
+     * @param value the value to store
+     * @return the value as a byte
+     * @throws IllegalArgumentException if the value is negative or above 255
+     */
+    private static byte toByte(int value) {
+        if (value < 0 || value > 255) {
+            throw new IllegalArgumentException("Value does not fit in a byte column: " + value);
+        }
+        return (byte) value;
+    }
+}
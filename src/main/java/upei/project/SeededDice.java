@@ -0,0 +1,118 @@
+package upei.project;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Dice backed by a SplitMix64 generator, the algorithm behind {@link java.util.SplittableRandom}.
+ * The whole state is a single long, so the dice can be reseeded for the next game without allocating,
+ * and the same seed always produces the same rolls.
+ * Seeds for individual trials are derived from one master seed with {@link #trialSeed(long, long)},
+ * which gives every trial its own stream no matter which thread plays it.
+ * Instances are not thread-safe; each game should use its own dice.
+ */
+public final class SeededDice implements Dice {
+    /**
+     * The odd increment added to the state for every draw (the golden ratio in 64-bit fixed point).
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state; // Current generator state
+
+    /**
+     * Creates dice with an unpredictable seed.
+     */
+    public SeededDice() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates dice whose rolls are fully determined by the given seed.
+     *
+     * @param seed the seed of the roll sequence
+     */
+    public SeededDice(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Restarts the roll sequence from the given seed.
+     *
+     * @param seed the new seed
+     */
+    public void reseed(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the current generator state. Passing it to {@link #reseed(long)} continues the sequence from this point.
+     *
+     * @return the generator state
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Rolls two six-sided dice.
+     *
+     * @return the total of the two dice, between 2 and 12
+     */
+    @Override
+    public int roll() {
+        int dice1 = nextDie(); // Dice roll 1-6
+        int dice2 = nextDie(); // Dice roll 1-6
+        return dice1 + dice2;
+    }
+
+    /**
+     * Creates new dice with a stream independent of this one, advancing this generator once.
+     *
+     * @return the new dice
+     */
+    public SeededDice split() {
+        return new SeededDice(mix64(nextLong()));
+    }
+
+    /**
+     * Derives the seed of one trial from the master seed of an experiment.
+     * Consecutive trials get well-mixed, unrelated seeds.
+     *
+     * @param masterSeed the master seed of the experiment
+     * @param trial      the index of the trial
+     * @return the seed for that trial's dice
+     */
+    public static long trialSeed(long masterSeed, long trial) {
+        return mix64(masterSeed + GOLDEN_GAMMA * (trial + 1));
+    }
+
+    /**
+     * Draws a single die roll without modulo bias worth measuring.
+     *
+     * @return a value between 1 and 6
+     */
+    private int nextDie() {
+        return (int) (((nextLong() >>> 32) * 6) >>> 32) + 1;
+    }
+
+    /**
+     * Advances the generator and returns the next 64 random bits.
+     *
+     * @return the next random long
+     */
+    private long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * The SplitMix64 finalizer; scrambles the bits of a value.
+     *
+     * @param z the value to scramble
+     * @return the scrambled value
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,92 +1,850 @@
 package upei.project;
 
+import upei.project.Event.ConsoleEventListener;
+import upei.project.Event.GameEventListener;
+import upei.project.Event.SilentEventListener;
+import upei.project.Metrics.SimulationMetrics;
+import upei.project.Replay.ReplayWriter;
+import upei.project.Results.ResultsWriter;
+import upei.project.Stats.ConfidenceInterval;
+import upei.project.Stats.PlayerStats;
+import upei.project.Stats.RunningStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Simulates a series of Monopoly games with multiple players, collecting various statistics
  * such as wins, balances, properties owned, and houses owned across multiple trials.
+ * Trials can be played on a single thread or split across a fork-join pool; in both cases the
+ * trials are divided into the same fixed ranges and the partial results are merged in the same order,
+ * so the reported aggregates do not depend on the number of threads.
+ * Every trial rolls dice seeded from the experiment's master seed and the trial's index, so the same
+ * master seed reproduces the same results on any number of threads, and any single game can be replayed.
+ * Results are kept per player, by player ID, as streaming statistics whose size does not grow with the number of trials.
  */
 public class SimulationExperiment {
+    /**
+     * The largest number of trials played by a single task before it is split in two.
+     * The split points depend only on this value, never on the number of threads.
+     */
+    private static final int TRIALS_PER_TASK = 32;
+
+    /**
+     * The number of trials played between chances to write a checkpoint, when early stopping does not set it.
+     * Rounds always start at multiples of this value, so a resumed run merges the same rounds as an uninterrupted one.
+     */
+    private static final int CHECKPOINT_ROUND_TRIALS = 1 << 14;
+
+    /**
+     * The most trials played between two looks at the clock when the experiment has a time limit.
+     */
+    private static final int TIME_LIMIT_ROUND_TRIALS = 1 << 10;
+
     private ArrayList<Player> players; // Players in the game
     private int trials; // Number of games to simulate
-    private int[] wins; // Number of wins for each player
-    private int totalBalance; // Cumulative balance for all players
-    private int totalProperties; // Cumulative properties owned by all players
-    private int[] totalHouses; // Cumulative number of houses for each player
-    private int[] totalPlayerBalance; // Cumulative balance for each player
+    private int parallelism; // Number of threads used to play the trials
+    private GameEventListener listener; // Receives the events of every game played
+    private EngineType engine; // Engine used to play every trial
+    private GameRules rules; // Starting balance, winning balance and maximum number of turns of every trial
+    private ResultsWriter resultsWriter; // Receives the summary of every game, or null to keep only the statistics
+    private final int[] seatIds; // ID of the player in each seat, for the results file
+    private long seed; // Master seed from which every trial's dice are seeded
+    private long games; // Number of games played
+    private PlayerStats[] stats; // Wins, balances and properties owned for each player, by player ID
+    private int checkInterval; // Trials between early-stopping checks, or 0 to play every trial
+    private double stopConfidence; // Confidence at which the ranking must be settled to stop early
+    private boolean stoppedEarly; // Whether the last run stopped before playing every trial
+    private Path checkpointFile; // Where checkpoints are written, or null to write none
+    private long checkpointMillis; // Least time between two checkpoints
+    private int resumeTrial; // First trial of the next run, set when resuming from a checkpoint
+    private SimulationMetrics metrics; // Live counters the games report to, or null to report to none
+    private long timeLimitMillis; // Longest time a run may take, or 0 for no limit
+    private boolean timedOut; // Whether the last run stopped because it ran out of time
+    private Path replayFile; // Where the rolls and decisions of every game are logged, or null to log none
+    private ReplayWriter replayWriter; // The replay log while a run is writing it, or null
 
     /**
      * Constructor to initialize the simulation with the given players and number of trials.
+     * The trials are played one after another on the calling thread.
      *
      * @param players The list of players participating in the simulation
      * @param trials The number of trials (games) to simulate
      */
     public SimulationExperiment(ArrayList<Player> players, int trials) {
+        this(players, trials, 1);
+    }
+
+    /**
+     * Constructor to initialize the simulation with the given players, number of trials and thread count.
+     *
+     * @param players The list of players participating in the simulation
+     * @param trials The number of trials (games) to simulate
+     * @param parallelism The number of threads used to play the trials (1 plays them sequentially)
+     * @throws IllegalArgumentException if the parallelism is less than 1, or the player IDs are not 1 to the
+     *                                  number of players, each used once
+     */
+    public SimulationExperiment(ArrayList<Player> players, int trials, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        // The results file and the replay log name the winner by ID, so every ID must name exactly one seat
+        boolean[] seen = new boolean[players.size()];
+        for (Player player : players) {
+            int id = player.getId();
+            if (id < 1 || id > seen.length || seen[id - 1]) {
+                throw new IllegalArgumentException("Player IDs must be 1 to " + seen.length
+                        + ", each used once: " + player.getName() + " has ID " + id);
+            }
+            seen[id - 1] = true;
+        }
         this.players = players;
         this.trials = trials;
-        this.wins = new int[players.size()];
-        this.totalBalance = 0;
-        this.totalProperties = 0;
-        this.totalHouses = new int[players.size()];
-        this.totalPlayerBalance = new int[players.size()];
+        this.parallelism = parallelism;
+        this.listener = ConsoleEventListener.INSTANCE;
+        this.engine = EngineType.OBJECT;
+        this.rules = GameRules.STANDARD;
+        this.seed = ThreadLocalRandom.current().nextLong();
+        this.stats = newStats(players.size());
+        this.seatIds = new int[players.size()];
+        for (int i = 0; i < seatIds.length; i++) {
+            seatIds[i] = players.get(i).getId();
+        }
     }
 
     /**
      * Runs the simulation for the specified number of trials, playing a full game in each trial.
      * Collects and updates statistics such as the number of wins, balances, and properties owned.
+     * When the parallelism is greater than 1 the trials are played on a fork-join pool of that size.
      */
     public void runSimulation() {
-        for (int i = 0; i < trials; i++) {
-            // Create a deep copy of the players list for each simulation run
-            ArrayList<Player> playersCopy = new ArrayList<>();
-            for (Player player : players) {
-                playersCopy.add(new Player(player.getName(), player.getId(), player.getStrategy()));
+        runTrials();
+
+        // Display results after all trials have completed
+        displayResults();
+    }
+
+    /**
+     * Plays the trials like {@link #runSimulation()} without displaying the results, for callers that
+     * read them through the getters instead.
+     */
+    public void runTrials() {
+        if (replayFile != null) {
+            try {
+                replayWriter = new ReplayWriter(replayFile, players, rules, seed);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        stoppedEarly = false;
+        timedOut = false;
+        long lastCheckpoint = System.nanoTime();
+        long deadline = lastCheckpoint + timeLimitMillis * 1_000_000;
+        try {
+            // Without early stopping or checkpoints all the trials are played as a single range
+            int played = resumeTrial;
+            resumeTrial = 0;
+            int round = checkInterval > 0 ? checkInterval : checkpointFile != null ? CHECKPOINT_ROUND_TRIALS : trials;
+            while (played < trials) {
+                int end = (int) Math.min(trials, ((long) played / round + 1) * round);
+                if (timeLimitMillis > 0) {
+                    // Look at the clock more often than the rounds come, without moving their boundaries
+                    end = (int) Math.min(end, ((long) played / TIME_LIMIT_ROUND_TRIALS + 1) * TIME_LIMIT_ROUND_TRIALS);
+                }
+                Tally tally = pool != null ? pool.invoke(new TrialTask(played, end)) : playRange(played, end);
+
+                // Fold the merged results into the experiment totals
+                for (int i = 0; i < stats.length; i++) {
+                    stats[i].merge(tally.stats[i]);
+                }
+                games += tally.games;
+                played = end;
+
+                if (checkInterval > 0 && played < trials && played % round == 0 && isRankingSettled()) {
+                    stoppedEarly = true;
+                    break;
+                }
+                if (timeLimitMillis > 0 && played < trials && System.nanoTime() - deadline >= 0) {
+                    timedOut = true;
+                    break;
+                }
+                if (checkpointFile != null && played < trials
+                        && System.nanoTime() - lastCheckpoint >= checkpointMillis * 1_000_000) {
+                    writeCheckpoint(played);
+                    lastCheckpoint = System.nanoTime();
+                }
+            }
+            if (checkpointFile != null) {
+                writeCheckpoint(played); // Resuming a finished run plays nothing more
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+            if (replayWriter != null) {
+                closeReplayLog();
+            }
+        }
+    }
+
+    /**
+     * Closes the replay log at the end of a run.
+     *
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    private void closeReplayLog() {
+        try {
+            replayWriter.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            replayWriter = null;
+        }
+    }
+
+    /**
+     * Enables checkpoints: while trials are played, the experiment's aggregate state is written to the file at most
+     * once per interval, between rounds of trials, so a killed run can carry on with {@link #resume()}.
+     * A resumed run reports exactly the results of an uninterrupted run with checkpoints enabled. Without
+     * checkpoints the trials are merged in a different order, so means and variances may differ in their last digits.
+     * Rows written to a results file after the last checkpoint are written again when the run resumes.
+     *
+     * @param file           where to write the checkpoints
+     * @param intervalMillis the least time between two checkpoints, in milliseconds
+     * @throws IllegalArgumentException if the interval is negative
+     */
+    public void setCheckpoint(Path file, long intervalMillis) {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("Checkpoint interval must not be negative: " + intervalMillis);
+        }
+        this.checkpointFile = file;
+        this.checkpointMillis = intervalMillis;
+    }
+
+    /**
+     * Restores the state saved in the checkpoint file, if there is one, so the next run continues from the first
+     * trial the checkpoint had not played instead of starting over.
+     *
+     * @return true if a checkpoint was restored, false if there was none to restore
+     * @throws IllegalStateException if no checkpoint file has been set
+     * @throws IllegalArgumentException if the checkpoint belongs to an experiment with a different seed,
+     *                                  number of trials or players
+     * @throws UncheckedIOException if the checkpoint cannot be read
+     */
+    public boolean resume() {
+        if (checkpointFile == null) {
+            throw new IllegalStateException("No checkpoint file has been set");
+        }
+        if (!Files.exists(checkpointFile)) {
+            return false;
+        }
+        Checkpoint checkpoint;
+        try {
+            checkpoint = Checkpoint.read(checkpointFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (checkpoint.getSeed() != seed || checkpoint.getTrials() != trials
+                || !Arrays.equals(checkpoint.getPlayerIds(), seatIds)) {
+            throw new IllegalArgumentException("Checkpoint " + checkpointFile + " is for a different experiment");
+        }
+        stats = checkpoint.getStats();
+        games = checkpoint.getGames();
+        resumeTrial = checkpoint.getNextTrial();
+        return true;
+    }
+
+    /**
+     * Writes the experiment's aggregate state to the checkpoint file.
+     *
+     * @param nextTrial the first trial not yet played
+     * @throws UncheckedIOException if the checkpoint cannot be written
+     */
+    private void writeCheckpoint(int nextTrial) {
+        try {
+            new Checkpoint(seed, trials, seatIds, nextTrial, games, stats).write(checkpointFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks whether the players' ranking by wins is settled at the early-stopping confidence: sorted by
+     * win rate, no player's confidence interval overlaps the next player's. The confidence is split evenly
+     * (Bonferroni) over every neighbouring pair and every check the experiment could make, so stopping at
+     * the first settled check still ranks the players correctly with at least the requested confidence.
+     * Players whose strategies are equally strong never separate, and then every trial is played.
+     *
+     * @return true if every neighbouring pair of players is separated
+     * @throws IllegalStateException if early stopping is not enabled
+     */
+    public boolean isRankingSettled() {
+        if (checkInterval == 0) {
+            throw new IllegalStateException("Early stopping is not enabled");
+        }
+        int checks = (trials + checkInterval - 1) / checkInterval;
+        int pairs = Math.max(1, stats.length - 1);
+        double z = ConfidenceInterval.criticalValue(1 - (1 - stopConfidence) / ((double) checks * pairs));
+
+        // Order the players by wins, most first
+        Integer[] order = new Integer[stats.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(stats[b].getWins(), stats[a].getWins()));
+
+        for (int i = 1; i < order.length; i++) {
+            ConfidenceInterval higher = stats[order[i - 1]].getWinRateInterval(z);
+            ConfidenceInterval lower = stats[order[i]].getWinRateInterval(z);
+            if (higher.overlaps(lower)) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            // Create and play a new game with the copied list of players
-            Game game = new Game(playersCopy);
-            game.resetPlayerStates(); // Reset player states before starting the game
-            game.startGame(); // Start the game
+    /**
+     * Plays the trials in the range [from, to) on the calling thread.
+     * The range is split exactly like {@link TrialTask} splits it, so both paths merge the same partial results.
+     *
+     * @param from the index of the first trial to play
+     * @param to the index after the last trial to play
+     * @return the merged results of the trials in the range
+     */
+    private Tally playRange(int from, int to) {
+        if (to - from <= TRIALS_PER_TASK) {
+            return playTrials(from, to);
+        }
+        int mid = (from + to) >>> 1;
+        Tally left = playRange(from, mid);
+        left.merge(playRange(mid, to));
+        return left;
+    }
+
+    /**
+     * Plays the trials in the range [from, to) one after another into a fresh set of accumulators.
+     *
+     * @param from the index of the first trial to play
+     * @param to the index after the last trial to play
+     * @return the results of the trials in the range
+     */
+    private Tally playTrials(int from, int to) {
+        if (engine == EngineType.BATCH && canBatch()) {
+            return playBatch(from, to);
+        }
+        Tally tally = new Tally(players.size());
+
+        // One game and one set of players serve every trial in the range; they are reset between trials
+        ArrayList<Player> playersCopy = copyPlayers();
+        List<Player> seated = new ArrayList<>(playersCopy); // The game drops eliminated players from its own list
+        GameEventListener gameListener = metrics == null ? listener : metrics.listener(listener);
+        ReplayWriter.Recorder recorder = replayWriter == null ? null : replayWriter.recorder(gameListener);
+        GameEngine game = engine.create(playersCopy, recorder == null ? gameListener : recorder, rules);
+        SeededDice dice = new SeededDice();
+        game.setDice(dice);
+        int[] balances = new int[seated.size()]; // Final balance by seat, for the results file
+        int[] owned = new int[seated.size()]; // Properties owned by seat, for the results file
+
+        for (int i = from; i < to; i++) {
+            game.reset(); // Reset the board and the players before starting the game
+            dice.reseed(SeededDice.trialSeed(seed, i));
+            if (recorder != null) {
+                recorder.beginGame(i);
+            }
+            game.startGame();
 
             // Determine the winner of the game
             Player winner = game.getWinner();
-            int winnerIndex = winner.getId() - 1;
+            tally.games++;
 
-            // Safely update the wins array for the winner
-            if (winnerIndex >= 0 && winnerIndex < wins.length) {
-                wins[winnerIndex]++;
-            } else {
-                System.out.println("Error: Winner ID is invalid.");
+            // Collect metrics from every seated player after the game, by seat rather than by final standing
+            for (int j = 0; j < seated.size(); j++) {
+                Player player = seated.get(j);
+                tally.record(j, player == winner, player.getBalance(), player.getNumberOwned());
+                balances[j] = player.getBalance();
+                owned[j] = player.getNumberOwned();
+            }
+            if (resultsWriter != null) {
+                storeResult(i, winner.getId(), game.getTurnsPlayed(), balances, owned);
+            }
+            if (recorder != null) {
+                storeReplay(recorder, game.getTurnsPlayed(), winner.getId());
             }
+        }
+        return tally;
+    }
+
+    /**
+     * Returns whether the trials can be played in lockstep lanes: nothing is listening to the events of the games,
+     * nothing records them, and every player's strategy can be compiled into a decision table.
+     *
+     * @return true if the batch engine can play the trials
+     */
+    private boolean canBatch() {
+        return listener == SilentEventListener.INSTANCE && metrics == null && replayWriter == null
+                && BatchGameEngine.supports(players);
+    }
 
-            // Collect metrics from each player after the game
-            for (int j = 0; j < playersCopy.size(); j++) {
-                Player player = playersCopy.get(j);
-                totalBalance += player.getBalance();
-                totalProperties += player.getNumberOwned();
-                totalHouses[j] += player.getNumberOwned();
-                totalPlayerBalance[j] += player.getBalance();
+    /**
+     * Plays the trials in the range [from, to) at once with the batch engine, one lane per trial.
+     * Games finish in any order, so their results are kept and recorded in trial order afterwards,
+     * which keeps the statistics identical to those of the other engines.
+     *
+     * @param from the index of the first trial to play
+     * @param to the index after the last trial to play
+     * @return the results of the trials in the range
+     */
+    private Tally playBatch(int from, int to) {
+        Tally tally = new Tally(players.size());
+        int count = to - from;
+        int[] winners = new int[count]; // Winner's seat by trial
+        int[] turns = new int[count]; // Turns counted by trial
+        int[][] balances = new int[count][players.size()]; // Final balance by trial and seat
+        int[][] owned = new int[count][players.size()]; // Properties owned at the end by trial and seat
+
+        BatchGameEngine batch = new BatchGameEngine(players, BoardDefinition.STANDARD, rules, count);
+        batch.play(seed, from, to, result -> {
+            int i = (int) (result.getTrial() - from);
+            winners[i] = result.getWinnerSeat();
+            turns[i] = result.getTurns();
+            for (int j = 0; j < players.size(); j++) {
+                balances[i][j] = result.getBalance(j);
+                owned[i][j] = result.getOwned(j);
+            }
+        });
+
+        for (int i = 0; i < count; i++) {
+            tally.games++;
+            for (int j = 0; j < players.size(); j++) {
+                tally.record(j, j == winners[i], balances[i][j], owned[i][j]);
+            }
+            if (resultsWriter != null) {
+                storeResult(from + i, players.get(winners[i]).getId(), turns[i], balances[i], owned[i]);
             }
         }
+        return tally;
+    }
 
-        // Display results after all trials have completed
-        displayResults();
+    /**
+     * Appends the summary of a finished game to the results file.
+     *
+     * @param trial    the index of the trial
+     * @param winnerId the winner's ID
+     * @param turns    the number of turns the game counted
+     * @param balances each seat's final balance
+     * @param owned    the number of properties each seat owned at the end
+     * @throws UncheckedIOException if the row cannot be written
+     */
+    private void storeResult(long trial, int winnerId, int turns, int[] balances, int[] owned) {
+        try {
+            resultsWriter.write(trial, SeededDice.trialSeed(seed, trial), winnerId, turns, seatIds, balances, owned);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the rolls and decisions of a finished game to the replay log.
+     *
+     * @param recorder the sink that recorded the game
+     * @param turns    the number of turns the game counted
+     * @param winnerId the winner's ID
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    private static void storeReplay(ReplayWriter.Recorder recorder, int turns, int winnerId) {
+        try {
+            recorder.endGame(turns, winnerId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sets the live counters every game of the experiment reports to, such as metrics registered with JMX so the
+     * run can be watched.
+     *
+     * @param metrics the metrics to report to, or null to report to none
+     */
+    public void setMetrics(SimulationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Plays a single trial: copies the players, seeds the dice for the trial and plays the game to the end.
+     * Calling this again with the same master seed and trial index replays exactly the same game.
+     *
+     * @param trial    the index of the trial to play
+     * @param listener the sink that receives the events of the game
+     * @return the finished game
+     */
+    public GameEngine playTrial(int trial, GameEventListener listener) {
+        // Create and play a new game with a copy of the players
+        GameEngine game = engine.create(copyPlayers(), listener, rules);
+        game.setDice(new SeededDice(SeededDice.trialSeed(seed, trial)));
+        game.resetPlayerStates(); // Reset player states before starting the game
+        game.startGame(); // Start the game
+        return game;
+    }
+
+    /**
+     * Creates a copy of the experiment's players with the same names, IDs and strategies, ready for a new game.
+     *
+     * @return the copied players
+     */
+    private ArrayList<Player> copyPlayers() {
+        ArrayList<Player> playersCopy = new ArrayList<>();
+        for (Player player : players) {
+            playersCopy.add(new Player(player.getName(), player.getId(), player.getStrategy()));
+        }
+        return playersCopy;
+    }
+
+    /**
+     * Creates empty statistics for the given number of players.
+     *
+     * @param playerCount the number of players in each game
+     * @return one set of statistics per player
+     */
+    private static PlayerStats[] newStats(int playerCount) {
+        PlayerStats[] stats = new PlayerStats[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            stats[i] = new PlayerStats();
+        }
+        return stats;
     }
 
     /**
      * Displays the results of the simulation after all trials have been run.
-     * This includes the total wins, average balance, and average number of houses owned for each player.
+     * This includes each player's wins with a 95% confidence interval on the win rate, and the mean,
+     * standard deviation, median and 90th percentile of the final balance and properties owned.
      */
     public void displayResults() {
         System.out.println("Simulation Results:");
+        RunningStats allBalances = new RunningStats();
+        RunningStats allOwned = new RunningStats();
         for (int i = 0; i < players.size(); i++) {
             Player player = players.get(i);
-            System.out.println(player.getName() + " - Wins: " + wins[i]);
-            System.out.println("Average Balance: " + (totalPlayerBalance[i] / trials));
-            System.out.println("Average properties Owned: " + (totalHouses[i] / trials));
+            PlayerStats playerStats = stats[i];
+            ConfidenceInterval interval = playerStats.getWinRateInterval(ConfidenceInterval.Z_95);
+            System.out.printf("%s - Wins: %d (%.1f%%, 95%% CI %.1f%%-%.1f%%)%n", player.getName(),
+                    playerStats.getWins(), 100 * playerStats.getWinRate(),
+                    100 * interval.getLower(), 100 * interval.getUpper());
+            if (playerStats.getGames() > 0) {
+                System.out.printf("Average Balance: %.1f (sd %.1f, median %d, p90 %d)%n",
+                        playerStats.getBalance().getMean(), playerStats.getBalance().getStandardDeviation(),
+                        playerStats.getBalanceQuantiles().getQuantile(0.5),
+                        playerStats.getBalanceQuantiles().getQuantile(0.9));
+                System.out.printf("Average properties Owned: %.2f (sd %.2f, median %d, p90 %d)%n",
+                        playerStats.getOwned().getMean(), playerStats.getOwned().getStandardDeviation(),
+                        playerStats.getOwnedQuantiles().getQuantile(0.5),
+                        playerStats.getOwnedQuantiles().getQuantile(0.9));
+            }
             System.out.println();
+            allBalances.merge(playerStats.getBalance());
+            allOwned.merge(playerStats.getOwned());
+        }
+        System.out.printf("Overall Average Balance: %.1f%n", allBalances.getMean());
+        System.out.printf("Overall Average Properties Owned: %.2f%n", allOwned.getMean());
+        if (stoppedEarly) {
+            System.out.printf("Ranking settled at %.1f%% confidence after %d of %d games%n",
+                    100 * stopConfidence, games, trials);
+        }
+    }
+
+    /**
+     * Returns the players taking part in the experiment, in the order given to the constructor.
+     *
+     * @return the experiment's players
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the number of games won by the player at the given index.
+     *
+     * @param index the index of the player in the list given to the constructor
+     * @return the number of wins recorded for that player
+     */
+    public long getWins(int index) {
+        return stats[index].getWins();
+    }
+
+    /**
+     * Returns the statistics of the player at the given index: wins, and the distribution of
+     * the final balance and the number of properties owned.
+     *
+     * @param index the index of the player in the list given to the constructor
+     * @return the statistics recorded for that player
+     */
+    public PlayerStats getPlayerStats(int index) {
+        return stats[index];
+    }
+
+    /**
+     * Returns the number of games played by the experiment so far.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Enables early stopping: every checkInterval trials the experiment checks whether the players' ranking
+     * by wins is settled at the given confidence (see {@link #isRankingSettled()}) and, if it is, stops without
+     * playing the remaining trials. The checks fall on the same trials whatever the parallelism, so the same
+     * seed stops after the same number of games on any number of threads.
+     *
+     * @param confidence    the confidence at which the ranking must be settled, such as 0.95
+     * @param checkInterval the number of trials played between checks
+     * @throws IllegalArgumentException if the confidence is not between 0 and 1 or the interval is less than 1
+     */
+    public void setEarlyStopping(double confidence, int checkInterval) {
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1: " + confidence);
+        }
+        if (checkInterval < 1) {
+            throw new IllegalArgumentException("Check interval must be at least 1: " + checkInterval);
+        }
+        this.stopConfidence = confidence;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Disables early stopping, so every trial is played.
+     */
+    public void disableEarlyStopping() {
+        this.checkInterval = 0;
+    }
+
+    /**
+     * Limits how long a run may take. The clock is read at least every {@value #TIME_LIMIT_ROUND_TRIALS} trials,
+     * and a run that is out of time stops there, keeping the results of the trials it played.
+     *
+     * @param timeLimitMillis the longest time a run may take, in milliseconds, or 0 for no limit
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public void setTimeLimit(long timeLimitMillis) {
+        if (timeLimitMillis < 0) {
+            throw new IllegalArgumentException("Time limit cannot be negative: " + timeLimitMillis);
+        }
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    /**
+     * Returns whether the last run stopped because it ran out of time.
+     * {@link #getGames()} then tells how many games it played.
+     *
+     * @return true if the last run reached its time limit before playing every trial
+     */
+    public boolean hasTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Returns whether the last run stopped early because the ranking was settled.
+     * {@link #getGames()} then tells how many games it took.
+     *
+     * @return true if the last run did not play every trial
+     */
+    public boolean hasStoppedEarly() {
+        return stoppedEarly;
+    }
+
+    /**
+     * Returns the master seed from which the dice of every trial are seeded.
+     *
+     * @return the master seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the master seed from which the dice of every trial are seeded.
+     * Two experiments with the same players, trials and seed report the same results.
+     *
+     * @param seed the new master seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the number of threads used to play the trials.
+     *
+     * @return the parallelism of the experiment
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the engine the trials are played with.
+     *
+     * @return the experiment's game engine
+     */
+    public EngineType getEngine() {
+        return engine;
+    }
+
+    /**
+     * Sets the engine the trials are played with. Every engine plays the same games from the same seed,
+     * so changing it changes only the speed of the experiment, not its results.
+     *
+     * @param engine the game engine to use
+     */
+    public void setEngine(EngineType engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Returns the rules every trial is played by.
+     *
+     * @return the experiment's rules
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Sets the rules every trial is played by: the starting balance, the winning balance and the maximum
+     * number of turns. The standard rules are used unless others are set.
+     *
+     * @param rules the rules to play by
+     */
+    public void setRules(GameRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Sets the results file that receives the summary of every game the experiment plays: its trial and seed,
+     * seat order, winner, turns, and each player's final balance and properties owned. When trials are played
+     * in parallel the rows are appended in the order the games finish. The experiment does not close the file.
+     *
+     * @param resultsWriter the results file, or null to keep only the statistics
+     * @throws IllegalArgumentException if the file has a different number of seats than the experiment
+     */
+    public void setResultsWriter(ResultsWriter resultsWriter) {
+        if (resultsWriter != null && resultsWriter.getSeatCount() != players.size()) {
+            throw new IllegalArgumentException("Results file has " + resultsWriter.getSeatCount() + " seats, not "
+                    + players.size());
+        }
+        this.resultsWriter = resultsWriter;
+    }
+
+    /**
+     * Sets the replay log that receives the dice rolls and decisions of every game the experiment plays, so any
+     * game can be rebuilt exactly with {@link upei.project.Replay.GameReplayer}. The log is written afresh, replacing
+     * any file at the path, each time the trials are run, and costs under a byte per turn. Games are logged in the
+     * order they finish.
+     *
+     * @param file where to write the log, or null to log no games
+     */
+    public void setReplayLog(Path file) {
+        this.replayFile = file;
+    }
+
+    /**
+     * Sets the sink that receives the events of every game in the experiment.
+     * Use {@link upei.project.Event.SilentEventListener#INSTANCE} to play the games without any output;
+     * when games run in parallel the sink is called from several threads at once.
+     *
+     * @param listener the sink for game events
+     */
+    public void setEventListener(GameEventListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Fork-join task that plays a range of trials, splitting it in half until each piece
+     * is small enough to play directly. Each leaf fills its own {@link Tally}, so workers never share counters.
+     */
+    private final class TrialTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from; // Index of the first trial in the range
+        private final int to; // Index after the last trial in the range
+
+        /**
+         * Creates a task for the trials in the range [from, to).
+         *
+         * @param from the index of the first trial
+         * @param to the index after the last trial
+         */
+        TrialTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the range directly or splits it into two subtasks and merges their results left to right.
+         *
+         * @return the merged results of the trials in the range
+         */
+        @Override
+        protected Tally compute() {
+            if (to - from <= TRIALS_PER_TASK) {
+                return playTrials(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            TrialTask left = new TrialTask(from, mid);
+            left.fork();
+            Tally right = new TrialTask(mid, to).compute();
+            Tally result = left.join();
+            result.merge(right);
+            return result;
+        }
+    }
+
+    /**
+     * Private accumulators for a range of trials. Partial tallies are combined with {@link #merge(Tally)}.
+     */
+    private static final class Tally {
+        private final PlayerStats[] stats; // Statistics for each player in this range, by seat
+        private long games; // Games played in this range
+
+        /**
+         * Creates empty accumulators for the given number of players.
+         *
+         * @param playerCount the number of players in each game
+         */
+        Tally(int playerCount) {
+            this.stats = newStats(playerCount);
+        }
+
+        /**
+         * Records one player's result at the end of a game.
+         *
+         * @param seat    the player's index in the list given to the constructor
+         * @param won     whether the player won the game
+         * @param balance the player's final balance
+         * @param owned   the number of properties the player owned at the end
+         */
+        void record(int seat, boolean won, int balance, int owned) {
+            stats[seat].record(won, balance, owned);
+        }
+
+        /**
+         * Adds the results of another tally into this one.
+         *
+         * @param other the tally to merge into this one
+         */
+        void merge(Tally other) {
+            for (int i = 0; i < stats.length; i++) {
+                stats[i].merge(other.stats[i]);
+            }
+            games += other.games;
         }
-        System.out.println("Overall Average Balance: " + (totalBalance / (trials * players.size())));
-        System.out.println("Overall Average Properties Owned: " + (totalProperties / (trials * players.size())));
     }
 }
@@ -0,0 +1,78 @@
+package upei.project.Space;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry that interns color group names as small integer IDs.
+ * The first color seen gets ID 0, the next new color ID 1, and so on, so two properties are in the same
+ * group exactly when their IDs are equal. IDs are shared by every board and thread in the program and fit
+ * in a 64-bit mask, which lets players and strategies track groups with arrays and bit operations
+ * instead of comparing strings.
+ */
+public final class ColorGroups {
+
+    /**
+     * The most color groups that can be registered.
+     */
+    public static final int MAX_GROUPS = Long.SIZE;
+
+    /**
+     * The ID given to a missing (null) color; it belongs to no group.
+     */
+    public static final int NONE = -1;
+
+    private static final Map<String, Integer> ids = new HashMap<>(); // ID of each registered color
+    private static final List<String> names = new ArrayList<>(); // Color of each ID
+
+    /**
+     * The registry only has static methods.
+     */
+    private ColorGroups() {
+    }
+
+    /**
+     * Returns the ID of a color group, registering the color if it has not been seen before.
+     *
+     * @param color the name of the color group
+     * @return the group's ID, or {@link #NONE} if the color is null
+     * @throws IllegalStateException if registering the color would exceed {@link #MAX_GROUPS}
+     */
+    public static synchronized int idOf(String color) {
+        if (color == null) {
+            return NONE;
+        }
+        Integer id = ids.get(color);
+        if (id == null) {
+            if (names.size() == MAX_GROUPS) {
+                throw new IllegalStateException("Too many color groups, cannot register: " + color);
+            }
+            id = names.size();
+            ids.put(color, id);
+            names.add(color);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the name of the color group with the given ID.
+     *
+     * @param id the group's ID
+     * @return the color name
+     * @throws IndexOutOfBoundsException if no group has that ID
+     */
+    public static synchronized String nameOf(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * Returns the number of color groups registered so far.
+     *
+     * @return the number of groups
+     */
+    public static synchronized int count() {
+        return names.size();
+    }
+}
@@ -4,33 +4,58 @@ import upei.project.Player;
 
 /**
  * Represents a "Go To Jail" space on the game board.
- * When a player lands on this space, they are sent to Jail.
+ * When a player lands on this space, they are sent to the board's Jail, which records them in its Jail state.
  */
 public class GoToJail extends Space {
 
+    private final Jail jail; // Jail players are sent to
+    private final int jailPosition; // Board position of the Jail
+
     /**
-     * Creates a "Go To Jail" space with the specified name.
+     * Creates a stand-alone "Go To Jail" space with the specified name. It sends players to a Jail of its own
+     * at position 9, where the Jail is on the standard board.
      *
      * @param name the name of the space
      */
     public GoToJail(String name) {
+        this(name, new Jail("Jail"), 9);
+    }
+
+    /**
+     * Creates a "Go To Jail" space with the specified name that sends players to a Jail.
+     *
+     * @param name         the name of the space
+     * @param jail         the Jail players are sent to
+     * @param jailPosition the board position of the Jail
+     */
+    public GoToJail(String name, Jail jail, int jailPosition) {
         super(name);
+        this.jail = jail;
+        this.jailPosition = jailPosition;
     }
 
     /**
      * Executes the action associated with the "Go To Jail" space.
-     * Sends the current player to Jail, updates their position to
-     * the Jail's location, and toggles their Jail status.
+     * Sends the current player to Jail and updates their position to the Jail's location.
+     * During a game the turn loop sends players to the board's Jail itself, passing their seat.
      *
      * @param currentPlayer the player who landed on this space
      * @return true to indicate that the action was successfully executed
      */
     @Override
     public boolean action(Player currentPlayer) {
-        System.out.println(currentPlayer.getName() + " is sent to Jail!");
-        currentPlayer.setPosition(9); // Assume Jail is at position 9
-        currentPlayer.toggleJailStatus();
+        jail.addPlayerToJail(currentPlayer);
+        currentPlayer.setPosition(jailPosition);
 
         return true;
     }
+
+    /**
+     * Returns the Jail players are sent to.
+     *
+     * @return the Jail
+     */
+    public Jail getJail() {
+        return jail;
+    }
 }
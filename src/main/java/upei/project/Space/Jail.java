@@ -2,29 +2,38 @@ package upei.project.Space;
 
 import upei.project.Player;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Represents the Jail space on the game board.
  * Tracks players who are in Jail and manages their time served.
+ * The turns served are kept by seat in a {@link JailState}, the board's single record of who is in Jail.
+ * The game loop passes the seat it already knows; the methods that take only a player look the seat up in the
+ * state's {@link SeatTable}, and a player sent to Jail without one is given the next free seat.
  */
 public class Jail extends Space {
 
     /**
-     * Tracks players currently in Jail and the number of turns they have served.
-     * The key is the player, and the value is the number of turns served.
+     * Tracks the number of turns each seat has served in Jail, 0 for players who are free.
      */
-    private Map<Player, Integer> playersInJail;
+    private final JailState state;
 
     /**
-     * Creates a Jail space with the specified name.
+     * Creates a stand-alone Jail space with the specified name and its own empty state.
      *
      * @param name the name of the space
      */
     public Jail(String name) {
+        this(name, new JailState(new SeatTable()));
+    }
+
+    /**
+     * Creates a Jail space whose inmates are kept in a board's Jail state.
+     *
+     * @param name  the name of the space
+     * @param state the board's Jail state
+     */
+    public Jail(String name, JailState state) {
         super(name);
-        this.playersInJail = new HashMap<>();
+        this.state = state;
     }
 
     /**
@@ -38,18 +47,28 @@ public class Jail extends Space {
      */
     @Override
     public boolean action(Player player) {
-        if (playersInJail.containsKey(player)) {
-            int turnsInJail = playersInJail.get(player);
+        return action(player, state.getSeats().indexOf(player)); // A player without a seat is not in Jail
+    }
 
+    /**
+     * Performs the action for a player in a known seat landing on the Jail space.
+     *
+     * @param player the player who landed on the Jail space
+     * @param seat   the player's seat
+     * @return true to indicate the action was performed
+     */
+    public boolean action(Player player, int seat) {
+        int turnsInJail = state.getTurns(seat);
+        if (turnsInJail > 0) {
             if (turnsInJail >= 2) {
-                System.out.println(player.getName() + " has served their time and is released from Jail!");
-                releasePlayer(player);
+                player.getEventListener().onServedTime(player);
+                releasePlayer(player, seat);
             } else {
-                System.out.println(player.getName() + " remains in Jail (Turn " + (turnsInJail + 1) + " of 2)");
-                playersInJail.put(player, turnsInJail + 1); // Increment turn count
+                player.getEventListener().onRemainsInJail(player, turnsInJail + 1);
+                state.setTurns(seat, turnsInJail + 1); // Increment turn count
             }
         } else {
-            System.out.println(player.getName() + " is just visiting Jail.");
+            player.getEventListener().onVisitingJail(player);
         }
         return true;
     }
@@ -61,29 +80,54 @@ public class Jail extends Space {
      * @param player the player to add to Jail
      */
     public void addPlayerToJail(Player player) {
-        if (!playersInJail.containsKey(player)) {
-            System.out.println(player.getName() + " is sent to Jail!");
-            playersInJail.put(player, 1); // First turn in Jail
-            player.toggleJailStatus();
+        addPlayerToJail(player, state.getSeats().seatOf(player)); // Seats the player if they have no seat yet
+    }
+
+    /**
+     * Adds a player in a known seat to Jail and initializes their turn count.
+     * If the player is already in Jail, no changes are made.
+     *
+     * @param player the player to add to Jail
+     * @param seat   the player's seat
+     */
+    public void addPlayerToJail(Player player, int seat) {
+        if (!state.isInJail(seat)) {
+            player.getEventListener().onJailed(player);
+            state.setTurns(seat, 1); // First turn in Jail
         } else {
-            System.out.println(player.getName() + " is already in Jail.");
+            player.getEventListener().onAlreadyInJail(player);
         }
     }
 
     /**
-     * Releases a player from Jail and removes them from the tracking map.
-     * Also updates the player's Jail status.
+     * Releases a player from Jail and clears their turn count.
      *
      * @param player the player to release from Jail
      */
     public void releasePlayer(Player player) {
-        if (playersInJail.containsKey(player)) {
-            playersInJail.remove(player);
-            player.toggleJailStatus();
-            System.out.println(player.getName() + " has been released from Jail!");
+        releasePlayer(player, state.getSeats().indexOf(player));
+    }
+
+    /**
+     * Releases a player in a known seat from Jail and clears their turn count.
+     *
+     * @param player the player to release from Jail
+     * @param seat   the player's seat
+     */
+    private void releasePlayer(Player player, int seat) {
+        if (state.isInJail(seat)) {
+            state.setTurns(seat, 0);
+            player.getEventListener().onReleased(player);
         }
     }
 
+    /**
+     * Empties the Jail without reporting any releases, ready for a new game.
+     */
+    public void reset() {
+        state.reset();
+    }
+
     /**
      * Checks if a player is currently in Jail.
      *
@@ -91,6 +135,15 @@ public class Jail extends Space {
      * @return true if the player is in Jail, false otherwise
      */
     public boolean isPlayerInJail(Player player) {
-        return playersInJail.containsKey(player);
+        return state.isInJail(state.getSeats().indexOf(player));
+    }
+
+    /**
+     * Returns the state that records who is in Jail.
+     *
+     * @return the Jail state
+     */
+    public JailState getState() {
+        return state;
     }
 }
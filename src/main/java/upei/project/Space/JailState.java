@@ -0,0 +1,98 @@
+package upei.project.Space;
+
+import java.util.Arrays;
+
+/**
+ * Holds who is in Jail on one board: the number of turns each seat has served, 0 for a player who is free.
+ * This is the only record of Jail status during a game; checking it is a single array read.
+ */
+public final class JailState {
+
+    private final SeatTable seats; // Seats of the game, shared with the board's property state
+    private int[] turns; // Turns served in Jail by seat, 0 when free
+
+    /**
+     * Creates an empty Jail state for the players of a seat table.
+     *
+     * @param seats the game's seats
+     */
+    public JailState(SeatTable seats) {
+        this.seats = seats;
+        this.turns = new int[4];
+    }
+
+    /**
+     * Returns the seats this state is indexed by.
+     *
+     * @return the seat table
+     */
+    public SeatTable getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the number of turns a seat has served in Jail.
+     *
+     * @param seat the seat index
+     * @return the turns served, or 0 if the seat is not in Jail
+     */
+    public int getTurns(int seat) {
+        return seat >= 0 && seat < turns.length ? turns[seat] : 0;
+    }
+
+    /**
+     * Sets the number of turns a seat has served in Jail; 0 releases it.
+     *
+     * @param seat  the seat index
+     * @param value the turns served
+     */
+    public void setTurns(int seat, int value) {
+        if (seat >= turns.length) {
+            turns = Arrays.copyOf(turns, Math.max(seat + 1, turns.length * 2));
+        }
+        turns[seat] = value;
+    }
+
+    /**
+     * Checks whether a seat is in Jail.
+     *
+     * @param seat the seat index
+     * @return true if the seat is in Jail
+     */
+    public boolean isInJail(int seat) {
+        return getTurns(seat) > 0;
+    }
+
+    /**
+     * Releases every seat, ready for a new game.
+     */
+    public void reset() {
+        Arrays.fill(turns, 0);
+    }
+
+    /**
+     * Copies the turns served by the first seats into an array.
+     *
+     * @param dest  receives the turns served by each seat
+     * @param count the number of seats to copy
+     */
+    public void copyTo(int[] dest, int count) {
+        for (int seat = 0; seat < count; seat++) {
+            dest[seat] = getTurns(seat);
+        }
+    }
+
+    /**
+     * Replaces the turns served by the first seats with the values in an array, and releases every other seat.
+     *
+     * @param src   the turns served by each seat
+     * @param count the number of seats to copy
+     */
+    public void copyFrom(int[] src, int count) {
+        if (count > turns.length) {
+            turns = Arrays.copyOf(turns, count);
+        }
+        System.arraycopy(src, 0, turns, 0, count);
+        Arrays.fill(turns, count, turns.length, 0);
+    }
+}
@@ -5,41 +5,40 @@ import upei.project.Player;
 /**
  * Represents a property space on the game board.
  * Properties can be bought, upgraded, and rented out to other players.
+ * The price and color never change; the owner, rent and upgrade level are read from and written to
+ * a {@link PropertyState}, either the state of the board the property sits on or a private one-slot
+ * state for a property created on its own.
  */
 public class Property extends Space {
 
     /**
      * The cost to purchase the property.
      */
-    private int price;
-
-    /**
-     * The rent paid by players who land on this property.
-     */
-    private int rent;
+    private final int price;
 
     /**
      * The color group of the property (e.g., red, blue).
      */
-    private String color;
+    private final String color;
 
     /**
-     * Indicates whether the property is owned.
+     * The interned ID of the color group, from {@link ColorGroups}.
      */
-    private boolean owned;
+    private final int colorGroup;
 
     /**
-     * The current owner of the property.
+     * Holds the owner, rent and upgrade level of the property.
      */
-    private Player owner;
+    private final PropertyState state;
 
     /**
-     * The level of upgrades (e.g., houses or hotels) on the property.
+     * The index of the property in its state (its board position, or 0 for a stand-alone property).
      */
-    private int upgradeLevel;
+    private final int slot;
 
     /**
-     * Constructs a Property space with the specified name, price, rent, and color group.
+     * Constructs a stand-alone Property space with the specified name, price, rent, and color group.
+     * The property keeps its own state and is not part of any board.
      *
      * @param name  the name of the property
      * @param price the cost to purchase the property
@@ -47,12 +46,26 @@ public class Property extends Space {
      * @param color the color group of the property
      */
     public Property(String name, int price, int rent, String color) {
+        this(name, price, color, new PropertyState(new int[] {rent}), 0);
+    }
+
+    /**
+     * Constructs a Property space whose changing state is kept by a board.
+     * The base rent is the one the state was created with for this position.
+     *
+     * @param name     the name of the property
+     * @param price    the cost to purchase the property
+     * @param color    the color group of the property
+     * @param state    the board's property state
+     * @param position the position of the property on the board
+     */
+    public Property(String name, int price, String color, PropertyState state, int position) {
         super(name); // Initialize space name
         this.price = price;
-        this.rent = rent;
         this.color = color;
-        this.owned = false;
-        this.upgradeLevel = 0;
+        this.colorGroup = ColorGroups.idOf(color);
+        this.state = state;
+        this.slot = position;
     }
 
     /**
@@ -61,7 +74,7 @@ public class Property extends Space {
      * @return true if the property is owned, false otherwise
      */
     public boolean IsOwned() {
-        return owned;
+        return state.isOwned(slot);
     }
 
     /**
@@ -70,7 +83,7 @@ public class Property extends Space {
      * @return the rent amount
      */
     public int getRent() {
-        return rent;
+        return state.getRent(slot);
     }
 
     /**
@@ -91,13 +104,23 @@ public class Property extends Space {
         return color;
     }
 
+    /**
+     * Gets the interned ID of the property's color group.
+     * Two properties are in the same group exactly when their IDs are equal.
+     *
+     * @return the color group ID, or {@link ColorGroups#NONE} if the property has no color
+     */
+    public int getColorGroup() {
+        return colorGroup;
+    }
+
     /**
      * Gets the current upgrade level of the property.
      *
      * @return the upgrade level
      */
     public int getUpgradeLevel() {
-        return upgradeLevel;
+        return state.getUpgradeLevel(slot);
     }
 
     /**
@@ -106,7 +129,7 @@ public class Property extends Space {
      * @param amount the amount to add to the rent
      */
     public void increaseRent(int amount) {
-        rent += amount;
+        state.increaseRent(slot, amount);
     }
 
     /**
@@ -115,8 +138,7 @@ public class Property extends Space {
      * @param player the player purchasing the property
      */
     public void buy(Player player) {
-        this.owner = player;
-        this.owned = true;
+        state.setOwner(slot, player);
     }
 
     /**
@@ -129,15 +151,17 @@ public class Property extends Space {
      */
     @Override
     public boolean action(Player currentPlayer) {
-        if (owned) {
+        if (state.isOwned(slot)) {
+            Player owner = state.getOwner(slot);
             // Handle rent payment if property is owned by another player
             if (!owner.equals(currentPlayer)) {
-                System.out.println(currentPlayer.getName() + " pays rent to " + owner.getName());
+                int rent = state.getRent(slot);
+                currentPlayer.getEventListener().onPaidRent(currentPlayer, owner, this, rent);
                 currentPlayer.makePayment(rent); // Deduct rent from the current player
                 owner.acceptMoney(rent); // Add rent to the owner's balance
             } else {
-                // Log message if the current player owns the property
-                System.out.println(currentPlayer.getName() + " already owns " + getName());
+                // Report that the current player owns the property
+                currentPlayer.getEventListener().onLandedOnOwnProperty(currentPlayer, this);
             }
             return true; // Action completed
         } else {
@@ -151,7 +175,7 @@ public class Property extends Space {
      * @return the owner of the property, or null if unowned
      */
     public Player getOwner() {
-        return owner;
+        return state.getOwner(slot);
     }
 
     /**
@@ -160,7 +184,7 @@ public class Property extends Space {
      * @param b true if the property is owned, false otherwise
      */
     public void setOwned(boolean b) {
-        owned = b;
+        state.setOwned(slot, b);
     }
 
     /**
@@ -169,6 +193,6 @@ public class Property extends Space {
      * @param i the new upgrade level
      */
     public void setUpgradeLevel(int i) {
-        upgradeLevel = i;
+        state.setUpgradeLevel(slot, i);
     }
 }
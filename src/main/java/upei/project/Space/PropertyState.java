@@ -0,0 +1,237 @@
+package upei.project.Space;
+
+import upei.project.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Holds the mutable state of every property on one board: owner, current rent and upgrade level.
+ * The state is kept in parallel primitive arrays indexed by board position, so a board is returned to its
+ * starting state with a few array fills instead of being rebuilt, and can be copied cheaply.
+ * Owners are stored as seat indexes; the players sitting in each seat are recorded in a {@link SeatTable}.
+ * Positions that are not properties simply keep unused entries.
+ */
+public final class PropertyState {
+
+    /**
+     * The seat index stored for a property that has no owner.
+     */
+    public static final int UNOWNED = -1;
+
+    private final int[] baseRent; // Rent of each position before any upgrade
+    private final int[] ownerSeat; // Seat index of the owner of each position, or UNOWNED
+    private final boolean[] owned; // Whether each position is marked as owned
+    private final int[] rent; // Current rent of each position
+    private final int[] upgradeLevel; // Current upgrade level of each position
+    private final SeatTable seats; // Players by seat index
+
+    /**
+     * Creates the state for a board whose properties start with the given rents.
+     * All properties start unowned. The state gets its own seat table.
+     *
+     * @param baseRent the starting rent of every position (the array is copied)
+     */
+    public PropertyState(int[] baseRent) {
+        this(baseRent, new SeatTable());
+    }
+
+    /**
+     * Creates the state for a board whose properties start with the given rents, seating owners in the given table.
+     * All properties start unowned.
+     *
+     * @param baseRent the starting rent of every position (the array is copied)
+     * @param seats    the game's seats
+     */
+    public PropertyState(int[] baseRent, SeatTable seats) {
+        this.baseRent = baseRent.clone();
+        this.ownerSeat = new int[baseRent.length];
+        this.owned = new boolean[baseRent.length];
+        this.rent = new int[baseRent.length];
+        this.upgradeLevel = new int[baseRent.length];
+        this.seats = seats;
+        reset();
+    }
+
+    /**
+     * Returns every property to its starting state: unowned, base rent and no upgrades.
+     * The seat table is cleared as well.
+     */
+    public void reset() {
+        Arrays.fill(ownerSeat, UNOWNED);
+        Arrays.fill(owned, false);
+        System.arraycopy(baseRent, 0, rent, 0, baseRent.length);
+        Arrays.fill(upgradeLevel, 0);
+        seats.clear();
+    }
+
+    /**
+     * Replaces the seat table with the given players, seated in list order.
+     *
+     * @param players the players of the game, in seat order
+     */
+    public void assignSeats(List<Player> players) {
+        seats.assign(players);
+    }
+
+    /**
+     * Returns the seat index of a player, giving the player the next free seat if they do not have one yet.
+     *
+     * @param player the player to look up
+     * @return the player's seat index
+     */
+    public int seatOf(Player player) {
+        return seats.seatOf(player);
+    }
+
+    /**
+     * Returns the player in a seat.
+     *
+     * @param seat the seat index
+     * @return the player in that seat, or null for {@link #UNOWNED}
+     */
+    public Player playerAt(int seat) {
+        return seats.playerAt(seat);
+    }
+
+    /**
+     * Returns the seats owners are recorded in.
+     *
+     * @return the seat table
+     */
+    public SeatTable getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the number of positions tracked by this state.
+     *
+     * @return the number of positions
+     */
+    public int size() {
+        return rent.length;
+    }
+
+    /**
+     * Checks whether the property at a position is owned.
+     *
+     * @param position the board position
+     * @return true if the property is owned
+     */
+    public boolean isOwned(int position) {
+        return owned[position];
+    }
+
+    /**
+     * Marks the property at a position as owned or unowned without changing its recorded owner.
+     *
+     * @param position the board position
+     * @param value    the new ownership flag
+     */
+    public void setOwned(int position, boolean value) {
+        owned[position] = value;
+    }
+
+    /**
+     * Returns the seat index of the owner of a position.
+     *
+     * @param position the board position
+     * @return the owner's seat index, or {@link #UNOWNED}
+     */
+    public int getOwnerSeat(int position) {
+        return ownerSeat[position];
+    }
+
+    /**
+     * Returns the owner of a position.
+     *
+     * @param position the board position
+     * @return the owner, or null if there is none
+     */
+    public Player getOwner(int position) {
+        return playerAt(ownerSeat[position]);
+    }
+
+    /**
+     * Records a player as the owner of a position and marks it as owned.
+     *
+     * @param position the board position
+     * @param player   the new owner
+     */
+    public void setOwner(int position, Player player) {
+        ownerSeat[position] = seatOf(player);
+        owned[position] = true;
+    }
+
+    /**
+     * Returns the current rent of a position.
+     *
+     * @param position the board position
+     * @return the rent
+     */
+    public int getRent(int position) {
+        return rent[position];
+    }
+
+    /**
+     * Adds to the rent of a position.
+     *
+     * @param position the board position
+     * @param amount   the amount to add
+     */
+    public void increaseRent(int position, int amount) {
+        rent[position] += amount;
+    }
+
+    /**
+     * Returns the upgrade level of a position.
+     *
+     * @param position the board position
+     * @return the upgrade level
+     */
+    public int getUpgradeLevel(int position) {
+        return upgradeLevel[position];
+    }
+
+    /**
+     * Sets the upgrade level of a position.
+     *
+     * @param position the board position
+     * @param level    the new upgrade level
+     */
+    public void setUpgradeLevel(int position, int level) {
+        upgradeLevel[position] = level;
+    }
+
+    /**
+     * Copies the owner, ownership flag, rent and upgrade level of every position into the given arrays,
+     * which must hold at least {@link #size()} entries each.
+     *
+     * @param ownerSeat    receives the owner's seat index of each position
+     * @param owned        receives the ownership flag of each position
+     * @param rent         receives the current rent of each position
+     * @param upgradeLevel receives the upgrade level of each position
+     */
+    public void copyTo(int[] ownerSeat, boolean[] owned, int[] rent, int[] upgradeLevel) {
+        System.arraycopy(this.ownerSeat, 0, ownerSeat, 0, this.ownerSeat.length);
+        System.arraycopy(this.owned, 0, owned, 0, this.owned.length);
+        System.arraycopy(this.rent, 0, rent, 0, this.rent.length);
+        System.arraycopy(this.upgradeLevel, 0, upgradeLevel, 0, this.upgradeLevel.length);
+    }
+
+    /**
+     * Replaces the owner, ownership flag, rent and upgrade level of every position with the values in the
+     * given arrays, as copied by {@link #copyTo(int[], boolean[], int[], int[])}. The seat table is not changed.
+     *
+     * @param ownerSeat    the owner's seat index of each position
+     * @param owned        the ownership flag of each position
+     * @param rent         the rent of each position
+     * @param upgradeLevel the upgrade level of each position
+     */
+    public void copyFrom(int[] ownerSeat, boolean[] owned, int[] rent, int[] upgradeLevel) {
+        System.arraycopy(ownerSeat, 0, this.ownerSeat, 0, this.ownerSeat.length);
+        System.arraycopy(owned, 0, this.owned, 0, this.owned.length);
+        System.arraycopy(rent, 0, this.rent, 0, this.rent.length);
+        System.arraycopy(upgradeLevel, 0, this.upgradeLevel, 0, this.upgradeLevel.length);
+    }
+}
@@ -0,0 +1,93 @@
+package upei.project.Space;
+
+import upei.project.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The seats of one game: each player is given a small seat index, so the per-player parts of the game state
+ * can be kept in primitive arrays indexed by seat. One table is shared by the property and Jail state of a board.
+ */
+public final class SeatTable {
+
+    /**
+     * The index returned for a player without a seat.
+     */
+    public static final int NO_SEAT = -1;
+
+    private Player[] players = new Player[4]; // Players by seat index
+    private int count; // Number of seats in use
+
+    /**
+     * Replaces the table with the given players, seated in list order.
+     *
+     * @param players the players of the game, in seat order
+     */
+    public void assign(List<Player> players) {
+        clear();
+        for (int i = 0; i < players.size(); i++) {
+            seatOf(players.get(i));
+        }
+    }
+
+    /**
+     * Empties every seat.
+     */
+    public void clear() {
+        Arrays.fill(players, null);
+        count = 0;
+    }
+
+    /**
+     * Returns the seat index of a player, giving the player the next free seat if they do not have one yet.
+     *
+     * @param player the player to look up
+     * @return the player's seat index
+     */
+    public int seatOf(Player player) {
+        int seat = indexOf(player);
+        if (seat != NO_SEAT) {
+            return seat;
+        }
+        if (count == players.length) {
+            players = Arrays.copyOf(players, count * 2);
+        }
+        players[count] = player;
+        return count++;
+    }
+
+    /**
+     * Returns the seat index of a player without seating them.
+     *
+     * @param player the player to look up
+     * @return the player's seat index, or {@link #NO_SEAT} if they have none
+     */
+    public int indexOf(Player player) {
+        for (int i = 0; i < count; i++) {
+            if (players[i] == player) {
+                return i;
+            }
+        }
+        return NO_SEAT;
+    }
+
+    /**
+     * Returns the player in a seat.
+     *
+     * @param seat the seat index
+     * @return the player in that seat, or null for {@link #NO_SEAT}
+     */
+    public Player playerAt(int seat) {
+        return seat == NO_SEAT ? null : players[seat];
+    }
+
+    /**
+     * Returns the number of seats in use.
+     *
+     * @return the number of seated players
+     */
+    public int size() {
+        return count;
+    }
+}
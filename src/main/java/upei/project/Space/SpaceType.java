@@ -0,0 +1,19 @@
+package upei.project.Space;
+
+/**
+ * The kinds of space a board position can hold.
+ * A board layout stores one of these per position, so code that only needs to know what kind of space
+ * a position is can switch on the type instead of testing the class of a Space object.
+ */
+public enum SpaceType {
+    /** A space with no effect, such as "Go". */
+    PLAIN,
+    /** A property that can be bought and charges rent. */
+    PROPERTY,
+    /** A utility space that charges a tax. */
+    UTILITY,
+    /** The space that sends a player to Jail. */
+    GO_TO_JAIL,
+    /** The Jail itself. */
+    JAIL
+}
@@ -26,15 +26,15 @@ public class UtilitySpace extends Space {
 
     /**
      * Executes the action for a player landing on the utility space.
-     * Deducts the utility tax from the player's balance and logs the action.
+     * Deducts the utility tax from the player's balance and reports the payment.
      *
      * @param currentPlayer the player who landed on the utility space
      * @return true to indicate the action was successfully executed
      */
     @Override
     public boolean action(Player currentPlayer) {
-        // Deducts the utility tax from the player's balance and logs the action
-        System.out.println(currentPlayer.getName() + " pays a utility tax of " + tax);
+        // Deducts the utility tax from the player's balance and reports the payment
+        currentPlayer.getEventListener().onPaidTax(currentPlayer, tax);
         currentPlayer.makePayment(tax);
         return true; // Action is always successful
     }
@@ -0,0 +1,141 @@
+package upei.project.Stats;
+
+/**
+ * A two-sided confidence interval for an estimated quantity, such as a strategy's win rate.
+ */
+public final class ConfidenceInterval {
+
+    /**
+     * The two-sided critical value of the standard normal distribution for 95% confidence.
+     */
+    public static final double Z_95 = 1.959963984540054;
+
+    // Coefficients of Acklam's approximation of the normal quantile
+    private static final double[] A = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+            1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+    private static final double[] B = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+            6.680131188771972e+01, -1.328068155288572e+01};
+    private static final double[] C = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+            -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+    private static final double[] D = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+            3.754408661907416e+00};
+
+    private final double lower; // Lower bound of the interval
+    private final double upper; // Upper bound of the interval
+
+    /**
+     * Creates an interval with the given bounds.
+     *
+     * @param lower the lower bound
+     * @param upper the upper bound
+     * @throws IllegalArgumentException if the lower bound is above the upper bound
+     */
+    public ConfidenceInterval(double lower, double upper) {
+        if (lower > upper) {
+            throw new IllegalArgumentException("Lower bound " + lower + " is above upper bound " + upper);
+        }
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Returns the Wilson score interval for a proportion, such as the fraction of games a player won.
+     * Unlike the textbook normal interval it stays within [0, 1] and is sensible for rates near 0 or 1
+     * and for small numbers of trials.
+     *
+     * @param successes the number of successes
+     * @param trials    the number of trials
+     * @param z         the critical value for the wanted confidence, such as {@link #Z_95}
+     * @return the interval, or [0, 1] if there were no trials
+     * @throws IllegalArgumentException if the counts are negative or there are more successes than trials
+     */
+    public static ConfidenceInterval wilson(long successes, long trials, double z) {
+        if (successes < 0 || trials < successes) {
+            throw new IllegalArgumentException("Invalid counts: " + successes + " of " + trials);
+        }
+        if (trials == 0) {
+            return new ConfidenceInterval(0, 1);
+        }
+        double n = trials;
+        double p = successes / n;
+        double z2 = z * z;
+        double centre = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double halfWidth = z / (1 + z2 / n) * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+        return new ConfidenceInterval(Math.max(0, centre - halfWidth), Math.min(1, centre + halfWidth));
+    }
+
+    /**
+     * Returns the two-sided critical value of the standard normal distribution for a confidence level,
+     * such as 1.96 for 0.95. It uses Acklam's rational approximation of the normal quantile, which is
+     * accurate to about nine significant digits.
+     *
+     * @param confidence the confidence level, between 0 and 1
+     * @return the critical value z
+     * @throws IllegalArgumentException if the confidence is not between 0 and 1
+     */
+    public static double criticalValue(double confidence) {
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1: " + confidence);
+        }
+        double tail = (1 - confidence) / 2; // Probability above z
+
+        // The quantile of the upper tail, computed in whichever of Acklam's regions is more accurate
+        if (tail < 0.02425) {
+            double q = Math.sqrt(-2 * Math.log(tail));
+            return -(((((C[0] * q + C[1]) * q + C[2]) * q + C[3]) * q + C[4]) * q + C[5])
+                    / ((((D[0] * q + D[1]) * q + D[2]) * q + D[3]) * q + 1);
+        }
+        double q = 0.5 - tail;
+        double r = q * q;
+        return (((((A[0] * r + A[1]) * r + A[2]) * r + A[3]) * r + A[4]) * r + A[5]) * q
+                / (((((B[0] * r + B[1]) * r + B[2]) * r + B[3]) * r + B[4]) * r + 1);
+    }
+
+    /**
+     * Returns the lower bound of the interval.
+     *
+     * @return the lower bound
+     */
+    public double getLower() {
+        return lower;
+    }
+
+    /**
+     * Returns the upper bound of the interval.
+     *
+     * @return the upper bound
+     */
+    public double getUpper() {
+        return upper;
+    }
+
+    /**
+     * Checks whether a value lies within the interval, bounds included.
+     *
+     * @param value the value to check
+     * @return true if the value is inside the interval
+     */
+    public boolean contains(double value) {
+        return value >= lower && value <= upper;
+    }
+
+    /**
+     * Checks whether this interval and another share any value.
+     *
+     * @param other the other interval
+     * @return true if the intervals overlap
+     */
+    public boolean overlaps(ConfidenceInterval other) {
+        return lower <= other.upper && other.lower <= upper;
+    }
+
+    /**
+     * Returns the interval as "[lower, upper]".
+     *
+     * @return a readable form of the interval
+     */
+    @Override
+    public String toString() {
+        return "[" + lower + ", " + upper + "]";
+    }
+}
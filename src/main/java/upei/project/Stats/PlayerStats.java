@@ -0,0 +1,176 @@
+package upei.project.Stats;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Statistics for one player across the games of an experiment: games won, and the distribution of the
+ * player's final balance and number of properties owned. Memory use does not depend on the number of games,
+ * and the statistics of two ranges of games are combined with {@link #merge(PlayerStats)}.
+ */
+public class PlayerStats {
+    private long wins; // Games won
+    private final RunningStats balance; // Final balance, one value per game
+    private final RunningStats owned; // Properties owned at the end, one value per game
+    private final QuantileSketch balanceQuantiles; // Distribution of the final balance
+    private final QuantileSketch ownedQuantiles; // Distribution of the properties owned
+
+    /**
+     * Creates statistics with no games recorded.
+     */
+    public PlayerStats() {
+        this(0, new RunningStats(), new RunningStats(), new QuantileSketch(), new QuantileSketch());
+    }
+
+    /**
+     * Creates statistics from their parts.
+     *
+     * @param wins             the games won
+     * @param balance          the final balance statistics
+     * @param owned            the properties owned statistics
+     * @param balanceQuantiles the final balance distribution
+     * @param ownedQuantiles   the properties owned distribution
+     */
+    private PlayerStats(long wins, RunningStats balance, RunningStats owned, QuantileSketch balanceQuantiles,
+                        QuantileSketch ownedQuantiles) {
+        this.wins = wins;
+        this.balance = balance;
+        this.owned = owned;
+        this.balanceQuantiles = balanceQuantiles;
+        this.ownedQuantiles = ownedQuantiles;
+    }
+
+    /**
+     * Writes the statistics in a compact binary form that {@link #readFrom(DataInput)} restores exactly.
+     *
+     * @param out the destination
+     * @throws IOException if the statistics cannot be written
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(wins);
+        balance.writeTo(out);
+        owned.writeTo(out);
+        balanceQuantiles.writeTo(out);
+        ownedQuantiles.writeTo(out);
+    }
+
+    /**
+     * Reads statistics written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in the source
+     * @return the restored statistics
+     * @throws IOException if the statistics cannot be read
+     */
+    public static PlayerStats readFrom(DataInput in) throws IOException {
+        long wins = in.readLong();
+        RunningStats balance = RunningStats.readFrom(in);
+        RunningStats owned = RunningStats.readFrom(in);
+        QuantileSketch balanceQuantiles = QuantileSketch.readFrom(in);
+        QuantileSketch ownedQuantiles = QuantileSketch.readFrom(in);
+        return new PlayerStats(wins, balance, owned, balanceQuantiles, ownedQuantiles);
+    }
+
+    /**
+     * Records the end of one game for the player.
+     *
+     * @param won          whether the player won the game
+     * @param finalBalance the player's balance at the end of the game
+     * @param ownedCount   the number of properties the player owned at the end of the game
+     */
+    public void record(boolean won, int finalBalance, int ownedCount) {
+        if (won) {
+            wins++;
+        }
+        balance.add(finalBalance);
+        owned.add(ownedCount);
+        balanceQuantiles.add(finalBalance);
+        ownedQuantiles.add(ownedCount);
+    }
+
+    /**
+     * Adds the games recorded in another set of statistics into this one.
+     *
+     * @param other the statistics to merge into these
+     */
+    public void merge(PlayerStats other) {
+        wins += other.wins;
+        balance.merge(other.balance);
+        owned.merge(other.owned);
+        balanceQuantiles.merge(other.balanceQuantiles);
+        ownedQuantiles.merge(other.ownedQuantiles);
+    }
+
+    /**
+     * Returns the number of games recorded.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return balance.getCount();
+    }
+
+    /**
+     * Returns the number of games the player won.
+     *
+     * @return the number of wins
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Returns the fraction of the recorded games the player won.
+     *
+     * @return the win rate, or 0 if no games were recorded
+     */
+    public double getWinRate() {
+        return getGames() == 0 ? 0 : (double) wins / getGames();
+    }
+
+    /**
+     * Returns the Wilson score interval for the player's win rate.
+     *
+     * @param z the critical value for the wanted confidence, such as {@link ConfidenceInterval#Z_95}
+     * @return the confidence interval of the win rate
+     */
+    public ConfidenceInterval getWinRateInterval(double z) {
+        return ConfidenceInterval.wilson(wins, getGames(), z);
+    }
+
+    /**
+     * Returns the running statistics of the player's final balance.
+     *
+     * @return the balance statistics
+     */
+    public RunningStats getBalance() {
+        return balance;
+    }
+
+    /**
+     * Returns the running statistics of the number of properties the player owned at the end.
+     *
+     * @return the property statistics
+     */
+    public RunningStats getOwned() {
+        return owned;
+    }
+
+    /**
+     * Returns the distribution of the player's final balance.
+     *
+     * @return the balance quantile sketch
+     */
+    public QuantileSketch getBalanceQuantiles() {
+        return balanceQuantiles;
+    }
+
+    /**
+     * Returns the distribution of the number of properties the player owned at the end.
+     *
+     * @return the property quantile sketch
+     */
+    public QuantileSketch getOwnedQuantiles() {
+        return ownedQuantiles;
+    }
+}
@@ -0,0 +1,264 @@
+package upei.project.Stats;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compact, mergeable histogram of integer values that answers quantile queries such as the median.
+ * Values below {@value #EXACT} are counted exactly; larger magnitudes share log-linear buckets, each power of
+ * two being split into {@value #EXACT} equal parts, so a reported quantile is within about 3% of the true value.
+ * The bucket arrays only grow to the largest value seen and never beyond a few hundred entries, whatever the
+ * number of values, and merging two sketches adds their bucket counts, which is exact.
+ */
+public class QuantileSketch {
+    private static final int SUB_BITS = 5; // Each power of two is split into 2^SUB_BITS buckets
+
+    /**
+     * Magnitudes below this are counted in buckets of their own.
+     */
+    public static final int EXACT = 1 << SUB_BITS;
+
+    private long[] positive; // Counts of values of 0 and above, by bucket
+    private long[] negative; // Counts of values below 0, by bucket of their magnitude
+    private long count; // Number of values added
+    private long min; // Smallest value added
+    private long max; // Largest value added
+
+    /**
+     * Creates an empty sketch.
+     */
+    public QuantileSketch() {
+        this.positive = new long[EXACT];
+        this.negative = new long[0];
+        this.min = Long.MAX_VALUE;
+        this.max = Long.MIN_VALUE;
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value the value to add
+     */
+    public void add(long value) {
+        if (value >= 0) {
+            int bucket = bucketOf(value);
+            positive = grow(positive, bucket);
+            positive[bucket]++;
+        } else {
+            // The magnitude of Long.MIN_VALUE does not fit, so it shares the bucket of Long.MAX_VALUE
+            int bucket = bucketOf(value == Long.MIN_VALUE ? Long.MAX_VALUE : -value);
+            negative = grow(negative, bucket);
+            negative[bucket]++;
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values of another sketch into this one.
+     *
+     * @param other the sketch to merge into this one
+     */
+    public void merge(QuantileSketch other) {
+        positive = grow(positive, other.positive.length - 1);
+        for (int i = 0; i < other.positive.length; i++) {
+            positive[i] += other.positive[i];
+        }
+        negative = grow(negative, other.negative.length - 1);
+        for (int i = 0; i < other.negative.length; i++) {
+            negative[i] += other.negative[i];
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns an estimate of the value below which the given fraction of the values fall.
+     * The smallest and largest values are tracked exactly, so quantiles 0 and 1 are exact.
+     *
+     * @param q the fraction, from 0 to 1 (0.5 is the median)
+     * @return the estimated quantile
+     * @throws IllegalArgumentException if q is outside [0, 1]
+     * @throws IllegalStateException if no values were added
+     */
+    public long getQuantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        if (count == 0) {
+            throw new IllegalStateException("No values in the sketch");
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count)); // Rank of the wanted value, from 1
+        if (rank == 1) {
+            return min;
+        }
+        if (rank == count) {
+            return max;
+        }
+
+        // Walk up from the most negative bucket to the largest positive one
+        long seen = 0;
+        for (int i = negative.length - 1; i >= 0; i--) {
+            seen += negative[i];
+            if (seen >= rank) {
+                return clamp(-valueOf(i));
+            }
+        }
+        for (int i = 0; i < positive.length; i++) {
+            seen += positive[i];
+            if (seen >= rank) {
+                return clamp(valueOf(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Writes the sketch in a compact binary form that {@link #readFrom(DataInput)} restores exactly.
+     *
+     * @param out the destination
+     * @throws IOException if the sketch cannot be written
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(min);
+        out.writeLong(max);
+        writeCounts(out, positive);
+        writeCounts(out, negative);
+    }
+
+    /**
+     * Reads a sketch written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in the source
+     * @return the restored sketch
+     * @throws IOException if the sketch cannot be read
+     */
+    public static QuantileSketch readFrom(DataInput in) throws IOException {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.count = in.readLong();
+        sketch.min = in.readLong();
+        sketch.max = in.readLong();
+        sketch.positive = readCounts(in);
+        sketch.negative = readCounts(in);
+        return sketch;
+    }
+
+    /**
+     * Writes bucket counts as their length followed by the counts.
+     *
+     * @param out    the destination
+     * @param counts the bucket counts
+     * @throws IOException if the counts cannot be written
+     */
+    private static void writeCounts(DataOutput out, long[] counts) throws IOException {
+        out.writeInt(counts.length);
+        for (long bucketCount : counts) {
+            out.writeLong(bucketCount);
+        }
+    }
+
+    /**
+     * Reads bucket counts written by {@link #writeCounts(DataOutput, long[])}.
+     *
+     * @param in the source
+     * @return the bucket counts
+     * @throws IOException if the counts cannot be read or their length is impossible
+     */
+    private static long[] readCounts(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > bucketOf(Long.MAX_VALUE) + 1) {
+            throw new IOException("Invalid number of sketch buckets: " + length);
+        }
+        long[] counts = new long[length];
+        for (int i = 0; i < length; i++) {
+            counts[i] = in.readLong();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return the count of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest value added.
+     *
+     * @return the minimum, or Long.MAX_VALUE if no values were added
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest value added.
+     *
+     * @return the maximum, or Long.MIN_VALUE if no values were added
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the bucket a non-negative magnitude is counted in.
+     *
+     * @param magnitude the value, 0 or above
+     * @return the index of its bucket
+     */
+    static int bucketOf(long magnitude) {
+        if (magnitude < EXACT) {
+            return (int) magnitude;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(magnitude) - SUB_BITS; // Bits dropped by the bucket
+        return (shift + 1) * EXACT + (int) ((magnitude >>> shift) - EXACT);
+    }
+
+    /**
+     * Returns the value that stands for a bucket: the magnitude itself for exact buckets,
+     * otherwise the middle of the bucket's range.
+     *
+     * @param bucket the index of the bucket
+     * @return the representative magnitude
+     */
+    static long valueOf(int bucket) {
+        if (bucket < EXACT) {
+            return bucket;
+        }
+        int shift = bucket / EXACT - 1;
+        long low = (long) (EXACT + bucket % EXACT) << shift;
+        return low + ((1L << shift) >>> 1);
+    }
+
+    /**
+     * Limits an estimate to the exact range of the values added.
+     *
+     * @param value the estimate
+     * @return the estimate, no smaller than the minimum and no larger than the maximum
+     */
+    private long clamp(long value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Returns the given counts, copied into a longer array if they do not reach the given bucket.
+     *
+     * @param counts the bucket counts
+     * @param bucket the largest bucket that must fit
+     * @return counts long enough to hold the bucket
+     */
+    private static long[] grow(long[] counts, int bucket) {
+        if (bucket < counts.length) {
+            return counts;
+        }
+        return Arrays.copyOf(counts, bucket + 1);
+    }
+}
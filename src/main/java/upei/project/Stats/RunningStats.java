@@ -0,0 +1,166 @@
+package upei.project.Stats;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Streaming mean and variance of a series of values, kept with Welford's online algorithm.
+ * The count is a long and the mean and spread are doubles, so the statistics neither overflow nor lose
+ * precision the way integer running totals do, and the memory used is the same for ten values or ten billion.
+ * Two partial results are combined with {@link #merge(RunningStats)}, which gives the statistics of both series.
+ */
+public class RunningStats {
+    private long count; // Number of values added
+    private double mean; // Mean of the values added
+    private double m2; // Sum of squared differences from the mean
+    private double min; // Smallest value added
+    private double max; // Largest value added
+
+    /**
+     * Creates empty statistics.
+     */
+    public RunningStats() {
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Adds a value to the series.
+     *
+     * @param value the value to add
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Adds the values of another series into this one, as if they had been added here one by one.
+     *
+     * @param other the statistics to merge into these
+     */
+    public void merge(RunningStats other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+        // Chan et al.'s pairwise update of the mean and the sum of squares
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Writes the statistics in a compact binary form that {@link #readFrom(DataInput)} restores exactly.
+     *
+     * @param out the destination
+     * @throws IOException if the statistics cannot be written
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeDouble(mean);
+        out.writeDouble(m2);
+        out.writeDouble(min);
+        out.writeDouble(max);
+    }
+
+    /**
+     * Reads statistics written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in the source
+     * @return the restored statistics
+     * @throws IOException if the statistics cannot be read
+     */
+    public static RunningStats readFrom(DataInput in) throws IOException {
+        RunningStats stats = new RunningStats();
+        stats.count = in.readLong();
+        stats.mean = in.readDouble();
+        stats.m2 = in.readDouble();
+        stats.min = in.readDouble();
+        stats.max = in.readDouble();
+        return stats;
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return the count of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the values added.
+     *
+     * @return the mean, or 0 if no values were added
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the sample variance of the values added.
+     *
+     * @return the variance, or 0 if fewer than two values were added
+     */
+    public double getVariance() {
+        return count < 2 ? 0 : m2 / (count - 1);
+    }
+
+    /**
+     * Returns the sample standard deviation of the values added.
+     *
+     * @return the standard deviation, or 0 if fewer than two values were added
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the standard error of the mean.
+     *
+     * @return the standard error, or 0 if fewer than two values were added
+     */
+    public double getStandardError() {
+        return count < 2 ? 0 : Math.sqrt(getVariance() / count);
+    }
+
+    /**
+     * Returns the smallest value added.
+     *
+     * @return the minimum, or positive infinity if no values were added
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest value added.
+     *
+     * @return the maximum, or negative infinity if no values were added
+     */
+    public double getMax() {
+        return max;
+    }
+}
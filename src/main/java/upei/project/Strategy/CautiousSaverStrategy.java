@@ -1,6 +1,7 @@
 package upei.project.Strategy;
 
 import upei.project.Space.Property;
+import upei.project.UpgradeRule;
 
 /**
  * CautiousSaverStrategy
@@ -9,11 +10,32 @@ import upei.project.Space.Property;
  */
 public class CautiousSaverStrategy implements Strategy {
 
+    /**
+     * The default minimum balance the player wants to maintain after purchases or upgrades.
+     */
+    public static final int SAFETY_THRESHOLD = 200;
+
     /**
      * The minimum balance the player wants to maintain after purchases or upgrades.
      * If the player's balance falls below this threshold, they will not buy or upgrade properties.
      */
-    private static final int SAFETY_THRESHOLD = 200;
+    private final int safetyThreshold;
+
+    /**
+     * Creates a cautious saver that keeps the default safety threshold of {@value #SAFETY_THRESHOLD}.
+     */
+    public CautiousSaverStrategy() {
+        this(SAFETY_THRESHOLD);
+    }
+
+    /**
+     * Creates a cautious saver that keeps the given balance in reserve.
+     *
+     * @param safetyThreshold the minimum balance to keep after any purchase or upgrade
+     */
+    public CautiousSaverStrategy(int safetyThreshold) {
+        this.safetyThreshold = safetyThreshold;
+    }
 
     /**
      * Determines whether the player should buy a property they land on.
@@ -26,7 +48,7 @@ public class CautiousSaverStrategy implements Strategy {
     @Override
     public boolean shouldBuyLand(Property property, int balance) {
         // Buy land only if it's unowned and the balance stays above the safety threshold
-        return !property.IsOwned() && (balance - property.getPrice() >= SAFETY_THRESHOLD);
+        return !property.IsOwned() && (balance - property.getPrice() >= safetyThreshold);
     }
 
     /**
@@ -40,7 +62,16 @@ public class CautiousSaverStrategy implements Strategy {
     @Override
     public boolean shouldBuyProperty(Property property, int balance) {
         // Upgrade property only if balance after upgrade cost remains above the safety threshold
-        int upgradeCost = 10 * (property.getUpgradeLevel() + 1);
-        return (balance - upgradeCost) >= SAFETY_THRESHOLD;
+        int upgradeCost = UpgradeRule.cost(property.getUpgradeLevel() + 1);
+        return (balance - upgradeCost) >= safetyThreshold;
+    }
+
+    /**
+     * Returns the balance this strategy keeps in reserve after any purchase or upgrade.
+     *
+     * @return the safety threshold
+     */
+    public int getSafetyThreshold() {
+        return safetyThreshold;
     }
 }
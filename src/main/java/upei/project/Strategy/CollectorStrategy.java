@@ -1,6 +1,8 @@
 package upei.project.Strategy;
 
+import upei.project.Space.ColorGroups;
 import upei.project.Space.Property;
+import upei.project.UpgradeRule;
 
 /**
  * The CollectorStrategy class implements the Strategy interface.
@@ -8,6 +10,7 @@ import upei.project.Space.Property;
  */
 public class CollectorStrategy implements Strategy {
     private final String targetColor; // The color of properties this strategy aims to collect
+    private final int targetGroup; // Interned ID of the target color
 
     /**
      * Constructs a CollectorStrategy with a specified target color.
@@ -16,6 +19,7 @@ public class CollectorStrategy implements Strategy {
      */
     public CollectorStrategy(String targetColor) {
         this.targetColor = targetColor;
+        this.targetGroup = ColorGroups.idOf(targetColor);
     }
 
     /**
@@ -29,7 +33,7 @@ public class CollectorStrategy implements Strategy {
     @Override
     public boolean shouldBuyLand(Property property, int balance) {
         // Buy only properties of the target color and if they are affordable
-        return !property.IsOwned() && property.getColor().equals(targetColor) && balance >= property.getPrice();
+        return !property.IsOwned() && property.getColorGroup() == targetGroup && balance >= property.getPrice();
     }
 
     /**
@@ -43,10 +47,19 @@ public class CollectorStrategy implements Strategy {
     @Override
     public boolean shouldBuyProperty(Property property, int balance) {
         // Upgrade properties only if they belong to the target color
-        if (property.getColor().equals(targetColor)) {
-            int upgradeCost = 10 * (property.getUpgradeLevel() + 1);
+        if (property.getColorGroup() == targetGroup) {
+            int upgradeCost = UpgradeRule.cost(property.getUpgradeLevel() + 1);
             return balance >= upgradeCost; // Check if the player can afford the upgrade
         }
         return false;
     }
+
+    /**
+     * Returns the color of the properties this strategy collects.
+     *
+     * @return the target color
+     */
+    public String getTargetColor() {
+        return targetColor;
+    }
 }
@@ -0,0 +1,333 @@
+package upei.project.Strategy;
+
+import upei.project.BoardDefinition;
+import upei.project.Space.Property;
+import upei.project.Space.SpaceType;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A strategy compiled into lookup tables for one board. For every property position, upgrade level and balance
+ * bucket the table holds the strategy's answer to {@link Strategy#shouldBuyLand} and
+ * {@link Strategy#shouldBuyProperty} for an unowned property, which is the only case the game asks about.
+ * The buckets are the ranges of balance over which none of the answers change, found by asking the strategy
+ * about every balance, so the table gives exactly the strategy's answers for every level up to the maximum and
+ * every balance from 0 to the maximum. Outside that domain, which {@link #covers(int, int)} tells, the caller
+ * asks the strategy itself.
+ * Compiling asks the strategy a few hundred thousand questions, so {@link #of(Strategy, BoardDefinition, int)}
+ * keeps the table of each strategy instance for as long as the strategy is in use, and compiles it again if
+ * the strategy has changed since, as a {@link DisruptiveStrategy} does when it is told of a color it owns.
+ * Only strategies whose decisions depend on nothing but the property's price, color and upgrade level and the
+ * balance can be compiled; {@link #isCompilable(Strategy)} accepts the built-in rule-based strategies
+ * and {@link ParameterizedStrategy}.
+ */
+public final class DecisionTable {
+
+    /**
+     * The highest upgrade level covered by the tables of {@link #compile(Strategy, BoardDefinition, int)}.
+     */
+    public static final int DEFAULT_MAX_LEVEL = 3;
+
+    // Tables already compiled, by strategy instance; an entry goes when its strategy is no longer used
+    private static final Map<Strategy, DecisionTable> COMPILED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final BoardDefinition definition; // Board the table was compiled for
+    private final int version; // Version of the strategy the table was compiled from
+    private final int boardSize; // Number of positions on the board
+    private final int levels; // Number of upgrade levels covered, from 0
+    private final int maxBalance; // Highest balance covered
+    private final short[] bucketOfBalance; // Bucket of every balance from 0 to maxBalance
+    private final int bucketCount; // Number of balance buckets
+    private final boolean[] buyLand; // Answers of shouldBuyLand by position, level and bucket
+    private final boolean[] upgrade; // Answers of shouldBuyProperty by position, level and bucket
+
+    /**
+     * Creates a table from its compiled parts.
+     *
+     * @param definition      the board the table was compiled for
+     * @param version         the version of the strategy the table was compiled from
+     * @param boardSize       the number of positions on the board
+     * @param levels          the number of upgrade levels covered
+     * @param maxBalance      the highest balance covered
+     * @param bucketOfBalance the bucket of every covered balance
+     * @param bucketCount     the number of buckets
+     * @param buyLand         the answers of shouldBuyLand
+     * @param upgrade         the answers of shouldBuyProperty
+     */
+    private DecisionTable(BoardDefinition definition, int version, int boardSize, int levels, int maxBalance,
+                          short[] bucketOfBalance, int bucketCount, boolean[] buyLand, boolean[] upgrade) {
+        this.definition = definition;
+        this.version = version;
+        this.boardSize = boardSize;
+        this.levels = levels;
+        this.maxBalance = maxBalance;
+        this.bucketOfBalance = bucketOfBalance;
+        this.bucketCount = bucketCount;
+        this.buyLand = buyLand;
+        this.upgrade = upgrade;
+    }
+
+    /**
+     * Checks whether a strategy can be compiled. Only the built-in rule-based strategies qualify, and not
+     * subclasses of them, which may decide from other state.
+     *
+     * @param strategy the strategy to check
+     * @return true if the strategy's decisions depend only on the property and the balance
+     */
+    public static boolean isCompilable(Strategy strategy) {
+        Class<?> type = strategy.getClass();
+        return type == AggresivveBuyerStrategy.class || type == CautiousSaverStrategy.class
+                || type == CollectorStrategy.class || type == DisruptiveStrategy.class
+                || type == ParameterizedStrategy.class;
+    }
+
+    /**
+     * Returns the table of a strategy for a board, covering upgrade levels up to {@value #DEFAULT_MAX_LEVEL},
+     * compiling it only if the same strategy instance has not been compiled for the same board and balance before,
+     * or has changed since.
+     *
+     * @param strategy   the strategy, which must be compilable
+     * @param definition the board layout
+     * @param maxBalance the highest balance the table covers
+     * @return the compiled table
+     * @throws IllegalArgumentException if the maximum balance is negative
+     */
+    public static DecisionTable of(Strategy strategy, BoardDefinition definition, int maxBalance) {
+        DecisionTable table = COMPILED.get(strategy);
+        if (table == null || table.definition != definition || table.maxBalance != maxBalance
+                || table.levels != DEFAULT_MAX_LEVEL + 1 || !table.isCurrent(strategy)) {
+            table = compile(strategy, definition, maxBalance);
+            COMPILED.put(strategy, table);
+        }
+        return table;
+    }
+
+    /**
+     * Compiles a strategy for a board, covering upgrade levels up to {@value #DEFAULT_MAX_LEVEL}.
+     *
+     * @param strategy   the strategy to compile
+     * @param definition the board layout
+     * @param maxBalance the highest balance the table covers; higher balances ask the strategy
+     * @return the compiled table
+     * @throws IllegalArgumentException if the maximum balance is negative
+     */
+    public static DecisionTable compile(Strategy strategy, BoardDefinition definition, int maxBalance) {
+        return compile(strategy, definition, DEFAULT_MAX_LEVEL, maxBalance);
+    }
+
+    /**
+     * Compiles a strategy for a board. The strategy is asked about every property, upgrade level and balance
+     * in the domain; the balances at which any answer changes become the bucket boundaries.
+     *
+     * @param strategy   the strategy to compile
+     * @param definition the board layout
+     * @param maxLevel   the highest upgrade level the table covers; higher levels ask the strategy
+     * @param maxBalance the highest balance the table covers; higher balances ask the strategy
+     * @return the compiled table
+     * @throws IllegalArgumentException if the maximum level or balance is negative
+     */
+    public static DecisionTable compile(Strategy strategy, BoardDefinition definition, int maxLevel, int maxBalance) {
+        if (maxLevel < 0 || maxBalance < 0) {
+            throw new IllegalArgumentException("Maximum level and balance cannot be negative: " + maxLevel
+                    + ", " + maxBalance);
+        }
+        int version = versionOf(strategy); // Read first, so a change while compiling leaves the table out of date
+        int boardSize = definition.size();
+        int levels = maxLevel + 1;
+        Property[] probes = probes(definition);
+
+        // Every balance at which any answer differs from the answer one below starts a new bucket
+        BitSet boundaries = new BitSet(maxBalance + 1);
+        boundaries.set(0);
+        for (int position = 0; position < boardSize; position++) {
+            Property probe = probes[position];
+            if (probe == null) {
+                continue;
+            }
+            for (int level = 0; level < levels; level++) {
+                probe.setUpgradeLevel(level);
+                boolean land = strategy.shouldBuyLand(probe, 0);
+                boolean up = strategy.shouldBuyProperty(probe, 0);
+                for (int balance = 1; balance <= maxBalance; balance++) {
+                    boolean nextLand = strategy.shouldBuyLand(probe, balance);
+                    boolean nextUp = strategy.shouldBuyProperty(probe, balance);
+                    if (nextLand != land || nextUp != up) {
+                        boundaries.set(balance);
+                        land = nextLand;
+                        up = nextUp;
+                    }
+                }
+            }
+        }
+        int bucketCount = boundaries.cardinality();
+        if (bucketCount > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Strategy changes its answer too often to tabulate: "
+                    + bucketCount + " buckets");
+        }
+        short[] bucketOfBalance = new short[maxBalance + 1];
+        int[] bucketStart = new int[bucketCount];
+        int bucket = -1;
+        for (int balance = 0; balance <= maxBalance; balance++) {
+            if (boundaries.get(balance)) {
+                bucket++;
+                bucketStart[bucket] = balance;
+            }
+            bucketOfBalance[balance] = (short) bucket;
+        }
+
+        // Within a bucket no answer changes, so the answer at its first balance stands for the whole bucket
+        boolean[] buyLand = new boolean[boardSize * levels * bucketCount];
+        boolean[] upgrade = new boolean[buyLand.length];
+        for (int position = 0; position < boardSize; position++) {
+            Property probe = probes[position];
+            if (probe == null) {
+                continue;
+            }
+            for (int level = 0; level < levels; level++) {
+                probe.setUpgradeLevel(level);
+                int row = (position * levels + level) * bucketCount;
+                for (int b = 0; b < bucketCount; b++) {
+                    buyLand[row + b] = strategy.shouldBuyLand(probe, bucketStart[b]);
+                    upgrade[row + b] = strategy.shouldBuyProperty(probe, bucketStart[b]);
+                }
+            }
+        }
+        return new DecisionTable(definition, version, boardSize, levels, maxBalance, bucketOfBalance, bucketCount,
+                buyLand, upgrade);
+    }
+
+    /**
+     * Checks whether the strategy the table was compiled from still decides as it did then.
+     * Only a {@link DisruptiveStrategy} can change; every other compilable strategy is always current.
+     *
+     * @param strategy the strategy the table was compiled from
+     * @return true if the table still answers as the strategy does
+     */
+    public boolean isCurrent(Strategy strategy) {
+        return version == versionOf(strategy);
+    }
+
+    /**
+     * Returns the version of a strategy's decisions, which changes whenever the strategy does.
+     *
+     * @param strategy the strategy
+     * @return the version, always 0 for a strategy that cannot change
+     */
+    private static int versionOf(Strategy strategy) {
+        return strategy instanceof DisruptiveStrategy ? ((DisruptiveStrategy) strategy).getVersion() : 0;
+    }
+
+    /**
+     * Checks whether the table holds the answers for an upgrade level and a balance.
+     *
+     * @param level   the property's upgrade level
+     * @param balance the player's balance
+     * @return true if the level and balance are within the compiled domain
+     */
+    public boolean covers(int level, int balance) {
+        return level >= 0 && level < levels && balance >= 0 && balance <= maxBalance;
+    }
+
+    /**
+     * Answers {@link Strategy#shouldBuyLand} for an unowned property from the table.
+     *
+     * @param position the property's board position
+     * @param level    the property's upgrade level
+     * @param balance  the player's balance
+     * @return the strategy's answer
+     * @throws ArrayIndexOutOfBoundsException if the inputs are not {@linkplain #covers(int, int) covered}
+     */
+    public boolean shouldBuyLand(int position, int level, int balance) {
+        return buyLand[(position * levels + level) * bucketCount + bucketOfBalance[balance]];
+    }
+
+    /**
+     * Answers {@link Strategy#shouldBuyProperty} for an unowned property from the table.
+     *
+     * @param position the property's board position
+     * @param level    the property's upgrade level
+     * @param balance  the player's balance
+     * @return the strategy's answer
+     * @throws ArrayIndexOutOfBoundsException if the inputs are not {@linkplain #covers(int, int) covered}
+     */
+    public boolean shouldBuyProperty(int position, int level, int balance) {
+        return upgrade[(position * levels + level) * bucketCount + bucketOfBalance[balance]];
+    }
+
+    /**
+     * Checks the table against a strategy for every property, upgrade level and balance it covers.
+     *
+     * @param strategy the strategy the table was compiled from
+     * @return the number of inputs at which the table and the strategy disagree, which should be 0
+     */
+    public long countMismatches(Strategy strategy) {
+        Property[] probes = probes(definition);
+        long mismatches = 0;
+        for (int position = 0; position < boardSize; position++) {
+            Property probe = probes[position];
+            if (probe == null) {
+                continue;
+            }
+            for (int level = 0; level < levels; level++) {
+                probe.setUpgradeLevel(level);
+                for (int balance = 0; balance <= maxBalance; balance++) {
+                    if (shouldBuyLand(position, level, balance) != strategy.shouldBuyLand(probe, balance)) {
+                        mismatches++;
+                    }
+                    if (shouldBuyProperty(position, level, balance) != strategy.shouldBuyProperty(probe, balance)) {
+                        mismatches++;
+                    }
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Returns the board the table was compiled for.
+     *
+     * @return the board layout
+     */
+    public BoardDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns the number of balance buckets.
+     *
+     * @return the bucket count
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Returns the highest balance the table covers.
+     *
+     * @return the maximum balance
+     */
+    public int getMaxBalance() {
+        return maxBalance;
+    }
+
+    /**
+     * Creates an unowned stand-alone property for every property position of a board, with the position's
+     * price and color, for asking the strategy about.
+     *
+     * @param definition the board layout
+     * @return the probe properties by position, null where there is no property
+     */
+    private static Property[] probes(BoardDefinition definition) {
+        Property[] probes = new Property[definition.size()];
+        for (int position = 0; position < probes.length; position++) {
+            if (definition.getType(position) == SpaceType.PROPERTY) {
+                probes[position] = new Property(definition.getName(position), definition.getPrice(position),
+                        definition.getBaseRent(position), definition.getColor(position));
+            }
+        }
+        return probes;
+    }
+}
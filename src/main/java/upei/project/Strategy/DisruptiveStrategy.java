@@ -1,21 +1,22 @@
 package upei.project.Strategy;
 
+import upei.project.Space.ColorGroups;
 import upei.project.Space.Property;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * DisruptiveStrategy
  * This strategy represents a player who aims to block other players by owning at least one property of each color.
+ * The colors the player owns can change, so every change bumps a version that tells a {@link DecisionTable}
+ * compiled from the strategy that it is out of date.
  */
 public class DisruptiveStrategy implements Strategy {
 
     /**
-     * A set that tracks the colors of properties the player already owns.
+     * A bitmask that tracks the colors of properties the player already owns, one bit per color group ID.
      * This helps the player avoid buying properties of colors they already own.
      */
-    private final Set<String> ownedColors = new HashSet<>();
+    private long ownedColors;
+    private int version; // Number of changes to the owned colors
 
     /**
      * Determines whether the player should buy the land they land on.
@@ -28,7 +29,7 @@ public class DisruptiveStrategy implements Strategy {
     @Override
     public boolean shouldBuyLand(Property property, int balance) {
         // Buy property if it's unowned, affordable, and of a color not yet owned
-        return !property.IsOwned() && balance >= property.getPrice() && !ownedColors.contains(property.getColor());
+        return !property.IsOwned() && balance >= property.getPrice() && !ownsColor(property.getColorGroup());
     }
 
     /**
@@ -53,6 +54,29 @@ public class DisruptiveStrategy implements Strategy {
      */
     public void addOwnedColor(String color) {
         // Adds a new color to the set of owned property colors
-        ownedColors.add(color);
+        int group = ColorGroups.idOf(color);
+        if (group != ColorGroups.NONE && !ownsColor(group)) {
+            ownedColors |= 1L << group;
+            version++;
+        }
+    }
+
+    /**
+     * Returns the number of times the owned colors have changed, so a compiled table can tell it is out of date.
+     *
+     * @return the version of the strategy's decisions
+     */
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks whether a color group has been added to the owned colors.
+     *
+     * @param group the color group ID
+     * @return true if the player already owns that color
+     */
+    public boolean ownsColor(int group) {
+        return group != ColorGroups.NONE && (ownedColors & (1L << group)) != 0;
     }
 }
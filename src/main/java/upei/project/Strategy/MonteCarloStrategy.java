@@ -0,0 +1,388 @@
+package upei.project.Strategy;
+
+import upei.project.ArrayGame;
+import upei.project.BoardDefinition;
+import upei.project.Event.SilentEventListener;
+import upei.project.GameEngine;
+import upei.project.GameRules;
+import upei.project.GameSnapshot;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.Space.ColorGroups;
+import upei.project.Space.Property;
+import upei.project.Space.SpaceType;
+import upei.project.UpgradeRule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * MonteCarloStrategy
+ * This strategy searches instead of following a fixed rule. At every decision it snapshots the game it is playing,
+ * and plays many fast rollouts of the rest of the game on {@link ArrayGame} copies: half of them after making the
+ * purchase or upgrade, half after declining it, with every seat played by a simple rollout policy.
+ * It picks the choice that won more rollouts, and the higher mean final balance on a tie.
+ * Each pair of rollouts shares its dice, so the comparison is not drowned in the luck of the rolls.
+ * The search stops when the rollout budget is spent or the time budget runs out, whichever comes first,
+ * and the rollouts are spread over several threads.
+ * With only a rollout budget the decisions are the same for any number of threads.
+ * The strategy must be told the game it plays in with {@link #setGame(GameEngine)}, and plays one game at a time.
+ */
+public class MonteCarloStrategy implements Strategy, AutoCloseable {
+
+    /**
+     * The rollout budget used by the default constructor, per choice and decision.
+     */
+    public static final int DEFAULT_ROLLOUTS = 256;
+
+    private final int rollouts; // Rollout pairs per decision
+    private final long timeBudgetNanos; // Time allowed per decision, or 0 for no limit
+    private final int parallelism; // Number of threads the rollouts are spread over
+    private final Supplier<Strategy> rolloutPolicy; // Makes the strategy every seat plays in the rollouts
+
+    private GameEngine game; // Game this strategy decides in
+    private BoardDefinition definition; // Layout of that game's board
+    private GameRules rules; // Rules of that game
+    private Worker[] workers; // One rollout game per thread
+    private ForkJoinPool pool; // Threads the rollouts run on, created on first use
+    private GameSnapshot decisionState; // State of the game at the current decision
+    private long decisions; // Decisions searched so far
+    private long rolloutsPlayed; // Rollouts played so far, counting both choices
+
+    /**
+     * Creates a search strategy with {@value #DEFAULT_ROLLOUTS} rollouts per choice, no time limit,
+     * a single thread, and aggressive buyers in every seat of the rollouts.
+     */
+    public MonteCarloStrategy() {
+        this(DEFAULT_ROLLOUTS, 0, 1);
+    }
+
+    /**
+     * Creates a search strategy whose rollouts are played by aggressive buyers in every seat.
+     *
+     * @param rollouts         the number of rollouts per choice at each decision
+     * @param timeBudgetMillis the time allowed per decision in milliseconds, or 0 for no limit
+     * @param parallelism      the number of threads the rollouts are spread over
+     * @throws IllegalArgumentException if the rollouts or parallelism is less than 1, or the time budget is negative
+     */
+    public MonteCarloStrategy(int rollouts, long timeBudgetMillis, int parallelism) {
+        this(rollouts, timeBudgetMillis, parallelism, AggresivveBuyerStrategy::new);
+    }
+
+    /**
+     * Creates a search strategy.
+     *
+     * @param rollouts         the number of rollouts per choice at each decision
+     * @param timeBudgetMillis the time allowed per decision in milliseconds, or 0 for no limit
+     * @param parallelism      the number of threads the rollouts are spread over
+     * @param rolloutPolicy    makes the strategy played by every seat in the rollouts; called once per seat and thread
+     * @throws IllegalArgumentException if the rollouts or parallelism is less than 1, or the time budget is negative
+     */
+    public MonteCarloStrategy(int rollouts, long timeBudgetMillis, int parallelism, Supplier<Strategy> rolloutPolicy) {
+        if (rollouts < 1) {
+            throw new IllegalArgumentException("Rollouts must be at least 1: " + rollouts);
+        }
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Time budget cannot be negative: " + timeBudgetMillis);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.rollouts = rollouts;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.parallelism = parallelism;
+        this.rolloutPolicy = rolloutPolicy;
+    }
+
+    /**
+     * Sets the game this strategy plays in. It must be called before the game starts, since the strategy
+     * reads the whole state of the game at each decision.
+     *
+     * @param game the game the player using this strategy sits in
+     */
+    public void setGame(GameEngine game) {
+        this.game = game;
+        this.definition = game.getBoard().getDefinition();
+        this.rules = game.getRules();
+        this.decisionState = game.snapshot();
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(decisionState.getSeatCount());
+        }
+    }
+
+    /**
+     * Decides whether to buy the land by comparing rollouts after buying it with rollouts after declining it.
+     * Land the player cannot afford is declined without searching.
+     *
+     * @param property the property the player landed on
+     * @param balance  the player's current balance
+     * @return true if buying won more rollouts
+     * @throws IllegalStateException if no game has been set
+     */
+    @Override
+    public boolean shouldBuyLand(Property property, int balance) {
+        if (property.IsOwned() || balance < property.getPrice()) {
+            return false;
+        }
+        requireGame();
+        game.snapshot(decisionState);
+        return search(false);
+    }
+
+    /**
+     * Decides whether to upgrade the color group of the property by comparing rollouts after upgrading with
+     * rollouts after declining. If the upgrade is not possible, it is declined without searching.
+     *
+     * @param property the property the player landed on
+     * @param balance  the player's current balance
+     * @return true if upgrading won more rollouts
+     * @throws IllegalStateException if no game has been set
+     */
+    @Override
+    public boolean shouldBuyProperty(Property property, int balance) {
+        requireGame();
+        game.snapshot(decisionState);
+        int seat = decisionState.getSeatAt(decisionState.getCurrentPlayerIndex());
+        if (upgradeCost(decisionState, seat, decisionState.getPosition(seat)) < 0) {
+            return false;
+        }
+        return search(true);
+    }
+
+    /**
+     * Returns the number of decisions the strategy has searched.
+     *
+     * @return the decisions searched
+     */
+    public long getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns the number of rollouts played so far, counting the rollouts of both choices.
+     *
+     * @return the rollouts played
+     */
+    public long getRolloutsPlayed() {
+        return rolloutsPlayed;
+    }
+
+    /**
+     * Stops the threads the rollouts run on. The strategy starts new ones if it is used again.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * Plays rollouts from the decision state for the choice of acting and of declining,
+     * and reports whether acting did better.
+     *
+     * @param upgrade true to weigh an upgrade of the color group, false to weigh buying the land
+     * @return true if acting won more rollouts, or the same number with a higher mean final balance
+     */
+    private boolean search(boolean upgrade) {
+        GameSnapshot state = decisionState;
+        long deadline = timeBudgetNanos == 0 ? Long.MAX_VALUE : System.nanoTime() + timeBudgetNanos;
+        AtomicInteger next = new AtomicInteger();
+
+        // Every thread claims rollout indexes until the budget is spent, and returns its own totals
+        long[] totals = new long[Worker.TOTALS];
+        if (parallelism == 1) {
+            workers[0].play(state, upgrade, next, deadline, totals);
+        } else {
+            if (pool == null) {
+                pool = new ForkJoinPool(parallelism);
+            }
+            List<Callable<long[]>> tasks = new ArrayList<>(parallelism);
+            for (Worker worker : workers) {
+                tasks.add(() -> {
+                    long[] own = new long[Worker.TOTALS];
+                    worker.play(state, upgrade, next, deadline, own);
+                    return own;
+                });
+            }
+            try {
+                for (Future<long[]> result : pool.invokeAll(tasks)) {
+                    long[] own = result.get();
+                    for (int i = 0; i < totals.length; i++) {
+                        totals[i] += own[i];
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while searching", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Rollout failed", e.getCause());
+            }
+        }
+
+        decisions++;
+        rolloutsPlayed += 2 * totals[Worker.PAIRS];
+        if (totals[Worker.ACT_WINS] != totals[Worker.DECLINE_WINS]) {
+            return totals[Worker.ACT_WINS] > totals[Worker.DECLINE_WINS];
+        }
+        return totals[Worker.ACT_BALANCE] > totals[Worker.DECLINE_BALANCE];
+    }
+
+    /**
+     * Checks that a game has been set.
+     *
+     * @throws IllegalStateException if no game has been set
+     */
+    private void requireGame() {
+        if (game == null) {
+            throw new IllegalStateException("MonteCarloStrategy has no game; call setGame before playing");
+        }
+    }
+
+    /**
+     * Returns what upgrading the color group of a position would cost a seat, following the game's upgrade rule:
+     * the seat must own at least three properties of the group and pay 10 for every upgrade level they have.
+     *
+     * @param state    the state of the game
+     * @param seat     the seat upgrading
+     * @param position the position whose color group is upgraded
+     * @return the cost, or -1 if the seat cannot upgrade the group
+     */
+    private int upgradeCost(GameSnapshot state, int seat, int position) {
+        int group = definition.getColorGroup(position);
+        if (definition.getType(position) != SpaceType.PROPERTY || group == ColorGroups.NONE) {
+            return -1;
+        }
+        int count = 0;
+        int levels = 0;
+        for (int i = 0; i < definition.size(); i++) {
+            if (state.getOwnerSeat(i) == seat && definition.getType(i) == SpaceType.PROPERTY
+                    && definition.getColorGroup(i) == group) {
+                count++;
+                levels += state.getUpgradeLevel(i);
+            }
+        }
+        int cost = UpgradeRule.cost(levels);
+        return count >= UpgradeRule.MIN_GROUP_SIZE && state.getBalance(seat) >= cost ? cost : -1;
+    }
+
+    /**
+     * Applies the choice to a copy of the decision state and completes the turn the way the game would:
+     * the turn is counted and the next player is to move.
+     *
+     * @param state   the state to change, a copy of the decision state
+     * @param seat    the deciding seat
+     * @param upgrade true for an upgrade of the color group, false for buying the land
+     * @param act     true to make the purchase or upgrade, false to decline it
+     */
+    private void applyChoice(GameSnapshot state, int seat, boolean upgrade, boolean act) {
+        int position = state.getPosition(seat);
+        if (act && upgrade) {
+            int cost = upgradeCost(state, seat, position);
+            int group = definition.getColorGroup(position);
+            for (int i = 0; i < definition.size(); i++) {
+                if (state.getOwnerSeat(i) == seat && definition.getType(i) == SpaceType.PROPERTY
+                        && definition.getColorGroup(i) == group) {
+                    state.setRent(i, state.getRent(i) + UpgradeRule.RENT_INCREASE);
+                }
+            }
+            state.setBalance(seat, state.getBalance(seat) - cost);
+        } else if (act) {
+            state.setOwnerSeat(position, seat);
+            state.setBalance(seat, state.getBalance(seat) - definition.getPrice(position));
+        }
+        state.setTurnsPlayed(state.getTurnsPlayed() + 1);
+        state.setCurrentPlayerIndex((state.getCurrentPlayerIndex() + 1) % state.getPlayerCount());
+    }
+
+    /**
+     * The rollout game of one thread, with its own players, dice and scratch snapshot.
+     */
+    private final class Worker {
+        static final int ACT_WINS = 0; // Rollouts won after acting
+        static final int DECLINE_WINS = 1; // Rollouts won after declining
+        static final int ACT_BALANCE = 2; // Total final balance after acting
+        static final int DECLINE_BALANCE = 3; // Total final balance after declining
+        static final int PAIRS = 4; // Rollout pairs played
+        static final int TOTALS = 5; // Number of totals
+
+        private final ArrayGame rolloutGame; // Game the rollouts are played on
+        private final Player[] seats; // Players of the rollout game in seat order
+        private final GameSnapshot branch; // Decision state with one choice applied
+
+        /**
+         * Creates a rollout game for the strategy's game.
+         *
+         * @param seatCount the number of seats in the game
+         */
+        Worker(int seatCount) {
+            List<Player> players = new ArrayList<>(seatCount);
+            for (int seat = 0; seat < seatCount; seat++) {
+                players.add(new Player("Rollout " + (seat + 1), seat + 1, rolloutPolicy.get()));
+            }
+            seats = players.toArray(new Player[0]);
+            rolloutGame = new ArrayGame(players, SilentEventListener.INSTANCE, definition, rules);
+            rolloutGame.setDice(new SeededDice(0));
+            branch = new GameSnapshot(seatCount, definition.size());
+        }
+
+        /**
+         * Plays rollout pairs until the budget is spent or the deadline passes, adding the results to the totals.
+         * Both rollouts of a pair use the same dice.
+         *
+         * @param state    the decision state
+         * @param upgrade  true to weigh an upgrade, false to weigh buying the land
+         * @param next     the index of the next rollout pair, shared by all threads
+         * @param deadline the time in {@link System#nanoTime()} units after which no rollout is started
+         * @param totals   the totals to add to
+         */
+        void play(GameSnapshot state, boolean upgrade, AtomicInteger next, long deadline, long[] totals) {
+            int seat = state.getSeatAt(state.getCurrentPlayerIndex());
+            long seed = state.getDiceState() ^ state.getTurnsPlayed();
+            int k;
+            while (System.nanoTime() < deadline && (k = next.getAndIncrement()) < rollouts) {
+                long rolloutSeed = SeededDice.trialSeed(seed, k);
+                if (playRollout(state, seat, upgrade, true, rolloutSeed)) {
+                    totals[ACT_WINS]++;
+                }
+                totals[ACT_BALANCE] += seats[seat].getBalance();
+                if (playRollout(state, seat, upgrade, false, rolloutSeed)) {
+                    totals[DECLINE_WINS]++;
+                }
+                totals[DECLINE_BALANCE] += seats[seat].getBalance();
+                totals[PAIRS]++;
+            }
+        }
+
+        /**
+         * Plays the rest of the game once after one choice. The seat's final balance is left in its player.
+         *
+         * @param state   the decision state
+         * @param seat    the deciding seat
+         * @param upgrade true for an upgrade, false for buying the land
+         * @param act     true to make the purchase or upgrade, false to decline it
+         * @param seed    the seed of the rollout's dice
+         * @return true if the seat won the rollout
+         */
+        private boolean playRollout(GameSnapshot state, int seat, boolean upgrade, boolean act, long seed) {
+            branch.copyFrom(state);
+            applyChoice(branch, seat, upgrade, act);
+            branch.setDiceState(seed);
+            rolloutGame.restore(branch);
+            if (branch.getTurnsPlayed() < rules.getMaxTurns()) {
+                rolloutGame.startGame();
+            } else {
+                rolloutGame.determineWinner(); // The choice was made on the last turn
+            }
+            return rolloutGame.getWinner() == seats[seat];
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package upei.project.Strategy;
+
+import upei.project.Space.ColorGroups;
+import upei.project.Space.Property;
+import upei.project.UpgradeRule;
+
+import java.util.Map;
+
+/**
+ * ParameterizedStrategy
+ * This strategy is described entirely by numbers instead of a hand-written rule, so it can be searched for
+ * automatically. Each color has a preference between -1 and 1: a color with a negative preference is never bought
+ * or upgraded, and for the others the balance kept in reserve after buying land shrinks as the preference grows,
+ * from the full land reserve at 0 to nothing at 1. Upgrades are made when the balance after paying for the
+ * next upgrade level stays at or above the upgrade reserve.
+ * The built-in strategies are special cases: an aggressive buyer has no reserves and likes every color,
+ * a cautious saver has reserves of 200 and is neutral about colors, and a collector dislikes all colors but one.
+ * The strategy cannot be changed once it is created, since {@link upei.project.ArrayGame} compiles it into
+ * a {@link DecisionTable} that is kept for as long as the strategy is in use.
+ */
+public class ParameterizedStrategy implements Strategy {
+    private final int landReserve; // Balance kept after buying land of a neutral color
+    private final int upgradeReserve; // Balance kept after paying for an upgrade
+    private final double[] colorPreferences; // Preference for each color group ID, 0 unless given
+
+    /**
+     * Creates a strategy with the given reserves that is neutral about every color.
+     *
+     * @param landReserve    the balance to keep after buying land of a neutral color
+     * @param upgradeReserve the balance to keep after paying for an upgrade
+     */
+    public ParameterizedStrategy(int landReserve, int upgradeReserve) {
+        this(landReserve, upgradeReserve, Map.of());
+    }
+
+    /**
+     * Creates a strategy with the given reserves and preferences for some colors; it is neutral about the rest.
+     *
+     * @param landReserve      the balance to keep after buying land of a neutral color
+     * @param upgradeReserve   the balance to keep after paying for an upgrade
+     * @param colorPreferences the preference for each color, from -1 (never buy) through 0 (keep the full reserve)
+     *                         to 1 (keep none)
+     * @throws IllegalArgumentException if a color is null or a preference is outside [-1, 1]
+     */
+    public ParameterizedStrategy(int landReserve, int upgradeReserve, Map<String, Double> colorPreferences) {
+        this.landReserve = landReserve;
+        this.upgradeReserve = upgradeReserve;
+        this.colorPreferences = new double[ColorGroups.MAX_GROUPS];
+        for (Map.Entry<String, Double> entry : colorPreferences.entrySet()) {
+            String color = entry.getKey();
+            double preference = entry.getValue();
+            if (color == null) {
+                throw new IllegalArgumentException("Color cannot be null");
+            }
+            if (!(preference >= -1 && preference <= 1)) {
+                throw new IllegalArgumentException("Preference must be between -1 and 1: " + preference);
+            }
+            this.colorPreferences[ColorGroups.idOf(color)] = preference;
+        }
+    }
+
+    /**
+     * Returns how much the player likes a color.
+     *
+     * @param color the color of the properties
+     * @return the preference, 0 if it was never set
+     */
+    public double getColorPreference(String color) {
+        int group = ColorGroups.idOf(color);
+        return group == ColorGroups.NONE ? 0 : colorPreferences[group];
+    }
+
+    /**
+     * Determines whether the player should buy the land they land on.
+     * The player buys unowned land of a color they do not dislike if the balance left afterwards covers the
+     * reserve for that color.
+     *
+     * @param property the property the player landed on
+     * @param balance  the player's current balance
+     * @return true if the property should be bought, false otherwise
+     */
+    @Override
+    public boolean shouldBuyLand(Property property, int balance) {
+        double preference = preferenceOf(property);
+        if (property.IsOwned() || preference < 0) {
+            return false;
+        }
+        int reserve = (int) Math.round(landReserve * (1 - preference));
+        return balance - property.getPrice() >= reserve;
+    }
+
+    /**
+     * Determines whether the player should upgrade the color group of a property.
+     * The player upgrades colors they do not dislike if the balance left after paying for the next level
+     * covers the upgrade reserve.
+     *
+     * @param property the property whose color group would be upgraded
+     * @param balance  the player's current balance
+     * @return true if the group should be upgraded, false otherwise
+     */
+    @Override
+    public boolean shouldBuyProperty(Property property, int balance) {
+        if (preferenceOf(property) < 0) {
+            return false;
+        }
+        int upgradeCost = UpgradeRule.cost(property.getUpgradeLevel() + 1);
+        return balance - upgradeCost >= upgradeReserve;
+    }
+
+    /**
+     * Returns the balance kept after buying land of a neutral color.
+     *
+     * @return the land reserve
+     */
+    public int getLandReserve() {
+        return landReserve;
+    }
+
+    /**
+     * Returns the balance kept after paying for an upgrade.
+     *
+     * @return the upgrade reserve
+     */
+    public int getUpgradeReserve() {
+        return upgradeReserve;
+    }
+
+    /**
+     * Looks up the preference for a property's color.
+     *
+     * @param property the property
+     * @return the preference, 0 for a property without a color
+     */
+    private double preferenceOf(Property property) {
+        int group = property.getColorGroup();
+        return group == ColorGroups.NONE ? 0 : colorPreferences[group];
+    }
+}
@@ -0,0 +1,206 @@
+package upei.project.Sweep;
+
+import upei.project.EngineType;
+import upei.project.Event.SilentEventListener;
+import upei.project.GameRules;
+import upei.project.Player;
+import upei.project.SimulationExperiment;
+import upei.project.Stats.PlayerStats;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sweeps the knobs of the four built-in strategies and the game rules over a grid of values.
+ * Every combination of the given safety thresholds, collector colors, starting balances, winning balances
+ * and turn limits is a point of the grid, and every point is played as its own experiment with the players
+ * of {@link upei.project.Main}. The points are independent tasks on a fork-join pool, so a large grid keeps
+ * every thread busy. Every point rolls the same dice from the same master seed, so differences between
+ * points come from the knobs rather than from luck.
+ */
+public class ParameterSweep {
+    private final int trialsPerPoint; // Games played at every point
+    private final int parallelism; // Number of threads the points are spread over
+    private int[] safetyThresholds; // Cautious saver thresholds to try
+    private String[] collectorColors; // Collector target colors to try
+    private int[] startingBalances; // Starting balances to try
+    private int[] winningBalances; // Winning balances to try
+    private int[] maxTurns; // Turn limits to try
+    private EngineType engine; // Engine used to play every game
+    private long seed; // Master seed shared by every point
+
+    /**
+     * Creates a sweep whose knobs all hold their standard value until ranges are set.
+     *
+     * @param trialsPerPoint the number of games to play at every point
+     * @param parallelism    the number of threads to spread the points over
+     * @throws IllegalArgumentException if either count is less than 1
+     */
+    public ParameterSweep(int trialsPerPoint, int parallelism) {
+        if (trialsPerPoint < 1) {
+            throw new IllegalArgumentException("Trials per point must be at least 1: " + trialsPerPoint);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.trialsPerPoint = trialsPerPoint;
+        this.parallelism = parallelism;
+        this.safetyThresholds = new int[] {CautiousSaverStrategy.SAFETY_THRESHOLD};
+        this.collectorColors = new String[] {"green"};
+        this.startingBalances = new int[] {GameRules.STANDARD.getStartingBalance()};
+        this.winningBalances = new int[] {GameRules.STANDARD.getWinningBalance()};
+        this.maxTurns = new int[] {GameRules.STANDARD.getMaxTurns()};
+        this.engine = EngineType.ARRAY;
+        this.seed = ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Sets the cautious saver safety thresholds to try.
+     *
+     * @param values the thresholds
+     */
+    public void setSafetyThresholds(int... values) {
+        this.safetyThresholds = values.clone();
+    }
+
+    /**
+     * Sets the collector target colors to try.
+     *
+     * @param values the colors
+     */
+    public void setCollectorColors(String... values) {
+        this.collectorColors = values.clone();
+    }
+
+    /**
+     * Sets the starting balances to try.
+     *
+     * @param values the starting balances
+     */
+    public void setStartingBalances(int... values) {
+        this.startingBalances = values.clone();
+    }
+
+    /**
+     * Sets the winning balances to try.
+     *
+     * @param values the winning balances
+     */
+    public void setWinningBalances(int... values) {
+        this.winningBalances = values.clone();
+    }
+
+    /**
+     * Sets the turn limits to try.
+     *
+     * @param values the maximum numbers of turns
+     */
+    public void setMaxTurns(int... values) {
+        this.maxTurns = values.clone();
+    }
+
+    /**
+     * Sets the master seed shared by every point.
+     *
+     * @param seed the master seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the engine the games are played with; the array engine is used unless another is set.
+     *
+     * @param engine the game engine to use
+     */
+    public void setEngine(EngineType engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Expands the grid into its points, the last knob varying fastest.
+     * Combinations whose winning balance is not above the starting balance are left out.
+     *
+     * @return the points of the grid
+     */
+    public List<SweepPoint> getPoints() {
+        List<SweepPoint> points = new ArrayList<>();
+        for (int threshold : safetyThresholds) {
+            for (String color : collectorColors) {
+                for (int start : startingBalances) {
+                    for (int win : winningBalances) {
+                        if (win <= start) {
+                            continue; // The game would be won before the first roll
+                        }
+                        for (int turns : maxTurns) {
+                            points.add(new SweepPoint(threshold, color, new GameRules(start, win, turns)));
+                        }
+                    }
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Plays every point of the grid and collects the results into a single table.
+     *
+     * @return the results, one row per point
+     */
+    public SweepResult run() {
+        List<SweepPoint> points = getPoints();
+        List<ForkJoinTask<SimulationExperiment>> tasks = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (SweepPoint point : points) {
+                tasks.add(pool.submit(() -> playPoint(point)));
+            }
+
+            PlayerStats[][] stats = new PlayerStats[points.size()][];
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                SimulationExperiment experiment = tasks.get(i).join();
+                int playerCount = experiment.getPlayers().size();
+                stats[i] = new PlayerStats[playerCount];
+                for (int j = 0; j < playerCount; j++) {
+                    stats[i][j] = experiment.getPlayerStats(j);
+                    if (i == 0) {
+                        names.add(experiment.getPlayers().get(j).getName());
+                    }
+                }
+            }
+            return new SweepResult(points, names, stats);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays the games of one point on the calling thread.
+     *
+     * @param point the knob values to play with
+     * @return the finished experiment
+     */
+    private SimulationExperiment playPoint(SweepPoint point) {
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(new Player("Aggressive", 1, new AggresivveBuyerStrategy()));
+        players.add(new Player("Cautious", 2, new CautiousSaverStrategy(point.getSafetyThreshold())));
+        players.add(new Player("Collector", 3, new CollectorStrategy(point.getCollectorColor())));
+        players.add(new Player("Disruptive", 4, new DisruptiveStrategy()));
+
+        SimulationExperiment experiment = new SimulationExperiment(players, trialsPerPoint);
+        experiment.setSeed(seed);
+        experiment.setEngine(engine);
+        experiment.setRules(point.getRules());
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.runTrials();
+        return experiment;
+    }
+}
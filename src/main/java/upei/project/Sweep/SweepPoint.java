@@ -0,0 +1,63 @@
+package upei.project.Sweep;
+
+import upei.project.GameRules;
+
+/**
+ * One combination of knob values in a parameter sweep: the cautious saver's safety threshold,
+ * the collector's target color and the game rules.
+ */
+public final class SweepPoint {
+    private final int safetyThreshold; // Balance the cautious saver keeps in reserve
+    private final String collectorColor; // Color the collector aims for
+    private final GameRules rules; // Starting balance, winning balance and maximum number of turns
+
+    /**
+     * Creates a sweep point.
+     *
+     * @param safetyThreshold the balance the cautious saver keeps in reserve
+     * @param collectorColor  the color the collector aims for
+     * @param rules           the rules the games are played by
+     */
+    public SweepPoint(int safetyThreshold, String collectorColor, GameRules rules) {
+        this.safetyThreshold = safetyThreshold;
+        this.collectorColor = collectorColor;
+        this.rules = rules;
+    }
+
+    /**
+     * Returns the balance the cautious saver keeps in reserve.
+     *
+     * @return the safety threshold
+     */
+    public int getSafetyThreshold() {
+        return safetyThreshold;
+    }
+
+    /**
+     * Returns the color the collector aims for.
+     *
+     * @return the target color
+     */
+    public String getCollectorColor() {
+        return collectorColor;
+    }
+
+    /**
+     * Returns the rules the games are played by.
+     *
+     * @return the rules
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the knob values as "threshold 200, green, start 750, win 1500, 100 turns".
+     *
+     * @return a readable form of the point
+     */
+    @Override
+    public String toString() {
+        return "threshold " + safetyThreshold + ", " + collectorColor + ", " + rules;
+    }
+}
@@ -0,0 +1,73 @@
+package upei.project.Sweep;
+
+import upei.project.Stats.ConfidenceInterval;
+import upei.project.Stats.PlayerStats;
+
+import java.util.List;
+
+/**
+ * The results of a parameter sweep: for every point of the grid, the statistics of each player.
+ */
+public class SweepResult {
+    private final List<SweepPoint> points; // Points of the grid, in the order they were expanded
+    private final List<String> playerNames; // Names of the players, in seat order
+    private final PlayerStats[][] stats; // Statistics by point and player
+
+    /**
+     * Creates the results of a sweep.
+     *
+     * @param points      the points of the grid
+     * @param playerNames the names of the players, in seat order
+     * @param stats       the statistics of each player at each point
+     */
+    SweepResult(List<SweepPoint> points, List<String> playerNames, PlayerStats[][] stats) {
+        this.points = points;
+        this.playerNames = playerNames;
+        this.stats = stats;
+    }
+
+    /**
+     * Returns the points of the grid, in the order of the rows of the table.
+     *
+     * @return the sweep points
+     */
+    public List<SweepPoint> getPoints() {
+        return points;
+    }
+
+    /**
+     * Returns the statistics of a player at a point.
+     *
+     * @param point  the index of the point
+     * @param player the seat of the player
+     * @return the player's statistics at that point
+     */
+    public PlayerStats getStats(int point, int player) {
+        return stats[point][player];
+    }
+
+    /**
+     * Prints the results as a single table with one row per point: the knob values, then each player's
+     * win rate and its 95% confidence interval.
+     */
+    public void printTable() {
+        StringBuilder header = new StringBuilder(String.format("%9s %-8s %6s %6s %6s", "threshold", "color",
+                "start", "win", "turns"));
+        for (String name : playerNames) {
+            header.append(String.format(" | %-22s", name));
+        }
+        System.out.println(header);
+        for (int i = 0; i < points.size(); i++) {
+            SweepPoint point = points.get(i);
+            StringBuilder row = new StringBuilder(String.format("%9d %-8s %6d %6d %6d", point.getSafetyThreshold(),
+                    point.getCollectorColor(), point.getRules().getStartingBalance(),
+                    point.getRules().getWinningBalance(), point.getRules().getMaxTurns()));
+            for (PlayerStats player : stats[i]) {
+                ConfidenceInterval interval = player.getWinRateInterval(ConfidenceInterval.Z_95);
+                row.append(String.format(" | %5.1f%% [%5.1f%%-%5.1f%%]", 100 * player.getWinRate(),
+                        100 * interval.getLower(), 100 * interval.getUpper()));
+            }
+            System.out.println(row);
+        }
+    }
+}
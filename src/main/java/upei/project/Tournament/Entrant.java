@@ -0,0 +1,42 @@
+package upei.project.Tournament;
+
+import upei.project.Strategy.Strategy;
+
+/**
+ * A named strategy configuration taking part in a tournament, such as "Collector (green)".
+ * The same strategy object is given to every player that plays the entrant, so it must not keep
+ * per-game state; the built-in strategies do not.
+ */
+public final class Entrant {
+    private final String name; // Name shown in the results
+    private final Strategy strategy; // Strategy played by the entrant
+
+    /**
+     * Creates an entrant.
+     *
+     * @param name     the name shown in the results
+     * @param strategy the strategy the entrant plays
+     */
+    public Entrant(String name, Strategy strategy) {
+        this.name = name;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Returns the entrant's name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the strategy the entrant plays.
+     *
+     * @return the strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+}
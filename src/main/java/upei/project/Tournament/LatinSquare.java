@@ -0,0 +1,50 @@
+package upei.project.Tournament;
+
+/**
+ * Builds the seat orders used to rotate a table of players. Row r of a square lists, for each seat,
+ * which of the table's players sits there in the r-th seating.
+ */
+public final class LatinSquare {
+
+    /**
+     * The class only has static methods.
+     */
+    private LatinSquare() {
+    }
+
+    /**
+     * Returns a Williams design for n players: a Latin square, so every player sits in every seat equally often,
+     * in which every player also directly follows every other player equally often. This balances both the
+     * first-mover advantage and the effect of whoever moves just before a player.
+     * For an even n the design has n rows; for an odd n it needs 2n rows, the second half mirroring the first.
+     *
+     * @param n the number of players at the table
+     * @return the seatings, each a permutation of 0..n-1
+     * @throws IllegalArgumentException if n is less than 1
+     */
+    public static int[][] williams(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("A table needs at least one player: " + n);
+        }
+
+        // First row: 0, 1, n-1, 2, n-2, 3, ...
+        int[] first = new int[n];
+        int low = 1;
+        int high = n - 1;
+        for (int i = 1; i < n; i++) {
+            first[i] = i % 2 == 1 ? low++ : high--;
+        }
+
+        int rows = n % 2 == 0 ? n : 2 * n;
+        int[][] square = new int[rows][n];
+        for (int r = 0; r < n; r++) {
+            for (int seat = 0; seat < n; seat++) {
+                square[r][seat] = (first[seat] + r) % n;
+                if (rows > n) {
+                    square[n + r][n - 1 - seat] = square[r][seat]; // The mirrored row
+                }
+            }
+        }
+        return square;
+    }
+}
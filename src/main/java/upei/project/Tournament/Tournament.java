@@ -0,0 +1,279 @@
+package upei.project.Tournament;
+
+import upei.project.EngineType;
+import upei.project.Event.SilentEventListener;
+import upei.project.GameEngine;
+import upei.project.GameRules;
+import upei.project.Player;
+import upei.project.SeededDice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Round-robin tournament between a pool of strategy configurations.
+ * Every combination of entrants that fills a table meets, and each such matchup is played in every seat order
+ * of a Williams design (see {@link LatinSquare#williams(int)}), so every entrant moves first, second, and so on
+ * equally often and first-mover advantage cancels out of the standings instead of favouring whoever was listed first.
+ * All the seatings of one matchup roll the same dice, which keeps luck from favouring one seat order over another.
+ * <p>
+ * The tables are spread over a work-stealing fork-join pool. Every game is seeded from the tournament's master
+ * seed and its position in the schedule, and partial results are merged in a fixed order, so the same seed gives
+ * the same results on any number of threads.
+ */
+public class Tournament {
+    /**
+     * The most games a single task plays before its range of tables is split in two.
+     */
+    private static final int GAMES_PER_TASK = 256;
+
+    private final List<Entrant> entrants; // Pool of strategy configurations
+    private final int tableSize; // Players in each game
+    private final int gamesPerSeating; // Games played in every seat order of every matchup
+    private final int parallelism; // Number of threads used to play the tables
+    private final List<int[]> matchups; // Entrants meeting at each table, by index
+    private final int[][] seatings; // Seat orders every matchup is played in
+    private EngineType engine; // Engine used to play every game
+    private GameRules rules; // Starting balance, winning balance and maximum number of turns of every game
+    private long seed; // Master seed from which every game's dice are seeded
+
+    /**
+     * Creates a tournament.
+     *
+     * @param entrants        the pool of strategy configurations
+     * @param tableSize       the number of players in each game
+     * @param gamesPerSeating the number of games played in every seat order of every matchup
+     * @param parallelism     the number of threads used to play the games (1 plays them on the calling thread)
+     * @throws IllegalArgumentException if the table size is less than 2 or more than the number of entrants,
+     *                                  the games per seating or parallelism is less than 1, or the schedule is too large
+     */
+    public Tournament(List<Entrant> entrants, int tableSize, int gamesPerSeating, int parallelism) {
+        if (tableSize < 2 || tableSize > entrants.size()) {
+            throw new IllegalArgumentException("Table size must be between 2 and " + entrants.size() + ": " + tableSize);
+        }
+        if (gamesPerSeating < 1) {
+            throw new IllegalArgumentException("Games per seating must be at least 1: " + gamesPerSeating);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.entrants = new ArrayList<>(entrants);
+        this.tableSize = tableSize;
+        this.gamesPerSeating = gamesPerSeating;
+        this.parallelism = parallelism;
+        this.matchups = combinations(entrants.size(), tableSize);
+        this.seatings = LatinSquare.williams(tableSize);
+        this.engine = EngineType.ARRAY;
+        this.rules = GameRules.STANDARD;
+        this.seed = ThreadLocalRandom.current().nextLong();
+        if ((long) matchups.size() * seatings.length * gamesPerSeating > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tournament schedule is too large: " + matchups.size() + " matchups");
+        }
+    }
+
+    /**
+     * Plays every game of the tournament.
+     *
+     * @return the results of the tournament
+     */
+    public TournamentResult run() {
+        int tables = matchups.size() * seatings.length;
+        if (parallelism == 1) {
+            return new TableTask(0, tables).compute();
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new TableTask(0, tables));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of games the tournament plays.
+     *
+     * @return the number of games
+     */
+    public long getGameCount() {
+        return (long) matchups.size() * seatings.length * gamesPerSeating;
+    }
+
+    /**
+     * Returns the number of distinct matchups, that is, the number of ways to fill a table from the pool.
+     *
+     * @return the number of matchups
+     */
+    public int getMatchupCount() {
+        return matchups.size();
+    }
+
+    /**
+     * Returns the number of seat orders every matchup is played in.
+     *
+     * @return the number of seatings per matchup
+     */
+    public int getSeatingCount() {
+        return seatings.length;
+    }
+
+    /**
+     * Returns the master seed from which the dice of every game are seeded.
+     *
+     * @return the master seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the master seed from which the dice of every game are seeded.
+     *
+     * @param seed the new master seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the engine the games are played with; the array engine is used unless another is set.
+     *
+     * @param engine the game engine to use
+     */
+    public void setEngine(EngineType engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Sets the rules every game is played by; the standard rules are used unless others are set.
+     *
+     * @param rules the rules to play by
+     */
+    public void setRules(GameRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Plays the games of the tables in the range [from, to) on the calling thread.
+     * Table t plays matchup t / seatings in seat order t % seatings.
+     *
+     * @param from the index of the first table
+     * @param to   the index after the last table
+     * @return the results of those games
+     */
+    private TournamentResult playTables(int from, int to) {
+        TournamentResult result = new TournamentResult(entrants, tableSize);
+        SeededDice dice = new SeededDice();
+        int[] entrantAt = new int[tableSize]; // Entrant in each seat of the current table
+        for (int table = from; table < to; table++) {
+            int matchup = table / seatings.length;
+            int[] seating = seatings[table % seatings.length];
+
+            // Player IDs follow the seats, so the winner's ID tells which seat won
+            List<Player> seated = new ArrayList<>();
+            for (int seat = 0; seat < tableSize; seat++) {
+                entrantAt[seat] = matchups.get(matchup)[seating[seat]];
+                Entrant entrant = entrants.get(entrantAt[seat]);
+                seated.add(new Player(entrant.getName(), seat + 1, entrant.getStrategy()));
+            }
+            GameEngine game = engine.create(new ArrayList<>(seated), SilentEventListener.INSTANCE, rules);
+            game.setDice(dice);
+
+            for (int i = 0; i < gamesPerSeating; i++) {
+                game.reset();
+                // Every seating of a matchup replays the same dice
+                dice.reseed(SeededDice.trialSeed(seed, (long) matchup * gamesPerSeating + i));
+                game.startGame();
+
+                Player winner = game.getWinner();
+                result.countGame();
+                for (int seat = 0; seat < tableSize; seat++) {
+                    Player player = seated.get(seat);
+                    result.record(entrantAt[seat], seat, player == winner, player.getBalance(), player.getNumberOwned());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Lists every way to choose k of n entrants, each as increasing indices, in lexicographic order.
+     *
+     * @param n the number of entrants
+     * @param k the number to choose
+     * @return the combinations
+     */
+    private static List<int[]> combinations(int n, int k) {
+        List<int[]> combinations = new ArrayList<>();
+        int[] current = new int[k];
+        for (int i = 0; i < k; i++) {
+            current[i] = i;
+        }
+        while (true) {
+            combinations.add(current.clone());
+
+            // Advance the rightmost index that can still move, then reset the ones after it
+            int i = k - 1;
+            while (i >= 0 && current[i] == n - k + i) {
+                i--;
+            }
+            if (i < 0) {
+                return combinations;
+            }
+            current[i]++;
+            for (int j = i + 1; j < k; j++) {
+                current[j] = current[j - 1] + 1;
+            }
+        }
+    }
+
+    /**
+     * Fork-join task that plays a range of tables, splitting it in half until each piece plays
+     * at most {@value #GAMES_PER_TASK} games or a single table.
+     */
+    private final class TableTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from; // Index of the first table in the range
+        private final int to; // Index after the last table in the range
+
+        /**
+         * Creates a task for the tables in the range [from, to).
+         *
+         * @param from the index of the first table
+         * @param to   the index after the last table
+         */
+        TableTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the range directly or splits it into two subtasks and merges their results left to right.
+         * Outside a pool, as when the tournament runs on one thread, the halves are played one after the other.
+         *
+         * @return the merged results of the tables in the range
+         */
+        @Override
+        protected TournamentResult compute() {
+            if (to - from == 1 || (long) (to - from) * gamesPerSeating <= GAMES_PER_TASK) {
+                return playTables(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            TableTask left = new TableTask(from, mid);
+            TableTask right = new TableTask(mid, to);
+            if (inForkJoinPool()) {
+                left.fork();
+                TournamentResult rightResult = right.compute();
+                TournamentResult result = left.join();
+                result.merge(rightResult);
+                return result;
+            }
+            TournamentResult result = left.compute();
+            result.merge(right.compute());
+            return result;
+        }
+    }
+}
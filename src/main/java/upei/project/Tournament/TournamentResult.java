@@ -0,0 +1,164 @@
+package upei.project.Tournament;
+
+import upei.project.Stats.ConfidenceInterval;
+import upei.project.Stats.PlayerStats;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Results of a tournament: for every entrant its wins, balances and properties owned across all its games,
+ * and its wins in each seat; for every seat the wins of whoever sat there. Partial results of ranges of tables
+ * are combined with {@link #merge(TournamentResult)}.
+ */
+public class TournamentResult {
+    private final List<Entrant> entrants; // Entrants, in the order given to the tournament
+    private final int tableSize; // Seats at each table
+    private final PlayerStats[] stats; // Statistics of each entrant over all its games
+    private final long[][] seatWins; // Wins of each entrant in each seat
+    private final long[][] seatGames; // Games of each entrant in each seat
+    private long games; // Games played
+
+    /**
+     * Creates empty results for the given entrants and table size.
+     *
+     * @param entrants  the entrants of the tournament
+     * @param tableSize the number of seats at each table
+     */
+    TournamentResult(List<Entrant> entrants, int tableSize) {
+        this.entrants = entrants;
+        this.tableSize = tableSize;
+        this.stats = new PlayerStats[entrants.size()];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new PlayerStats();
+        }
+        this.seatWins = new long[entrants.size()][tableSize];
+        this.seatGames = new long[entrants.size()][tableSize];
+    }
+
+    /**
+     * Counts a finished game.
+     */
+    void countGame() {
+        games++;
+    }
+
+    /**
+     * Records one entrant's result at the end of a game.
+     *
+     * @param entrant the index of the entrant
+     * @param seat    the seat the entrant played from
+     * @param won     whether the entrant won the game
+     * @param balance the entrant's final balance
+     * @param owned   the number of properties the entrant owned at the end
+     */
+    void record(int entrant, int seat, boolean won, int balance, int owned) {
+        stats[entrant].record(won, balance, owned);
+        seatGames[entrant][seat]++;
+        if (won) {
+            seatWins[entrant][seat]++;
+        }
+    }
+
+    /**
+     * Adds the results of another range of tables into these.
+     *
+     * @param other the results to merge into these
+     */
+    void merge(TournamentResult other) {
+        for (int i = 0; i < stats.length; i++) {
+            stats[i].merge(other.stats[i]);
+            for (int seat = 0; seat < tableSize; seat++) {
+                seatWins[i][seat] += other.seatWins[i][seat];
+                seatGames[i][seat] += other.seatGames[i][seat];
+            }
+        }
+        games += other.games;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the statistics of an entrant over all its games.
+     *
+     * @param entrant the index of the entrant
+     * @return the entrant's statistics
+     */
+    public PlayerStats getStats(int entrant) {
+        return stats[entrant];
+    }
+
+    /**
+     * Returns the number of games an entrant won from a seat.
+     *
+     * @param entrant the index of the entrant
+     * @param seat    the seat, 0 moving first
+     * @return the entrant's wins from that seat
+     */
+    public long getSeatWins(int entrant, int seat) {
+        return seatWins[entrant][seat];
+    }
+
+    /**
+     * Returns the number of games an entrant played from a seat.
+     *
+     * @param entrant the index of the entrant
+     * @param seat    the seat, 0 moving first
+     * @return the entrant's games from that seat
+     */
+    public long getSeatGames(int entrant, int seat) {
+        return seatGames[entrant][seat];
+    }
+
+    /**
+     * Returns the fraction of all games won from a seat, whoever sat there.
+     * With no seat advantage every seat wins about 1 / table size of the decided games.
+     *
+     * @param seat the seat, 0 moving first
+     * @return the seat's win rate
+     */
+    public double getSeatWinRate(int seat) {
+        long wins = 0;
+        for (long[] entrantWins : seatWins) {
+            wins += entrantWins[seat];
+        }
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Displays the standings, best win rate first, with each entrant's 95% confidence interval and
+     * win rate from every seat, followed by the win rate of each seat.
+     */
+    public void displayResults() {
+        Integer[] order = new Integer[stats.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(stats[b].getWinRate(), stats[a].getWinRate()));
+
+        System.out.println("Tournament Results (" + games + " games):");
+        for (int i : order) {
+            ConfidenceInterval interval = stats[i].getWinRateInterval(ConfidenceInterval.Z_95);
+            StringBuilder line = new StringBuilder();
+            line.append(String.format("%-24s %6.2f%% [%.2f%%-%.2f%%] by seat:", entrants.get(i).getName(),
+                    100 * stats[i].getWinRate(), 100 * interval.getLower(), 100 * interval.getUpper()));
+            for (int seat = 0; seat < tableSize; seat++) {
+                double rate = seatGames[i][seat] == 0 ? 0 : (double) seatWins[i][seat] / seatGames[i][seat];
+                line.append(String.format(" %6.2f%%", 100 * rate));
+            }
+            System.out.println(line);
+        }
+        StringBuilder seats = new StringBuilder("Win rate by seat:");
+        for (int seat = 0; seat < tableSize; seat++) {
+            seats.append(String.format(" %6.2f%%", 100 * getSeatWinRate(seat)));
+        }
+        System.out.println(seats);
+    }
+}
@@ -0,0 +1,42 @@
+package upei.project;
+
+/**
+ * The rule for upgrading a color group, shared by every engine and by the strategies that look ahead.
+ * A player who owns at least {@value #MIN_GROUP_SIZE} properties of one color can upgrade the whole group
+ * by paying {@value #COST_PER_LEVEL} for every level already on the group's properties; each property's rent
+ * then rises by {@value #RENT_INCREASE}. An upgrade does not change the properties' upgrade levels, and no engine
+ * raises them, so in a game every level stays 0 and an upgrade costs nothing.
+ */
+public final class UpgradeRule {
+
+    /**
+     * The number of properties of one color a player must own to upgrade them.
+     */
+    public static final int MIN_GROUP_SIZE = 3;
+
+    /**
+     * The rent added to each property of an upgraded group.
+     */
+    public static final int RENT_INCREASE = 30;
+
+    /**
+     * The cost of an upgrade for each level already on the group's properties.
+     */
+    public static final int COST_PER_LEVEL = 10;
+
+    /**
+     * Not to be instantiated.
+     */
+    private UpgradeRule() {
+    }
+
+    /**
+     * Returns the cost of upgrading a group.
+     *
+     * @param levels the sum of the upgrade levels of the group's properties
+     * @return the cost of the upgrade
+     */
+    public static int cost(int levels) {
+        return COST_PER_LEVEL * levels;
+    }
+}
@@ -0,0 +1,117 @@
+package upei.project.Analysis;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.BoardDefinition;
+import upei.project.Event.GameEventListener;
+import upei.project.Game;
+import upei.project.GameRules;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.Space.Space;
+import upei.project.TestPlayers;
+
+/**
+ * Unit tests for the MarkovBoardAnalyzer class, checking the exact landing probabilities against
+ * the landings counted in long games played by the game itself.
+ */
+public class MarkovBoardAnalyzerTest {
+
+    /**
+     * Tests that the landing and occupancy probabilities each add up to one.
+     */
+    @Test
+    public void testProbabilitiesSumToOne() {
+        BoardAnalysis analysis = new MarkovBoardAnalyzer(BoardDefinition.STANDARD).analyze();
+
+        double landing = 0;
+        double occupancy = 0;
+        for (int i = 0; i < BoardDefinition.STANDARD.size(); i++) {
+            landing += analysis.getLandingProbability(i);
+            occupancy += analysis.getOccupancy(i);
+        }
+        // A turn in Jail has no roll, so landing covers only the free turns
+        assertEquals(1.0, landing + analysis.getJailProbability(), 1e-9);
+        assertEquals(1.0, occupancy, 1e-9);
+    }
+
+    /**
+     * Tests that the exact probabilities match the landing frequencies of real, seeded games. The players start
+     * rich enough that nobody is eliminated, so each game runs long enough that where they started no longer matters.
+     */
+    @Test
+    public void testMatchesPlayedGames() {
+        BoardDefinition board = BoardDefinition.STANDARD;
+        BoardAnalysis analysis = new MarkovBoardAnalyzer(board).analyze();
+        GameRules rules = new GameRules(1_000_000, Integer.MAX_VALUE, 2000);
+
+        LandingCounter counter = new LandingCounter(board.size());
+        for (long seed = 0; seed < 100; seed++) {
+            Game game = new Game(TestPlayers.newPlayers(), counter, board, rules);
+            game.setDice(new SeededDice(seed));
+            game.resetPlayerStates(); // Start from the rules' balance
+            game.startGame();
+        }
+
+        for (int i = 0; i < board.size(); i++) {
+            assertEquals(analysis.getLandingProbability(i), (double) counter.landings[i] / counter.turns, 0.003);
+        }
+        assertEquals(analysis.getJailProbability(), (double) counter.jailTurns / counter.turns, 0.003);
+    }
+
+    /**
+     * Tests that only properties have an expected rent and a return on their price.
+     */
+    @Test
+    public void testRentRoi() {
+        BoardAnalysis analysis = new MarkovBoardAnalyzer(BoardDefinition.STANDARD).analyze();
+
+        assertEquals(0.0, analysis.getExpectedRent(4)); // Water Works
+        assertEquals(0.0, analysis.getRentRoi(0)); // Go
+        double boardwalk = analysis.getLandingProbability(13) * 200;
+        assertEquals(boardwalk, analysis.getExpectedRent(13), 1e-12);
+        assertEquals(boardwalk / 400, analysis.getRentRoi(13), 1e-12);
+    }
+
+    /**
+     * Counts the turns of a game and the spaces the players land on, as the game reports them.
+     */
+    private static final class LandingCounter implements GameEventListener {
+        private final int[] landings; // Rolls that ended on each space
+        private long turns; // Turns started, including those spent in Jail
+        private long jailTurns; // Turns spent in Jail
+
+        /**
+         * Creates a counter for a board.
+         *
+         * @param size the number of spaces on the board
+         */
+        LandingCounter(int size) {
+            this.landings = new int[size];
+        }
+
+        /**
+         * Counts the turn.
+         */
+        @Override
+        public void onTurnStarted(Player player) {
+            turns++;
+        }
+
+        /**
+         * Counts the space the player moved to.
+         */
+        @Override
+        public void onRolled(Player player, int roll, Space landed) {
+            landings[player.getPosition()]++;
+        }
+
+        /**
+         * Counts the turn spent in Jail.
+         */
+        @Override
+        public void onInJail(Player player) {
+            jailTurns++;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.ConsoleEventListener;
+import upei.project.Event.SilentEventListener;
+import upei.project.Strategy.DisruptiveStrategy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Unit tests for the ArrayGame class, checking that it plays exactly the same games as {@link Game}
+ * and that replaying a game allocates nothing once warmed up.
+ */
+public class ArrayGameTest {
+
+    /**
+     * Tests that both engines play the same games from the same dice.
+     * Verifies the winner, final standing, balances, positions and properties owned for many seeds.
+     */
+    @Test
+    public void testMatchesGameForManySeeds() {
+        Game game = new Game(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        ArrayGame arrayGame = new ArrayGame(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        SeededDice gameDice = new SeededDice();
+        SeededDice arrayDice = new SeededDice();
+        game.setDice(gameDice);
+        arrayGame.setDice(arrayDice);
+
+        for (int trial = 0; trial < 500; trial++) {
+            game.reset();
+            arrayGame.reset();
+            gameDice.reseed(SeededDice.trialSeed(42, trial));
+            arrayDice.reseed(SeededDice.trialSeed(42, trial));
+            game.startGame();
+            arrayGame.startGame();
+
+            assertEquals(game.getWinner().getId(), arrayGame.getWinner().getId());
+            assertEquals(game.getPlayers().size(), arrayGame.getPlayers().size());
+            for (int i = 0; i < game.getPlayers().size(); i++) {
+                Player expected = game.getPlayers().get(i);
+                Player actual = arrayGame.getPlayers().get(i);
+                assertEquals(expected.getId(), actual.getId());
+                assertEquals(expected.getBalance(), actual.getBalance());
+                assertEquals(expected.getPosition(), actual.getPosition());
+                assertEquals(expected.getNumberOwned(), actual.getNumberOwned());
+            }
+        }
+    }
+
+    /**
+     * Tests that a strategy changed between games is followed, although the array engine compiled it when the
+     * game was created. The disruptive player shares one strategy across both engines and learns of a new color
+     * after every game.
+     */
+    @Test
+    public void testFollowsStrategyChangedBetweenGames() {
+        DisruptiveStrategy disruptive = new DisruptiveStrategy();
+        List<Player> gamePlayers = TestPlayers.newPlayers();
+        List<Player> arrayPlayers = TestPlayers.newPlayers();
+        gamePlayers.set(3, new Player("Player 4", 4, disruptive));
+        arrayPlayers.set(3, new Player("Player 4", 4, disruptive));
+        Game game = new Game(gamePlayers, SilentEventListener.INSTANCE);
+        ArrayGame arrayGame = new ArrayGame(arrayPlayers, SilentEventListener.INSTANCE);
+        SeededDice gameDice = new SeededDice();
+        SeededDice arrayDice = new SeededDice();
+        game.setDice(gameDice);
+        arrayGame.setDice(arrayDice);
+
+        String[] colors = {"purple", "green", "blue", "red"};
+        for (int trial = 0; trial < 200; trial++) {
+            if (trial % 50 == 49) {
+                disruptive.addOwnedColor(colors[trial / 50]);
+            }
+            game.reset();
+            arrayGame.reset();
+            gameDice.reseed(SeededDice.trialSeed(42, trial));
+            arrayDice.reseed(SeededDice.trialSeed(42, trial));
+            game.startGame();
+            arrayGame.startGame();
+
+            assertEquals(game.getWinner().getId(), arrayGame.getWinner().getId(), "Winner of trial " + trial);
+            for (int i = 0; i < game.getPlayers().size(); i++) {
+                assertEquals(game.getPlayers().get(i).getBalance(), arrayGame.getPlayers().get(i).getBalance());
+                assertEquals(game.getPlayers().get(i).getNumberOwned(),
+                        arrayGame.getPlayers().get(i).getNumberOwned());
+            }
+        }
+    }
+
+    /**
+     * Tests that both engines print exactly the same game to the console.
+     */
+    @Test
+    public void testConsoleOutputMatchesGame() {
+        assertEquals(playToConsole(new Game(TestPlayers.newPlayers(), ConsoleEventListener.INSTANCE)),
+                playToConsole(new ArrayGame(TestPlayers.newPlayers(), ConsoleEventListener.INSTANCE)));
+    }
+
+    /**
+     * Tests that resetting and replaying a silent game allocates no memory once the engine is warmed up.
+     */
+    @Test
+    public void testReplayDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ArrayGame arrayGame = new ArrayGame(TestPlayers.newPlayers(), SilentEventListener.INSTANCE);
+        SeededDice dice = new SeededDice();
+        arrayGame.setDice(dice);
+        for (int trial = 0; trial < 20_000; trial++) {
+            replay(arrayGame, dice, trial);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int trial = 0; trial < 1_000; trial++) {
+            replay(arrayGame, dice, trial);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < 1_000, "Allocated " + allocated + " bytes over 1000 games");
+    }
+
+    /**
+     * Plays one seeded game with its output captured.
+     *
+     * @param game the game to play
+     * @return everything the game printed
+     */
+    private static String playToConsole(GameEngine game) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            game.setDice(new SeededDice(SeededDice.trialSeed(1, 3)));
+            game.resetPlayerStates();
+            game.startGame();
+        } finally {
+            System.setOut(original);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Resets the game and plays it again with the dice of a trial.
+     *
+     * @param game  the game to replay
+     * @param dice  the game's dice
+     * @param trial the trial whose seed is used
+     */
+    private static void replay(ArrayGame game, SeededDice dice, int trial) {
+        game.reset();
+        dice.reseed(SeededDice.trialSeed(5, trial));
+        game.startGame();
+    }
+}
@@ -0,0 +1,122 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.SilentEventListener;
+import upei.project.Space.Property;
+import upei.project.Strategy.Strategy;
+
+import java.util.List;
+
+/**
+ * Unit tests for the BatchGameEngine class, checking that games played in lockstep lanes end exactly
+ * like the same trials played one at a time by the array engine.
+ */
+public class BatchGameEngineTest {
+
+    /**
+     * Tests that every trial ends with the same winner, turns, balances and properties as the array engine.
+     * Uses fewer lanes than trials so lanes are refilled many times.
+     */
+    @Test
+    public void testMatchesArrayEngine() {
+        assertMatchesArrayEngine(BoardDefinition.STANDARD, GameRules.STANDARD, 2000);
+    }
+
+    /**
+     * Tests that other boards and rules are followed. Every color group on this board has four properties and
+     * the fourth is dear, so the aggressive buyer lands on it owning the other three and upgrades instead,
+     * and the players start close enough to the winning balance that some games end by reaching it.
+     */
+    @Test
+    public void testFollowsBoardAndRules() {
+        BoardDefinition board = new BoardDefinition.Builder()
+                .addPlain("Go")
+                .addProperty("Baltic Ave", 60, 30, "green")
+                .addProperty("Mediterranean Ave", 60, 30, "green")
+                .addProperty("Reading Railroad", 80, 30, "green")
+                .addProperty("Short Line", 900, 30, "green")
+                .addUtility("Income Tax", 40)
+                .addGoToJail("Go to Jail!")
+                .addProperty("St. Charles Place", 100, 40, "red")
+                .addProperty("States Ave", 100, 40, "red")
+                .addProperty("Virginia Ave", 120, 40, "red")
+                .addProperty("B. & O. Railroad", 900, 40, "red")
+                .addJail("Jail")
+                .addProperty("St. James Place", 150, 60, "blue")
+                .addProperty("Tennessee Ave", 150, 60, "blue")
+                .addProperty("New York Ave", 170, 60, "blue")
+                .addProperty("Pennsylvania Railroad", 900, 60, "blue")
+                .build();
+        assertMatchesArrayEngine(board, new GameRules(800, 1000, 300), 500);
+    }
+
+    /**
+     * Tests that a strategy that cannot be compiled into a decision table is rejected.
+     */
+    @Test
+    public void testRejectsUncompilableStrategy() {
+        List<Player> players = TestPlayers.newPlayers();
+        Strategy custom = new Strategy() {
+            @Override
+            public boolean shouldBuyLand(Property property, int balance) {
+                return false;
+            }
+
+            @Override
+            public boolean shouldBuyProperty(Property property, int balance) {
+                return false;
+            }
+        };
+        players.set(0, new Player("Custom", 1, custom));
+        assertFalse(BatchGameEngine.supports(players));
+        assertTrue(BatchGameEngine.supports(TestPlayers.newPlayers()));
+        assertThrows(IllegalArgumentException.class, () -> new BatchGameEngine(players, 64));
+        assertThrows(IllegalArgumentException.class, () -> new BatchGameEngine(TestPlayers.newPlayers(), 0));
+    }
+
+    /**
+     * Plays a block of trials in lanes and one at a time, and checks that every trial ends the same way.
+     *
+     * @param board  the board both engines play on
+     * @param rules  the rules both engines play by
+     * @param trials the number of trials to play
+     */
+    private static void assertMatchesArrayEngine(BoardDefinition board, GameRules rules, int trials) {
+        int[] winners = new int[trials];
+        int[] turns = new int[trials];
+        int[][] balances = new int[trials][4];
+        int[][] owned = new int[trials][4];
+        int[] played = new int[1];
+        BatchGameEngine engine = new BatchGameEngine(TestPlayers.newPlayers(), board, rules, 37);
+        engine.play(9, 0, trials, result -> {
+            int trial = (int) result.getTrial();
+            winners[trial] = result.getWinnerSeat();
+            turns[trial] = result.getTurns();
+            for (int seat = 0; seat < 4; seat++) {
+                balances[trial][seat] = result.getBalance(seat);
+                owned[trial][seat] = result.getOwned(seat);
+            }
+            played[0]++;
+        });
+        assertEquals(trials, played[0]);
+
+        List<Player> players = TestPlayers.newPlayers();
+        List<Player> seats = List.copyOf(players); // The game drops eliminated players from its own list
+        ArrayGame game = new ArrayGame(players, SilentEventListener.INSTANCE, board, rules);
+        SeededDice dice = new SeededDice();
+        game.setDice(dice);
+        for (int trial = 0; trial < trials; trial++) {
+            game.reset();
+            dice.reseed(SeededDice.trialSeed(9, trial));
+            game.startGame();
+
+            assertEquals(game.getWinner().getId() - 1, winners[trial], "Winner of trial " + trial);
+            assertEquals(game.getTurnsPlayed(), turns[trial], "Turns of trial " + trial);
+            for (Player player : seats) {
+                assertEquals(player.getBalance(), balances[trial][player.getId() - 1], "Balance in trial " + trial);
+                assertEquals(player.getNumberOwned(), owned[trial][player.getId() - 1], "Owned in trial " + trial);
+            }
+        }
+    }
+}
@@ -123,4 +123,59 @@ public class BoardTest {
         assertTrue(board.getSpaceAt(9) instanceof Jail);
         assertTrue(board.getSpaceAt(15) instanceof Property);
     }
+
+    /**
+     * Tests that resetting the board returns every property to its starting state.
+     * Verifies that ownership, rent and upgrade level are restored without replacing the property objects.
+     */
+    @Test
+    public void testResetRestoresProperties() {
+        Property property = (Property) board.getSpaceAt(13);
+        property.buy(players.get(0));
+        property.increaseRent(30);
+        property.setUpgradeLevel(2);
+
+        board.reset();
+
+        assertSame(property, board.getSpaceAt(13)); // Same object, fresh state
+        assertFalse(property.IsOwned());
+        assertNull(property.getOwner());
+        assertEquals(200, property.getRent());
+        assertEquals(0, property.getUpgradeLevel());
+    }
+
+    /**
+     * Tests that two boards built from the same layout keep separate property state.
+     * Verifies that buying a property on one board does not change the other board.
+     */
+    @Test
+    public void testBoardsShareLayoutNotState() {
+        Board other = new Board(BoardDefinition.STANDARD);
+        ((Property) board.getSpaceAt(1)).buy(players.get(0));
+
+        assertSame(board.getDefinition(), other.getDefinition());
+        assertTrue(((Property) board.getSpaceAt(1)).IsOwned());
+        assertFalse(((Property) other.getSpaceAt(1)).IsOwned());
+        assertEquals(SpaceType.PROPERTY, BoardDefinition.STANDARD.getType(1));
+        assertEquals(9, BoardDefinition.STANDARD.getJailPosition());
+    }
+
+    /**
+     * Tests that the board's Jail records inmates by seat in the board's Jail state.
+     * Verifies that the state and the Jail space agree, and that a reset empties the Jail.
+     */
+    @Test
+    public void testJailStateBySeat() {
+        Jail jail = (Jail) board.getSpaceAt(9);
+        board.getPropertyState().assignSeats(players);
+        jail.addPlayerToJail(players.get(0));
+
+        int seat = board.getJailState().getSeats().indexOf(players.get(0));
+        assertEquals(0, seat);
+        assertTrue(board.getJailState().isInJail(seat));
+        assertTrue(jail.isPlayerInJail(players.get(0)));
+
+        board.reset();
+        assertFalse(board.getJailState().isInJail(seat));
+    }
 }
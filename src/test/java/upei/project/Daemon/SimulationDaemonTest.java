@@ -0,0 +1,162 @@
+package upei.project.Daemon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.SilentEventListener;
+import upei.project.Player;
+import upei.project.SimulationExperiment;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CollectorStrategy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for SimulationDaemon, talking to it over its loopback socket as a client would.
+ */
+public class SimulationDaemonTest {
+
+    private SimulationDaemon daemon;
+
+    /**
+     * Starts a daemon with a single worker on a free port.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        daemon = new SimulationDaemon(0, 1);
+        daemon.start();
+    }
+
+    /**
+     * Stops the daemon.
+     */
+    @AfterEach
+    public void tearDown() {
+        daemon.close();
+    }
+
+    /**
+     * Tests that a job reports the same wins as the same experiment run directly.
+     */
+    @Test
+    public void testJobMatchesDirectExperiment() throws IOException {
+        List<String> replies = exchange("run id=a players=aggressive,collector:green trials=500 seed=9");
+
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(new Player("Player 1", 1, new AggresivveBuyerStrategy()));
+        players.add(new Player("Player 2", 2, new CollectorStrategy("green")));
+        SimulationExperiment experiment = new SimulationExperiment(players, 500, 1);
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.setSeed(9);
+        experiment.runTrials();
+
+        assertEquals("queued id=a", replies.get(0));
+        assertTrue(replies.get(1).startsWith("done id=a games=500 millis="),
+                replies.get(1));
+        assertTrue(replies.get(1).endsWith(" wins=" + experiment.getWins(0) + "," + experiment.getWins(1)),
+                replies.get(1));
+    }
+
+    /**
+     * Tests that among queued jobs the highest priority runs first, and equal priorities run in order.
+     */
+    @Test
+    public void testHigherPriorityRunsFirst() throws IOException {
+        List<String> replies = exchange(
+                "run id=blocker players=aggressive,cautious trials=20000",
+                "run id=low1 players=aggressive,cautious trials=10 priority=1",
+                "run id=low2 players=aggressive,cautious trials=10 priority=1",
+                "run id=high players=aggressive,cautious trials=10 priority=5");
+        List<String> finished = new ArrayList<>();
+        for (String reply : replies) {
+            if (reply.startsWith("done")) {
+                finished.add(reply.split(" ")[1]);
+            }
+        }
+        assertEquals(List.of("id=blocker", "id=high", "id=low1", "id=low2"), finished);
+    }
+
+    /**
+     * Tests that a job out of time stops and reports the games it played.
+     */
+    @Test
+    public void testTimeoutStopsJob() throws IOException {
+        List<String> replies = exchange("run id=slow players=aggressive,cautious trials=100000000 timeout=100");
+        String reply = replies.get(1);
+        assertTrue(reply.startsWith("timeout id=slow games="), reply);
+        long games = Long.parseLong(reply.split(" ")[2].substring("games=".length()));
+        assertTrue(games > 0 && games < 100000000, reply);
+    }
+
+    /**
+     * Tests that malformed commands are answered with an error and leave the connection usable.
+     */
+    @Test
+    public void testRejectsBadCommands() throws IOException {
+        List<String> replies = exchange(
+                "play id=x",
+                "run id=x players=aggressive,gambler trials=10",
+                "run id=y players=aggressive trials=10",
+                "run id=z players=aggressive,disruptive trials=ten",
+                "run id=ok players=aggressive,disruptive trials=10 engine=object");
+        assertTrue(replies.get(0).startsWith("error id=- Unknown command"), replies.get(0));
+        assertTrue(replies.get(1).contains("Unknown strategy: gambler"), replies.get(1));
+        assertTrue(replies.get(2).contains("at least 2 players"), replies.get(2));
+        assertTrue(replies.get(3).contains("Not a number"), replies.get(3));
+        assertTrue(replies.get(5).startsWith("done id=ok games=10"), replies.get(5));
+    }
+
+    /**
+     * Tests that a batch of small jobs on a warm daemon finishes in a few milliseconds each.
+     */
+    @Test
+    public void testSmallJobsAreFast() throws IOException {
+        daemon.warmUp(20000);
+        String[] commands = new String[100];
+        for (int i = 0; i < commands.length; i++) {
+            commands[i] = "run id=" + i + " players=aggressive,cautious,collector:green,disruptive trials=100 seed=" + i;
+        }
+        long start = System.nanoTime();
+        List<String> replies = exchange(commands);
+        double millisPerJob = (System.nanoTime() - start) / 1e6 / commands.length;
+        assertEquals(200, replies.size());
+        assertTrue(millisPerJob < 20, "Milliseconds per job: " + millisPerJob);
+    }
+
+    /**
+     * Sends commands over one connection, closes the sending side and reads every reply until the daemon
+     * closes the connection, which it does once every job has replied.
+     *
+     * @param commands the command lines
+     * @return the reply lines in the order they arrived
+     * @throws IOException if the daemon cannot be reached
+     */
+    private List<String> exchange(String... commands) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            for (String command : commands) {
+                out.write(command + "\n");
+            }
+            out.flush();
+            socket.shutdownOutput();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8));
+            List<String> replies = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                replies.add(line);
+            }
+            return replies;
+        }
+    }
+}
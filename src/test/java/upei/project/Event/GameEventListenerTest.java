@@ -0,0 +1,108 @@
+package upei.project.Event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Game;
+import upei.project.Player;
+import upei.project.Space.Property;
+import upei.project.Space.UtilitySpace;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the game event sinks, checking that events reach a custom listener,
+ * that the silent sink produces no output and that the console sink keeps the usual messages.
+ */
+public class GameEventListenerTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(); // Captured standard output
+    private PrintStream originalOut; // Standard output before the test
+    private List<Player> players; // Players in the game
+
+    /**
+     * Captures standard output and creates two players.
+     */
+    @BeforeEach
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(output));
+        players = new ArrayList<>();
+        players.add(new Player("Player 1", 1, new AggresivveBuyerStrategy()));
+        players.add(new Player("Player 2", 2, new CautiousSaverStrategy()));
+    }
+
+    /**
+     * Restores standard output.
+     */
+    @AfterEach
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /**
+     * Tests that a game played with the silent sink writes nothing to standard output.
+     */
+    @Test
+    public void testSilentGameHasNoOutput() {
+        Game game = new Game(players, SilentEventListener.INSTANCE);
+        game.startGame();
+
+        assertNotNull(game.getWinner());
+        assertEquals(0, output.size()); // Nothing was printed
+    }
+
+    /**
+     * Tests that a custom listener receives the start, turn and end events of a game,
+     * and that the game hands the listener to its players.
+     */
+    @Test
+    public void testListenerReceivesGameEvents() {
+        int[] counts = new int[3]; // started, turns, game over
+        GameEventListener counter = new GameEventListener() {
+            @Override
+            public void onGameStarted() {
+                counts[0]++;
+            }
+
+            @Override
+            public void onTurnStarted(Player player) {
+                counts[1]++;
+            }
+
+            @Override
+            public void onGameOver(List<Player> standings, Player winner) {
+                counts[2]++;
+            }
+        };
+        Game game = new Game(players, counter);
+        assertSame(counter, players.get(0).getEventListener());
+        game.startGame();
+
+        assertEquals(1, counts[0]); // One start event
+        assertTrue(counts[1] > 0); // At least one turn was played
+        assertEquals(1, counts[2]); // One game-over event
+        assertEquals(0, output.size());
+    }
+
+    /**
+     * Tests that the console sink prints the same messages as before for rent and tax payments.
+     */
+    @Test
+    public void testConsoleMessages() {
+        Property property = new Property("Boardwalk", 400, 50, "blue");
+        property.buy(players.get(1));
+        property.action(players.get(0));
+        new UtilitySpace("Electric Company", 45).action(players.get(0));
+
+        String text = output.toString();
+        assertTrue(text.contains("Player 1 pays rent to Player 2"));
+        assertTrue(text.contains("Player 1 pays a utility tax of 45"));
+    }
+}
@@ -0,0 +1,249 @@
+package upei.project.Event;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Game;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.Space.Property;
+import upei.project.Space.Space;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for GameEventPublisher, checking that subscribers see the events a game reports, that a slow
+ * subscriber throttles the games or loses events according to the overflow policy, and that bad requests fail.
+ */
+public class GameEventPublisherTest {
+
+    /**
+     * Tests that a subscriber receives the same events, in the same order, as a listener on the same game.
+     */
+    @Test
+    public void testBatchesMatchGame() throws InterruptedException {
+        List<GameEventType> expected = new ArrayList<>();
+        GameEventListener recorder = new GameEventListener() {
+            @Override
+            public void onGameStarted() {
+                expected.add(GameEventType.GAME_STARTED);
+            }
+
+            @Override
+            public void onRolled(Player player, int roll, Space landed) {
+                expected.add(GameEventType.ROLLED);
+            }
+
+            @Override
+            public void onPaidRent(Player payer, Player owner, Property property, int rent) {
+                expected.add(GameEventType.PAID_RENT);
+            }
+
+            @Override
+            public void onBought(Player player, Property property) {
+                expected.add(GameEventType.BOUGHT);
+            }
+
+            @Override
+            public void onUpgraded(Player player, Property property, int cost) {
+                expected.add(GameEventType.UPGRADED);
+            }
+
+            @Override
+            public void onGameOver(List<Player> standings, Player winner) {
+                expected.add(GameEventType.GAME_OVER);
+            }
+        };
+        playGame(recorder, 5);
+
+        GameEventPublisher publisher = new GameEventPublisher(GameEventPublisher.OverflowPolicy.BLOCK);
+        Collector collector = new Collector(Long.MAX_VALUE, 0);
+        publisher.subscribe(collector);
+        playGame(publisher.producer(), 5);
+        publisher.close();
+        assertTrue(collector.done.await(5, TimeUnit.SECONDS));
+
+        List<GameEventType> received = new ArrayList<>(collector.types);
+        received.removeIf(type -> type == GameEventType.PAID_TAX || type == GameEventType.JAILED
+                || type == GameEventType.ELIMINATED || type == GameEventType.REACHED_WINNING_BALANCE);
+        assertEquals(expected, received);
+        assertEquals(1, collector.games.size()); // Every event belongs to the producer's first game
+        assertEquals(GameEventPublisher.DEFAULT_BUFFERS, publisher.getFreeBuffers()); // Every batch came back
+    }
+
+    /**
+     * Tests that under the blocking policy a slow subscriber with few buffers receives every event.
+     */
+    @Test
+    public void testBlockLosesNothing() throws InterruptedException {
+        GameEventPublisher unbounded = new GameEventPublisher(GameEventPublisher.OverflowPolicy.BLOCK);
+        Collector all = new Collector(Long.MAX_VALUE, 0);
+        unbounded.subscribe(all);
+        GameEventPublisher.Producer reference = unbounded.producer();
+        for (int seed = 0; seed < 10; seed++) {
+            playGame(reference, seed);
+        }
+        unbounded.close();
+        assertTrue(all.done.await(5, TimeUnit.SECONDS));
+
+        GameEventPublisher publisher = new GameEventPublisher(GameEventPublisher.OverflowPolicy.BLOCK, 8, 2,
+                ForkJoinPool.commonPool());
+        Collector slow = new Collector(1, 1);
+        publisher.subscribe(slow);
+        GameEventPublisher.Producer producer = publisher.producer();
+        for (int seed = 0; seed < 10; seed++) {
+            playGame(producer, seed);
+        }
+        publisher.close();
+        assertTrue(slow.done.await(10, TimeUnit.SECONDS));
+        assertEquals(all.types, slow.types);
+        assertEquals(0, publisher.getDroppedEvents());
+    }
+
+    /**
+     * Tests that under the dropping policy a subscriber that requests nothing never holds up the games, and the
+     * events that found no free batch are counted.
+     */
+    @Test
+    public void testDropDoesNotBlock() {
+        GameEventPublisher publisher = new GameEventPublisher(GameEventPublisher.OverflowPolicy.DROP, 16, 2,
+                ForkJoinPool.commonPool());
+        Collector collector = new Collector(0, 0);
+        publisher.subscribe(collector);
+        GameEventPublisher.Producer producer = publisher.producer();
+        for (int seed = 0; seed < 10; seed++) {
+            playGame(producer, seed);
+        }
+        assertTrue(publisher.getDroppedEvents() > 0);
+        assertEquals(0, publisher.getFreeBuffers());
+        assertTrue(collector.types.isEmpty());
+    }
+
+    /**
+     * Tests that a request for no batches ends the subscription with an error.
+     */
+    @Test
+    public void testNonPositiveRequestFails() throws InterruptedException {
+        GameEventPublisher publisher = new GameEventPublisher(GameEventPublisher.OverflowPolicy.BLOCK);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch failed = new CountDownLatch(1);
+        publisher.subscribe(new Flow.Subscriber<EventBatch>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onNext(EventBatch batch) {
+                batch.release();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                failed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, error.get());
+    }
+
+    /**
+     * Plays a seeded game between an aggressive buyer and a cautious saver.
+     *
+     * @param listener the game's listener
+     * @param seed     the seed of the dice
+     */
+    private static void playGame(GameEventListener listener, long seed) {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player("Player 1", 1, new AggresivveBuyerStrategy()));
+        players.add(new Player("Player 2", 2, new CautiousSaverStrategy()));
+        Game game = new Game(players, listener);
+        game.setDice(new SeededDice(seed));
+        game.startGame();
+    }
+
+    /**
+     * A subscriber that copies the types of the events it receives, requesting a fixed number of batches at a
+     * time and optionally pausing on each.
+     */
+    private static final class Collector implements Flow.Subscriber<EventBatch> {
+        private final List<GameEventType> types = Collections.synchronizedList(new ArrayList<>()); // Events seen
+        private final List<Integer> games = Collections.synchronizedList(new ArrayList<>()); // Distinct games seen
+        private final CountDownLatch done = new CountDownLatch(1); // Opened on completion
+        private final long batchesPerRequest; // Batches asked for at a time, or 0 for none
+        private final long pauseMillis; // Pause on each batch
+        private Flow.Subscription subscription; // The subscription being served
+
+        /**
+         * Creates a collector.
+         *
+         * @param batchesPerRequest the batches to ask for at a time, or 0 to ask for none
+         * @param pauseMillis       the pause on each batch, in milliseconds
+         */
+        Collector(long batchesPerRequest, long pauseMillis) {
+            this.batchesPerRequest = batchesPerRequest;
+            this.pauseMillis = pauseMillis;
+        }
+
+        /**
+         * Makes the first request.
+         */
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batchesPerRequest > 0) {
+                subscription.request(batchesPerRequest);
+            }
+        }
+
+        /**
+         * Copies the batch, releases it and asks for more once the last request is used up.
+         */
+        @Override
+        public void onNext(EventBatch batch) {
+            for (int i = 0; i < batch.size(); i++) {
+                types.add(batch.getType(i));
+                if (!games.contains(batch.getGame(i))) {
+                    games.add(batch.getGame(i));
+                }
+            }
+            batch.release();
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (batchesPerRequest != Long.MAX_VALUE) {
+                subscription.request(batchesPerRequest);
+            }
+        }
+
+        /**
+         * Fails the test's wait by never opening the latch.
+         */
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        /**
+         * Opens the latch.
+         */
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
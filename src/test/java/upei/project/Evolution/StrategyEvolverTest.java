@@ -0,0 +1,86 @@
+package upei.project.Evolution;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+import upei.project.Strategy.Strategy;
+import upei.project.Tournament.Entrant;
+import upei.project.Tournament.Tournament;
+import upei.project.Tournament.TournamentResult;
+
+import java.util.List;
+
+/**
+ * Unit tests for StrategyEvolver, checking that evolution is reproducible and finds strategies that hold up
+ * against the reference pool.
+ */
+public class StrategyEvolverTest {
+
+    /**
+     * Tests that the same seed evolves the same genomes with the same fitness on one thread and on several.
+     */
+    @Test
+    public void testSameResultOnAnyNumberOfThreads() {
+        List<Genome> sequential = evolve(1);
+        List<Genome> parallel = evolve(4);
+        assertEquals(sequential, parallel);
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getFitness(), parallel.get(i).getFitness());
+        }
+    }
+
+    /**
+     * Tests that the generation comes back fittest first and that the history covers every generation.
+     */
+    @Test
+    public void testResultsSortedAndHistoryRecorded() {
+        StrategyEvolver evolver = new StrategyEvolver(12, 40, 2);
+        evolver.setSeed(3);
+        List<Genome> genomes = evolver.evolve(3);
+        assertEquals(12, genomes.size());
+        for (int i = 1; i < genomes.size(); i++) {
+            assertTrue(genomes.get(i - 1).getFitness() >= genomes.get(i).getFitness());
+        }
+        assertEquals(3, evolver.getBestFitnessHistory().length);
+        assertEquals(genomes.get(0).getFitness(), evolver.getBestFitnessHistory()[2]);
+        assertEquals(2, StrategyEvolver.bestStrategies(genomes, 2).size());
+    }
+
+    /**
+     * Tests that the best evolved strategy wins more than its fair share of the decided games against the built-in
+     * strategies in a tournament with dice it was not evolved on.
+     */
+    @Test
+    public void testEvolvedStrategyBeatsReferencePool() {
+        StrategyEvolver evolver = new StrategyEvolver(24, 200, Runtime.getRuntime().availableProcessors());
+        evolver.setSeed(11);
+        Strategy best = StrategyEvolver.bestStrategies(evolver.evolve(6), 1).get(0);
+
+        Tournament tournament = new Tournament(List.of(
+                new Entrant("Evolved", best),
+                new Entrant("Aggressive Buyer", new AggresivveBuyerStrategy()),
+                new Entrant("Cautious Saver", new CautiousSaverStrategy()),
+                new Entrant("Collector (green)", new CollectorStrategy("green")),
+                new Entrant("Disruptive", new DisruptiveStrategy())), 4, 50, 2);
+        tournament.setSeed(987654321L);
+        TournamentResult result = tournament.run();
+        double fairShare = 1.0 / 4; // Every game has a winner, one of the four at the table
+        double winRate = result.getStats(0).getWinRate();
+        assertTrue(winRate > fairShare, "Evolved win rate " + winRate + ", fair share " + fairShare);
+    }
+
+    /**
+     * Evolves a small population for a few generations with a fixed seed.
+     *
+     * @param parallelism the number of threads
+     * @return the last generation, fittest first
+     */
+    private static List<Genome> evolve(int parallelism) {
+        StrategyEvolver evolver = new StrategyEvolver(10, 60, parallelism);
+        evolver.setSeed(42);
+        return evolver.evolve(3);
+    }
+}
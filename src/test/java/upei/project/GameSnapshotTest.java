@@ -0,0 +1,170 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.GameEventListener;
+
+/**
+ * Unit tests for GameSnapshot, checking that a game restored from a snapshot taken during play
+ * continues exactly as the original did, with either engine.
+ */
+public class GameSnapshotTest {
+
+    /**
+     * Tests that restoring a snapshot taken during a game and playing on reproduces the end of that game.
+     * Verifies every recorded field of the final state for many seeds.
+     */
+    @Test
+    public void testRestoreReplaysGame() {
+        for (int trial = 0; trial < 200; trial++) {
+            SnapshotAtTurn capture = new SnapshotAtTurn(trial % 40 + 1);
+            Game game = new Game(TestPlayers.newPlayers(), capture);
+            capture.engine = game;
+            game.setDice(new SeededDice(SeededDice.trialSeed(7, trial)));
+            game.startGame();
+            GameSnapshot expected = game.snapshot();
+
+            if (capture.snapshot != null) {
+                game.restore(capture.snapshot);
+                game.startGame();
+                assertSameState(expected, game.snapshot());
+            }
+        }
+    }
+
+    /**
+     * Tests that the array engine also continues a restored game exactly as it was first played,
+     * including when the snapshot is taken while its state is held in the seat arrays.
+     */
+    @Test
+    public void testArrayGameRestoreReplaysGame() {
+        for (int trial = 0; trial < 200; trial++) {
+            SnapshotAtTurn capture = new SnapshotAtTurn(trial % 40 + 1);
+            ArrayGame game = new ArrayGame(TestPlayers.newPlayers(), capture);
+            capture.engine = game;
+            game.setDice(new SeededDice(SeededDice.trialSeed(7, trial)));
+            game.startGame();
+            GameSnapshot expected = game.snapshot();
+
+            if (capture.snapshot != null) {
+                game.restore(capture.snapshot);
+                game.startGame();
+                assertSameState(expected, game.snapshot());
+            }
+        }
+    }
+
+    /**
+     * Tests that a snapshot of a Game can be restored into an ArrayGame, which then finishes the game
+     * the same way the Game does.
+     */
+    @Test
+    public void testSnapshotMovesBetweenEngines() {
+        for (int trial = 0; trial < 100; trial++) {
+            SnapshotAtTurn capture = new SnapshotAtTurn(25);
+            Game game = new Game(TestPlayers.newPlayers(), capture);
+            capture.engine = game;
+            game.setDice(new SeededDice(SeededDice.trialSeed(11, trial)));
+            game.startGame();
+            if (capture.snapshot == null) {
+                continue;
+            }
+
+            ArrayGame arrayGame = new ArrayGame(TestPlayers.newPlayers(), new SnapshotAtTurn(0));
+            arrayGame.setDice(new SeededDice());
+            arrayGame.restore(capture.snapshot);
+            arrayGame.startGame();
+            assertSameState(game.snapshot(), arrayGame.snapshot());
+        }
+    }
+
+    /**
+     * Tests that restoring brings back the players' objects: eliminated players rejoin, and each player's
+     * balance, position and properties owned match the snapshot.
+     */
+    @Test
+    public void testRestoreRebuildsPlayers() {
+        Game game = new Game(TestPlayers.newPlayers(), new SnapshotAtTurn(0));
+        game.setDice(new SeededDice(3));
+        GameSnapshot start = game.snapshot();
+        game.startGame();
+
+        game.restore(start);
+        assertEquals(4, game.getPlayers().size());
+        assertNull(game.getWinner());
+        assertEquals(0, game.getTurnsPlayed());
+        for (Player player : game.getPlayers()) {
+            assertEquals(game.getRules().getStartingBalance(), player.getBalance());
+            assertEquals(0, player.getPosition());
+            assertEquals(0, player.getNumberOwned());
+        }
+    }
+
+    /**
+     * Tests that a snapshot cannot be restored into a game with a different number of seats.
+     */
+    @Test
+    public void testRejectsSnapshotOfOtherShape() {
+        Game game = new Game(TestPlayers.newPlayers(), new SnapshotAtTurn(0));
+        GameSnapshot snapshot = new GameSnapshot(3, game.getBoard().size());
+        assertThrows(IllegalArgumentException.class, () -> game.restore(snapshot));
+        assertThrows(IllegalArgumentException.class, () -> game.snapshot(snapshot));
+    }
+
+    /**
+     * Asserts that two snapshots record the same state.
+     *
+     * @param expected the expected state
+     * @param actual   the actual state
+     */
+    private static void assertSameState(GameSnapshot expected, GameSnapshot actual) {
+        assertEquals(expected.getWinnerSeat(), actual.getWinnerSeat());
+        assertEquals(expected.getTurnsPlayed(), actual.getTurnsPlayed());
+        assertEquals(expected.getCurrentPlayerIndex(), actual.getCurrentPlayerIndex());
+        assertEquals(expected.getPlayerCount(), actual.getPlayerCount());
+        for (int i = 0; i < expected.getPlayerCount(); i++) {
+            assertEquals(expected.getSeatAt(i), actual.getSeatAt(i));
+        }
+        for (int seat = 0; seat < expected.getSeatCount(); seat++) {
+            assertEquals(expected.getBalance(seat), actual.getBalance(seat));
+            assertEquals(expected.getPosition(seat), actual.getPosition(seat));
+            assertEquals(expected.getJailTurns(seat), actual.getJailTurns(seat));
+        }
+        for (int position = 0; position < BoardDefinition.STANDARD.size(); position++) {
+            assertEquals(expected.getOwnerSeat(position), actual.getOwnerSeat(position));
+            assertEquals(expected.getRent(position), actual.getRent(position));
+            assertEquals(expected.getUpgradeLevel(position), actual.getUpgradeLevel(position));
+        }
+    }
+
+    /**
+     * A listener that takes one snapshot of its game when a given turn starts.
+     */
+    private static final class SnapshotAtTurn implements GameEventListener {
+        private final int turn; // Number of the turn start to snapshot at, counting from 1
+        private int started; // Turn starts seen so far
+        private GameEngine engine; // Game to snapshot
+        private GameSnapshot snapshot; // Snapshot taken, or null
+
+        /**
+         * Creates a listener that snapshots at the given turn start.
+         *
+         * @param turn the turn start to snapshot at; 0 never snapshots
+         */
+        SnapshotAtTurn(int turn) {
+            this.turn = turn;
+        }
+
+        /**
+         * Takes the snapshot the first time the chosen turn starts.
+         *
+         * @param player the player whose turn it is
+         */
+        @Override
+        public void onTurnStarted(Player player) {
+            if (++started == turn && snapshot == null) {
+                snapshot = engine.snapshot();
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package upei.project;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.SilentEventListener;
 import upei.project.Space.GoToJail;
 import upei.project.Space.Jail;
 import upei.project.Space.Property;
@@ -86,7 +87,7 @@ public class GameTest {
         jail.action(players.get(0));
 
         // Assert that Player 1 remains in jail after the action
-        assertTrue(players.get(0).isInJail());
+        assertTrue(jail.isPlayerInJail(players.get(0)));
     }
 
     /**
@@ -101,7 +102,19 @@ public class GameTest {
         goToJail.action(players.get(0));
 
         // Assert that the player is in jail
-        assertTrue(players.get(0).isInJail());
+        assertTrue(goToJail.getJail().isPlayerInJail(players.get(0)));
+        assertEquals(9, players.get(0).getPosition());
+    }
+
+    /**
+     * Tests that a player who reaches the winning balance during the game is named the winner.
+     */
+    @Test
+    public void testReachingWinningBalanceNamesWinner() {
+        players.get(0).setBalance(5000); // Far above the winning balance, whatever the first turn costs
+        game.startGame();
+
+        assertSame(players.get(0), game.getWinner());
     }
 
     /**
@@ -139,4 +152,31 @@ public class GameTest {
         // Assert that Player 2 is the winner because they have the higher balance
         assertEquals("Player 2", players.get(0).getName()); // Player 2 should be the winner based on balance
     }
+
+    /**
+     * Tests that a reset game plays exactly like a newly created one.
+     * Verifies that replaying the same seed after a reset gives the same winner and final balances.
+     */
+    @Test
+    public void testResetReplaysSameGame() {
+        game.setEventListener(SilentEventListener.INSTANCE);
+        game.setDice(new SeededDice(11));
+        game.startGame();
+        int winnerId = game.getWinner().getId();
+        int[] balances = new int[2];
+        for (Player player : players) {
+            balances[player.getId() - 1] = player.getBalance();
+        }
+
+        game.reset();
+        assertEquals(2, players.size()); // Both players are seated again
+        assertEquals("Player 1", players.get(0).getName());
+        game.setDice(new SeededDice(11));
+        game.startGame();
+
+        assertEquals(winnerId, game.getWinner().getId());
+        for (Player player : players) {
+            assertEquals(balances[player.getId() - 1], player.getBalance());
+        }
+    }
 }
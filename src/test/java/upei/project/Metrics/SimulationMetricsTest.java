@@ -0,0 +1,103 @@
+package upei.project.Metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.GameEventListener;
+import upei.project.Event.SilentEventListener;
+import upei.project.Game;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.SimulationExperiment;
+import upei.project.Space.Property;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for SimulationMetrics, checking that games are counted as they are played and that the counters
+ * can be read over JMX.
+ */
+public class SimulationMetricsTest {
+
+    /**
+     * Tests that the counting listener passes every event on and counts the game's rent, jail entries and turns.
+     */
+    @Test
+    public void testCountsEventsOfGame() {
+        SimulationMetrics metrics = new SimulationMetrics();
+        List<String> seen = new ArrayList<>();
+        GameEventListener listener = metrics.listener(new GameEventListener() {
+            @Override
+            public void onPaidRent(Player payer, Player owner, Property property, int rent) {
+                seen.add("rent");
+            }
+        });
+        Player player = new Player("Player 1", 1, new AggresivveBuyerStrategy());
+        Property property = new Property("Property", 100, 50, "blue");
+        listener.onGameStarted();
+        listener.onTurnStarted(player);
+        listener.onPaidRent(player, player, property, 50);
+        listener.onTurnStarted(player);
+        listener.onJailed(player);
+        listener.onGameOver(List.of(player), player);
+
+        assertEquals(List.of("rent"), seen);
+        assertEquals(1, metrics.getGamesCompleted());
+        assertEquals(2.0, metrics.getAverageTurnsPerGame());
+        assertEquals(1, metrics.getRentTransfers());
+        assertEquals(1, metrics.getJailEntries());
+        assertEquals(Map.of("AggresivveBuyerStrategy", 1L), metrics.getWinsByStrategy());
+    }
+
+    /**
+     * Tests that a parallel experiment reports every game it plays, and that the wins counted by strategy
+     * match the experiment's own tally.
+     */
+    @Test
+    public void testCountsEveryGameOfParallelExperiment() {
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(new Player("Player 1", 1, new AggresivveBuyerStrategy()));
+        players.add(new Player("Player 2", 2, new CautiousSaverStrategy()));
+        SimulationExperiment experiment = new SimulationExperiment(players, 2000, 4);
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.setSeed(5);
+        SimulationMetrics metrics = new SimulationMetrics();
+        experiment.setMetrics(metrics);
+        experiment.runTrials();
+
+        assertEquals(2000, metrics.getGamesCompleted());
+        assertTrue(metrics.getTurnsPerSecond() > 0);
+        assertEquals(experiment.getWins(0), metrics.getWinsByStrategy().getOrDefault("AggresivveBuyerStrategy", 0L));
+        assertEquals(experiment.getWins(1), metrics.getWinsByStrategy().getOrDefault("CautiousSaverStrategy", 0L));
+    }
+
+    /**
+     * Tests that registered metrics can be read through the platform MBean server.
+     */
+    @Test
+    public void testReadableOverJmx() throws Exception {
+        SimulationMetrics metrics = new SimulationMetrics().register();
+        try {
+            List<Player> players = new ArrayList<>();
+            players.add(new Player("Player 1", 1, new AggresivveBuyerStrategy()));
+            players.add(new Player("Player 2", 2, new CautiousSaverStrategy()));
+            Game game = new Game(players, metrics.listener(SilentEventListener.INSTANCE));
+            game.setDice(new SeededDice(7));
+            game.startGame();
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(new ObjectName(SimulationMetrics.OBJECT_NAME), "GamesCompleted"));
+            assertThrows(IllegalStateException.class, () -> new SimulationMetrics().register());
+        } finally {
+            metrics.unregister();
+        }
+        ObjectName name = new ObjectName(SimulationMetrics.OBJECT_NAME);
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
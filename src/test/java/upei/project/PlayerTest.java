@@ -38,7 +38,6 @@ public class PlayerTest {
         assertEquals(1, player.getId());
         assertEquals(750, player.getBalance()); // Initial balance is 750
         assertEquals(0, player.getPosition()); // Initial position is 0
-        assertFalse(player.isInJail()); // Player should not be in jail initially
         assertEquals(0, player.getNumberOwned()); // Player should own no properties initially
     }
 
@@ -73,18 +72,6 @@ public class PlayerTest {
         assertEquals(1, player.getNumberOwned()); // Player should now own 1 property
     }
 
-    /**
-     * Tests the toggleJailStatus method of the Player class.
-     * Verifies that the player's jail status can be toggled correctly.
-     */
-    @Test
-    public void testToggleJailStatus() {
-        player.toggleJailStatus();
-        assertTrue(player.isInJail()); // Player should be in jail after toggle
-        player.toggleJailStatus();
-        assertFalse(player.isInJail()); // Player should not be in jail after second toggle
-    }
-
     /**
      * Tests the acquireProperty method.
      * Verifies that a player can acquire a property if they have enough balance,
@@ -179,4 +166,24 @@ public class PlayerTest {
         assertEquals(450, player.getBalance()); // Balance should decrease after upgrade
         assertEquals(230, property1.getRent()); // Rent should increase after upgrading the property
     }
+
+    /**
+     * Tests that the player's color group counts follow the properties they own.
+     * Verifies that counts are kept per group and cleared when the player is reset.
+     */
+    @Test
+    public void testNumberOwnedInGroup() {
+        Property blue1 = new Property("Boardwalk", 100, 200, "blue");
+        Property blue2 = new Property("Park Place", 100, 200, "blue");
+        Property red = new Property("Kentucky Ave", 100, 20, "red");
+        player.acquireProperty(blue1);
+        player.acquireProperty(blue2);
+        player.addSpace(red);
+
+        assertEquals(2, player.getNumberOwnedInGroup(blue1.getColorGroup()));
+        assertEquals(1, player.getNumberOwnedInGroup(red.getColorGroup()));
+
+        player.reset();
+        assertEquals(0, player.getNumberOwnedInGroup(blue1.getColorGroup()));
+    }
 }
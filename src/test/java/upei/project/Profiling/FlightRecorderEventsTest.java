@@ -0,0 +1,80 @@
+package upei.project.Profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.SilentEventListener;
+import upei.project.Game;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the flight recorder events, checking that a game reports itself and its decisions to a recording
+ * that switches the events on.
+ */
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    Path folder; // Where the recording is dumped
+
+    /**
+     * Tests that a recorded game yields one game event carrying its turns and winner, and a decision event for
+     * every property the players considered.
+     */
+    @Test
+    public void testRecordsGameAndDecisions() throws Exception {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player("Player 1", 1, new AggresivveBuyerStrategy()));
+        players.add(new Player("Player 2", 2, new CautiousSaverStrategy()));
+        Game game = new Game(players, SilentEventListener.INSTANCE);
+        game.setDice(new SeededDice(3));
+
+        Path file = folder.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("upei.project.Game");
+            recording.enable("upei.project.Decision");
+            recording.start();
+            game.startGame();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> games = new ArrayList<>();
+        List<RecordedEvent> decisions = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (event.getEventType().getName().equals("upei.project.Game")) {
+                games.add(event);
+            } else if (event.getEventType().getName().equals("upei.project.Decision")) {
+                decisions.add(event);
+            }
+        }
+        assertEquals(1, games.size());
+        assertEquals(game.getTurnsPlayed(), games.get(0).getInt("turns"));
+        assertEquals(2, games.get(0).getInt("players"));
+        assertEquals(game.getWinner() == null ? "" : game.getWinner().getName(), games.get(0).getString("winner"));
+        assertFalse(decisions.isEmpty());
+        for (RecordedEvent decision : decisions) {
+            assertTrue(List.of(DecisionEvent.BUY_LAND, DecisionEvent.UPGRADE, DecisionEvent.PASS)
+                    .contains(decision.getString("outcome")));
+        }
+    }
+
+    /**
+     * Tests that the events are switched off unless a recording switches them on.
+     */
+    @Test
+    public void testDisabledByDefault() {
+        assertFalse(new GamePlayedEvent().isEnabled());
+        assertFalse(new DecisionEvent().isEnabled());
+        assertFalse(new BankruptcyEvent().isEnabled());
+    }
+}
@@ -0,0 +1,167 @@
+package upei.project.Replay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.EngineType;
+import upei.project.Event.SilentEventListener;
+import upei.project.Game;
+import upei.project.GameEngine;
+import upei.project.Player;
+import upei.project.SimulationExperiment;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+import upei.project.Strategy.Strategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the replay log, checking that every logged game replays exactly as it was played,
+ * that a game can be found by trial, that the log stays small and that a strategy that changed is caught.
+ */
+public class GameReplayerTest {
+
+    @TempDir
+    Path folder; // Where the logs are written
+
+    /**
+     * Tests that every game of a parallel run replays to the same turns and winner, with live strategies agreeing
+     * with every logged decision, and that a replayed game ends as the experiment's own replay of the trial does.
+     */
+    @Test
+    public void testEveryGameReplays() throws IOException {
+        Path file = folder.resolve("games.replay");
+        SimulationExperiment experiment = newExperiment(2);
+        experiment.setReplayLog(file);
+        experiment.runTrials();
+
+        int games = 0;
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertEquals(4, reader.getSeatCount());
+            assertEquals("CollectorStrategy", reader.getStrategyId(2));
+            assertEquals(17, reader.getMasterSeed());
+            while (reader.next()) {
+                Game game = GameReplayer.replay(reader, SilentEventListener.INSTANCE, newStrategies());
+                assertEquals(reader.getTurns(), game.getTurnsPlayed());
+                games++;
+            }
+        }
+        assertEquals(500, games);
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertTrue(reader.find(123));
+            Game replayed = GameReplayer.replay(reader, SilentEventListener.INSTANCE);
+            GameEngine original = experiment.playTrial(123, SilentEventListener.INSTANCE);
+            assertEquals(original.getTurnsPlayed(), replayed.getTurnsPlayed());
+            assertEquals(original.getWinner().getId(), replayed.getWinner().getId());
+            assertFalse(reader.find(123)); // Each trial is logged once
+        }
+    }
+
+    /**
+     * Tests that games played by the array engine replay on the object game.
+     */
+    @Test
+    public void testArrayEngineGamesReplay() throws IOException {
+        Path file = folder.resolve("array.replay");
+        SimulationExperiment experiment = newExperiment(1);
+        experiment.setEngine(EngineType.ARRAY);
+        experiment.setReplayLog(file);
+        experiment.runTrials();
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            while (reader.next()) {
+                GameReplayer.replay(reader, SilentEventListener.INSTANCE, newStrategies());
+            }
+        }
+    }
+
+    /**
+     * Tests that the log costs less than a byte per turn.
+     */
+    @Test
+    public void testLogIsCompact() throws IOException {
+        Path file = folder.resolve("compact.replay");
+        SimulationExperiment experiment = newExperiment(1);
+        experiment.setReplayLog(file);
+        experiment.runTrials();
+
+        long turns = 0;
+        try (ReplayReader reader = new ReplayReader(file)) {
+            while (reader.next()) {
+                turns += reader.getRollCount();
+            }
+        }
+        assertTrue(Files.size(file) < turns, Files.size(file) + " bytes for " + turns + " turns");
+    }
+
+    /**
+     * Tests that replaying against a strategy that decides differently names the decision where they part.
+     */
+    @Test
+    public void testChangedStrategyIsCaught() throws IOException {
+        Path file = folder.resolve("changed.replay");
+        SimulationExperiment experiment = newExperiment(1);
+        experiment.setReplayLog(file);
+        experiment.runTrials();
+
+        List<Strategy> changed = newStrategies();
+        changed.set(1, new AggresivveBuyerStrategy()); // The cautious saver now buys everything
+        try (ReplayReader reader = new ReplayReader(file)) {
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+                while (reader.next()) {
+                    GameReplayer.replay(reader, SilentEventListener.INSTANCE, changed);
+                }
+            });
+            assertTrue(e.getMessage().contains("Player 2 chose to"), e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that a file that is not a replay log is rejected.
+     */
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        Path file = folder.resolve("other.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IllegalArgumentException.class, () -> new ReplayReader(file));
+    }
+
+    /**
+     * Creates a seeded, silent experiment of 500 trials between the four built-in strategies.
+     *
+     * @param parallelism the number of threads to play on
+     * @return the experiment
+     */
+    private static SimulationExperiment newExperiment(int parallelism) {
+        ArrayList<Player> players = new ArrayList<>();
+        List<Strategy> strategies = newStrategies();
+        for (int seat = 0; seat < strategies.size(); seat++) {
+            players.add(new Player("Player " + (seat + 1), seat + 1, strategies.get(seat)));
+        }
+        SimulationExperiment experiment = new SimulationExperiment(players, 500, parallelism);
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.setSeed(17);
+        return experiment;
+    }
+
+    /**
+     * Creates the strategies of the four seats.
+     *
+     * @return an aggressive buyer, a cautious saver, a green collector and a disruptive player
+     */
+    private static List<Strategy> newStrategies() {
+        List<Strategy> strategies = new ArrayList<>();
+        strategies.add(new AggresivveBuyerStrategy());
+        strategies.add(new CautiousSaverStrategy());
+        strategies.add(new CollectorStrategy("green"));
+        strategies.add(new DisruptiveStrategy());
+        return strategies;
+    }
+}
@@ -0,0 +1,109 @@
+package upei.project.Results;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.EngineType;
+import upei.project.Event.SilentEventListener;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.SimulationExperiment;
+import upei.project.TestPlayers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for the ResultsWriter and ResultsReader classes, which store game summaries in columns.
+ */
+public class ResultsStoreTest {
+
+    @TempDir
+    Path folder; // Fresh folder for the files of each test
+
+    /**
+     * Tests that rows written across several segments, and after reopening the file, read back unchanged.
+     *
+     * @throws IOException if a file cannot be written or read
+     */
+    @Test
+    public void testRoundTripAcrossSegments() throws IOException {
+        Path file = folder.resolve("results.bin");
+        try (ResultsWriter writer = new ResultsWriter(file, 2, 8)) {
+            for (int i = 0; i < 20; i++) {
+                writer.write(i, -i, i % 3, 100 + i, new int[] {1, 2}, new int[] {i * 10, -i}, new int[] {i, 255});
+            }
+        }
+        try (ResultsWriter writer = ResultsWriter.append(file)) {
+            assertEquals(20, writer.getRowCount());
+            writer.write(20, -20, 2, 120, new int[] {2, 1}, new int[] {200, -20}, new int[] {20, 0});
+        }
+
+        try (ResultsReader reader = new ResultsReader(file)) {
+            assertEquals(21, reader.getRowCount());
+            assertEquals(2, reader.getSeatCount());
+            assertEquals(13, reader.getTrial(13));
+            assertEquals(-13, reader.getSeed(13));
+            assertEquals(1, reader.getWinnerId(13));
+            assertEquals(113, reader.getTurns(13));
+            assertEquals(-13, reader.getBalance(13, 1));
+            assertEquals(255, reader.getOwned(13, 1)); // Byte columns are unsigned
+            assertEquals(2, reader.getSeatId(20, 0));
+
+            long[] sum = new long[1];
+            reader.scanInts(Column.BALANCE, 0, balance -> sum[0] += balance);
+            assertEquals(10 * (20 * 21 / 2), sum[0]);
+            long[] seeds = new long[1];
+            reader.scanLongs(Column.SEED, seed -> seeds[0] += seed);
+            assertEquals(-(20 * 21 / 2), seeds[0]);
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getTurns(21));
+        }
+    }
+
+    /**
+     * Tests that an experiment stores one row per game that agrees with its statistics, and that
+     * the object and batch engines store the same game for every trial.
+     *
+     * @throws IOException if a file cannot be written or read
+     */
+    @Test
+    public void testExperimentStoresEveryGame() throws IOException {
+        Map<Long, Integer> objectTurns = new HashMap<>();
+        for (EngineType engine : new EngineType[] {EngineType.OBJECT, EngineType.BATCH}) {
+            ArrayList<Player> players = TestPlayers.newPlayers();
+            SimulationExperiment experiment = new SimulationExperiment(players, 300, 2);
+            experiment.setSeed(9);
+            experiment.setEngine(engine);
+            experiment.setEventListener(SilentEventListener.INSTANCE);
+
+            Path file = folder.resolve(engine + ".bin");
+            try (ResultsWriter writer = new ResultsWriter(file, 4)) {
+                experiment.setResultsWriter(writer);
+                experiment.runTrials();
+            }
+
+            try (ResultsReader reader = new ResultsReader(file)) {
+                assertEquals(300, reader.getRowCount());
+                long[] wins = new long[5];
+                reader.scanInts(Column.WINNER, 0, winner -> wins[winner]++);
+                for (int i = 0; i < 4; i++) {
+                    assertEquals(experiment.getWins(i), wins[i + 1]);
+                }
+                assertEquals(0, wins[0]); // Every game names a winner
+
+                for (long row = 0; row < reader.getRowCount(); row++) {
+                    long trial = reader.getTrial(row);
+                    assertEquals(SeededDice.trialSeed(9, trial), reader.getSeed(row));
+                    if (engine == EngineType.OBJECT) {
+                        objectTurns.put(trial, reader.getTurns(row));
+                    } else {
+                        assertEquals(objectTurns.get(trial), reader.getTurns(row), "trial " + trial);
+                    }
+                }
+            }
+        }
+    }
+}
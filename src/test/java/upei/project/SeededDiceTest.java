@@ -0,0 +1,61 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SeededDice class, checking the range of the rolls and that seeds make them reproducible.
+ */
+public class SeededDiceTest {
+
+    /**
+     * Tests that every roll is between 2 and 12 and that every total in that range appears.
+     */
+    @Test
+    public void testRollRange() {
+        SeededDice dice = new SeededDice(1);
+        boolean[] seen = new boolean[13];
+        for (int i = 0; i < 10_000; i++) {
+            int roll = dice.roll();
+            assertTrue(roll >= 2 && roll <= 12);
+            seen[roll] = true;
+        }
+        for (int total = 2; total <= 12; total++) {
+            assertTrue(seen[total], "Total " + total + " should be rolled");
+        }
+    }
+
+    /**
+     * Tests that dice with the same seed roll the same sequence, and that reseeding restarts it.
+     */
+    @Test
+    public void testSameSeedSameRolls() {
+        SeededDice first = new SeededDice(42);
+        SeededDice second = new SeededDice(42);
+        int[] rolls = new int[100];
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = first.roll();
+            assertEquals(rolls[i], second.roll());
+        }
+        first.reseed(42);
+        for (int roll : rolls) {
+            assertEquals(roll, first.roll());
+        }
+    }
+
+    /**
+     * Tests that consecutive trials get different seeds and that split dice follow a different stream.
+     */
+    @Test
+    public void testTrialSeedsAndSplitsDiffer() {
+        assertNotEquals(SeededDice.trialSeed(7, 0), SeededDice.trialSeed(7, 1));
+
+        SeededDice parent = new SeededDice(7);
+        SeededDice child = parent.split();
+        boolean differs = false;
+        for (int i = 0; i < 20 && !differs; i++) {
+            differs = parent.roll() != child.roll();
+        }
+        assertTrue(differs);
+    }
+}
@@ -0,0 +1,303 @@
+package upei.project;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Event.GameEventListener;
+import upei.project.Event.SilentEventListener;
+import upei.project.Stats.ConfidenceInterval;
+import upei.project.Stats.PlayerStats;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the SimulationExperiment class, covering the sequential and parallel ways of playing trials.
+ */
+public class SimulationExperimentTest {
+
+    private ArrayList<Player> players; // Players taking part in every trial
+
+    /**
+     * Creates the four players used by the experiment, one for each built-in strategy.
+     */
+    @BeforeEach
+    public void setUp() {
+        players = TestPlayers.newPlayers();
+    }
+
+    /**
+     * Tests that a parallel experiment plays every trial exactly once.
+     * Verifies that the wins recorded across all players add up to the number of trials.
+     */
+    @Test
+    public void testParallelSimulationPlaysEveryTrial() {
+        SimulationExperiment experiment = new SimulationExperiment(players, 100, 4);
+        experiment.runSimulation();
+
+        int totalWins = 0;
+        for (int i = 0; i < players.size(); i++) {
+            totalWins += experiment.getWins(i);
+        }
+        assertEquals(100, totalWins); // One winner per trial
+    }
+
+    /**
+     * Tests that the sequential constructor keeps the single-threaded behaviour.
+     * Verifies that the default parallelism is 1 and every trial still produces a winner.
+     */
+    @Test
+    public void testSequentialSimulationPlaysEveryTrial() {
+        SimulationExperiment experiment = new SimulationExperiment(players, 10);
+        assertEquals(1, experiment.getParallelism());
+        experiment.runSimulation();
+
+        int totalWins = 0;
+        for (int i = 0; i < players.size(); i++) {
+            totalWins += experiment.getWins(i);
+        }
+        assertEquals(10, totalWins);
+    }
+
+    /**
+     * Tests that a thread count below 1 is rejected.
+     */
+    @Test
+    public void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationExperiment(players, 10, 0));
+    }
+
+    /**
+     * Tests that player IDs outside 1 to the number of players, or used twice, are rejected.
+     */
+    @Test
+    public void testInvalidPlayerIds() {
+        players.set(3, new Player("Player 5", 5, new DisruptiveStrategy()));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationExperiment(players, 10));
+        players.set(3, new Player("Player 1 again", 1, new DisruptiveStrategy()));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationExperiment(players, 10));
+    }
+
+    /**
+     * Tests that each player's statistics stay with that player when the list is not in ID order.
+     * A buyer with ID 2 is seated before a collector with ID 1 whose color is not on the board, so only the
+     * buyer can ever own a property.
+     */
+    @Test
+    public void testStatsFollowPlayersOutOfIdOrder() {
+        ArrayList<Player> permuted = new ArrayList<>();
+        permuted.add(new Player("Buyer", 2, new AggresivveBuyerStrategy()));
+        permuted.add(new Player("Collector", 1, new CollectorStrategy("orange")));
+        SimulationExperiment experiment = new SimulationExperiment(permuted, 200, 2);
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.setSeed(7);
+        experiment.runTrials();
+
+        assertTrue(experiment.getPlayerStats(0).getOwned().getMean() > 0);
+        assertEquals(0.0, experiment.getPlayerStats(1).getOwned().getMean());
+        assertEquals(200, experiment.getWins(0) + experiment.getWins(1));
+    }
+
+    /**
+     * Tests that the same master seed gives the same results on one thread and on several threads.
+     * Verifies that every player's win count matches between a sequential and a parallel run.
+     */
+    @Test
+    public void testParallelMatchesSequential() {
+        SimulationExperiment sequential = new SimulationExperiment(players, 300, 1);
+        SimulationExperiment parallel = new SimulationExperiment(players, 300, 4);
+        for (SimulationExperiment experiment : new SimulationExperiment[] {sequential, parallel}) {
+            experiment.setSeed(2024);
+            experiment.setEventListener(SilentEventListener.INSTANCE);
+            experiment.runSimulation();
+        }
+
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(sequential.getWins(i), parallel.getWins(i));
+        }
+    }
+
+    /**
+     * Tests that a single trial can be replayed exactly from the experiment's seed.
+     * Verifies that two replays of the same trial end with the same winner and balances.
+     */
+    @Test
+    public void testReplayTrial() {
+        SimulationExperiment experiment = new SimulationExperiment(players, 10);
+        experiment.setSeed(99);
+        GameEngine first = experiment.playTrial(5, SilentEventListener.INSTANCE);
+        GameEngine second = experiment.playTrial(5, SilentEventListener.INSTANCE);
+
+        assertEquals(first.getWinner().getId(), second.getWinner().getId());
+        for (int i = 0; i < first.getPlayers().size(); i++) {
+            assertEquals(first.getPlayers().get(i).getBalance(), second.getPlayers().get(i).getBalance());
+        }
+    }
+
+    /**
+     * Tests that the array engine, on one thread and on several, reports the same results as the object engine.
+     * Verifies that every player's win count matches for the same master seed.
+     */
+    @Test
+    public void testArrayEngineMatchesObjectEngine() {
+        SimulationExperiment object = new SimulationExperiment(players, 200, 1);
+        SimulationExperiment array = new SimulationExperiment(players, 200, 1);
+        SimulationExperiment parallelArray = new SimulationExperiment(players, 200, 2);
+        array.setEngine(EngineType.ARRAY);
+        parallelArray.setEngine(EngineType.ARRAY);
+        for (SimulationExperiment experiment : new SimulationExperiment[] {object, array, parallelArray}) {
+            experiment.setSeed(7);
+            experiment.setEventListener(SilentEventListener.INSTANCE);
+            experiment.runSimulation();
+        }
+
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(object.getWins(i), array.getWins(i));
+            assertEquals(object.getWins(i), parallelArray.getWins(i));
+        }
+    }
+
+    /**
+     * Tests that the batch engine, on one thread and on several, reports exactly the same statistics as the
+     * array engine, although its games finish out of trial order.
+     */
+    @Test
+    public void testBatchEngineMatchesArrayEngine() {
+        SimulationExperiment array = new SimulationExperiment(players, 300, 1);
+        SimulationExperiment batch = new SimulationExperiment(players, 300, 1);
+        SimulationExperiment parallelBatch = new SimulationExperiment(players, 300, 2);
+        array.setEngine(EngineType.ARRAY);
+        batch.setEngine(EngineType.BATCH);
+        parallelBatch.setEngine(EngineType.BATCH);
+        for (SimulationExperiment experiment : new SimulationExperiment[] {array, batch, parallelBatch}) {
+            experiment.setSeed(7);
+            experiment.setEventListener(SilentEventListener.INSTANCE);
+            experiment.runSimulation();
+        }
+
+        for (int i = 0; i < players.size(); i++) {
+            for (SimulationExperiment experiment : new SimulationExperiment[] {batch, parallelBatch}) {
+                assertEquals(array.getWins(i), experiment.getWins(i));
+                assertEquals(array.getPlayerStats(i).getBalance().getMean(),
+                        experiment.getPlayerStats(i).getBalance().getMean());
+                assertEquals(array.getPlayerStats(i).getOwned().getMean(),
+                        experiment.getPlayerStats(i).getOwned().getMean());
+            }
+        }
+    }
+
+    /**
+     * Tests that the per-player statistics are kept by player and cover every game.
+     * Verifies that each player has one result per trial and that the wins add up to the trials.
+     */
+    @Test
+    public void testPlayerStatsCoverEveryGame() {
+        SimulationExperiment experiment = new SimulationExperiment(players, 150, 2);
+        experiment.setSeed(31);
+        experiment.setEventListener(SilentEventListener.INSTANCE);
+        experiment.runSimulation();
+
+        long totalWins = 0;
+        for (int i = 0; i < players.size(); i++) {
+            PlayerStats stats = experiment.getPlayerStats(i);
+            assertEquals(150, stats.getGames());
+            assertEquals(stats.getWins(), experiment.getWins(i));
+            assertTrue(stats.getWinRateInterval(ConfidenceInterval.Z_95).contains(stats.getWinRate()));
+            assertTrue(stats.getBalance().getMin() >= 0);
+            totalWins += stats.getWins();
+        }
+        assertEquals(150, experiment.getGames());
+        assertEquals(150, totalWins);
+    }
+
+    /**
+     * Tests that early stopping ends the experiment once the ranking is settled.
+     * Verifies that fewer games than trials are played, that the ranking is then settled,
+     * and that the same seed stops after the same number of games on several threads.
+     */
+    @Test
+    public void testEarlyStoppingSettlesRanking() {
+        players.remove(3); // Two of the four strategies win about as often as each other, so they never separate
+        players.remove(2);
+        SimulationExperiment sequential = new SimulationExperiment(players, 100000, 1);
+        SimulationExperiment parallel = new SimulationExperiment(players, 100000, 4);
+        for (SimulationExperiment experiment : new SimulationExperiment[] {sequential, parallel}) {
+            experiment.setSeed(17);
+            experiment.setEngine(EngineType.ARRAY);
+            experiment.setEventListener(SilentEventListener.INSTANCE);
+            experiment.setEarlyStopping(0.95, 1000);
+            experiment.runSimulation();
+        }
+
+        assertTrue(sequential.hasStoppedEarly());
+        assertTrue(sequential.getGames() < 100000);
+        assertTrue(sequential.isRankingSettled());
+        assertEquals(sequential.getGames(), parallel.getGames());
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(sequential.getWins(i), parallel.getWins(i));
+        }
+    }
+
+    /**
+     * Tests that an experiment killed part way through resumes from its last checkpoint.
+     * Verifies that the resumed run reports exactly the results of an uninterrupted run.
+     *
+     * @param folder a fresh folder for the checkpoint files
+     */
+    @Test
+    public void testResumeFromCheckpoint(@TempDir Path folder) {
+        int trials = 40000;
+        SimulationExperiment uninterrupted = new SimulationExperiment(players, trials, 2);
+        uninterrupted.setSeed(3);
+        uninterrupted.setEngine(EngineType.ARRAY);
+        uninterrupted.setEventListener(SilentEventListener.INSTANCE);
+        uninterrupted.setCheckpoint(folder.resolve("whole.ckpt"), 0);
+        uninterrupted.runTrials();
+
+        // A run whose sink fails part way through the second round of trials, as if the JVM were killed
+        Path file = folder.resolve("killed.ckpt");
+        SimulationExperiment killed = new SimulationExperiment(players, trials, 2);
+        killed.setSeed(3);
+        killed.setEngine(EngineType.ARRAY);
+        AtomicInteger started = new AtomicInteger();
+        killed.setEventListener(new GameEventListener() {
+            @Override
+            public void onGameStarted() {
+                if (started.incrementAndGet() == 25000) {
+                    throw new IllegalStateException("Killed");
+                }
+            }
+        });
+        killed.setCheckpoint(file, 0);
+        assertThrows(IllegalStateException.class, killed::runTrials);
+
+        SimulationExperiment resumed = new SimulationExperiment(players, trials, 2);
+        resumed.setSeed(3);
+        resumed.setEngine(EngineType.ARRAY);
+        resumed.setEventListener(SilentEventListener.INSTANCE);
+        resumed.setCheckpoint(file, 0);
+        assertTrue(resumed.resume());
+        assertTrue(resumed.getGames() > 0 && resumed.getGames() < 25000); // Only complete rounds were saved
+        resumed.runTrials();
+
+        assertEquals(trials, resumed.getGames());
+        for (int i = 0; i < players.size(); i++) {
+            PlayerStats expected = uninterrupted.getPlayerStats(i);
+            PlayerStats actual = resumed.getPlayerStats(i);
+            assertEquals(expected.getWins(), actual.getWins());
+            assertEquals(expected.getBalance().getMean(), actual.getBalance().getMean(), 0);
+            assertEquals(expected.getBalance().getVariance(), actual.getBalance().getVariance(), 0);
+            assertEquals(expected.getOwnedQuantiles().getQuantile(0.9), actual.getOwnedQuantiles().getQuantile(0.9));
+        }
+
+        SimulationExperiment other = new SimulationExperiment(players, trials, 2);
+        other.setSeed(4);
+        other.setCheckpoint(file, 0);
+        assertThrows(IllegalArgumentException.class, other::resume); // Different seed
+    }
+}
@@ -0,0 +1,35 @@
+package upei.project.Space;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ColorGroups registry, which interns color names as group IDs.
+ */
+public class ColorGroupsTest {
+
+    /**
+     * Tests that the same color always gets the same ID and different colors get different IDs.
+     */
+    @Test
+    public void testIdsAreInterned() {
+        int purple = ColorGroups.idOf("purple");
+        assertEquals(purple, ColorGroups.idOf(new String("purple"))); // Equal names, not the same string
+        assertNotEquals(purple, ColorGroups.idOf("green"));
+        assertEquals("purple", ColorGroups.nameOf(purple));
+        assertEquals(ColorGroups.NONE, ColorGroups.idOf(null));
+    }
+
+    /**
+     * Tests that properties of the same color share a group, whether on a board or standing alone.
+     */
+    @Test
+    public void testPropertiesShareGroups() {
+        Property boardwalk = new Property("Boardwalk", 400, 200, "blue");
+        Property parkPlace = new Property("Park Place", 350, 200, "blue");
+        Property pacific = new Property("Pacific Avenue", 300, 20, "green");
+
+        assertEquals(boardwalk.getColorGroup(), parkPlace.getColorGroup());
+        assertNotEquals(boardwalk.getColorGroup(), pacific.getColorGroup());
+    }
+}
@@ -59,7 +59,7 @@ public class SpaceTest {
     public void testGoToJailAction() {
         goToJail.action(player1);
         assertEquals(9, player1.getPosition(), "Player should be sent to the Jail space.");
-        assertTrue(player1.isInJail(), "Player should have their jail status toggled.");
+        assertTrue(goToJail.getJail().isPlayerInJail(player1), "Player should be recorded in Jail.");
     }
 
     @Test
@@ -80,6 +80,18 @@ public class SpaceTest {
         assertFalse(jail.isPlayerInJail(player1), "Player should be released after serving two turns in Jail.");
     }
 
+    @Test
+    public void testJailSeatsPlayerOnlyWhenSentToJail() {
+        jail.action(player2);
+        jail.releasePlayer(player2);
+        assertFalse(jail.isPlayerInJail(player2), "A player without a seat should not be in Jail.");
+        assertEquals(0, jail.getState().getSeats().size(), "Checking a player should not seat them.");
+
+        jail.addPlayerToJail(player2);
+        assertEquals(1, jail.getState().getSeats().size(), "A player sent to Jail should be given a seat.");
+        assertTrue(jail.getState().isInJail(jail.getState().getSeats().indexOf(player2)));
+    }
+
     @Test
     public void testUtilitySpaceAction() {
         utilitySpace.action(player1);
@@ -0,0 +1,39 @@
+package upei.project.Stats;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConfidenceInterval class and its Wilson score interval.
+ */
+public class ConfidenceIntervalTest {
+
+    /**
+     * Tests the Wilson interval against a known value and at the edges of the range.
+     */
+    @Test
+    public void testWilsonInterval() {
+        ConfidenceInterval half = ConfidenceInterval.wilson(50, 100, ConfidenceInterval.Z_95);
+        assertEquals(0.4038, half.getLower(), 1e-4);
+        assertEquals(0.5962, half.getUpper(), 1e-4);
+        assertTrue(half.contains(0.5));
+
+        ConfidenceInterval none = ConfidenceInterval.wilson(0, 20, ConfidenceInterval.Z_95);
+        assertEquals(0, none.getLower());
+        assertTrue(none.getUpper() > 0); // Never winning in 20 games does not prove a zero win rate
+        assertFalse(none.overlaps(ConfidenceInterval.wilson(15, 20, ConfidenceInterval.Z_95)));
+
+        assertThrows(IllegalArgumentException.class, () -> ConfidenceInterval.wilson(5, 4, ConfidenceInterval.Z_95));
+    }
+
+    /**
+     * Tests the normal critical values in both regions of the approximation.
+     */
+    @Test
+    public void testCriticalValue() {
+        assertEquals(ConfidenceInterval.Z_95, ConfidenceInterval.criticalValue(0.95), 1e-8);
+        assertEquals(1.6448536, ConfidenceInterval.criticalValue(0.90), 1e-6);
+        assertEquals(3.2905267, ConfidenceInterval.criticalValue(0.999), 1e-6);
+        assertThrows(IllegalArgumentException.class, () -> ConfidenceInterval.criticalValue(1));
+    }
+}
@@ -0,0 +1,67 @@
+package upei.project.Stats;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Unit tests for the QuantileSketch class, which estimates quantiles in constant memory.
+ */
+public class QuantileSketchTest {
+
+    /**
+     * Tests that small values are counted exactly.
+     */
+    @Test
+    public void testSmallValuesAreExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int owned = 0; owned <= 20; owned++) {
+            sketch.add(owned);
+        }
+        assertEquals(0, sketch.getQuantile(0));
+        assertEquals(10, sketch.getQuantile(0.5));
+        assertEquals(20, sketch.getQuantile(1));
+    }
+
+    /**
+     * Tests that quantiles of larger values, including negative ones, fall within the sketch's relative error,
+     * and that a merged sketch answers the same as one fed every value.
+     */
+    @Test
+    public void testQuantilesWithinErrorAndMerge() {
+        Random random = new Random(8);
+        long[] values = new long[20001];
+        QuantileSketch whole = new QuantileSketch();
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(4000) - 500;
+            whole.add(values[i]);
+            (i % 2 == 0 ? left : right).add(values[i]);
+        }
+        left.merge(right);
+        Arrays.sort(values);
+
+        for (double q : new double[] {0.01, 0.1, 0.5, 0.9, 0.99}) {
+            long exact = values[(int) Math.ceil(q * values.length) - 1];
+            long estimate = whole.getQuantile(q);
+            assertEquals(exact, estimate, Math.max(1, Math.abs(exact) / 16.0), "quantile " + q);
+            assertEquals(estimate, left.getQuantile(q));
+        }
+        assertEquals(values[0], left.getQuantile(0));
+        assertEquals(values[values.length - 1], left.getQuantile(1));
+    }
+
+    /**
+     * Tests that every bucket's representative value falls back into that bucket.
+     */
+    @Test
+    public void testBucketsRoundTrip() {
+        for (long magnitude : new long[] {0, 31, 32, 33, 1000, 1500, 123456789L, Long.MAX_VALUE}) {
+            int bucket = QuantileSketch.bucketOf(magnitude);
+            assertEquals(bucket, QuantileSketch.bucketOf(QuantileSketch.valueOf(bucket)));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package upei.project.Stats;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Unit tests for the RunningStats class, which keeps a streaming mean and variance.
+ */
+public class RunningStatsTest {
+
+    /**
+     * Tests that the streaming mean and variance match the two-pass formulas.
+     */
+    @Test
+    public void testMatchesTwoPass() {
+        double[] values = {750, 1200, 0, 340, 1510, 980, 75};
+        RunningStats stats = new RunningStats();
+        double sum = 0;
+        for (double value : values) {
+            stats.add(value);
+            sum += value;
+        }
+        double mean = sum / values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+
+        assertEquals(values.length, stats.getCount());
+        assertEquals(mean, stats.getMean(), 1e-9);
+        assertEquals(squares / (values.length - 1), stats.getVariance(), 1e-6);
+        assertEquals(0, stats.getMin());
+        assertEquals(1510, stats.getMax());
+    }
+
+    /**
+     * Tests that merging the statistics of two halves gives the statistics of the whole series.
+     */
+    @Test
+    public void testMergeMatchesSingleSeries() {
+        Random random = new Random(5);
+        RunningStats whole = new RunningStats();
+        RunningStats left = new RunningStats();
+        RunningStats right = new RunningStats();
+        for (int i = 0; i < 10000; i++) {
+            int value = random.nextInt(2000);
+            whole.add(value);
+            (i < 3000 ? left : right).add(value);
+        }
+        left.merge(right);
+        left.merge(new RunningStats()); // Merging nothing changes nothing
+
+        assertEquals(whole.getCount(), left.getCount());
+        assertEquals(whole.getMean(), left.getMean(), 1e-9);
+        assertEquals(whole.getVariance(), left.getVariance(), 1e-6);
+        assertEquals(whole.getMin(), left.getMin());
+        assertEquals(whole.getMax(), left.getMax());
+    }
+}
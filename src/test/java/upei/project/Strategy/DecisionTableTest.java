@@ -0,0 +1,124 @@
+package upei.project.Strategy;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.BoardDefinition;
+
+import java.util.Map;
+
+/**
+ * Unit tests for DecisionTable, checking that compiled tables answer exactly as the strategies they were
+ * compiled from.
+ */
+public class DecisionTableTest {
+
+    /**
+     * Tests that the tables of every built-in strategy agree with the strategy for every property,
+     * upgrade level and balance they cover.
+     */
+    @Test
+    public void testMatchesBuiltInStrategiesOverWholeDomain() {
+        DisruptiveStrategy disruptive = new DisruptiveStrategy();
+        disruptive.addOwnedColor("red");
+        ParameterizedStrategy parameterized = new ParameterizedStrategy(250, 120, Map.of("green", 0.8, "red", -0.5));
+        Strategy[] strategies = {
+                new AggresivveBuyerStrategy(),
+                new CautiousSaverStrategy(),
+                new CautiousSaverStrategy(350),
+                new CollectorStrategy("green"),
+                new CollectorStrategy("blue"),
+                new DisruptiveStrategy(),
+                disruptive,
+                parameterized
+        };
+        for (Strategy strategy : strategies) {
+            DecisionTable table = DecisionTable.compile(strategy, BoardDefinition.STANDARD, 3000);
+            assertEquals(0, table.countMismatches(strategy), strategy.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Tests that the balance is split into only as many buckets as the strategy has thresholds.
+     */
+    @Test
+    public void testBucketsFollowThresholds() {
+        DecisionTable aggressive = DecisionTable.compile(new AggresivveBuyerStrategy(), BoardDefinition.STANDARD, 3000);
+        DecisionTable collector = DecisionTable.compile(new CollectorStrategy("green"), BoardDefinition.STANDARD, 3000);
+        assertTrue(aggressive.getBucketCount() < 20, "Buckets: " + aggressive.getBucketCount());
+        assertTrue(collector.getBucketCount() < aggressive.getBucketCount());
+    }
+
+    /**
+     * Tests that the table reports the levels and balances it was compiled for.
+     */
+    @Test
+    public void testCoversCompiledDomain() {
+        DecisionTable table = DecisionTable.compile(new CautiousSaverStrategy(), BoardDefinition.STANDARD, 1, 500);
+        assertTrue(table.covers(0, 0));
+        assertTrue(table.covers(1, 500));
+        assertFalse(table.covers(2, 100));
+        assertFalse(table.covers(0, 501));
+        assertFalse(table.covers(0, -1));
+    }
+
+    /**
+     * Tests that a strategy instance is compiled once per board and balance, and again when either changes.
+     */
+    @Test
+    public void testReusesTableOfSameStrategy() {
+        Strategy strategy = new CollectorStrategy("green");
+        DecisionTable table = DecisionTable.of(strategy, BoardDefinition.STANDARD, 3000);
+        assertSame(table, DecisionTable.of(strategy, BoardDefinition.STANDARD, 3000));
+        assertNotSame(table, DecisionTable.of(strategy, BoardDefinition.STANDARD, 2000));
+        assertNotSame(table, DecisionTable.of(new CollectorStrategy("green"), BoardDefinition.STANDARD, 3000));
+    }
+
+    /**
+     * Tests that strategies configured differently each get a table that answers as they do.
+     */
+    @Test
+    public void testTableFollowsConfiguration() {
+        Strategy[] strategies = {
+                new ParameterizedStrategy(250, 120),
+                new ParameterizedStrategy(250, 120, Map.of("green", 1.0)),
+                new ParameterizedStrategy(250, 120, Map.of("green", -1.0))
+        };
+        for (Strategy strategy : strategies) {
+            DecisionTable table = DecisionTable.of(strategy, BoardDefinition.STANDARD, 3000);
+            assertEquals(0, table.countMismatches(strategy), strategy.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Tests that a table goes out of date when its disruptive strategy is told of a color it owns,
+     * and that the strategy is then compiled again.
+     */
+    @Test
+    public void testRecompilesChangedStrategy() {
+        DisruptiveStrategy strategy = new DisruptiveStrategy();
+        DecisionTable table = DecisionTable.of(strategy, BoardDefinition.STANDARD, 3000);
+        assertTrue(table.isCurrent(strategy));
+
+        strategy.addOwnedColor("green");
+        assertFalse(table.isCurrent(strategy));
+        DecisionTable changed = DecisionTable.of(strategy, BoardDefinition.STANDARD, 3000);
+        assertNotSame(table, changed);
+        assertTrue(changed.isCurrent(strategy));
+        assertEquals(0, changed.countMismatches(strategy));
+        assertSame(changed, DecisionTable.of(strategy, BoardDefinition.STANDARD, 3000));
+
+        strategy.addOwnedColor("green"); // Already owned, so nothing changes
+        assertTrue(changed.isCurrent(strategy));
+    }
+
+    /**
+     * Tests that only the built-in strategies themselves are accepted for compiling.
+     */
+    @Test
+    public void testIsCompilable() {
+        assertTrue(DecisionTable.isCompilable(new CollectorStrategy("green")));
+        assertFalse(DecisionTable.isCompilable(new MonteCarloStrategy()));
+        assertFalse(DecisionTable.isCompilable(new AggresivveBuyerStrategy() {
+        }));
+    }
+}
@@ -0,0 +1,113 @@
+package upei.project.Strategy;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.BoardDefinition;
+import upei.project.Event.SilentEventListener;
+import upei.project.Game;
+import upei.project.GameSnapshot;
+import upei.project.Player;
+import upei.project.SeededDice;
+import upei.project.Space.Property;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for MonteCarloStrategy, checking that its decisions do not depend on the number of threads,
+ * that it keeps to its time budget, and that it beats a rule-based strategy heads-up.
+ */
+public class MonteCarloStrategyTest {
+
+    /**
+     * Tests that the strategy refuses to decide before it is given a game.
+     */
+    @Test
+    public void testRequiresGame() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy();
+        Property property = new Property("Cheap Property", 100, 50, "blue");
+        assertThrows(IllegalStateException.class, () -> strategy.shouldBuyLand(property, 500));
+        assertFalse(strategy.shouldBuyLand(property, 50)); // Unaffordable land is declined without searching
+    }
+
+    /**
+     * Tests that with only a rollout budget, the same game is played whether the rollouts run on one thread or three.
+     */
+    @Test
+    public void testSameDecisionsForAnyParallelism() {
+        for (int trial = 0; trial < 3; trial++) {
+            GameSnapshot oneThread = playHeadsUp(new MonteCarloStrategy(16, 0, 1), trial);
+            GameSnapshot threeThreads = playHeadsUp(new MonteCarloStrategy(16, 0, 3), trial);
+            assertEquals(oneThread.getWinnerSeat(), threeThreads.getWinnerSeat());
+            assertEquals(oneThread.getTurnsPlayed(), threeThreads.getTurnsPlayed());
+            for (int seat = 0; seat < 2; seat++) {
+                assertEquals(oneThread.getBalance(seat), threeThreads.getBalance(seat));
+            }
+            for (int position = 0; position < BoardDefinition.STANDARD.size(); position++) {
+                assertEquals(oneThread.getOwnerSeat(position), threeThreads.getOwnerSeat(position));
+            }
+        }
+    }
+
+    /**
+     * Tests that a time budget ends each search even when the rollout budget is practically unlimited.
+     * Within 2 ms a decision plays a few dozen rollouts on any machine, so a budget that stopped nothing would
+     * play thousands; the timeout only catches a search that never stops.
+     */
+    @Test
+    public void testStopsAtTimeBudget() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(Integer.MAX_VALUE, 2, 2);
+        assertTimeoutPreemptively(Duration.ofMinutes(1), () -> playHeadsUp(strategy, 0));
+
+        assertTrue(strategy.getDecisions() > 0);
+        assertTrue(strategy.getRolloutsPlayed() > 0);
+        double rolloutsPerDecision = (double) strategy.getRolloutsPlayed() / strategy.getDecisions();
+        assertTrue(rolloutsPerDecision < 5000, "Played " + rolloutsPerDecision + " rollouts per decision");
+    }
+
+    /**
+     * Tests that the search wins most heads-up games against the aggressive buyer it uses for its rollouts,
+     * which wins about half of them when it plays itself.
+     */
+    @Test
+    public void testBeatsAggressiveBuyer() {
+        int wins = 0;
+        int games = 40;
+        for (int trial = 0; trial < games; trial++) {
+            if (playHeadsUp(new MonteCarloStrategy(32, 0, 2), trial).getWinnerSeat() == trial % 2) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games * 6 / 10, "Won " + wins + " of " + games);
+    }
+
+    /**
+     * Plays one heads-up game of the search against an aggressive buyer, alternating who moves first.
+     *
+     * @param strategy the search strategy, closed once the game is over
+     * @param trial    the index of the game, which picks the dice and the seating
+     * @return the final state of the game; the search sits in seat {@code trial % 2}
+     */
+    private static GameSnapshot playHeadsUp(MonteCarloStrategy strategy, int trial) {
+        List<Player> players = new ArrayList<>();
+        Player search = new Player("Search", 1, strategy);
+        Player rule = new Player("Aggressive", 2, new AggresivveBuyerStrategy());
+        if (trial % 2 == 0) {
+            players.add(search);
+            players.add(rule);
+        } else {
+            players.add(rule);
+            players.add(search);
+        }
+        Game game = new Game(players, SilentEventListener.INSTANCE);
+        game.setDice(new SeededDice(SeededDice.trialSeed(5, trial)));
+        strategy.setGame(game);
+        try {
+            game.startGame();
+        } finally {
+            strategy.close();
+        }
+        return game.snapshot();
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import upei.project.Space.Property;
 
+import java.util.Map;
+
 /**
  * Unit tests for the various strategy implementations (AggresivveBuyerStrategy, CautiousSaverStrategy,
  * CollectorStrategy, DisruptiveStrategy) in the Monopoly game.
@@ -117,4 +119,29 @@ public class StrategyTest {
         // Disruptive player should not prioritize upgrades
         assertFalse(strategy.shouldBuyProperty(upgradableProperty, 1000), "Disruptive player should not prioritize upgrades.");
     }
+
+    /**
+     * Tests the behavior of the ParameterizedStrategy, whose land reserve shrinks with the preference for a color
+     * and which never touches a color it dislikes.
+     */
+    @Test
+    public void testParameterizedStrategy() {
+        ParameterizedStrategy strategy = new ParameterizedStrategy(200, 100, Map.of("blue", 1.0, "red", -1.0));
+        Property neutralProperty = new Property("Neutral Property", 100, 50, "yellow");
+
+        // A favourite color is bought with no reserve, a neutral one with the full reserve
+        assertTrue(strategy.shouldBuyLand(unownedCheapProperty, 100), "Should buy a favourite color with no reserve.");
+        assertTrue(strategy.shouldBuyLand(neutralProperty, 300), "Should buy a neutral color keeping the reserve.");
+        assertFalse(strategy.shouldBuyLand(neutralProperty, 299), "Should keep the full reserve for a neutral color.");
+
+        // A disliked color and owned properties are never bought
+        assertFalse(strategy.shouldBuyLand(unownedExpensiveProperty, 5000), "Should not buy a disliked color.");
+        assertFalse(strategy.shouldBuyLand(ownedProperty, 5000), "Should not buy an owned property.");
+
+        // Upgrades keep the upgrade reserve after paying for the next level
+        assertTrue(strategy.shouldBuyProperty(upgradableProperty, 120), "Should upgrade when the reserve is kept.");
+        assertFalse(strategy.shouldBuyProperty(upgradableProperty, 119), "Should not upgrade into the reserve.");
+
+        assertThrows(IllegalArgumentException.class, () -> new ParameterizedStrategy(200, 100, Map.of("green", 1.5)));
+    }
 }
@@ -0,0 +1,82 @@
+package upei.project.Sweep;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.EngineType;
+import upei.project.Event.SilentEventListener;
+import upei.project.GameRules;
+import upei.project.Player;
+import upei.project.SimulationExperiment;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the ParameterSweep class, which plays a grid of strategy and rule knobs.
+ */
+public class ParameterSweepTest {
+
+    /**
+     * Tests that the grid contains every valid combination and leaves out unwinnable rules.
+     */
+    @Test
+    public void testGridExpansion() {
+        ParameterSweep sweep = new ParameterSweep(10, 1);
+        sweep.setSafetyThresholds(100, 200, 300);
+        sweep.setCollectorColors("green", "blue");
+        sweep.setStartingBalances(750, 1500);
+        sweep.setWinningBalances(1500, 2000);
+
+        List<SweepPoint> points = sweep.getPoints();
+        assertEquals(3 * 2 * 3, points.size()); // Starting at 1500 can only be played to 2000
+        for (SweepPoint point : points) {
+            assertTrue(point.getRules().getWinningBalance() > point.getRules().getStartingBalance());
+        }
+    }
+
+    /**
+     * Tests that each point gives the same results as an experiment set up by hand with the same knobs,
+     * whether the points are played on one thread or several.
+     */
+    @Test
+    public void testPointsMatchExperiments() {
+        ParameterSweep sweep = new ParameterSweep(200, 3);
+        sweep.setSeed(21);
+        sweep.setSafetyThresholds(50, 400);
+        sweep.setStartingBalances(500, 750);
+        sweep.setMaxTurns(60);
+        SweepResult result = sweep.run();
+        assertEquals(4, result.getPoints().size());
+
+        for (int i = 0; i < result.getPoints().size(); i++) {
+            SweepPoint point = result.getPoints().get(i);
+            ArrayList<Player> players = new ArrayList<>();
+            players.add(new Player("Aggressive", 1, new AggresivveBuyerStrategy()));
+            players.add(new Player("Cautious", 2, new CautiousSaverStrategy(point.getSafetyThreshold())));
+            players.add(new Player("Collector", 3, new CollectorStrategy(point.getCollectorColor())));
+            players.add(new Player("Disruptive", 4, new DisruptiveStrategy()));
+            SimulationExperiment experiment = new SimulationExperiment(players, 200);
+            experiment.setSeed(21);
+            experiment.setEngine(EngineType.OBJECT);
+            experiment.setRules(point.getRules());
+            experiment.setEventListener(SilentEventListener.INSTANCE);
+            experiment.runTrials();
+
+            for (int j = 0; j < players.size(); j++) {
+                assertEquals(experiment.getWins(j), result.getStats(i, j).getWins(), point.toString());
+            }
+        }
+    }
+
+    /**
+     * Tests that the rules reject a winning balance the players already start with.
+     */
+    @Test
+    public void testInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> new GameRules(1500, 1500, 100));
+    }
+}
@@ -0,0 +1,40 @@
+package upei.project.Tournament;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LatinSquare class and its Williams designs.
+ */
+public class LatinSquareTest {
+
+    /**
+     * Tests that for even and odd tables every player sits in every seat equally often
+     * and directly follows every other player equally often.
+     */
+    @Test
+    public void testWilliamsDesignIsBalanced() {
+        for (int n = 2; n <= 7; n++) {
+            int[][] square = LatinSquare.williams(n);
+            assertEquals(n % 2 == 0 ? n : 2 * n, square.length);
+            int repeats = square.length / n;
+
+            int[][] inSeat = new int[n][n];
+            int[][] follows = new int[n][n];
+            for (int[] row : square) {
+                for (int seat = 0; seat < n; seat++) {
+                    inSeat[row[seat]][seat]++;
+                    if (seat > 0) {
+                        follows[row[seat]][row[seat - 1]]++;
+                    }
+                }
+            }
+            for (int a = 0; a < n; a++) {
+                for (int b = 0; b < n; b++) {
+                    assertEquals(repeats, inSeat[a][b], "seat balance for n=" + n);
+                    assertEquals(a == b ? 0 : repeats, follows[a][b], "order balance for n=" + n);
+                }
+            }
+        }
+    }
+}
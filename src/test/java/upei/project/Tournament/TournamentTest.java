@@ -0,0 +1,75 @@
+package upei.project.Tournament;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the Tournament class, which schedules every matchup in every seat order.
+ */
+public class TournamentTest {
+
+    /**
+     * Creates a pool of five entrants.
+     *
+     * @return the entrants
+     */
+    private static List<Entrant> pool() {
+        List<Entrant> entrants = new ArrayList<>();
+        entrants.add(new Entrant("Aggressive", new AggresivveBuyerStrategy()));
+        entrants.add(new Entrant("Cautious", new CautiousSaverStrategy()));
+        entrants.add(new Entrant("Collector (green)", new CollectorStrategy("green")));
+        entrants.add(new Entrant("Collector (blue)", new CollectorStrategy("blue")));
+        entrants.add(new Entrant("Disruptive", new DisruptiveStrategy()));
+        return entrants;
+    }
+
+    /**
+     * Tests that every entrant plays every seat equally often and that every game is counted.
+     */
+    @Test
+    public void testScheduleIsBalanced() {
+        Tournament tournament = new Tournament(pool(), 4, 3, 1);
+        tournament.setSeed(4);
+        TournamentResult result = tournament.run();
+
+        assertEquals(5, tournament.getMatchupCount()); // Five ways to pick four of five entrants
+        assertEquals(5 * 4 * 3, result.getGames());
+        for (int entrant = 0; entrant < 5; entrant++) {
+            for (int seat = 0; seat < 4; seat++) {
+                assertEquals(4 * 3, result.getSeatGames(entrant, seat)); // In 4 of the 5 matchups, once per seat
+            }
+        }
+
+        long wins = 0;
+        for (int entrant = 0; entrant < 5; entrant++) {
+            wins += result.getStats(entrant).getWins();
+        }
+        assertEquals(result.getGames(), wins);
+    }
+
+    /**
+     * Tests that the same seed gives the same results on one thread and on several threads.
+     */
+    @Test
+    public void testParallelMatchesSequential() {
+        Tournament sequential = new Tournament(pool(), 3, 20, 1);
+        Tournament parallel = new Tournament(pool(), 3, 20, 4);
+        sequential.setSeed(12);
+        parallel.setSeed(12);
+        TournamentResult first = sequential.run();
+        TournamentResult second = parallel.run();
+
+        for (int entrant = 0; entrant < 5; entrant++) {
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(first.getSeatWins(entrant, seat), second.getSeatWins(entrant, seat));
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package upei.project;
+
+import upei.project.Strategy.AggresivveBuyerStrategy;
+import upei.project.Strategy.CautiousSaverStrategy;
+import upei.project.Strategy.CollectorStrategy;
+import upei.project.Strategy.DisruptiveStrategy;
+
+import java.util.ArrayList;
+
+/**
+ * The players the tests and benchmarks seat at a standard table: one for each built-in strategy.
+ */
+public final class TestPlayers {
+
+    /**
+     * Not to be instantiated.
+     */
+    private TestPlayers() {
+    }
+
+    /**
+     * Creates the four players, one for each built-in strategy, with IDs 1 to 4 in seat order:
+     * an aggressive buyer, a cautious saver, a green collector and a disruptive player.
+     *
+     * @return the new players
+     */
+    public static ArrayList<Player> newPlayers() {
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(new Player("Player 1", 1, new AggresivveBuyerStrategy()));
+        players.add(new Player("Player 2", 2, new CautiousSaverStrategy()));
+        players.add(new Player("Player 3", 3, new CollectorStrategy("green")));
+        players.add(new Player("Player 4", 4, new DisruptiveStrategy()));
+        return players;
+    }
+}